@@ -0,0 +1,96 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.annotation.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Builds the class index of ML commons at compile time. For every supported annotation, the binary names of
+ * annotated classes are written to "META-INF/opensearch-ml/{annotation class name}", one class per line.
+ * ML commons class loaders read the index at startup instead of scanning the classpath. The index of every supported
+ * annotation is written even if no class has it, so class loaders know the classes of this jar need no scanning.
+ */
+@SupportedAnnotationTypes({
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "Connector",
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "ExecuteInput",
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "ExecuteOutput",
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "InputDataSet",
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "MLAlgoOutput",
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "MLAlgoParameter",
+        MLClassIndexProcessor.ANNOTATION_PACKAGE + "MLInput",
+        MLClassIndexProcessor.ENGINE_ANNOTATION_PACKAGE + "ConnectorExecutor",
+        MLClassIndexProcessor.ENGINE_ANNOTATION_PACKAGE + "Function"
+})
+public class MLClassIndexProcessor extends AbstractProcessor {
+    public static final String INDEX_PATH = "META-INF/opensearch-ml/";
+    static final String ANNOTATION_PACKAGE = "org.opensearch.ml.common.annotation.";
+    static final String ENGINE_ANNOTATION_PACKAGE = "org.opensearch.ml.engine.annotation.";
+
+    private final Map<String, Set<String>> index = new TreeMap<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        for (String annotation : getSupportedAnnotationTypes()) {
+            index.put(annotation, new TreeSet<>());
+        }
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            Set<String> classes = index.computeIfAbsent(annotation.getQualifiedName().toString(), k -> new TreeSet<>());
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (element.getKind().isClass()) {
+                    classes.add(processingEnv.getElementUtils().getBinaryName((TypeElement) element).toString());
+                }
+            }
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        // Don't claim the annotations, other processors may handle them too.
+        return false;
+    }
+
+    private void writeIndex() {
+        for (Map.Entry<String, Set<String>> entry : index.entrySet()) {
+            try {
+                FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", INDEX_PATH + entry.getKey());
+                try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8)) {
+                    for (String className : entry.getValue()) {
+                        writer.write(className);
+                        writer.write('\n');
+                    }
+                }
+            } catch (IOException e) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Failed to write ML class index for " + entry.getKey() + ": " + e.getMessage());
+            }
+        }
+    }
+}
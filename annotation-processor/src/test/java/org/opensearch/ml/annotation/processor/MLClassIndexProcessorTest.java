@@ -0,0 +1,75 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.annotation.processor;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MLClassIndexProcessorTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void process() throws IOException {
+        Path sources = temporaryFolder.newFolder("src").toPath();
+        Path classes = temporaryFolder.newFolder("classes").toPath();
+        List<File> files = new ArrayList<>();
+        files.add(write(sources, "org/opensearch/ml/common/annotation/MLAlgoParameter.java",
+                "package org.opensearch.ml.common.annotation;\n"
+                        + "public @interface MLAlgoParameter {}\n"));
+        files.add(write(sources, "org/opensearch/ml/common/input/parameter/KMeansParams.java",
+                "package org.opensearch.ml.common.input.parameter;\n"
+                        + "@org.opensearch.ml.common.annotation.MLAlgoParameter\n"
+                        + "public class KMeansParams {\n"
+                        + "    @org.opensearch.ml.common.annotation.MLAlgoParameter\n"
+                        + "    public static class Nested {}\n"
+                        + "}\n"));
+        files.add(write(sources, "org/opensearch/ml/common/input/parameter/NotAnnotated.java",
+                "package org.opensearch.ml.common.input.parameter;\n"
+                        + "public class NotAnnotated {}\n"));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8)) {
+            List<String> options = Arrays.asList("-proc:only", "-processor", MLClassIndexProcessor.class.getName(),
+                    "-processorpath", System.getProperty("java.class.path"), "-d", classes.toString());
+            boolean success = compiler.getTask(null, fileManager, null, options, null, fileManager.getJavaFileObjectsFromFiles(files)).call();
+            assertTrue(success);
+        }
+
+        Path index = classes.resolve(MLClassIndexProcessor.INDEX_PATH + MLClassIndexProcessor.ANNOTATION_PACKAGE + "MLAlgoParameter");
+        assertEquals(Arrays.asList(
+                "org.opensearch.ml.common.input.parameter.KMeansParams",
+                "org.opensearch.ml.common.input.parameter.KMeansParams$Nested"
+        ), Files.readAllLines(index, StandardCharsets.UTF_8));
+        // Index of annotations without classes is written too, so the classes don't need to be scanned.
+        Path emptyIndex = classes.resolve(MLClassIndexProcessor.INDEX_PATH + MLClassIndexProcessor.ENGINE_ANNOTATION_PACKAGE + "Function");
+        assertTrue(Files.readAllLines(emptyIndex, StandardCharsets.UTF_8).isEmpty());
+    }
+
+    private File write(Path root, String path, String content) throws IOException {
+        Path file = root.resolve(path);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file.toFile();
+    }
+}
@@ -9,6 +9,7 @@ import org.opensearch.ml.common.connector.AbstractConnector;
 
 import static org.opensearch.ml.common.model.MLModelConfig.ALL_CONFIG_FIELD;
 import static org.opensearch.ml.common.model.MLModelConfig.MODEL_TYPE_FIELD;
+import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.EMBEDDING_DATA_TYPE_FIELD;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.EMBEDDING_DIMENSION_FIELD;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.FRAMEWORK_TYPE_FIELD;
 import static org.opensearch.ml.common.model.TextEmbeddingModelConfig.MODEL_MAX_LENGTH_FIELD;
@@ -36,9 +37,9 @@ public class CommonValue {
     public static final String ML_MODEL_INDEX = ".plugins-ml-model";
     public static final String ML_TASK_INDEX = ".plugins-ml-task";
     public static final Integer ML_MODEL_GROUP_INDEX_SCHEMA_VERSION = 2;
-    public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 7;
+    public static final Integer ML_MODEL_INDEX_SCHEMA_VERSION = 8;
     public static final String ML_CONNECTOR_INDEX = ".plugins-ml-connector";
-    public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 2;
+    public static final Integer ML_TASK_INDEX_SCHEMA_VERSION = 3;
     public static final Integer ML_CONNECTOR_SCHEMA_VERSION = 2;
     public static final String ML_CONFIG_INDEX = ".plugins-ml-config";
     public static final Integer ML_CONFIG_INDEX_SCHEMA_VERSION = 2;
@@ -193,6 +194,7 @@ public class CommonValue {
             + POOLING_MODE_FIELD + "\":{\"type\":\"keyword\"},\""
             + NORMALIZE_RESULT_FIELD + "\":{\"type\":\"boolean\"},\""
             + MODEL_MAX_LENGTH_FIELD + "\":{\"type\":\"integer\"},\""
+            + EMBEDDING_DATA_TYPE_FIELD + "\":{\"type\":\"keyword\"},\""
             + ALL_CONFIG_FIELD + "\":{\"type\":\"text\"}}},\n"
             + "      \""
             + MLModel.MODEL_CONTENT_HASH_VALUE_FIELD
@@ -263,6 +265,12 @@ public class CommonValue {
             + "      \""
             + MLTask.IS_ASYNC_TASK_FIELD
             + "\" : {\"type\" : \"boolean\"}, \n"
+            + "      \""
+            + MLTask.BATCH_PREDICTION_INPUT_FIELD
+            + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
+            + "      \""
+            + MLTask.BATCH_PREDICTION_CHECKPOINT_FIELD
+            + "\" : {\"type\" : \"object\", \"enabled\": false}, \n"
             + USER_FIELD_MAPPING
             + "    }\n"
             + "}";
@@ -16,15 +16,21 @@ import org.opensearch.ml.common.annotation.MLInput;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.output.MLOutputType;
-import org.reflections.Reflections;
+import org.opensearch.ml.common.utils.ClassIndex;
 
-import java.lang.reflect.Constructor;
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Log4j2
 public class MLCommonsClassLoader {
@@ -34,6 +40,11 @@ public class MLCommonsClassLoader {
     private static Map<Enum<?>, Class<?>> executeOutputClassMap = new HashMap<>();
     private static Map<Enum<?>, Class<?>> mlInputClassMap = new HashMap<>();
     private static Map<String, Class<?>> connectorClassMap = new HashMap<>();
+    /**
+     * Cached constructors of ML classes, keyed by class and constructor parameter types. Each constructor
+     * handle takes an Object[] of constructor arguments and returns the new instance.
+     */
+    private static final Map<Class<?>, Map<List<Class<?>>, MethodHandle>> constructorCache = new ConcurrentHashMap<>();
 
     static {
         try {
@@ -62,9 +73,12 @@ public class MLCommonsClassLoader {
         }
     }
 
+    private static Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, String packageName) {
+        return ClassIndex.getTypesAnnotatedWith(annotation, packageName, MLCommonsClassLoader.class.getClassLoader());
+    }
+
     private static void loadConnectorClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.connector");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(Connector.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(Connector.class, "org.opensearch.ml.common.connector");
         for (Class<?> clazz : classes) {
             Connector connector = clazz.getAnnotation(Connector.class);
             if (connector != null) {
@@ -80,9 +94,7 @@ public class MLCommonsClassLoader {
      * Load ML algorithm parameter and ML output class.
      */
     private static void loadMLAlgoParameterClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input.parameter");
-
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLAlgoParameter.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(MLAlgoParameter.class, "org.opensearch.ml.common.input.parameter");
         // Load ML algorithm parameter class
         for (Class<?> clazz : classes) {
             MLAlgoParameter mlAlgoParameter = clazz.getAnnotation(MLAlgoParameter.class);
@@ -97,7 +109,7 @@ public class MLCommonsClassLoader {
         }
 
         // Load ML output class
-        classes = reflections.getTypesAnnotatedWith(MLAlgoOutput.class);
+        classes = getTypesAnnotatedWith(MLAlgoOutput.class, "org.opensearch.ml.common.input.parameter");
         for (Class<?> clazz : classes) {
             MLAlgoOutput mlAlgoOutput = clazz.getAnnotation(MLAlgoOutput.class);
             MLOutputType mlOutputType = mlAlgoOutput.value();
@@ -111,9 +123,7 @@ public class MLCommonsClassLoader {
      * Load ML algorithm parameter and ML output class.
      */
     private static void loadMLOutputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.output");
-
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLAlgoOutput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(MLAlgoOutput.class, "org.opensearch.ml.common.output");
         for (Class<?> clazz : classes) {
             MLAlgoOutput mlAlgoOutput = clazz.getAnnotation(MLAlgoOutput.class);
             if (mlAlgoOutput != null) {
@@ -129,8 +139,7 @@ public class MLCommonsClassLoader {
      * Load ML input data set class
      */
     private static void loadMLInputDataSetClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.dataset");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(InputDataSet.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(InputDataSet.class, "org.opensearch.ml.common.dataset");
         for (Class<?> clazz : classes) {
             InputDataSet inputDataSet = clazz.getAnnotation(InputDataSet.class);
             if (inputDataSet != null) {
@@ -146,8 +155,7 @@ public class MLCommonsClassLoader {
      * Load execute input output class.
      */
     private static void loadExecuteInputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input.execute");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(ExecuteInput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(ExecuteInput.class, "org.opensearch.ml.common.input.execute");
         for (Class<?> clazz : classes) {
             ExecuteInput executeInput = clazz.getAnnotation(ExecuteInput.class);
             if (executeInput != null) {
@@ -165,8 +173,7 @@ public class MLCommonsClassLoader {
      * Load execute input output class.
      */
     private static void loadExecuteOutputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.output.execute");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(ExecuteOutput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(ExecuteOutput.class, "org.opensearch.ml.common.output.execute");
         for (Class<?> clazz : classes) {
             ExecuteOutput executeOutput = clazz.getAnnotation(ExecuteOutput.class);
             if (executeOutput != null) {
@@ -181,8 +188,7 @@ public class MLCommonsClassLoader {
     }
 
     private static void loadMLInputClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.common.input");
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(MLInput.class);
+        Set<Class<?>> classes = getTypesAnnotatedWith(MLInput.class, "org.opensearch.ml.common.input");
         for (Class<?> clazz : classes) {
             MLInput mlInput = clazz.getAnnotation(MLInput.class);
             if (mlInput != null) {
@@ -217,18 +223,7 @@ public class MLCommonsClassLoader {
         if (clazz == null) {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
-        try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParamClass);
-            return (S) constructor.newInstance(in);
-        } catch (Exception e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof MLException || cause instanceof IllegalArgumentException) {
-                throw (RuntimeException)cause;
-            } else {
-                log.error("Failed to init instance for type " + type, e);
-                return null;
-            }
-        }
+        return newInstance(clazz, type, new Object[]{in}, constructorParamClass);
     }
 
     public static boolean canInitMLInput(FunctionName functionName) {
@@ -252,19 +247,34 @@ public class MLCommonsClassLoader {
         if (clazz == null) {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
+        return newInstance(clazz, type, initArgs, constructorParameterTypes);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, S> S newInstance(Class<?> clazz, T type, Object[] initArgs, Class<?>... constructorParameterTypes) {
         try {
-            Constructor<?> constructor = clazz.getConstructor(constructorParameterTypes);
-            return (S) constructor.newInstance(initArgs);
-        } catch (Exception e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof MLException) {
-                throw (MLException)cause;
-	    } else if (cause instanceof IllegalArgumentException) {
-                throw (IllegalArgumentException) cause;
-            } else {
-                log.error("Failed to init instance for type " + type, e);
-                return null;
-            }
+            return (S) getConstructor(clazz, constructorParameterTypes).invokeExact(initArgs);
+        } catch (MLException | IllegalArgumentException e) {
+            throw e;
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            log.error("Failed to init instance for type " + type, e);
+            return null;
+        }
+    }
+
+    private static MethodHandle getConstructor(Class<?> clazz, Class<?>... constructorParameterTypes) throws NoSuchMethodException, IllegalAccessException {
+        Map<List<Class<?>>, MethodHandle> constructors = constructorCache.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        List<Class<?>> parameterTypes = Arrays.asList(constructorParameterTypes);
+        MethodHandle constructor = constructors.get(parameterTypes);
+        if (constructor == null) {
+            constructor = MethodHandles.publicLookup()
+                    .findConstructor(clazz, MethodType.methodType(void.class, constructorParameterTypes))
+                    .asSpreader(Object[].class, constructorParameterTypes.length)
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            constructors.put(parameterTypes, constructor);
         }
+        return constructor;
     }
 }
@@ -8,6 +8,7 @@ package org.opensearch.ml.common;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.Setter;
+import org.opensearch.common.CheckedConsumer;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.commons.authuser.User;
@@ -271,6 +272,24 @@ public class MLModel implements ToXContentObject {
 
     @Override
     public XContentBuilder toXContent(XContentBuilder builder, ToXContent.Params params) throws IOException {
+        return toXContent(builder, content == null ? null : b -> b.field(MODEL_CONTENT_FIELD, content));
+    }
+
+    /**
+     * Write the model with binary content instead of its content field. JSON encodes the content as base64 without
+     * an intermediate string, which keeps large model chunks from being copied into a String.
+     * @param builder XContent builder
+     * @param content buffer of model content
+     * @param offset offset of model content in buffer
+     * @param length length of model content
+     * @return XContent builder
+     * @throws IOException if writing fails
+     */
+    public XContentBuilder toXContent(XContentBuilder builder, byte[] content, int offset, int length) throws IOException {
+        return toXContent(builder, b -> b.field(MODEL_CONTENT_FIELD, content, offset, length));
+    }
+
+    private XContentBuilder toXContent(XContentBuilder builder, CheckedConsumer<XContentBuilder, IOException> contentWriter) throws IOException {
         builder.startObject();
         if (name != null) {
             builder.field(MODEL_NAME_FIELD, name);
@@ -284,8 +303,8 @@ public class MLModel implements ToXContentObject {
         if (version != null) {
             builder.field(MODEL_VERSION_FIELD, version);
         }
-        if (content != null) {
-            builder.field(MODEL_CONTENT_FIELD, content);
+        if (contentWriter != null) {
+            contentWriter.accept(builder);
         }
         if (user != null) {
             builder.field(USER, user);
@@ -44,6 +44,9 @@ public class MLTask implements ToXContentObject, Writeable {
     public static final String LAST_UPDATE_TIME_FIELD = "last_update_time";
     public static final String ERROR_FIELD = "error";
     public static final String IS_ASYNC_TASK_FIELD = "is_async";
+    // input and checkpoint of batch prediction tasks, kept in the task index to resume the job
+    public static final String BATCH_PREDICTION_INPUT_FIELD = "batch_prediction_input";
+    public static final String BATCH_PREDICTION_CHECKPOINT_FIELD = "batch_prediction_checkpoint";
 
     @Setter
     private String taskId;
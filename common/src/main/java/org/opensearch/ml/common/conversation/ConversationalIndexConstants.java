@@ -52,7 +52,7 @@ public class ConversationalIndexConstants {
         + "}";
 
     /** Version of the interactions index schema */
-    public final static Integer INTERACTIONS_INDEX_SCHEMA_VERSION = 1;
+    public final static Integer INTERACTIONS_INDEX_SCHEMA_VERSION = 2;
     /** Name of the conversational interactions index */
     public final static String INTERACTIONS_INDEX_NAME = ".plugins-ml-conversation-interactions";
     /** Name of the interaction field for the conversation Id */
@@ -69,6 +69,8 @@ public class ConversationalIndexConstants {
     public final static String INTERACTIONS_ADDITIONAL_INFO_FIELD = "additional_info";
     /** Name of the interaction field for the timestamp */
     public final static String INTERACTIONS_CREATE_TIME_FIELD = "create_time";
+    /** Name of the interaction field for the random number which orders interactions created at the same time */
+    public final static String INTERACTIONS_TIEBREAKER_FIELD = "tiebreaker";
     /** Mappings for the interactions index */
     public final static String INTERACTIONS_MAPPINGS = "{\n"
         + "    \"_meta\": {\n"
@@ -82,6 +84,9 @@ public class ConversationalIndexConstants {
         + INTERACTIONS_CREATE_TIME_FIELD
         + "\": {\"type\": \"date\", \"format\": \"strict_date_time||epoch_millis\"},\n"
         + "        \""
+        + INTERACTIONS_TIEBREAKER_FIELD
+        + "\": {\"type\": \"long\"},\n"
+        + "        \""
         + INTERACTIONS_INPUT_FIELD
         + "\": {\"type\": \"text\"},\n"
         + "        \""
@@ -102,4 +107,8 @@ public class ConversationalIndexConstants {
     /** Feature Flag setting for conversational memory */
     public static final Setting<Boolean> ML_COMMONS_MEMORY_FEATURE_ENABLED = Setting
         .boolSetting("plugins.ml_commons.memory_feature_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    /** Refresh conversational memory indices before searching them. Writes wait for a refresh, so this is rarely needed */
+    public static final Setting<Boolean> ML_COMMONS_MEMORY_REFRESH_ON_READ = Setting
+        .boolSetting("plugins.ml_commons.memory_refresh_on_read", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 }
\ No newline at end of file
@@ -16,9 +16,12 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 
 import java.io.IOException;
+import java.util.EnumSet;
 import java.util.Locale;
+import java.util.Set;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 
@@ -37,16 +40,28 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
     public static final String POOLING_MODE_FIELD = "pooling_mode";
     public static final String NORMALIZE_RESULT_FIELD = "normalize_result";
     public static final String MODEL_MAX_LENGTH_FIELD = "model_max_length";
+    public static final String EMBEDDING_DATA_TYPE_FIELD = "embedding_data_type";
+    public static final Set<MLResultDataType> EMBEDDING_DATA_TYPES = EnumSet
+            .of(MLResultDataType.FLOAT32, MLResultDataType.FLOAT16, MLResultDataType.INT8);
 
     private final Integer embeddingDimension;
     private final FrameworkType frameworkType;
     private final PoolingMode poolingMode;
     private final boolean normalizeResult;
     private final Integer modelMaxLength;
+    // FLOAT16 or INT8 embeddings make responses smaller, for k-NN fields storing reduced precision vectors.
+    // INT8 embeddings must be normalized and come with the fixed scale they were multiplied with, FLOAT32 if null.
+    private final MLResultDataType embeddingDataType;
 
-    @Builder(toBuilder = true)
     public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
                                     PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength) {
+        this(modelType, embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength, null);
+    }
+
+    @Builder(toBuilder = true)
+    public TextEmbeddingModelConfig(String modelType, Integer embeddingDimension, FrameworkType frameworkType, String allConfig,
+                                    PoolingMode poolingMode, boolean normalizeResult, Integer modelMaxLength,
+                                    MLResultDataType embeddingDataType) {
         super(modelType, allConfig);
         if (embeddingDimension == null) {
             throw new IllegalArgumentException("embedding dimension is null");
@@ -59,6 +74,13 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         this.poolingMode = poolingMode;
         this.normalizeResult = normalizeResult;
         this.modelMaxLength = modelMaxLength;
+        if (embeddingDataType != null && !EMBEDDING_DATA_TYPES.contains(embeddingDataType)) {
+            throw new IllegalArgumentException("Wrong embedding data type");
+        }
+        if (embeddingDataType == MLResultDataType.INT8 && !normalizeResult) {
+            throw new IllegalArgumentException("INT8 embedding data type needs normalize_result to be true");
+        }
+        this.embeddingDataType = embeddingDataType;
     }
 
     public static TextEmbeddingModelConfig parse(XContentParser parser) throws IOException {
@@ -69,6 +91,7 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         PoolingMode poolingMode = null;
         boolean normalizeResult = false;
         Integer modelMaxLength = null;
+        MLResultDataType embeddingDataType = null;
 
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
         while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
@@ -97,12 +120,24 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
                 case MODEL_MAX_LENGTH_FIELD:
                     modelMaxLength = parser.intValue();
                     break;
+                case EMBEDDING_DATA_TYPE_FIELD:
+                    embeddingDataType = embeddingDataTypeFrom(parser.text());
+                    break;
                 default:
                     parser.skipChildren();
                     break;
             }
         }
-        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength);
+        return new TextEmbeddingModelConfig(modelType,  embeddingDimension, frameworkType, allConfig, poolingMode, normalizeResult, modelMaxLength,
+                embeddingDataType);
+    }
+
+    private static MLResultDataType embeddingDataTypeFrom(String value) {
+        try {
+            return MLResultDataType.valueOf(value.toUpperCase(Locale.ROOT));
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Wrong embedding data type");
+        }
     }
 
     @Override
@@ -121,6 +156,11 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         }
         normalizeResult = in.readBoolean();
         modelMaxLength = in.readOptionalInt();
+        if (in.readBoolean()) {
+            embeddingDataType = in.readEnum(MLResultDataType.class);
+        } else {
+            embeddingDataType = null;
+        }
     }
 
     @Override
@@ -136,6 +176,12 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         }
         out.writeBoolean(normalizeResult);
         out.writeOptionalInt(modelMaxLength);
+        if (embeddingDataType != null) {
+            out.writeBoolean(true);
+            out.writeEnum(embeddingDataType);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
     @Override
@@ -162,6 +208,9 @@ public class TextEmbeddingModelConfig extends MLModelConfig {
         if (normalizeResult) {
             builder.field(NORMALIZE_RESULT_FIELD, normalizeResult);
         }
+        if (embeddingDataType != null) {
+            builder.field(EMBEDDING_DATA_TYPE_FIELD, embeddingDataType);
+        }
         builder.endObject();
         return builder;
     }
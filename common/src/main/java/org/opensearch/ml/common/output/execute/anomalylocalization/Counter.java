@@ -27,4 +27,13 @@ public interface Counter {
      * @return the (approximate/exact) value for the key
      */
     double estimate(List<String> key);
+
+    /**
+     * Gets the bound of the estimation error.
+     *
+     * @return the maximum absolute difference between estimated and exact values with high probability, 0 for exact counting
+     */
+    default double getErrorBound() {
+        return 0;
+    }
 }
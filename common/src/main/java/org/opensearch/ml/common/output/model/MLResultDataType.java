@@ -34,6 +34,15 @@ public enum MLResultDataType {
         this.format = format;
         this.numOfBytes = numOfBytes;
     }
+    /**
+     * Returns the number of bytes of a value of this data type.
+     *
+     * @return number of bytes, 0 or -1 if unknown or variable
+     */
+    public int getNumOfBytes() {
+        return numOfBytes;
+    }
+
     /**
      * Checks whether it is a floating data type.
      *
@@ -14,6 +14,7 @@ import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.ToXContentObject;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.utils.Float16Utils;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
@@ -22,8 +23,10 @@ import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ml.common.utils.StringUtils.gson;
@@ -40,6 +43,14 @@ public class ModelTensor implements Writeable, ToXContentObject {
     public static final String BYTE_BUFFER_ORDER_FIELD = "order";
     public static final String RESULT_FIELD = "result";
     public static final String DATA_AS_MAP_FIELD = "dataAsMap";
+    // Request parameter to write data as little-endian bytes of the data type (e.g. 4 bytes per FLOAT32 value) instead
+    // of an array of numbers. CBOR and SMILE responses carry the bytes as is, JSON responses as base64.
+    public static final String BINARY_DATA_PARAM = "binary_data";
+    // Name of the tensors parsed from the events of a streaming remote model response, e.g. server-sent events.
+    public static final String STREAM_EVENT_NAME = "response_event";
+    private static final Set<MLResultDataType> BINARY_DATA_TYPES = EnumSet
+            .of(MLResultDataType.FLOAT32, MLResultDataType.FLOAT16, MLResultDataType.FLOAT64, MLResultDataType.INT32,
+                    MLResultDataType.INT64, MLResultDataType.INT8, MLResultDataType.UINT8);
 
     private String name;
     private Number[] data;
@@ -76,11 +87,15 @@ public class ModelTensor implements Writeable, ToXContentObject {
             builder.field(SHAPE_FIELD, shape);
         }
         if (data != null) {
-            builder.field(DATA_FIELD, data);
+            if (params.paramAsBoolean(BINARY_DATA_PARAM, false) && BINARY_DATA_TYPES.contains(dataType)) {
+                writeBinaryData(builder);
+            } else {
+                builder.field(DATA_FIELD, data);
+            }
         }
         if (byteBuffer != null) {
             builder.startObject(BYTE_BUFFER_FIELD);
-            builder.field(BYTE_BUFFER_ARRAY_FIELD, byteBuffer.array());
+            builder.field(BYTE_BUFFER_ARRAY_FIELD, byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), byteBuffer.remaining());
             builder.field(BYTE_BUFFER_ORDER_FIELD, byteBuffer.order().toString());
             builder.endObject();
         }
@@ -94,9 +109,78 @@ public class ModelTensor implements Writeable, ToXContentObject {
         return builder;
     }
 
+    private void writeBinaryData(XContentBuilder builder) throws IOException {
+        int length = data.length * dataType.getNumOfBytes();
+        // Byte buffers of model outputs usually have the same layout, write them without copying.
+        if (byteBuffer != null && byteBuffer.hasArray() && byteBuffer.order() == ByteOrder.LITTLE_ENDIAN
+                && byteBuffer.remaining() == length) {
+            builder.field(DATA_FIELD, byteBuffer.array(), byteBuffer.arrayOffset() + byteBuffer.position(), length);
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        for (Number value : data) {
+            switch (dataType) {
+                case FLOAT32:
+                    buffer.putFloat(value.floatValue());
+                    break;
+                case FLOAT16:
+                    buffer.putShort(Float16Utils.toFloat16(value.floatValue()));
+                    break;
+                case FLOAT64:
+                    buffer.putDouble(value.doubleValue());
+                    break;
+                case INT32:
+                    buffer.putInt(value.intValue());
+                    break;
+                case INT64:
+                    buffer.putLong(value.longValue());
+                    break;
+                default:
+                    buffer.put(value.byteValue());
+                    break;
+            }
+        }
+        builder.field(DATA_FIELD, buffer.array());
+    }
+
+    private static Number[] readBinaryData(byte[] bytes, MLResultDataType dataType) {
+        if (!BINARY_DATA_TYPES.contains(dataType)) {
+            throw new IllegalArgumentException("Binary data not supported for data type " + dataType);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        Number[] data = new Number[bytes.length / dataType.getNumOfBytes()];
+        for (int i = 0; i < data.length; i++) {
+            switch (dataType) {
+                case FLOAT32:
+                    data[i] = buffer.getFloat();
+                    break;
+                case FLOAT16:
+                    data[i] = Float16Utils.toFloat(buffer.getShort());
+                    break;
+                case FLOAT64:
+                    data[i] = buffer.getDouble();
+                    break;
+                case INT32:
+                    data[i] = buffer.getInt();
+                    break;
+                case INT64:
+                    data[i] = buffer.getLong();
+                    break;
+                case UINT8:
+                    data[i] = buffer.get() & 0xff;
+                    break;
+                default:
+                    data[i] = (int) buffer.get();
+                    break;
+            }
+        }
+        return data;
+    }
+
     public static ModelTensor parser(XContentParser parser) throws IOException {
         String name = null;
         List<Object> dataList = null;
+        byte[] binaryData = null;
         Number[] data = null;
         long[] shape = null;
         MLResultDataType dataType = null;
@@ -114,7 +198,11 @@ public class ModelTensor implements Writeable, ToXContentObject {
                     name = parser.text();
                     break;
                 case DATA_FIELD:
-                    dataList = parser.list();
+                    if (parser.currentToken() == XContentParser.Token.START_ARRAY) {
+                        dataList = parser.list();
+                    } else {
+                        binaryData = parser.binaryValue();
+                    }
                     break;
                 case DATA_TYPE_FIELD:
                     dataType = MLResultDataType.valueOf(parser.text());
@@ -174,6 +262,8 @@ public class ModelTensor implements Writeable, ToXContentObject {
             for (int i = 0; i < dataList.size(); i++) {
                 data[i] = (Number) dataList.get(i);
             }
+        } else if (dataType != null && binaryData != null && binaryData.length > 0) {
+            data = readBinaryData(binaryData, dataType);
         }
         return ModelTensor.builder()
                 .name(name)
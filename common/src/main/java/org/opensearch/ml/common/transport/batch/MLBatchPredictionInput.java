@@ -0,0 +1,201 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import lombok.Builder;
+import lombok.Data;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.core.xcontent.ToXContentObject;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilder;
+
+import java.io.IOException;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.index.query.AbstractQueryBuilder.parseInnerQueryBuilder;
+
+/**
+ * Input of a batch prediction job, which runs a model over the documents of an index and writes the results to a field
+ * of the same or another index.
+ */
+@Data
+public class MLBatchPredictionInput implements ToXContentObject, Writeable {
+    public static final String MODEL_ID_FIELD = "model_id";
+    public static final String SOURCE_INDEX_FIELD = "source_index";
+    public static final String QUERY_FIELD = "query";
+    public static final String INPUT_FIELD_FIELD = "input_field";
+    public static final String TARGET_INDEX_FIELD = "target_index";
+    public static final String OUTPUT_FIELD_FIELD = "output_field";
+    public static final String BATCH_SIZE_FIELD = "batch_size";
+    public static final String SLICES_FIELD = "slices";
+    public static final String REQUESTS_PER_SECOND_FIELD = "requests_per_second";
+
+    public static final int DEFAULT_BATCH_SIZE = 100;
+    public static final int MAX_BATCH_SIZE = 10000;
+
+    private String modelId;
+    private String sourceIndex;
+    // only documents matching the query are predicted, all documents if null
+    private QueryBuilder query;
+    private String inputField;
+    // results are written to the source index if null
+    private String targetIndex;
+    private String outputField;
+    private int batchSize;
+    // number of shards scanned at the same time, defaults to the number of worker nodes of the model if null
+    private Integer slices;
+    // documents predicted per second, not throttled if null
+    private Float requestsPerSecond;
+
+    @Builder(toBuilder = true)
+    public MLBatchPredictionInput(String modelId, String sourceIndex, QueryBuilder query, String inputField, String targetIndex,
+                                  String outputField, Integer batchSize, Integer slices, Float requestsPerSecond) {
+        if (sourceIndex == null) {
+            throw new IllegalArgumentException("Source index is null");
+        }
+        if (inputField == null) {
+            throw new IllegalArgumentException("Input field is null");
+        }
+        if (outputField == null) {
+            throw new IllegalArgumentException("Output field is null");
+        }
+        if (batchSize != null && (batchSize <= 0 || batchSize > MAX_BATCH_SIZE)) {
+            throw new IllegalArgumentException("Batch size must be between 1 and " + MAX_BATCH_SIZE);
+        }
+        if (slices != null && slices <= 0) {
+            throw new IllegalArgumentException("Slices must be positive");
+        }
+        if (requestsPerSecond != null && requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Requests per second must be positive");
+        }
+        this.modelId = modelId;
+        this.sourceIndex = sourceIndex;
+        this.query = query;
+        this.inputField = inputField;
+        this.targetIndex = targetIndex;
+        this.outputField = outputField;
+        this.batchSize = batchSize == null ? DEFAULT_BATCH_SIZE : batchSize;
+        this.slices = slices;
+        this.requestsPerSecond = requestsPerSecond;
+    }
+
+    public MLBatchPredictionInput(StreamInput in) throws IOException {
+        this.modelId = in.readOptionalString();
+        this.sourceIndex = in.readString();
+        this.query = in.readOptionalNamedWriteable(QueryBuilder.class);
+        this.inputField = in.readString();
+        this.targetIndex = in.readOptionalString();
+        this.outputField = in.readString();
+        this.batchSize = in.readInt();
+        this.slices = in.readOptionalInt();
+        this.requestsPerSecond = in.readOptionalFloat();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        out.writeOptionalString(modelId);
+        out.writeString(sourceIndex);
+        out.writeOptionalNamedWriteable(query);
+        out.writeString(inputField);
+        out.writeOptionalString(targetIndex);
+        out.writeString(outputField);
+        out.writeInt(batchSize);
+        out.writeOptionalInt(slices);
+        out.writeOptionalFloat(requestsPerSecond);
+    }
+
+    /**
+     * Index to write results to.
+     * @return target index, or source index if target index is not set
+     */
+    public String getTargetIndexOrSource() {
+        return targetIndex == null ? sourceIndex : targetIndex;
+    }
+
+    public static MLBatchPredictionInput parse(XContentParser parser, String modelId) throws IOException {
+        String sourceIndex = null;
+        QueryBuilder query = null;
+        String inputField = null;
+        String targetIndex = null;
+        String outputField = null;
+        Integer batchSize = null;
+        Integer slices = null;
+        Float requestsPerSecond = null;
+
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+        while (parser.nextToken() != XContentParser.Token.END_OBJECT) {
+            String fieldName = parser.currentName();
+            parser.nextToken();
+
+            switch (fieldName) {
+                case MODEL_ID_FIELD:
+                    if (modelId == null) {
+                        modelId = parser.text();
+                    }
+                    break;
+                case SOURCE_INDEX_FIELD:
+                    sourceIndex = parser.text();
+                    break;
+                case QUERY_FIELD:
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.currentToken(), parser);
+                    query = parseInnerQueryBuilder(parser);
+                    break;
+                case INPUT_FIELD_FIELD:
+                    inputField = parser.text();
+                    break;
+                case TARGET_INDEX_FIELD:
+                    targetIndex = parser.text();
+                    break;
+                case OUTPUT_FIELD_FIELD:
+                    outputField = parser.text();
+                    break;
+                case BATCH_SIZE_FIELD:
+                    batchSize = parser.intValue(false);
+                    break;
+                case SLICES_FIELD:
+                    slices = parser.intValue(false);
+                    break;
+                case REQUESTS_PER_SECOND_FIELD:
+                    requestsPerSecond = parser.floatValue(false);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+        return new MLBatchPredictionInput(modelId, sourceIndex, query, inputField, targetIndex, outputField, batchSize, slices,
+                requestsPerSecond);
+    }
+
+    @Override
+    public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
+        builder.startObject();
+        if (modelId != null) {
+            builder.field(MODEL_ID_FIELD, modelId);
+        }
+        builder.field(SOURCE_INDEX_FIELD, sourceIndex);
+        if (query != null) {
+            builder.field(QUERY_FIELD, query);
+        }
+        builder.field(INPUT_FIELD_FIELD, inputField);
+        if (targetIndex != null) {
+            builder.field(TARGET_INDEX_FIELD, targetIndex);
+        }
+        builder.field(OUTPUT_FIELD_FIELD, outputField);
+        builder.field(BATCH_SIZE_FIELD, batchSize);
+        if (slices != null) {
+            builder.field(SLICES_FIELD, slices);
+        }
+        if (requestsPerSecond != null) {
+            builder.field(REQUESTS_PER_SECOND_FIELD, requestsPerSecond);
+        }
+        builder.endObject();
+        return builder;
+    }
+}
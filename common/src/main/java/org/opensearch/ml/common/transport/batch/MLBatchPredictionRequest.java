@@ -0,0 +1,92 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.core.common.io.stream.InputStreamStreamInput;
+import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.common.io.stream.StreamOutput;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.opensearch.action.ValidateActions.addValidationError;
+
+/**
+ * Request to start a batch prediction job, or to resume the job of a task from its last checkpoint.
+ */
+@Getter
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@ToString
+public class MLBatchPredictionRequest extends ActionRequest {
+
+    MLBatchPredictionInput batchPredictionInput;
+    // id of the task to resume, null for a new job
+    String taskId;
+
+    @Builder
+    public MLBatchPredictionRequest(MLBatchPredictionInput batchPredictionInput, String taskId) {
+        this.batchPredictionInput = batchPredictionInput;
+        this.taskId = taskId;
+    }
+
+    public MLBatchPredictionRequest(StreamInput in) throws IOException {
+        super(in);
+        this.batchPredictionInput = in.readBoolean() ? new MLBatchPredictionInput(in) : null;
+        this.taskId = in.readOptionalString();
+    }
+
+    @Override
+    public void writeTo(StreamOutput out) throws IOException {
+        super.writeTo(out);
+        if (batchPredictionInput != null) {
+            out.writeBoolean(true);
+            batchPredictionInput.writeTo(out);
+        } else {
+            out.writeBoolean(false);
+        }
+        out.writeOptionalString(taskId);
+    }
+
+    @Override
+    public ActionRequestValidationException validate() {
+        ActionRequestValidationException exception = null;
+        if (taskId == null) {
+            if (batchPredictionInput == null) {
+                exception = addValidationError("Batch prediction input can't be null", exception);
+            } else if (batchPredictionInput.getModelId() == null) {
+                exception = addValidationError("ML model id can't be null", exception);
+            }
+        }
+
+        return exception;
+    }
+
+    public static MLBatchPredictionRequest fromActionRequest(ActionRequest actionRequest) {
+        if (actionRequest instanceof MLBatchPredictionRequest) {
+            return (MLBatchPredictionRequest) actionRequest;
+        }
+
+        try (ByteArrayOutputStream baos = new ByteArrayOutputStream();
+             OutputStreamStreamOutput osso = new OutputStreamStreamOutput(baos)) {
+            actionRequest.writeTo(osso);
+            try (StreamInput input = new InputStreamStreamInput(new ByteArrayInputStream(baos.toByteArray()))) {
+                return new MLBatchPredictionRequest(input);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("failed to parse ActionRequest into MLBatchPredictionRequest", e);
+        }
+    }
+}
@@ -9,10 +9,12 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
 
 import lombok.Setter;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.common.io.stream.InputStreamStreamInput;
 import org.opensearch.core.common.io.stream.OutputStreamStreamOutput;
@@ -38,6 +40,9 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
     MLInput mlInput;
     @Setter
     User user;
+    // System.nanoTime() after which the caller no longer waits for the result, null if the request has no deadline.
+    // Only the remaining time is sent to other nodes, so the deadline doesn't depend on their clocks.
+    Long deadlineInNanos;
 
     @Builder
     public MLPredictionTaskRequest(String modelId, MLInput mlInput, boolean dispatchTask, User user) {
@@ -58,6 +63,10 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         if (in.readBoolean()) {
             this.user = new User(in);
         }
+        Long remainingMillis = in.readOptionalLong();
+        if (remainingMillis != null) {
+            this.deadlineInNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+        }
     }
 
     @Override
@@ -71,6 +80,8 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         } else {
             out.writeBoolean(false);
         }
+        TimeValue remainingTime = getRemainingTime();
+        out.writeOptionalLong(remainingTime == null ? null : remainingTime.millis());
     }
 
     @Override
@@ -85,6 +96,32 @@ public class MLPredictionTaskRequest extends MLTaskRequest {
         return exception;
     }
 
+    /**
+     * Set the time after which the caller no longer waits for the result.
+     * @param timeout timeout from now
+     */
+    public void setTimeout(TimeValue timeout) {
+        this.deadlineInNanos = System.nanoTime() + timeout.nanos();
+    }
+
+    /**
+     * Get the time left until the deadline of the request.
+     * @return remaining time, zero if the deadline has passed, null if the request has no deadline
+     */
+    public TimeValue getRemainingTime() {
+        if (deadlineInNanos == null) {
+            return null;
+        }
+        return TimeValue.timeValueNanos(Math.max(0, deadlineInNanos - System.nanoTime()));
+    }
+
+    /**
+     * Check if the deadline of the request has passed.
+     * @return true if the request has a deadline which has passed
+     */
+    public boolean isExpired() {
+        return deadlineInNanos != null && System.nanoTime() - deadlineInNanos >= 0;
+    }
 
     public static MLPredictionTaskRequest fromActionRequest(ActionRequest actionRequest) {
         if (actionRequest instanceof MLPredictionTaskRequest) {
@@ -10,6 +10,7 @@ import lombok.Data;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.core.common.io.stream.Writeable;
+import org.opensearch.ml.common.FunctionName;
 
 import java.io.IOException;
 import java.util.Map;
@@ -35,6 +36,17 @@ public class MLSyncUpInput implements Writeable {
     // profile API has consistent data with model index.
     private Map<String, Boolean> deployToAllNodes;
 
+    // key is ephemeral node id, value is the deployment state version of that node acknowledged by the sync up job.
+    // Nodes with an acknowledged version only report changes of their deployed models since that version.
+    private Map<String, Long> deploymentStateVersions;
+
+    // key is model id, value is function name of the model. Sent with worker node changes, so that nodes which don't
+    // run the model can parse predict requests without getting the model.
+    private Map<String, FunctionName> modelFunctionNames;
+
+    // ids of deleted models, nodes release the predictors they cached for these models.
+    private Set<String> deletedModelIds;
+
     @Builder
     public MLSyncUpInput(boolean getDeployedModels,
                          Map<String, String[]> addedWorkerNodes,
@@ -42,6 +54,9 @@ public class MLSyncUpInput implements Writeable {
                          Map<String, Set<String>> modelRoutingTable,
                          Map<String, Set<String>> runningDeployModelTasks,
                          Map<String, Boolean> deployToAllNodes,
+                         Map<String, Long> deploymentStateVersions,
+                         Map<String, FunctionName> modelFunctionNames,
+                         Set<String> deletedModelIds,
                          boolean clearRoutingTable,
                          boolean syncRunningDeployModelTasks) {
         this.getDeployedModels = getDeployedModels;
@@ -50,6 +65,9 @@ public class MLSyncUpInput implements Writeable {
         this.modelRoutingTable = modelRoutingTable;
         this.runningDeployModelTasks = runningDeployModelTasks;
         this.deployToAllNodes = deployToAllNodes;
+        this.deploymentStateVersions = deploymentStateVersions;
+        this.modelFunctionNames = modelFunctionNames;
+        this.deletedModelIds = deletedModelIds;
         this.clearRoutingTable = clearRoutingTable;
         this.syncRunningDeployModelTasks = syncRunningDeployModelTasks;
     }
@@ -75,6 +93,15 @@ public class MLSyncUpInput implements Writeable {
         }
         this.clearRoutingTable = in.readBoolean();
         this.syncRunningDeployModelTasks = in.readBoolean();
+        if (in.readBoolean()) {
+            deploymentStateVersions = in.readMap(StreamInput::readString, StreamInput::readLong);
+        }
+        if (in.readBoolean()) {
+            modelFunctionNames = in.readMap(StreamInput::readString, s -> s.readEnum(FunctionName.class));
+        }
+        if (in.readBoolean()) {
+            deletedModelIds = in.readSet(StreamInput::readString);
+        }
     }
 
     @Override
@@ -112,6 +139,24 @@ public class MLSyncUpInput implements Writeable {
         }
         out.writeBoolean(clearRoutingTable);
         out.writeBoolean(syncRunningDeployModelTasks);
+        if (deploymentStateVersions != null && deploymentStateVersions.size() > 0) {
+            out.writeBoolean(true);
+            out.writeMap(deploymentStateVersions, StreamOutput::writeString, StreamOutput::writeLong);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (modelFunctionNames != null && modelFunctionNames.size() > 0) {
+            out.writeBoolean(true);
+            out.writeMap(modelFunctionNames, StreamOutput::writeString, StreamOutput::writeEnum);
+        } else {
+            out.writeBoolean(false);
+        }
+        if (deletedModelIds != null && deletedModelIds.size() > 0) {
+            out.writeBoolean(true);
+            out.writeStringCollection(deletedModelIds);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
 }
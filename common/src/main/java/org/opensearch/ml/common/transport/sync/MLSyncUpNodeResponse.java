@@ -6,30 +6,52 @@
 package org.opensearch.ml.common.transport.sync;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.action.support.nodes.BaseNodeResponse;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.core.common.io.stream.StreamOutput;
+import org.opensearch.ml.common.FunctionName;
 
 import java.io.IOException;
+import java.util.Map;
 
 @Log4j2
 @Getter
 public class MLSyncUpNodeResponse extends BaseNodeResponse  {
 
+    public static final long NO_VERSION = -1;
+
     private String modelStatus;
     private String[] deployedModelIds;
     private String[] runningDeployModelIds; // model ids which have deploying model task running
     private String[] runningDeployModelTaskIds; // deploy model task ids which is running
+    // Version of the deployed models of the node. If baseDeploymentStateVersion is NO_VERSION, deployedModelIds are
+    // all deployed models, otherwise deployedModelIds and undeployedModelIds are the changes since baseDeploymentStateVersion.
+    private long deploymentStateVersion;
+    private long baseDeploymentStateVersion;
+    private String[] undeployedModelIds;
+    // key is model id of deployedModelIds, value is function name of the model
+    @Setter
+    private Map<String, FunctionName> deployedModelFunctionNames;
 
     public MLSyncUpNodeResponse(DiscoveryNode node, String modelStatus, String[] deployedModelIds, String[] runningDeployModelIds,
                                 String[] runningDeployModelTaskIds) {
+        this(node, modelStatus, deployedModelIds, runningDeployModelIds, runningDeployModelTaskIds, NO_VERSION, NO_VERSION, null);
+    }
+
+    public MLSyncUpNodeResponse(DiscoveryNode node, String modelStatus, String[] deployedModelIds, String[] runningDeployModelIds,
+                                String[] runningDeployModelTaskIds, long deploymentStateVersion, long baseDeploymentStateVersion,
+                                String[] undeployedModelIds) {
         super(node);
         this.modelStatus = modelStatus;
         this.deployedModelIds = deployedModelIds;
         this.runningDeployModelIds = runningDeployModelIds;
         this.runningDeployModelTaskIds = runningDeployModelTaskIds;
+        this.deploymentStateVersion = deploymentStateVersion;
+        this.baseDeploymentStateVersion = baseDeploymentStateVersion;
+        this.undeployedModelIds = undeployedModelIds;
     }
 
     public MLSyncUpNodeResponse(StreamInput in) throws IOException {
@@ -38,6 +60,20 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
         this.deployedModelIds = in.readOptionalStringArray();
         this.runningDeployModelIds = in.readOptionalStringArray();
         this.runningDeployModelTaskIds = in.readOptionalStringArray();
+        this.deploymentStateVersion = in.readLong();
+        this.baseDeploymentStateVersion = in.readLong();
+        this.undeployedModelIds = in.readOptionalStringArray();
+        if (in.readBoolean()) {
+            this.deployedModelFunctionNames = in.readMap(StreamInput::readString, s -> s.readEnum(FunctionName.class));
+        }
+    }
+
+    /**
+     * Check if deployed model ids are the changes since the base version instead of all deployed models of the node.
+     * @return true if this is a delta response
+     */
+    public boolean isDeploymentStateDelta() {
+        return baseDeploymentStateVersion != NO_VERSION;
     }
 
     public static MLSyncUpNodeResponse readStats(StreamInput in) throws IOException {
@@ -51,6 +87,15 @@ public class MLSyncUpNodeResponse extends BaseNodeResponse  {
         out.writeOptionalStringArray(deployedModelIds);
         out.writeOptionalStringArray(runningDeployModelIds);
         out.writeOptionalStringArray(runningDeployModelTaskIds);
+        out.writeLong(deploymentStateVersion);
+        out.writeLong(baseDeploymentStateVersion);
+        out.writeOptionalStringArray(undeployedModelIds);
+        if (deployedModelFunctionNames != null && deployedModelFunctionNames.size() > 0) {
+            out.writeBoolean(true);
+            out.writeMap(deployedModelFunctionNames, StreamOutput::writeString, StreamOutput::writeEnum);
+        } else {
+            out.writeBoolean(false);
+        }
     }
 
 }
@@ -0,0 +1,117 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import lombok.extern.log4j.Log4j2;
+import org.reflections.Reflections;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.annotation.Annotation;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Finds annotated ML classes with the class index generated at compile time by the ML commons annotation
+ * processor. Classpath roots which contain the package but no index, e.g. jars compiled without the
+ * annotation processor, are scanned, and their classes are merged with the indexed ones.
+ */
+@Log4j2
+public class ClassIndex {
+    public static final String INDEX_PATH = "META-INF/opensearch-ml/";
+    private static final String JAR_URL_PREFIX = "jar:";
+    private static final String JAR_URL_SEPARATOR = "!/";
+
+    /**
+     * Get classes in package which are annotated with the annotation.
+     * @param annotation annotation class
+     * @param packageName package name, classes in sub packages are included
+     * @param classLoader class loader to read the index and load classes
+     * @return annotated classes
+     */
+    public static Set<Class<?>> getTypesAnnotatedWith(Class<? extends Annotation> annotation, String packageName, ClassLoader classLoader) {
+        Set<Class<?>> classes = new HashSet<>();
+        Set<URL> unindexedRoots;
+        try {
+            unindexedRoots = readIndex(annotation, packageName, classLoader, classes);
+        } catch (IOException | ClassNotFoundException e) {
+            log.warn("Failed to read class index for " + annotation.getName() + ", scan package " + packageName, e);
+            return new Reflections(packageName).getTypesAnnotatedWith(annotation);
+        }
+        if (!unindexedRoots.isEmpty()) {
+            log.debug("No class index for {} in {}, scan package {} in them", annotation.getName(), unindexedRoots, packageName);
+            Reflections reflections = new Reflections(new ConfigurationBuilder()
+                    .setUrls(unindexedRoots)
+                    .addClassLoader(classLoader)
+                    .filterInputsBy(new FilterBuilder().includePackage(packageName)));
+            classes.addAll(reflections.getTypesAnnotatedWith(annotation));
+        }
+        return classes;
+    }
+
+    /**
+     * Read annotated classes from the class index of every classpath root which has one.
+     * @param classes set to add the annotated classes to
+     * @return classpath roots which contain the package but have no index for the annotation
+     */
+    static Set<URL> readIndex(Class<? extends Annotation> annotation, String packageName, ClassLoader classLoader, Set<Class<?>> classes)
+            throws IOException, ClassNotFoundException {
+        String indexFile = INDEX_PATH + annotation.getName();
+        String packagePrefix = packageName + ".";
+        Set<String> indexedRoots = new HashSet<>();
+        Enumeration<URL> indexes = classLoader.getResources(indexFile);
+        while (indexes.hasMoreElements()) {
+            URL url = indexes.nextElement();
+            indexedRoots.add(root(url, indexFile));
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String className = line.trim();
+                    if (className.startsWith(packagePrefix)) {
+                        Class<?> clazz = Class.forName(className, false, classLoader);
+                        if (clazz.isAnnotationPresent(annotation)) {
+                            classes.add(clazz);
+                        }
+                    }
+                }
+            }
+        }
+
+        String packagePath = packageName.replace('.', '/');
+        Set<URL> unindexedRoots = new HashSet<>();
+        Enumeration<URL> packageDirs = classLoader.getResources(packagePath);
+        while (packageDirs.hasMoreElements()) {
+            String root = root(packageDirs.nextElement(), packagePath);
+            if (!indexedRoots.contains(root)) {
+                unindexedRoots.add(toScannableUrl(root));
+            }
+        }
+        return unindexedRoots;
+    }
+
+    // Classpath root of a resource, e.g. "jar:file:/a.jar!/" or "file:/classes/" for resource path "org/opensearch".
+    private static String root(URL url, String resourcePath) {
+        String path = url.toExternalForm();
+        if (path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        return path.substring(0, path.length() - resourcePath.length());
+    }
+
+    private static URL toScannableUrl(String root) throws MalformedURLException {
+        if (root.startsWith(JAR_URL_PREFIX) && root.endsWith(JAR_URL_SEPARATOR)) {
+            return new URL(root.substring(JAR_URL_PREFIX.length(), root.length() - JAR_URL_SEPARATOR.length()));
+        }
+        return new URL(root);
+    }
+}
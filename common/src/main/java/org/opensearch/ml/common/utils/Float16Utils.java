@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+/**
+ * Conversion between float and IEEE 754 half precision float stored in a short.
+ */
+public class Float16Utils {
+
+    /**
+     * Convert float to half precision float, rounding to the nearest even value.
+     * @param value float value
+     * @return bits of half precision float
+     */
+    public static short toFloat16(float value) {
+        int bits = Float.floatToRawIntBits(value);
+        int sign = (bits >>> 16) & 0x8000;
+        int exponent = (bits >>> 23) & 0xff;
+        int mantissa = bits & 0x7fffff;
+        if (exponent == 0xff) {
+            // infinity or NaN
+            return (short) (sign | 0x7c00 | (mantissa != 0 ? 0x200 : 0));
+        }
+        int halfExponent = exponent - 127 + 15;
+        if (halfExponent >= 0x1f) {
+            return (short) (sign | 0x7c00);
+        }
+        if (halfExponent <= 0) {
+            // subnormal half precision float, the leading bit of mantissa is explicit
+            if (halfExponent < -10) {
+                return (short) sign;
+            }
+            return (short) (sign | round(mantissa | 0x800000, 14 - halfExponent));
+        }
+        // rounding may carry into exponent, which also rounds to infinity correctly
+        return (short) (sign | round((halfExponent << 23) | mantissa, 13));
+    }
+
+    /**
+     * Convert half precision float to float.
+     * @param bits bits of half precision float
+     * @return float value
+     */
+    public static float toFloat(short bits) {
+        int sign = (bits & 0x8000) << 16;
+        int exponent = (bits >>> 10) & 0x1f;
+        int mantissa = bits & 0x3ff;
+        if (exponent == 0x1f) {
+            return Float.intBitsToFloat(sign | 0x7f800000 | (mantissa << 13));
+        }
+        if (exponent == 0) {
+            float value = mantissa * 0x1p-24f;
+            return sign == 0 ? value : -value;
+        }
+        return Float.intBitsToFloat(sign | ((exponent + 112) << 23) | (mantissa << 13));
+    }
+
+    /**
+     * Round a float to the nearest half precision float.
+     * @param value float value
+     * @return float value with half precision
+     */
+    public static float roundToFloat16(float value) {
+        return toFloat(toFloat16(value));
+    }
+
+    private static int round(int value, int shift) {
+        int result = value >>> shift;
+        int remainder = value & ((1 << shift) - 1);
+        int halfway = 1 << (shift - 1);
+        if (remainder > halfway || (remainder == halfway && (result & 1) != 0)) {
+            result++;
+        }
+        return result;
+    }
+}
@@ -18,7 +18,9 @@ import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.function.Function;
 
 import static org.junit.Assert.assertEquals;
@@ -78,6 +80,17 @@ public class MLModelTests {
         assertEquals("{\"name\":\"model_name\",\"algorithm\":\"KMEANS\",\"model_version\":\"1.0.0\",\"model_content\":\"test_content\"}", mlModelContent);
     }
 
+    @Test
+    public void toXContent_BinaryContent() throws IOException {
+        MLModel mlModel = MLModel.builder().algorithm(FunctionName.KMEANS).name("model_name").content("ignored").chunkNumber(0).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        byte[] content = "xtest_contentx".getBytes(StandardCharsets.UTF_8);
+        mlModel.toXContent(builder, content, 1, content.length - 2);
+        String mlModelContent = TestHelper.xContentBuilderToString(builder);
+        String encodedContent = Base64.getEncoder().encodeToString("test_content".getBytes(StandardCharsets.UTF_8));
+        assertEquals("{\"name\":\"model_name\",\"algorithm\":\"KMEANS\",\"model_content\":\"" + encodedContent + "\",\"chunk_number\":0}", mlModelContent);
+    }
+
     @Test
     public void toXContent_NullValue() throws IOException {
         MLModel mlModel = MLModel.builder().build();
@@ -15,6 +15,7 @@ import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.TestHelper;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 
 import java.io.IOException;
 import java.util.function.Function;
@@ -87,6 +88,36 @@ public class TextEmbeddingModelConfigTests {
         TestHelper.testParseFromString(config, content, function);
     }
 
+    @Test
+    public void parse_EmbeddingDataType() throws IOException {
+        config = config.toBuilder().normalizeResult(true).embeddingDataType(MLResultDataType.INT8).build();
+        String content = "{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"normalize_result\":true,\"embedding_data_type\":\"int8\"}";
+        TestHelper.testParseFromString(config, content, function);
+    }
+
+    @Test
+    public void toXContent_EmbeddingDataType() throws IOException {
+        config = config.toBuilder().embeddingDataType(MLResultDataType.FLOAT16).build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        config.toXContent(builder, EMPTY_PARAMS);
+        String configContent = TestHelper.xContentBuilderToString(builder);
+        assertEquals("{\"model_type\":\"testModelType\",\"embedding_dimension\":100,\"framework_type\":\"SENTENCE_TRANSFORMERS\",\"all_config\":\"{\\\"field1\\\":\\\"value1\\\",\\\"field2\\\":\\\"value2\\\"}\",\"embedding_data_type\":\"FLOAT16\"}", configContent);
+    }
+
+    @Test
+    public void embeddingDataType_wrongValue() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("Wrong embedding data type");
+        config.toBuilder().embeddingDataType(MLResultDataType.INT64).build();
+    }
+
+    @Test
+    public void embeddingDataType_Int8NotNormalized() {
+        exceptionRule.expect(IllegalArgumentException.class);
+        exceptionRule.expectMessage("INT8 embedding data type needs normalize_result to be true");
+        config.toBuilder().embeddingDataType(MLResultDataType.INT8).build();
+    }
+
     @Test
     public void frameworkType_wrongValue() {
         exceptionRule.expect(IllegalArgumentException.class);
@@ -99,6 +130,11 @@ public class TextEmbeddingModelConfigTests {
         readInputStream(config);
     }
 
+    @Test
+    public void readInputStream_EmbeddingDataType() throws IOException {
+        readInputStream(config.toBuilder().normalizeResult(true).embeddingDataType(MLResultDataType.INT8).build());
+    }
+
     public void readInputStream(TextEmbeddingModelConfig config) throws IOException {
         BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
         config.writeTo(bytesStreamOutput);
@@ -110,5 +146,6 @@ public class TextEmbeddingModelConfigTests {
         assertEquals(config.getEmbeddingDimension(), parsedConfig.getEmbeddingDimension());
         assertEquals(config.getFrameworkType(), parsedConfig.getFrameworkType());
         assertEquals(config.getWriteableName(), parsedConfig.getWriteableName());
+        assertEquals(config.getEmbeddingDataType(), parsedConfig.getEmbeddingDataType());
     }
 }
@@ -12,14 +12,22 @@ import org.junit.rules.ExpectedException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
 import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.TestHelper;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.opensearch.core.xcontent.ToXContent.EMPTY_PARAMS;
 
@@ -116,5 +124,65 @@ public class ModelTensorTest {
                 .byteBuffer(ByteBuffer.wrap(new byte[]{0,1,0,1}))
                 .build();
     }
-}
 
+    @Test
+    public void toXContent_BinaryData() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .data(new Number[]{1.0f, -2.5f})
+                .dataType(MLResultDataType.FLOAT32)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, new ToXContent.MapParams(Map.of(ModelTensor.BINARY_DATA_PARAM, "true")));
+        String modelTensorContent = TestHelper.xContentBuilderToString(builder);
+        byte[] expected = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putFloat(1.0f).putFloat(-2.5f).array();
+        assertEquals("{\"data_type\":\"FLOAT32\",\"data\":\"" + Base64.getEncoder().encodeToString(expected) + "\"}", modelTensorContent);
+    }
+
+    @Test
+    public void toXContent_BinaryData_FromByteBuffer() throws IOException {
+        ByteBuffer byteBuffer = ByteBuffer.allocate(8).order(ByteOrder.LITTLE_ENDIAN).putInt(7).putInt(-8);
+        byteBuffer.flip();
+        ModelTensor tensor = ModelTensor.builder()
+                .data(new Number[]{7, -8})
+                .dataType(MLResultDataType.INT32)
+                .byteBuffer(byteBuffer)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.CBOR.xContent());
+        tensor.toXContent(builder, new ToXContent.MapParams(Map.of(ModelTensor.BINARY_DATA_PARAM, "true")));
+        try (XContentParser parser = XContentType.CBOR.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, BytesReference.bytes(builder).streamInput())) {
+            parser.nextToken();
+            ModelTensor parsedTensor = ModelTensor.parser(parser);
+            assertArrayEquals(new Number[]{7, -8}, parsedTensor.getData());
+            assertEquals(MLResultDataType.INT32, parsedTensor.getDataType());
+        }
+    }
+
+    @Test
+    public void toXContent_BinaryData_Float16() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .data(new Number[]{1.0f, -2.5f, 0.1f})
+                .dataType(MLResultDataType.FLOAT16)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.CBOR.xContent());
+        tensor.toXContent(builder, new ToXContent.MapParams(Map.of(ModelTensor.BINARY_DATA_PARAM, "true")));
+        try (XContentParser parser = XContentType.CBOR.xContent().createParser(NamedXContentRegistry.EMPTY,
+                LoggingDeprecationHandler.INSTANCE, BytesReference.bytes(builder).streamInput())) {
+            parser.nextToken();
+            ModelTensor parsedTensor = ModelTensor.parser(parser);
+            assertArrayEquals(new Number[]{1.0f, -2.5f, 0.099975586f}, parsedTensor.getData());
+            assertEquals(MLResultDataType.FLOAT16, parsedTensor.getDataType());
+        }
+    }
+
+    @Test
+    public void toXContent_BinaryData_UnsupportedDataType() throws IOException {
+        ModelTensor tensor = ModelTensor.builder()
+                .data(new Number[]{1})
+                .dataType(MLResultDataType.BOOLEAN)
+                .build();
+        XContentBuilder builder = XContentBuilder.builder(XContentType.JSON.xContent());
+        tensor.toXContent(builder, new ToXContent.MapParams(Map.of(ModelTensor.BINARY_DATA_PARAM, "true")));
+        assertEquals("{\"data_type\":\"BOOLEAN\",\"data\":[1]}", TestHelper.xContentBuilderToString(builder));
+    }
+}
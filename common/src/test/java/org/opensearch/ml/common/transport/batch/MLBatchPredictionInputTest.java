@@ -0,0 +1,118 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.io.stream.NamedWriteableAwareStreamInput;
+import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
+import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.ml.common.TestHelper;
+import org.opensearch.search.SearchModule;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.common.xcontent.XContentFactory.jsonBuilder;
+
+public class MLBatchPredictionInputTest {
+
+    private MLBatchPredictionInput input;
+
+    @Before
+    public void setUp() {
+        input = MLBatchPredictionInput.builder()
+                .modelId("test_model_id")
+                .sourceIndex("source_index")
+                .query(QueryBuilders.termQuery("category", "news"))
+                .inputField("text")
+                .targetIndex("target_index")
+                .outputField("embedding")
+                .batchSize(50)
+                .slices(2)
+                .requestsPerSecond(100f)
+                .build();
+    }
+
+    @Test
+    public void constructor_Defaults() {
+        MLBatchPredictionInput input = MLBatchPredictionInput.builder()
+                .sourceIndex("source_index")
+                .inputField("text")
+                .outputField("embedding")
+                .build();
+        assertEquals(MLBatchPredictionInput.DEFAULT_BATCH_SIZE, input.getBatchSize());
+        assertEquals("source_index", input.getTargetIndexOrSource());
+        assertNull(input.getQuery());
+        assertNull(input.getSlices());
+        assertNull(input.getRequestsPerSecond());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_NullSourceIndex() {
+        input.toBuilder().sourceIndex(null).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_NullOutputField() {
+        input.toBuilder().outputField(null).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_InvalidBatchSize() {
+        input.toBuilder().batchSize(MLBatchPredictionInput.MAX_BATCH_SIZE + 1).build();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_InvalidRequestsPerSecond() {
+        input.toBuilder().requestsPerSecond(0f).build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        BytesStreamOutput out = new BytesStreamOutput();
+        input.writeTo(out);
+        StreamInput in = new NamedWriteableAwareStreamInput(out.bytes().streamInput(),
+                new NamedWriteableRegistry(new SearchModule(Settings.EMPTY, Collections.emptyList()).getNamedWriteables()));
+        assertEquals(input, new MLBatchPredictionInput(in));
+    }
+
+    @Test
+    public void parse_Success() throws IOException {
+        XContentBuilder builder = jsonBuilder();
+        input.toXContent(builder, ToXContent.EMPTY_PARAMS);
+        String jsonStr = TestHelper.xContentBuilderToString(builder);
+        XContentParser parser = XContentType.JSON.xContent().createParser(new NamedXContentRegistry(new SearchModule(Settings.EMPTY,
+                Collections.emptyList()).getNamedXContents()), null, jsonStr);
+        parser.nextToken();
+
+        MLBatchPredictionInput parsedInput = MLBatchPredictionInput.parse(parser, null);
+        assertEquals(input, parsedInput);
+    }
+
+    @Test
+    public void parse_ModelIdFromPath() throws IOException {
+        String jsonStr = "{\"model_id\":\"other_model_id\",\"source_index\":\"source_index\",\"input_field\":\"text\","
+                + "\"output_field\":\"embedding\",\"unknown\":{\"a\":1}}";
+        XContentParser parser = XContentType.JSON.xContent().createParser(NamedXContentRegistry.EMPTY, null, jsonStr);
+        parser.nextToken();
+
+        MLBatchPredictionInput parsedInput = MLBatchPredictionInput.parse(parser, "test_model_id");
+        assertEquals("test_model_id", parsedInput.getModelId());
+        assertEquals("source_index", parsedInput.getSourceIndex());
+        assertNull(parsedInput.getTargetIndex());
+    }
+}
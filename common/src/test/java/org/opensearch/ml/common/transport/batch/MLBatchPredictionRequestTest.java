@@ -0,0 +1,79 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.transport.batch;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.action.ActionRequestValidationException;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class MLBatchPredictionRequestTest {
+
+    private MLBatchPredictionInput input;
+
+    @Before
+    public void setUp() {
+        input = MLBatchPredictionInput.builder()
+                .modelId("test_model_id")
+                .sourceIndex("source_index")
+                .inputField("text")
+                .outputField("embedding")
+                .build();
+    }
+
+    @Test
+    public void writeTo_Success() throws IOException {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder().batchPredictionInput(input).build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        request.writeTo(out);
+        MLBatchPredictionRequest parsedRequest = new MLBatchPredictionRequest(out.bytes().streamInput());
+        assertEquals(input, parsedRequest.getBatchPredictionInput());
+        assertNull(parsedRequest.getTaskId());
+    }
+
+    @Test
+    public void writeTo_Resume() throws IOException {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder().taskId("test_task_id").build();
+        BytesStreamOutput out = new BytesStreamOutput();
+        request.writeTo(out);
+        MLBatchPredictionRequest parsedRequest = new MLBatchPredictionRequest(out.bytes().streamInput());
+        assertNull(parsedRequest.getBatchPredictionInput());
+        assertEquals("test_task_id", parsedRequest.getTaskId());
+        assertNull(parsedRequest.validate());
+    }
+
+    @Test
+    public void validate_Success() {
+        assertNull(MLBatchPredictionRequest.builder().batchPredictionInput(input).build().validate());
+    }
+
+    @Test
+    public void validate_Exception_NullInput() {
+        ActionRequestValidationException exception = MLBatchPredictionRequest.builder().build().validate();
+        assertEquals("Validation Failed: 1: Batch prediction input can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void validate_Exception_NullModelId() {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder()
+                .batchPredictionInput(input.toBuilder().modelId(null).build())
+                .build();
+        ActionRequestValidationException exception = request.validate();
+        assertEquals("Validation Failed: 1: ML model id can't be null;", exception.getMessage());
+    }
+
+    @Test
+    public void fromActionRequest_Success() {
+        MLBatchPredictionRequest request = MLBatchPredictionRequest.builder().batchPredictionInput(input).build();
+        assertSame(request, MLBatchPredictionRequest.fromActionRequest(request));
+    }
+}
@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.opensearch.action.ActionRequest;
 import org.opensearch.action.ActionRequestValidationException;
 import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.common.io.stream.StreamOutput;
 import org.opensearch.index.query.MatchAllQueryBuilder;
 import org.opensearch.ml.common.dataframe.ColumnType;
@@ -31,9 +32,11 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 public class MLPredictionTaskRequestTest {
 
@@ -74,6 +77,36 @@ public class MLPredictionTaskRequestTest {
         assertEquals(2.00, dataFrame.getRow(0).getValue(0).getValue());
 
         assertNull(request.getModelId());
+        assertNull(request.getRemainingTime());
+        assertFalse(request.isExpired());
+    }
+
+    @Test
+    public void writeTo_WithDeadline() throws IOException {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .modelId("test_model_id")
+            .mlInput(mlInput)
+            .build();
+        request.setTimeout(TimeValue.timeValueHours(1));
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        request.writeTo(bytesStreamOutput);
+        request = new MLPredictionTaskRequest(bytesStreamOutput.bytes().streamInput());
+        assertEquals("test_model_id", request.getModelId());
+        // the remaining time is sent, the receiver computes the deadline with its own clock
+        long remainingMillis = request.getRemainingTime().millis();
+        assertTrue(remainingMillis > TimeValue.timeValueMinutes(59).millis() && remainingMillis <= TimeValue.timeValueHours(1).millis());
+        assertFalse(request.isExpired());
+    }
+
+    @Test
+    public void isExpired() {
+        MLPredictionTaskRequest request = MLPredictionTaskRequest.builder()
+            .modelId("test_model_id")
+            .mlInput(mlInput)
+            .build();
+        request.setTimeout(TimeValue.ZERO);
+        assertTrue(request.isExpired());
+        assertEquals(0, request.getRemainingTime().millis());
     }
 
     @Test
@@ -3,6 +3,7 @@ package org.opensearch.ml.common.transport.sync;
 import org.junit.Test;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.io.stream.StreamInput;
+import org.opensearch.ml.common.FunctionName;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -71,4 +72,54 @@ public class MLSyncUpInputTest {
         assertEquals(syncUpInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"), parsedInput.getRunningDeployModelTasks().get("runningDeployModelTaskKey1"));
 
     }
+
+    @Test
+    public void testConstructorSerialization_DeploymentStateVersions() throws IOException {
+        Map<String, Long> deploymentStateVersions = new HashMap<>();
+        deploymentStateVersions.put("node1", 3L);
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder()
+                .getDeployedModels(true)
+                .deploymentStateVersions(deploymentStateVersions)
+                .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertTrue(parsedInput.isGetDeployedModels());
+        assertEquals(deploymentStateVersions, parsedInput.getDeploymentStateVersions());
+        assertNull(parsedInput.getModelRoutingTable());
+    }
+
+    @Test
+    public void testConstructorSerialization_ModelFunctionNames() throws IOException {
+        Map<String, FunctionName> modelFunctionNames = new HashMap<>();
+        modelFunctionNames.put("modelId1", FunctionName.TEXT_EMBEDDING);
+        modelFunctionNames.put("modelId2", FunctionName.REMOTE);
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder()
+                .addedWorkerNodes(Map.of("modelId1", new String[]{"node1"}))
+                .modelFunctionNames(modelFunctionNames)
+                .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(modelFunctionNames, parsedInput.getModelFunctionNames());
+        assertNull(parsedInput.getDeploymentStateVersions());
+    }
+
+    @Test
+    public void testConstructorSerialization_DeletedModelIds() throws IOException {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder()
+                .deletedModelIds(Set.of("modelId1"))
+                .build();
+
+        BytesStreamOutput bytesStreamOutput = new BytesStreamOutput();
+        syncUpInput.writeTo(bytesStreamOutput);
+        MLSyncUpInput parsedInput = new MLSyncUpInput(bytesStreamOutput.bytes().streamInput());
+
+        assertEquals(Set.of("modelId1"), parsedInput.getDeletedModelIds());
+        assertNull(parsedInput.getModelFunctionNames());
+    }
 }
@@ -8,10 +8,12 @@ import org.opensearch.Version;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.common.io.stream.BytesStreamOutput;
 import org.opensearch.core.common.transport.TransportAddress;
+import org.opensearch.ml.common.FunctionName;
 
 import java.io.IOException;
 import java.net.InetAddress;
 import java.util.Collections;
+import java.util.Map;
 
 import static org.junit.Assert.*;
 import static org.opensearch.cluster.node.DiscoveryNodeRole.CLUSTER_MANAGER_ROLE;
@@ -62,4 +64,39 @@ public class MLSyncUpNodeResponseTest {
         assertArrayEquals(newResponse.getRunningDeployModelTaskIds(), response.getRunningDeployModelTaskIds());
 
     }
+
+    @Test
+    public void testSerializationDeserialization_DeploymentStateDelta() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, loadedModelIds, runningLoadModelIds,
+                runningLoadModelTaskIds, 3, 2, new String[]{"undeployedModelId"});
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertTrue(newResponse.isDeploymentStateDelta());
+        assertEquals(3, newResponse.getDeploymentStateVersion());
+        assertEquals(2, newResponse.getBaseDeploymentStateVersion());
+        assertArrayEquals(loadedModelIds, newResponse.getDeployedModelIds());
+        assertArrayEquals(new String[]{"undeployedModelId"}, newResponse.getUndeployedModelIds());
+    }
+
+    @Test
+    public void testSerializationDeserialization_NoDeploymentStateVersion() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, loadedModelIds, runningLoadModelIds, runningLoadModelTaskIds);
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertFalse(newResponse.isDeploymentStateDelta());
+        assertEquals(MLSyncUpNodeResponse.NO_VERSION, newResponse.getDeploymentStateVersion());
+        assertNull(newResponse.getUndeployedModelIds());
+    }
+
+    @Test
+    public void testSerializationDeserialization_DeployedModelFunctionNames() throws IOException {
+        MLSyncUpNodeResponse response = new MLSyncUpNodeResponse(localNode, modelStatus, loadedModelIds, runningLoadModelIds, runningLoadModelTaskIds);
+        response.setDeployedModelFunctionNames(Map.of(loadedModelIds[0], FunctionName.TEXT_EMBEDDING));
+        BytesStreamOutput output = new BytesStreamOutput();
+        response.writeTo(output);
+        MLSyncUpNodeResponse newResponse = new MLSyncUpNodeResponse(output.bytes().streamInput());
+        assertEquals(Map.of(loadedModelIds[0], FunctionName.TEXT_EMBEDDING), newResponse.getDeployedModelFunctionNames());
+    }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.annotation.MLAlgoParameter;
+import org.opensearch.ml.common.input.parameter.MLAlgoParams;
+import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
+import org.opensearch.ml.common.input.parameter.sample.SampleAlgoParams;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ClassIndexTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void readIndex() throws Exception {
+        File indexFile = new File(temporaryFolder.getRoot(), ClassIndex.INDEX_PATH + MLAlgoParameter.class.getName());
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), Arrays.asList(
+                SampleAlgoParams.class.getName(),
+                MLAlgoParams.class.getName(),
+                FunctionName.class.getName(),
+                ""
+        ), StandardCharsets.UTF_8);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            Set<Class<?>> classes = new HashSet<>();
+            ClassIndex.readIndex(MLAlgoParameter.class, "org.opensearch.ml.common.input.parameter", classLoader, classes);
+            assertTrue(classes.contains(SampleAlgoParams.class));
+            // not annotated
+            assertFalse(classes.contains(MLAlgoParams.class));
+            // not in package
+            assertFalse(classes.contains(FunctionName.class));
+        }
+    }
+
+    @Test
+    public void readIndex_NoIndex() throws IOException, ClassNotFoundException {
+        Set<Class<?>> classes = new HashSet<>();
+        Set<URL> unindexedRoots = ClassIndex.readIndex(Deprecated.class, "org.opensearch.ml.common", getClass().getClassLoader(), classes);
+        assertTrue(classes.isEmpty());
+        // Classes of the package are found in the classpath roots which have no index
+        URL mainClasses = FunctionName.class.getProtectionDomain().getCodeSource().getLocation();
+        assertTrue(unindexedRoots.contains(mainClasses));
+    }
+
+    @Test
+    public void getTypesAnnotatedWith_ScanRootsWithoutIndex() throws Exception {
+        // Only this root has an index, the test classes are compiled without the annotation processor.
+        File indexFile = new File(temporaryFolder.getRoot(), ClassIndex.INDEX_PATH + TestAnnotation.class.getName());
+        indexFile.getParentFile().mkdirs();
+        Files.write(indexFile.toPath(), Arrays.asList(IndexedClass.class.getName()), StandardCharsets.UTF_8);
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{temporaryFolder.getRoot().toURI().toURL()}, getClass().getClassLoader())) {
+            Set<Class<?>> classes = ClassIndex.getTypesAnnotatedWith(TestAnnotation.class, "org.opensearch.ml.common.utils", classLoader);
+            assertTrue(classes.contains(IndexedClass.class));
+            assertTrue(classes.contains(NotIndexedClass.class));
+        }
+    }
+
+    @Test
+    public void getTypesAnnotatedWith() {
+        Set<Class<?>> classes = ClassIndex.getTypesAnnotatedWith(MLAlgoParameter.class, "org.opensearch.ml.common.input.parameter", getClass().getClassLoader());
+        assertTrue(classes.contains(SampleAlgoParams.class));
+        assertTrue(classes.contains(KMeansParams.class));
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.TYPE)
+    public @interface TestAnnotation {
+    }
+
+    @TestAnnotation
+    public static class IndexedClass {
+    }
+
+    @TestAnnotation
+    public static class NotIndexedClass {
+    }
+}
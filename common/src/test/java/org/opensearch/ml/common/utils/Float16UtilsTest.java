@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.common.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class Float16UtilsTest {
+
+    @Test
+    public void toFloat16() {
+        Assert.assertEquals((short) 0x3c00, Float16Utils.toFloat16(1.0f));
+        Assert.assertEquals((short) 0xc100, Float16Utils.toFloat16(-2.5f));
+        Assert.assertEquals((short) 0x2e66, Float16Utils.toFloat16(0.1f));
+        Assert.assertEquals((short) 0x3555, Float16Utils.toFloat16(1.0f / 3));
+        Assert.assertEquals((short) 0x7bff, Float16Utils.toFloat16(65504f));
+        Assert.assertEquals((short) 0x8000, Float16Utils.toFloat16(-0.0f));
+    }
+
+    @Test
+    public void toFloat16_RoundToNearestEven() {
+        // 2049 is halfway between 2048 and 2050, rounds to the even mantissa 2048
+        Assert.assertEquals(2048f, Float16Utils.roundToFloat16(2049f), 0);
+        // 2051 is halfway between 2050 and 2052, rounds to the even mantissa 2052
+        Assert.assertEquals(2052f, Float16Utils.roundToFloat16(2051f), 0);
+    }
+
+    @Test
+    public void toFloat16_Overflow() {
+        Assert.assertEquals((short) 0x7c00, Float16Utils.toFloat16(65520f));
+        Assert.assertEquals((short) 0xfc00, Float16Utils.toFloat16(-1e10f));
+        Assert.assertEquals((short) 0x7c00, Float16Utils.toFloat16(Float.POSITIVE_INFINITY));
+        Assert.assertTrue(Float.isNaN(Float16Utils.toFloat(Float16Utils.toFloat16(Float.NaN))));
+    }
+
+    @Test
+    public void toFloat16_Subnormal() {
+        Assert.assertEquals((short) 0x0001, Float16Utils.toFloat16(6e-8f));
+        Assert.assertEquals((short) 0x0000, Float16Utils.toFloat16(2.98e-8f));
+        Assert.assertEquals((short) 0x0000, Float16Utils.toFloat16(1e-8f));
+        Assert.assertEquals(0x1p-24f, Float16Utils.toFloat((short) 0x0001), 0);
+        Assert.assertEquals(-0x1p-14f, Float16Utils.toFloat((short) 0x8400), 0);
+    }
+
+    @Test
+    public void toFloat() {
+        Assert.assertEquals(1.0f, Float16Utils.toFloat((short) 0x3c00), 0);
+        Assert.assertEquals(-2.5f, Float16Utils.toFloat((short) 0xc100), 0);
+        Assert.assertEquals(0.0999755859375f, Float16Utils.toFloat((short) 0x2e66), 0);
+        Assert.assertEquals(Float.NEGATIVE_INFINITY, Float16Utils.toFloat((short) 0xfc00), 0);
+        Assert.assertTrue(Float.isNaN(Float16Utils.toFloat((short) 0x7e00)));
+    }
+}
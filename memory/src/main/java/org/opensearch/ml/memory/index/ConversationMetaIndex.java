@@ -21,6 +21,7 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.OpenSearchWrapperException;
@@ -37,9 +38,15 @@ import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.cache.Cache;
+import org.opensearch.common.cache.CacheBuilder;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
@@ -54,26 +61,66 @@ import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.sort.SortOrder;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Class for handling the conversational metadata index
  */
 @Log4j2
-@AllArgsConstructor
-public class ConversationMetaIndex {
+@RequiredArgsConstructor
+public class ConversationMetaIndex implements ClusterStateListener {
 
-    private Client client;
-    private ClusterService clusterService;
+    // Max number of conversations cached on this node
+    public static final int MAX_CACHED_CONVERSATIONS = 10000;
+    // Conversations deleted through other nodes are only invalidated here when they expire
+    public static final TimeValue CACHED_CONVERSATION_TTL = TimeValue.timeValueMinutes(10);
+
+    private final Client client;
+    private final ClusterService clusterService;
     private static final String indexName = ConversationalIndexConstants.META_INDEX_NAME;
+    // Refresh the index before searching it. Only needed to see documents written without waiting for a refresh.
+    @Setter
+    private volatile boolean refreshOnRead = false;
+    // Set by cluster state updates, so checking the index doesn't need to read the cluster state. Null until the
+    // first update, or if this isn't registered as a cluster state listener.
+    private volatile Boolean indexExists = null;
+    // Conversation metadata never changes after creation, so access checks of reads can be answered from this cache.
+    // Writes check the index, as conversations deleted through other nodes are only invalidated here when they expire.
+    private final Cache<String, ConversationMeta> conversationCache = CacheBuilder
+        .<String, ConversationMeta>builder()
+        .setMaximumWeight(MAX_CACHED_CONVERSATIONS)
+        .setExpireAfterWrite(CACHED_CONVERSATION_TTL)
+        .build();
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        boolean exists = event.state().metadata().hasIndex(indexName);
+        if (!exists && !Boolean.FALSE.equals(indexExists)) {
+            conversationCache.invalidateAll();
+        }
+        indexExists = exists;
+    }
+
+    /**
+     * Checks whether the conversational meta index exists
+     * @return true if the index exists
+     */
+    public boolean indexExists() {
+        Boolean exists = indexExists;
+        if (exists == null) {
+            return clusterService.state().metadata().hasIndex(indexName);
+        }
+        return exists;
+    }
 
     /**
      * Creates the conversational meta index if it doesn't already exist
      * @param listener listener to wait for this to finish
      */
     public void initConversationMetaIndexIfAbsent(ActionListener<Boolean> listener) {
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             log.debug("No conversational meta index found. Adding it");
             CreateIndexRequest request = Requests.createIndexRequest(indexName).mapping(ConversationalIndexConstants.META_MAPPING);
             try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
@@ -121,20 +168,24 @@ public class ConversationMetaIndex {
                     .threadPool()
                     .getThreadContext()
                     .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+                Instant created = Instant.now();
+                String user = userstr == null ? null : User.parse(userstr).getName();
                 IndexRequest request = Requests
                     .indexRequest(indexName)
                     .source(
                         ConversationalIndexConstants.META_CREATED_FIELD,
-                        Instant.now(),
+                        created,
                         ConversationalIndexConstants.META_NAME_FIELD,
                         name,
                         ConversationalIndexConstants.USER_FIELD,
-                        userstr == null ? null : User.parse(userstr).getName()
-                    );
+                        user
+                    )
+                    .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                 try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                     ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
                         if (resp.status() == RestStatus.CREATED) {
+                            conversationCache.put(resp.getId(), new ConversationMeta(resp.getId(), created, name, user));
                             internalListener.onResponse(resp.getId());
                         } else {
                             internalListener.onFailure(new IOException("failed to create conversation"));
@@ -169,8 +220,9 @@ public class ConversationMetaIndex {
      * @param listener gets the list of conversation metadata objects in the index
      */
     public void getConversations(int from, int maxResults, ActionListener<List<ConversationMeta>> listener) {
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             listener.onResponse(List.of());
+            return;
         }
         SearchRequest request = Requests.searchRequest(indexName);
         String userstr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
@@ -187,20 +239,19 @@ public class ConversationMetaIndex {
             ActionListener<SearchResponse> al = ActionListener.wrap(searchResponse -> {
                 List<ConversationMeta> result = new LinkedList<ConversationMeta>();
                 for (SearchHit hit : searchResponse.getHits()) {
-                    result.add(ConversationMeta.fromSearchHit(hit));
+                    ConversationMeta conversation = ConversationMeta.fromSearchHit(hit);
+                    conversationCache.put(conversation.getId(), conversation);
+                    result.add(conversation);
                 }
                 internalListener.onResponse(result);
             }, e -> {
                 log.error("Failed to retrieve conversations", e);
                 internalListener.onFailure(e);
             });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(indexName), ActionListener.wrap(refreshResponse -> { client.search(request, al); }, e -> {
-                    log.error("Failed to retrieve conversations during refresh", e);
-                    internalListener.onFailure(e);
-                }));
+            refreshIfEnabled(() -> client.search(request, al), e -> {
+                log.error("Failed to retrieve conversations during refresh", e);
+                internalListener.onFailure(e);
+            });
         } catch (Exception e) {
             log.error("Failed to retrieve conversations", e);
             listener.onFailure(e);
@@ -222,10 +273,14 @@ public class ConversationMetaIndex {
      * @param listener gets whether the deletion was successful
      */
     public void deleteConversation(String conversationId, ActionListener<Boolean> listener) {
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             listener.onResponse(true);
+            return;
         }
-        DeleteRequest delRequest = Requests.deleteRequest(indexName).id(conversationId);
+        DeleteRequest delRequest = Requests
+            .deleteRequest(indexName)
+            .id(conversationId)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
         String userstr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
         String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
         this.checkAccess(conversationId, ActionListener.wrap(access -> {
@@ -234,6 +289,7 @@ public class ConversationMetaIndex {
                     ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                     // When we get the delete response, do this:
                     ActionListener<DeleteResponse> al = ActionListener.wrap(deleteResponse -> {
+                        conversationCache.invalidate(conversationId);
                         if (deleteResponse.getResult() == Result.DELETED) {
                             internalListener.onResponse(true);
                         } else if (deleteResponse.status() == RestStatus.NOT_FOUND) {
@@ -262,12 +318,31 @@ public class ConversationMetaIndex {
      * @param listener receives whether access should be granted
      */
     public void checkAccess(String conversationId, ActionListener<Boolean> listener) {
+        checkAccess(conversationId, true, listener);
+    }
+
+    /**
+     * Checks whether the current requesting user has permission to write to this conversation. The conversation is
+     * always read from the index, so nothing is added to a conversation that was deleted through another node.
+     * @param conversationId the conversation to check
+     * @param listener receives whether access should be granted
+     */
+    public void checkWriteAccess(String conversationId, ActionListener<Boolean> listener) {
+        checkAccess(conversationId, false, listener);
+    }
+
+    private void checkAccess(String conversationId, boolean useCache, ActionListener<Boolean> listener) {
         // If the index doesn't exist, you have permission. Just won't get you anywhere
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             listener.onResponse(true);
             return;
         }
         String userstr = client.threadPool().getThreadContext().getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
+        ConversationMeta cachedConversation = useCache ? conversationCache.get(conversationId) : null;
+        if (cachedConversation != null) {
+            listener.onResponse(hasAccess(cachedConversation, userstr));
+            return;
+        }
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             GetRequest getRequest = Requests.getRequest(indexName).id(conversationId);
@@ -276,29 +351,37 @@ public class ConversationMetaIndex {
                 if (!(getResponse.isExists() && getResponse.getId().equals(conversationId))) {
                     throw new ResourceNotFoundException("Conversation [" + conversationId + "] not found");
                 }
-                // If security is off - User doesn't exist - you have permission
-                if (userstr == null || User.parse(userstr) == null) {
-                    internalListener.onResponse(true);
-                    return;
-                }
                 ConversationMeta conversation = ConversationMeta.fromMap(conversationId, getResponse.getSourceAsMap());
-                String user = User.parse(userstr).getName();
-                // If you're not the owner of this conversation, you do not have permission
-                if (!user.equals(conversation.getUser())) {
-                    internalListener.onResponse(false);
-                    return;
-                }
-                internalListener.onResponse(true);
+                conversationCache.put(conversationId, conversation);
+                internalListener.onResponse(hasAccess(conversation, userstr));
             }, e -> { internalListener.onFailure(e); });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(indexName), ActionListener.wrap(refreshResponse -> { client.get(getRequest, al); }, e -> {
-                    log.error("Failed to refresh conversations index during check access ", e);
-                    internalListener.onFailure(e);
-                }));
+            // Get is realtime, it sees the conversation without a refresh
+            client.get(getRequest, al);
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
+
+    private boolean hasAccess(ConversationMeta conversation, String userstr) {
+        // If security is off - User doesn't exist - you have permission
+        if (userstr == null || User.parse(userstr) == null) {
+            return true;
+        }
+        // If you're not the owner of this conversation, you do not have permission
+        return User.parse(userstr).getName().equals(conversation.getUser());
+    }
+
+    /**
+     * Runs the read, after refreshing the index first if refresh on read is enabled. Writes to this index wait
+     * until they are visible to search, so reads don't need a refresh to see them.
+     * @param read the read to run
+     * @param onFailure gets the refresh failure
+     */
+    private void refreshIfEnabled(Runnable read, Consumer<Exception> onFailure) {
+        if (refreshOnRead) {
+            client.admin().indices().refresh(Requests.refreshRequest(indexName), ActionListener.wrap(r -> read.run(), onFailure::accept));
+        } else {
+            read.run();
+        }
+    }
 }
@@ -21,58 +21,97 @@ import java.io.IOException;
 import java.time.Instant;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.opensearch.OpenSearchSecurityException;
 import org.opensearch.OpenSearchWrapperException;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
-import org.opensearch.action.bulk.BulkRequest;
-import org.opensearch.action.delete.DeleteRequest;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.Client;
 import org.opensearch.client.Requests;
+import org.opensearch.cluster.ClusterChangedEvent;
+import org.opensearch.cluster.ClusterStateListener;
 import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.Randomness;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.ml.common.conversation.ActionConstants;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.search.SearchHit;
+import org.opensearch.search.sort.SortBuilders;
 import org.opensearch.search.sort.SortOrder;
 
 import com.google.common.annotations.VisibleForTesting;
 
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 
 /**
  * Class for handling the interactions index
  */
 @Log4j2
-@AllArgsConstructor
-public class InteractionsIndex {
+@RequiredArgsConstructor
+public class InteractionsIndex implements ClusterStateListener {
 
-    private Client client;
-    private ClusterService clusterService;
-    private ConversationMetaIndex conversationMetaIndex;
+    private final Client client;
+    private final ClusterService clusterService;
+    private final ConversationMetaIndex conversationMetaIndex;
     private final String indexName = ConversationalIndexConstants.INTERACTIONS_INDEX_NAME;
-    // How big the steps should be when gathering *ALL* interactions in a conversation
-    private final int resultsAtATime = 300;
+    // Fields of interactions, other fields of interaction documents are not read
+    private static final String[] INTERACTION_FIELDS = new String[] {
+        ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD,
+        ConversationalIndexConstants.INTERACTIONS_INPUT_FIELD,
+        ConversationalIndexConstants.INTERACTIONS_PROMPT_TEMPLATE_FIELD,
+        ConversationalIndexConstants.INTERACTIONS_RESPONSE_FIELD,
+        ConversationalIndexConstants.INTERACTIONS_ORIGIN_FIELD,
+        ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD,
+        ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD };
+    // Refresh the index before searching it. Only needed to see documents written without waiting for a refresh.
+    @Setter
+    private volatile boolean refreshOnRead = false;
+    // Set by cluster state updates, so checking the index doesn't need to read the cluster state. Null until the
+    // first update, or if this isn't registered as a cluster state listener.
+    private volatile Boolean indexExists = null;
+
+    @Override
+    public void clusterChanged(ClusterChangedEvent event) {
+        indexExists = event.state().metadata().hasIndex(indexName);
+    }
+
+    /**
+     * Checks whether the interactions index exists
+     * @return true if the index exists
+     */
+    public boolean indexExists() {
+        Boolean exists = indexExists;
+        if (exists == null) {
+            return clusterService.state().metadata().hasIndex(indexName);
+        }
+        return exists;
+    }
 
     /**
      * 'PUT's the index in opensearch if it's not there already
      * @param listener gets whether the index needed to be initialized. Throws error if it fails to init
      */
     public void initInteractionsIndexIfAbsent(ActionListener<Boolean> listener) {
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             log.debug("No interactions index found. Adding it");
             CreateIndexRequest request = Requests.createIndexRequest(indexName).mapping(ConversationalIndexConstants.INTERACTIONS_MAPPINGS);
             try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
@@ -136,7 +175,7 @@ public class InteractionsIndex {
                 .getTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT);
             String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
             if (indexExists) {
-                this.conversationMetaIndex.checkAccess(conversationId, ActionListener.wrap(access -> {
+                this.conversationMetaIndex.checkWriteAccess(conversationId, ActionListener.wrap(access -> {
                     if (access) {
                         IndexRequest request = Requests
                             .indexRequest(indexName)
@@ -154,8 +193,11 @@ public class InteractionsIndex {
                                 ConversationalIndexConstants.INTERACTIONS_ADDITIONAL_INFO_FIELD,
                                 additionalInfo,
                                 ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD,
-                                timestamp
-                            );
+                                timestamp,
+                                ConversationalIndexConstants.INTERACTIONS_TIEBREAKER_FIELD,
+                                Randomness.get().nextLong()
+                            )
+                            .setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
                         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
                             ActionListener<String> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
                             ActionListener<IndexResponse> al = ActionListener.wrap(resp -> {
@@ -209,7 +251,7 @@ public class InteractionsIndex {
      * @param listener gets the list, sorted by recency, of interactions
      */
     public void getInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             listener.onResponse(List.of());
             return;
         }
@@ -230,84 +272,123 @@ public class InteractionsIndex {
 
     @VisibleForTesting
     void innerGetInteractions(String conversationId, int from, int maxResults, ActionListener<List<Interaction>> listener) {
+        SearchRequest request = interactionsSearchRequest(conversationId, maxResults);
+        request.source().from(from);
+        searchInteractions(request, ActionListener.wrap(hits -> listener.onResponse(toInteractions(hits)), listener::onFailure));
+    }
+
+    /**
+     * Gets the next page of interactions in a conversation, sorted by recency and id
+     * @param conversationId the conversation to read from
+     * @param searchAfter sort values of the last hit of the previous page, null for the first page
+     * @param maxResults how many interactions to return
+     * @param listener gets the hits of this page, with their sort values
+     */
+    @VisibleForTesting
+    void innerGetInteractionsAfter(String conversationId, Object[] searchAfter, int maxResults, ActionListener<SearchHit[]> listener) {
+        SearchRequest request = interactionsSearchRequest(conversationId, maxResults);
+        // Tie breaker for interactions created at the same time. Sorting by _id would load its fielddata into the heap.
+        // Interactions written before the tiebreaker field existed don't have it, pages can still split those at
+        // a create time shared by several of them.
+        request
+            .source()
+            .sort(
+                SortBuilders
+                    .fieldSort(ConversationalIndexConstants.INTERACTIONS_TIEBREAKER_FIELD)
+                    .order(SortOrder.DESC)
+                    .unmappedType("long")
+                    .missing("_last")
+            );
+        if (searchAfter != null) {
+            request.source().searchAfter(searchAfter);
+        }
+        searchInteractions(request, listener);
+    }
+
+    private SearchRequest interactionsSearchRequest(String conversationId, int maxResults) {
         SearchRequest request = Requests.searchRequest(indexName);
         TermQueryBuilder builder = new TermQueryBuilder(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId);
         request.source().query(builder);
-        request.source().from(from).size(maxResults);
+        request.source().size(maxResults);
+        request.source().fetchSource(INTERACTION_FIELDS, null);
         request.source().sort(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD, SortOrder.DESC);
+        return request;
+    }
+
+    private void searchInteractions(SearchRequest request, ActionListener<SearchHit[]> listener) {
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
-            ActionListener<List<Interaction>> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
+            ActionListener<SearchHit[]> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
             ActionListener<SearchResponse> al = ActionListener.wrap(response -> {
-                List<Interaction> result = new LinkedList<Interaction>();
-                for (SearchHit hit : response.getHits()) {
-                    result.add(Interaction.fromSearchHit(hit));
-                }
-                internalListener.onResponse(result);
+                internalListener.onResponse(response.getHits().getHits());
             }, e -> { internalListener.onFailure(e); });
-            client
-                .admin()
-                .indices()
-                .refresh(Requests.refreshRequest(indexName), ActionListener.wrap(r -> { client.search(request, al); }, e -> {
-                    internalListener.onFailure(e);
-                }));
+            refreshIfEnabled(() -> client.search(request, al), internalListener::onFailure);
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    private static List<Interaction> toInteractions(SearchHit[] hits) {
+        List<Interaction> result = new LinkedList<Interaction>();
+        for (SearchHit hit : hits) {
+            result.add(Interaction.fromSearchHit(hit));
+        }
+        return result;
+    }
+
     /**
-     * Gets all of the interactions in a conversation, regardless of conversation size
+     * Gets all of the interactions in a conversation, regardless of conversation size.
+     * Pages through the conversation with search_after, so every page costs the same
      * @param conversationId conversation to get all interactions of
      * @param maxResults how many interactions to get per search query
      * @param listener receives the list of all interactions in the conversation
      */
     @VisibleForTesting
     void getAllInteractions(String conversationId, int maxResults, ActionListener<List<Interaction>> listener) {
-        ActionListener<List<Interaction>> al = nextGetListener(conversationId, 0, maxResults, listener, new LinkedList<>());
-        innerGetInteractions(conversationId, 0, maxResults, al);
+        if (maxResults < 1) {
+            listener.onFailure(new IllegalArgumentException("maxResults must be positive"));
+            return;
+        }
+        ActionListener<SearchHit[]> al = nextPageListener(conversationId, maxResults, listener, new LinkedList<>());
+        innerGetInteractionsAfter(conversationId, null, maxResults, al);
     }
 
     /**
-     * Recursively builds the list of interactions for getAllInteractions by returning an
-     * ActionListener for handling the next search query
+     * Builds the list of interactions for getAllInteractions by returning an
+     * ActionListener which requests the page after the one it receives
      * @param conversationId conversation to get interactions from
-     * @param from where to start in this step
-     * @param maxResults how many to get in this step
+     * @param maxResults how many to get in each step
      * @param mainListener listener for the final result
      * @param result partially built list of interactions
-     * @return an ActionListener to handle the next search query
+     * @return an ActionListener to handle the next page
      */
     @VisibleForTesting
-    ActionListener<List<Interaction>> nextGetListener(
+    ActionListener<SearchHit[]> nextPageListener(
         String conversationId,
-        int from,
         int maxResults,
         ActionListener<List<Interaction>> mainListener,
         List<Interaction> result
     ) {
-        if (maxResults < 1) {
-            mainListener.onFailure(new IllegalArgumentException("maxResults must be positive"));
-            return null;
-        }
-        return ActionListener.wrap(interactions -> {
-            result.addAll(interactions);
-            if (interactions.size() < maxResults) {
+        return ActionListener.wrap(hits -> {
+            result.addAll(toInteractions(hits));
+            if (hits.length < maxResults) {
                 mainListener.onResponse(result);
             } else {
-                ActionListener<List<Interaction>> al = nextGetListener(conversationId, from + maxResults, maxResults, mainListener, result);
-                innerGetInteractions(conversationId, from + maxResults, maxResults, al);
+                Object[] searchAfter = hits[hits.length - 1].getSortValues();
+                ActionListener<SearchHit[]> al = nextPageListener(conversationId, maxResults, mainListener, result);
+                innerGetInteractionsAfter(conversationId, searchAfter, maxResults, al);
             }
         }, e -> { mainListener.onFailure(e); });
     }
 
     /**
      * Deletes all interactions associated with a conversationId
-     * Note this uses a bulk delete request (and tries to delete an entire conversation) so it may be heavyweight
+     * Runs a sliced delete by query on the conversation, so interactions are never loaded in memory. The index is
+     * refreshed first, since delete by query only finds interactions which are visible to search.
      * @param conversationId the id of the conversation to delete from
      * @param listener gets whether the deletion was successful
      */
     public void deleteConversation(String conversationId, ActionListener<Boolean> listener) {
-        if (!clusterService.state().metadata().hasIndex(indexName)) {
+        if (!indexExists()) {
             listener.onResponse(true);
             return;
         }
@@ -315,24 +396,35 @@ public class InteractionsIndex {
         String user = User.parse(userstr) == null ? ActionConstants.DEFAULT_USERNAME_FOR_ERRORS : User.parse(userstr).getName();
         try (ThreadContext.StoredContext threadContext = client.threadPool().getThreadContext().stashContext()) {
             ActionListener<Boolean> internalListener = ActionListener.runBefore(listener, () -> threadContext.restore());
-            ActionListener<List<Interaction>> searchListener = ActionListener.wrap(interactions -> {
-                BulkRequest request = Requests.bulkRequest();
-                for (Interaction interaction : interactions) {
-                    DeleteRequest delRequest = Requests.deleteRequest(indexName).id(interaction.getId());
-                    request.add(delRequest);
-                }
-                client
-                    .bulk(request, ActionListener.wrap(bulkResponse -> { internalListener.onResponse(!bulkResponse.hasFailures()); }, e -> {
-                        internalListener.onFailure(e);
-                    }));
-            }, e -> { internalListener.onFailure(e); });
             ActionListener<Boolean> accessListener = ActionListener.wrap(access -> {
                 if (access) {
-                    getAllInteractions(conversationId, resultsAtATime, searchListener);
+                    DeleteByQueryRequest request = new DeleteByQueryRequest(indexName)
+                        .setQuery(new TermQueryBuilder(ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD, conversationId))
+                        .setSlices(AbstractBulkByScrollRequest.AUTO_SLICES)
+                        .setAbortOnVersionConflict(false)
+                        .setRefresh(true);
+                    ActionListener<BulkByScrollResponse> deleteListener = ActionListener.wrap(response -> {
+                        boolean success = response.getBulkFailures().isEmpty() && response.getSearchFailures().isEmpty();
+                        if (!success) {
+                            log.error("Failed to delete some interactions of conversation id=" + conversationId);
+                        }
+                        internalListener.onResponse(success);
+                    }, e -> { internalListener.onFailure(e); });
+                    client
+                        .admin()
+                        .indices()
+                        .refresh(
+                            Requests.refreshRequest(indexName),
+                            ActionListener
+                                .wrap(
+                                    r -> client.execute(DeleteByQueryAction.INSTANCE, request, deleteListener),
+                                    internalListener::onFailure
+                                )
+                        );
                 } else {
                     throw new OpenSearchSecurityException("User [" + user + "] does not have access to conversation " + conversationId);
                 }
-            }, e -> { listener.onFailure(e); });
+            }, e -> { internalListener.onFailure(e); });
             conversationMetaIndex.checkAccess(conversationId, accessListener);
         } catch (Exception e) {
             log.error("Failure while deleting interactions associated with conversation id=" + conversationId, e);
@@ -340,4 +432,18 @@ public class InteractionsIndex {
         }
     }
 
+    /**
+     * Runs the read, after refreshing the index first if refresh on read is enabled. Writes to this index wait
+     * until they are visible to search, so reads don't need a refresh to see them.
+     * @param read the read to run
+     * @param onFailure gets the refresh failure
+     */
+    private void refreshIfEnabled(Runnable read, Consumer<Exception> onFailure) {
+        if (refreshOnRead) {
+            client.admin().indices().refresh(Requests.refreshRequest(indexName), ActionListener.wrap(r -> read.run(), onFailure::accept));
+        } else {
+            read.run();
+        }
+    }
+
 }
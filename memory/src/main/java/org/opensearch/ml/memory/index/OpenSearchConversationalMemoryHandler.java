@@ -52,6 +52,8 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
     public OpenSearchConversationalMemoryHandler(Client client, ClusterService clusterService) {
         this.conversationMetaIndex = new ConversationMetaIndex(client, clusterService);
         this.interactionsIndex = new InteractionsIndex(client, clusterService, this.conversationMetaIndex);
+        clusterService.addListener(this.conversationMetaIndex);
+        clusterService.addListener(this.interactionsIndex);
     }
 
     @VisibleForTesting
@@ -60,6 +62,16 @@ public class OpenSearchConversationalMemoryHandler implements ConversationalMemo
         this.interactionsIndex = interactionsIndex;
     }
 
+    /**
+     * Set whether memory indices are refreshed before they are searched. Writes wait until they are
+     * visible to search, so this is only needed to see documents written by other means.
+     * @param refreshOnRead whether to refresh before searching
+     */
+    public void setRefreshOnRead(boolean refreshOnRead) {
+        conversationMetaIndex.setRefreshOnRead(refreshOnRead);
+        interactionsIndex.setRefreshOnRead(refreshOnRead);
+    }
+
     /**
      * Create a new conversation
      * @param listener listener to wait for this op to finish, gets unique id of new conversation
@@ -17,6 +17,7 @@
  */
 package org.opensearch.ml.memory;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Stack;
 import java.util.concurrent.CountDownLatch;
@@ -33,9 +34,11 @@ import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.util.concurrent.ThreadContext.StoredContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.reindex.ReindexModulePlugin;
 import org.opensearch.ml.common.conversation.ConversationMeta;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
+import org.opensearch.plugins.Plugin;
 import org.opensearch.test.OpenSearchIntegTestCase;
 
 import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
@@ -47,6 +50,12 @@ import lombok.extern.log4j.Log4j2;
 @OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 2)
 public class ConversationalMemoryHandlerITTests extends OpenSearchIntegTestCase {
 
+    // Conversations are deleted with delete by query, which is provided by the reindex module
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return List.of(ReindexModulePlugin.class);
+    }
+
     private Client client;
     private ClusterService clusterService;
     private ConversationalMemoryHandler cmHandler;
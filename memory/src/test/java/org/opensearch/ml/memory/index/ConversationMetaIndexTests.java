@@ -23,11 +23,14 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
@@ -39,11 +42,14 @@ import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
 import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.AdminClient;
 import org.opensearch.client.Client;
 import org.opensearch.client.IndicesAdminClient;
+import org.opensearch.cluster.ClusterChangedEvent;
 import org.opensearch.cluster.ClusterState;
 import org.opensearch.cluster.metadata.Metadata;
 import org.opensearch.cluster.service.ClusterService;
@@ -53,6 +59,7 @@ import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.ml.common.conversation.ConversationMeta;
+import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.SendRequestTransportException;
@@ -249,6 +256,9 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(createConversationListener, times(1)).onFailure(argCaptor.capture());
         assert (argCaptor.getValue().getMessage().equals("failed to create conversation"));
+        ArgumentCaptor<IndexRequest> requestCaptor = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(1)).index(requestCaptor.capture(), any());
+        assert (requestCaptor.getValue().getRefreshPolicy() == WriteRequest.RefreshPolicy.WAIT_UNTIL);
     }
 
     public void testCreate_InternalFailure_ThenFail() {
@@ -315,8 +325,23 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Test Exception"));
     }
 
+    public void testGet_RefreshOnReadDisabled_ThenNoRefresh() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Test Exception"));
+            return null;
+        }).when(client).search(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<List<ConversationMeta>> getConversationsListener = mock(ActionListener.class);
+        conversationMetaIndex.getConversations(10, getConversationsListener);
+        verify(indicesAdminClient, never()).refresh(any(), any());
+        verify(client, times(1)).search(any(), any());
+    }
+
     public void testGet_RefreshFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
+        conversationMetaIndex.setRefreshOnRead(true);
         doAnswer(invocation -> {
             ActionListener<RefreshResponse> al = invocation.getArgument(1);
             al.onFailure(new Exception("Refresh Exception"));
@@ -332,13 +357,13 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
 
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
-        doThrow(new RuntimeException("Refresh Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Search Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<ConversationMeta>> getConversationsListener = mock(ActionListener.class);
         conversationMetaIndex.getConversations(10, getConversationsListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getConversationsListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Refresh Client Failure"));
+        assert (argCaptor.getValue().getMessage().equals("Search Client Failure"));
     }
 
     public void testDelete_NoIndex_ThenReturnTrue() {
@@ -482,4 +507,96 @@ public class ConversationMetaIndexTests extends OpenSearchTestCase {
         verify(accessListener, times(1)).onResponse(argCaptor.capture());
         assert (argCaptor.getValue());
     }
+
+    public void testCheckAccess_Cached_ThenNoGet() {
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("user");
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(client, times(1)).get(any(), any());
+        verify(accessListener, times(2)).onResponse(true);
+    }
+
+    public void testCheckAccess_CachedOtherUser_ThenNoAccess() {
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("other-user");
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(client, times(1)).get(any(), any());
+        verify(accessListener, times(2)).onResponse(false);
+    }
+
+    public void testClusterChanged_IndexDeleted_ThenCacheCleared() {
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("user");
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        doReturn(clusterState).when(event).state();
+        conversationMetaIndex.clusterChanged(event);
+        assert (conversationMetaIndex.indexExists());
+        doReturn(false).when(metadata).hasIndex(anyString());
+        conversationMetaIndex.clusterChanged(event);
+        assert (!conversationMetaIndex.indexExists());
+
+        doReturn(true).when(metadata).hasIndex(anyString());
+        conversationMetaIndex.clusterChanged(event);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        verify(client, times(2)).get(any(), any());
+    }
+
+    public void testCheckWriteAccess_Cached_ThenGet() {
+        setupUser("user");
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGetConversation("user");
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> accessListener = mock(ActionListener.class);
+        conversationMetaIndex.checkAccess("test id", accessListener);
+        conversationMetaIndex.checkWriteAccess("test id", accessListener);
+        verify(client, times(2)).get(any(), any());
+        verify(accessListener, times(2)).onResponse(true);
+    }
+
+    public void testIndexExists_AfterClusterChanged_ThenNoClusterStateRead() {
+        ClusterChangedEvent event = mock(ClusterChangedEvent.class);
+        ClusterState eventState = mock(ClusterState.class);
+        Metadata eventMetadata = mock(Metadata.class);
+        doReturn(eventState).when(event).state();
+        doReturn(eventMetadata).when(eventState).metadata();
+        doReturn(false).when(eventMetadata).hasIndex(anyString());
+        conversationMetaIndex.clusterChanged(event);
+        assert (!conversationMetaIndex.indexExists());
+        verify(clusterService, never()).state();
+    }
+
+    private void setupGetConversation(String user) {
+        GetResponse response = mock(GetResponse.class);
+        doReturn(true).when(response).isExists();
+        doReturn("test id").when(response).getId();
+        doReturn(
+            Map
+                .of(
+                    ConversationalIndexConstants.META_CREATED_FIELD,
+                    Instant.now().toString(),
+                    ConversationalIndexConstants.META_NAME_FIELD,
+                    "test",
+                    ConversationalIndexConstants.USER_FIELD,
+                    user
+                )
+        ).when(response).getSourceAsMap();
+        doAnswer(invocation -> {
+            ActionListener<GetResponse> al = invocation.getArgument(1);
+            al.onResponse(response);
+            return null;
+        }).when(client).get(any(), any());
+    }
 }
@@ -19,6 +19,7 @@ package org.opensearch.ml.memory.index;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 
@@ -28,7 +29,9 @@ import org.opensearch.action.StepListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.reindex.ReindexModulePlugin;
 import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.plugins.Plugin;
 import org.opensearch.test.OpenSearchIntegTestCase;
 
 import com.carrotsearch.randomizedtesting.annotations.ThreadLeakScope;
@@ -40,6 +43,12 @@ import lombok.extern.log4j.Log4j2;
 @OpenSearchIntegTestCase.ClusterScope(scope = OpenSearchIntegTestCase.Scope.TEST, numDataNodes = 2)
 public class InteractionsIndexITTests extends OpenSearchIntegTestCase {
 
+    // Conversations are deleted with delete by query, which is provided by the reindex module
+    @Override
+    protected Collection<Class<? extends Plugin>> nodePlugins() {
+        return List.of(ReindexModulePlugin.class);
+    }
+
     private Client client;
     private ClusterService clusterService;
     private InteractionsIndex index;
@@ -21,27 +21,36 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.opensearch.OpenSearchWrapperException;
 import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.admin.indices.refresh.RefreshResponse;
-import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.WriteRequest;
 import org.opensearch.client.AdminClient;
 import org.opensearch.client.Client;
 import org.opensearch.client.IndicesAdminClient;
@@ -52,9 +61,20 @@ import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
 import org.opensearch.core.rest.RestStatus;
+import org.opensearch.index.query.TermQueryBuilder;
+import org.opensearch.index.reindex.AbstractBulkByScrollRequest;
+import org.opensearch.index.reindex.BulkByScrollResponse;
+import org.opensearch.index.reindex.DeleteByQueryAction;
+import org.opensearch.index.reindex.DeleteByQueryRequest;
 import org.opensearch.ml.common.conversation.ActionConstants;
+import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.sort.FieldSortBuilder;
+import org.opensearch.search.sort.SortBuilder;
 import org.opensearch.test.OpenSearchTestCase;
 import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.SendRequestTransportException;
@@ -121,6 +141,11 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             al.onResponse(true);
             return null;
         }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(true);
+            return null;
+        }).when(conversationMetaIndex).checkWriteAccess(anyString(), any());
     }
 
     private void setupDenyAccess(String user) {
@@ -130,6 +155,11 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
             al.onResponse(false);
             return null;
         }).when(conversationMetaIndex).checkAccess(anyString(), any());
+        doAnswer(invocation -> {
+            ActionListener<Boolean> al = invocation.getArgument(1);
+            al.onResponse(false);
+            return null;
+        }).when(conversationMetaIndex).checkWriteAccess(anyString(), any());
         doAnswer(invocation -> {
             ThreadContext tc = new ThreadContext(Settings.EMPTY);
             tc.putTransient(ConfigConstants.OPENSEARCH_SECURITY_USER_INFO_THREAD_CONTEXT, userstr);
@@ -261,6 +291,11 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(createInteractionListener, times(1)).onFailure(argCaptor.capture());
         assert (argCaptor.getValue().getMessage().equals("Failed to create interaction"));
+        // The next chat turn reads the history right away, so interaction writes wait until they are visible
+        ArgumentCaptor<IndexRequest> requestCaptor = ArgumentCaptor.forClass(IndexRequest.class);
+        verify(client, times(1)).index(requestCaptor.capture(), any());
+        assert (requestCaptor.getValue().getRefreshPolicy() == WriteRequest.RefreshPolicy.WAIT_UNTIL);
+        assert (requestCaptor.getValue().sourceAsMap().get(ConversationalIndexConstants.INTERACTIONS_TIEBREAKER_FIELD) instanceof Long);
     }
 
     public void testCreate_InternalFailure_ThenFail() {
@@ -360,9 +395,25 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue().getMessage().equals("Failure in Search"));
     }
 
+    public void testGet_RefreshOnReadDisabled_ThenNoRefresh() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure in Search"));
+            return null;
+        }).when(client).search(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
+        interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
+        verify(indicesAdminClient, never()).refresh(any(), any());
+        verify(client, times(1)).search(any(), any());
+    }
+
     public void testGet_RefreshFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        interactionsIndex.setRefreshOnRead(true);
         doAnswer(invocation -> {
             ActionListener<RefreshResponse> al = invocation.getArgument(1);
             al.onFailure(new Exception("Failed to Refresh"));
@@ -379,7 +430,7 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
     public void testGet_ClientFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        doThrow(new RuntimeException("Client Failure")).when(indicesAdminClient).refresh(any(), any());
+        doThrow(new RuntimeException("Client Failure")).when(client).search(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getInteractions("cid", 0, 10, getInteractionsListener);
@@ -405,35 +456,24 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
     public void testGetAll_BadMaxResults_ThenFail() {
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
-        interactionsIndex.nextGetListener("cid", 0, 0, getInteractionsListener, List.of());
+        interactionsIndex.getAllInteractions("cid", 0, getInteractionsListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(getInteractionsListener, times(1)).onFailure(argCaptor.capture());
         assert (argCaptor.getValue().getMessage().equals("maxResults must be positive"));
     }
 
-    public void testGetAll_Recursion() {
-        List<Interaction> interactions = List
-            .of(
-                new Interaction("iid1", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", "meta"),
-                new Interaction("iid2", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", "meta"),
-                new Interaction("iid3", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", "meta"),
-                new Interaction("iid4", Instant.now(), "cid", "inp", "pt", "rsp", "ogn", "meta")
-            );
+    public void testGetAll_SearchAfter() {
+        SearchHit[] hits = new SearchHit[] { interactionHit("iid1"), interactionHit("iid2"), interactionHit("iid3") };
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onResponse(interactions.subList(0, 2));
+            ActionListener<SearchHit[]> al = invocation.getArgument(3);
+            al.onResponse(Arrays.copyOfRange(hits, 0, 2));
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), eq(0), anyInt(), any());
+        }).when(interactionsIndex).innerGetInteractionsAfter(anyString(), isNull(), anyInt(), any());
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onResponse(interactions.subList(2, 4));
+            ActionListener<SearchHit[]> al = invocation.getArgument(3);
+            al.onResponse(Arrays.copyOfRange(hits, 2, 3));
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), eq(2), anyInt(), any());
-        doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
-            al.onResponse(List.of());
-            return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), eq(4), anyInt(), any());
+        }).when(interactionsIndex).innerGetInteractionsAfter(anyString(), eq(hits[1].getSortValues()), anyInt(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getAllInteractions("cid", 2, getInteractionsListener);
@@ -441,19 +481,36 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         ArgumentCaptor<List<Interaction>> argCaptor = ArgumentCaptor.forClass(List.class);
         verify(getInteractionsListener, times(1)).onResponse(argCaptor.capture());
         List<Interaction> result = argCaptor.getValue();
-        assert (result.size() == 4);
+        assert (result.size() == 3);
         assert (result.get(0).getId().equals("iid1"));
         assert (result.get(1).getId().equals("iid2"));
         assert (result.get(2).getId().equals("iid3"));
-        assert (result.get(3).getId().equals("iid4"));
+        verify(interactionsIndex, times(2)).innerGetInteractionsAfter(anyString(), any(), anyInt(), any());
+    }
+
+    public void testGetAfter_SortByCreateTimeAndTiebreaker() {
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure in Search"));
+            return null;
+        }).when(client).search(any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<SearchHit[]> getInteractionsListener = mock(ActionListener.class);
+        interactionsIndex.innerGetInteractionsAfter("cid", new Object[] { 0L, 0L }, 10, getInteractionsListener);
+        ArgumentCaptor<SearchRequest> requestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        verify(client, times(1)).search(requestCaptor.capture(), any());
+        List<SortBuilder<?>> sorts = requestCaptor.getValue().source().sorts();
+        assert (sorts.size() == 2);
+        assert (((FieldSortBuilder) sorts.get(0)).getFieldName().equals(ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD));
+        assert (((FieldSortBuilder) sorts.get(1)).getFieldName().equals(ConversationalIndexConstants.INTERACTIONS_TIEBREAKER_FIELD));
     }
 
     public void testGetAll_GetFails_ThenFail() {
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(3);
+            ActionListener<SearchHit[]> al = invocation.getArgument(3);
             al.onFailure(new Exception("Failure in Get"));
             return null;
-        }).when(interactionsIndex).innerGetInteractions(anyString(), anyInt(), anyInt(), any());
+        }).when(interactionsIndex).innerGetInteractionsAfter(anyString(), any(), anyInt(), any());
         @SuppressWarnings("unchecked")
         ActionListener<List<Interaction>> getInteractionsListener = mock(ActionListener.class);
         interactionsIndex.getAllInteractions("cid", 2, getInteractionsListener);
@@ -472,21 +529,45 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (argCaptor.getValue());
     }
 
-    public void testDelete_BulkHasFailures_ReturnFalse() {
+    public void testDelete_DeleteByQuery_Success() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
-        BulkResponse bulkResponse = mock(BulkResponse.class);
-        doReturn(true).when(bulkResponse).hasFailures();
+        setupRefreshSuccess();
+        BulkByScrollResponse response = mock(BulkByScrollResponse.class);
+        doReturn(List.of()).when(response).getBulkFailures();
+        doReturn(List.of()).when(response).getSearchFailures();
         doAnswer(invocation -> {
-            ActionListener<BulkResponse> al = invocation.getArgument(1);
-            al.onResponse(bulkResponse);
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onResponse(response);
             return null;
-        }).when(client).bulk(any(), any());
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
+        @SuppressWarnings("unchecked")
+        ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
+        interactionsIndex.deleteConversation("cid", deleteConversationListener);
+        verify(deleteConversationListener, times(1)).onResponse(true);
+        ArgumentCaptor<DeleteByQueryRequest> requestCaptor = ArgumentCaptor.forClass(DeleteByQueryRequest.class);
+        InOrder inOrder = inOrder(indicesAdminClient, client);
+        inOrder.verify(indicesAdminClient, times(1)).refresh(any(), any());
+        inOrder.verify(client, times(1)).execute(eq(DeleteByQueryAction.INSTANCE), requestCaptor.capture(), any());
+        DeleteByQueryRequest request = requestCaptor.getValue();
+        assert (request.getSlices() == AbstractBulkByScrollRequest.AUTO_SLICES);
+        assert (request.getSearchRequest().source().query() instanceof TermQueryBuilder);
+        assert (((TermQueryBuilder) request.getSearchRequest().source().query()).value().equals("cid"));
+        verify(client, never()).search(any(), any());
+    }
+
+    public void testDelete_DeleteByQueryHasFailures_ReturnFalse() {
+        doReturn(true).when(metadata).hasIndex(anyString());
+        setupGrantAccess();
+        setupRefreshSuccess();
+        BulkByScrollResponse response = mock(BulkByScrollResponse.class);
+        doReturn(List.of(mock(BulkItemResponse.Failure.class))).when(response).getBulkFailures();
+        doReturn(List.of()).when(response).getSearchFailures();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of());
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onResponse(response);
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
@@ -495,41 +576,38 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         assert (!argCaptor.getValue());
     }
 
-    public void testDelete_BulkFails_ThenFail() {
+    public void testDelete_DeleteByQueryFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
+        setupRefreshSuccess();
         doAnswer(invocation -> {
-            ActionListener<BulkResponse> al = invocation.getArgument(1);
-            al.onFailure(new Exception("Failure during Bulk"));
-            return null;
-        }).when(client).bulk(any(), any());
-        doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onResponse(List.of());
+            ActionListener<BulkByScrollResponse> al = invocation.getArgument(2);
+            al.onFailure(new Exception("Failure during DeleteByQuery"));
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(client).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure during Bulk"));
+        assert (argCaptor.getValue().getMessage().equals("Failure during DeleteByQuery"));
     }
 
-    public void testDelete_SearchFails_ThenFail() {
+    public void testDelete_RefreshFails_ThenFail() {
         doReturn(true).when(metadata).hasIndex(anyString());
         setupGrantAccess();
         doAnswer(invocation -> {
-            ActionListener<List<Interaction>> al = invocation.getArgument(2);
-            al.onFailure(new Exception("Failure during GetAllInteractions"));
+            ActionListener<RefreshResponse> al = invocation.getArgument(1);
+            al.onFailure(new Exception("Failure during Refresh"));
             return null;
-        }).when(interactionsIndex).getAllInteractions(anyString(), anyInt(), any());
+        }).when(indicesAdminClient).refresh(any(), any());
         @SuppressWarnings("unchecked")
         ActionListener<Boolean> deleteConversationListener = mock(ActionListener.class);
         interactionsIndex.deleteConversation("cid", deleteConversationListener);
         ArgumentCaptor<Exception> argCaptor = ArgumentCaptor.forClass(Exception.class);
         verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
-        assert (argCaptor.getValue().getMessage().equals("Failure during GetAllInteractions"));
+        assert (argCaptor.getValue().getMessage().equals("Failure during Refresh"));
+        verify(client, never()).execute(eq(DeleteByQueryAction.INSTANCE), any(), any());
     }
 
     public void testDelete_NoAccessNoUser_ThenFail() {
@@ -582,4 +660,23 @@ public class InteractionsIndexTests extends OpenSearchTestCase {
         verify(deleteConversationListener, times(1)).onFailure(argCaptor.capture());
         assert (argCaptor.getValue().getMessage().equals("Test Failure"));
     }
+
+    private SearchHit interactionHit(String id) {
+        Instant createTime = Instant.now();
+        SearchHit hit = new SearchHit(1, id, Map.of(), Map.of());
+        String source = "{\""
+            + ConversationalIndexConstants.INTERACTIONS_CREATE_TIME_FIELD
+            + "\":\""
+            + createTime
+            + "\",\""
+            + ConversationalIndexConstants.INTERACTIONS_CONVERSATION_ID_FIELD
+            + "\":\"cid\"}";
+        hit.sourceRef(new BytesArray(source));
+        hit
+            .sortValues(
+                new Object[] { createTime.toEpochMilli(), id },
+                new DocValueFormat[] { DocValueFormat.RAW, DocValueFormat.RAW }
+            );
+        return hit;
+    }
 }
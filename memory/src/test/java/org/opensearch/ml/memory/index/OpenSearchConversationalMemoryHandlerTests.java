@@ -54,6 +54,12 @@ public class OpenSearchConversationalMemoryHandlerTests extends OpenSearchTestCa
         cmHandler = new OpenSearchConversationalMemoryHandler(conversationMetaIndex, interactionsIndex);
     }
 
+    public void testSetRefreshOnRead() {
+        cmHandler.setRefreshOnRead(true);
+        verify(conversationMetaIndex, times(1)).setRefreshOnRead(true);
+        verify(interactionsIndex, times(1)).setRefreshOnRead(true);
+    }
+
     public void testCreateConversation_NoName_FutureSuccess() {
         doAnswer(invocation -> {
             ActionListener<String> al = invocation.getArgument(0);
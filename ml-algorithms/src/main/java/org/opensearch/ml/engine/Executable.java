@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine;
 
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.exception.ExecuteException;
 import org.opensearch.ml.common.input.Input;
 import org.opensearch.ml.common.output.Output;
@@ -17,4 +18,21 @@ public interface Executable {
      * @return execution result
      */
     Output execute(Input input) throws ExecuteException;
+
+    /**
+     * Execute algorithm with given input data asynchronously. Algorithms which wait for other requests,
+     * like searches, should override this to avoid blocking the calling thread.
+     * @param input input data
+     * @param listener action listener
+     */
+    default void execute(Input input, ActionListener<Output> listener) {
+        Output output;
+        try {
+            output = execute(input);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(output);
+    }
 }
@@ -6,7 +6,9 @@
 package org.opensearch.ml.engine;
 
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.dataframe.DataFrame;
@@ -22,6 +24,7 @@ import org.opensearch.ml.engine.encryptor.Encryptor;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * This is the interface to all ml algorithms.
@@ -31,6 +34,8 @@ public class MLEngine {
 
     public static final String REGISTER_MODEL_FOLDER = "register";
     public static final String DEPLOY_MODEL_FOLDER = "deploy";
+    public static final String ARTIFACT_MODEL_FOLDER = "artifact";
+    public static final String PREDICT_EXECUTOR = "predictExecutor";
     private final String MODEL_REPO = "https://artifacts.opensearch.org/models/ml-models";
 
     @Getter
@@ -42,6 +47,13 @@ public class MLEngine {
 
     private Encryptor encryptor;
 
+    @Getter
+    private final PredictableCache predictableCache = new PredictableCache();
+
+    // Executor which algorithms can use to split one prediction into parallel tasks. It may reject tasks when busy.
+    @Setter
+    private Executor predictExecutor;
+
     public MLEngine(Path opensearchDataFolder, Encryptor encryptor) {
         this.mlCachePath = opensearchDataFolder.resolve("ml_cache");
         this.mlModelsCachePath = mlCachePath.resolve("models_cache");
@@ -98,6 +110,23 @@ public class MLEngine {
                 .resolve(chunkNumber + "");
     }
 
+    /**
+     * Path of the model zip file kept on disk to reload a deployed model whose predictor was unloaded.
+     * @param modelId model id
+     * @return model zip file path
+     */
+    public Path getModelArtifactZipPath(String modelId) {
+        return getModelArtifactPath(modelId).resolve("model.zip");
+    }
+
+    public Path getModelArtifactPath(String modelId) {
+        return getModelArtifactRootPath().resolve(modelId);
+    }
+
+    public Path getModelArtifactRootPath() {
+        return mlModelsCachePath.resolve(ARTIFACT_MODEL_FOLDER);
+    }
+
     public Path getModelCachePath(String modelId, String modelName, String version) {
         return getModelCachePath(modelId).resolve(version).resolve(modelName);
     }
@@ -121,7 +150,7 @@ public class MLEngine {
     }
 
     public Predictable deploy(MLModel mlModel, Map<String, Object> params) {
-        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class);
+        Predictable predictable = MLEngineClassLoader.initInstance(mlModel.getAlgorithm(), null, MLAlgoParams.class, algorithmProperties());
         predictable.initModel(mlModel, params, encryptor);
         return predictable;
     }
@@ -135,13 +164,25 @@ public class MLEngine {
     public MLOutput predict(Input input, MLModel model) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
-        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class);
+        if (predictableCache.isCacheable(model) && mlInput.getAlgorithm() == model.getAlgorithm()) {
+            Predictable cachedPredictable = predictableCache.get(model);
+            if (cachedPredictable == null) {
+                cachedPredictable = deploy(model, null);
+                predictableCache.put(model, cachedPredictable);
+            }
+            return cachedPredictable.predict(mlInput);
+        }
+        Predictable predictable = MLEngineClassLoader.initInstance(mlInput.getAlgorithm(), mlInput.getParameters(), MLAlgoParams.class, algorithmProperties());
         if (predictable == null) {
             throw new IllegalArgumentException("Unsupported algorithm: " + mlInput.getAlgorithm());
         }
         return predictable.predict(mlInput, model);
     }
 
+    private Map<String, Object> algorithmProperties() {
+        return predictExecutor == null ? null : Map.of(PREDICT_EXECUTOR, predictExecutor);
+    }
+
     public MLOutput trainAndPredict(Input input) {
         validateMLInput(input);
         MLInput mlInput = (MLInput) input;
@@ -169,6 +210,15 @@ public class MLEngine {
         }
     }
 
+    public void execute(Input input, ActionListener<Output> listener) {
+        validateInput(input);
+        Executable executable = MLEngineClassLoader.initInstance(input.getFunctionName(), input, Input.class);
+        if (executable == null) {
+            throw new IllegalArgumentException("Unsupported executable function: " + input.getFunctionName());
+        }
+        executable.execute(input, listener);
+    }
+
     private void validateMLInput(Input input) {
         validateInput(input);
         if (!(input instanceof MLInput)) {
@@ -10,17 +10,20 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.utils.ClassIndex;
 import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.annotation.Function;
-import org.reflections.Reflections;
 
-import java.lang.reflect.Constructor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.security.AccessController;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public class MLEngineClassLoader {
@@ -37,6 +40,12 @@ public class MLEngineClassLoader {
      */
     private static Map<Enum<?>, Object> mlObjects = new HashMap<>();
 
+    /**
+     * Cached constructors of ML classes, keyed by class and constructor parameter class. Each constructor
+     * handle takes the constructor input, which is ignored if class has no constructor with that parameter.
+     */
+    private static final Map<Class<?>, Map<Class<?>, MethodHandle>> constructorCache = new ConcurrentHashMap<>();
+
     static {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
@@ -70,9 +79,10 @@ public class MLEngineClassLoader {
     }
 
     public static void loadClassMapping() {
-        Reflections reflections = new Reflections("org.opensearch.ml.engine.algorithms");
+        String packageName = "org.opensearch.ml.engine.algorithms";
+        ClassLoader classLoader = MLEngineClassLoader.class.getClassLoader();
 
-        Set<Class<?>> classes = reflections.getTypesAnnotatedWith(Function.class);
+        Set<Class<?>> classes = ClassIndex.getTypesAnnotatedWith(Function.class, packageName, classLoader);
         // Load ML algorithm parameter class
         for (Class<?> clazz : classes) {
             Function function = clazz.getAnnotation(Function.class);
@@ -82,7 +92,7 @@ public class MLEngineClassLoader {
             }
         }
 
-        Set<Class<?>> connectorExecutorClasses = reflections.getTypesAnnotatedWith(ConnectorExecutor.class);
+        Set<Class<?>> connectorExecutorClasses = ClassIndex.getTypesAnnotatedWith(ConnectorExecutor.class, packageName, classLoader);
         // Load connector class
         for (Class<?> clazz : connectorExecutorClasses) {
             ConnectorExecutor connectorExecutor = clazz.getAnnotation(ConnectorExecutor.class);
@@ -124,18 +134,12 @@ public class MLEngineClassLoader {
             throw new IllegalArgumentException("Can't find class for type " + type);
         }
         try {
-            Constructor<?> constructor;
-            S instance;
-            try {
-                constructor = clazz.getConstructor(constructorParamClass);
-                instance = (S) constructor.newInstance(in);
-            } catch (NoSuchMethodException e) {
-                constructor = clazz.getConstructor();
-                instance = (S) constructor.newInstance();
-            }
+            S instance = (S) getConstructor(clazz, constructorParamClass).invokeExact((Object) in);
             BeanUtils.populate(instance, properties);
             return instance;
-        } catch (Exception e) {
+        } catch (MLException | Error e) {
+            throw e;
+        } catch (Throwable e) {
             Throwable cause = e.getCause();
             if (cause instanceof MLException) {
                 throw (MLException)cause;
@@ -146,4 +150,26 @@ public class MLEngineClassLoader {
         }
     }
 
+    /**
+     * Get cached constructor of class. Will try constructor with "constructorParamClass" first. If
+     * not found, will use default constructor without input parameter.
+     */
+    private static MethodHandle getConstructor(Class<?> clazz, Class<?> constructorParamClass) throws NoSuchMethodException, IllegalAccessException {
+        Map<Class<?>, MethodHandle> constructors = constructorCache.computeIfAbsent(clazz, k -> new ConcurrentHashMap<>());
+        MethodHandle constructor = constructors.get(constructorParamClass);
+        if (constructor == null) {
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            try {
+                constructor = lookup.findConstructor(clazz, MethodType.methodType(void.class, constructorParamClass))
+                        .asType(MethodType.methodType(Object.class, Object.class));
+            } catch (NoSuchMethodException e) {
+                constructor = MethodHandles.dropArguments(
+                        lookup.findConstructor(clazz, MethodType.methodType(void.class)).asType(MethodType.methodType(Object.class)),
+                        0, Object.class);
+            }
+            constructors.put(constructorParamClass, constructor);
+        }
+        return constructor;
+    }
+
 }
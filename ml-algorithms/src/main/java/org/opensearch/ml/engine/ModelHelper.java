@@ -7,6 +7,7 @@ package org.opensearch.ml.engine;
 
 import ai.djl.training.util.DownloadUtils;
 import ai.djl.training.util.ProgressBar;
+import com.google.common.hash.HashCode;
 import com.google.gson.stream.JsonReader;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.core.action.ActionListener;
@@ -15,26 +16,32 @@ import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
+import org.opensearch.ml.engine.utils.ZipCentralDirectory;
 
 import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
 import java.nio.file.Path;
 import java.security.AccessController;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.security.PrivilegedActionException;
 import java.security.PrivilegedExceptionAction;
+import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import static org.opensearch.ml.common.utils.StringUtils.gson;
-import static org.opensearch.ml.engine.utils.FileUtils.calculateFileHash;
 import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
-import static org.opensearch.ml.engine.utils.FileUtils.splitFileIntoChunks;
+import static org.opensearch.ml.engine.utils.FileUtils.splitStreamIntoChunks;
 
 @Log4j2
 public class ModelHelper {
@@ -183,6 +190,8 @@ public class ModelHelper {
 
     /**
      * Download model from URL and split it into smaller chunks.
+     * The model is hashed and split into chunks while downloading, then the zip entries are verified by reading
+     * the central directory at the end of the last chunks, so the model is written once and never read again.
      * @param modelFormat model format
      * @param taskId task id
      * @param modelName model name
@@ -195,21 +204,25 @@ public class ModelHelper {
         try {
             AccessController.doPrivileged((PrivilegedExceptionAction<Void>) () -> {
                 Path registerModelPath = mlEngine.getRegisterModelPath(taskId, modelName, version);
-                String modelPath = registerModelPath +".zip";
                 Path modelPartsPath = registerModelPath.resolve("chunks");
-                File modelZipFile = new File(modelPath);
-                log.debug("download model to file {}", modelZipFile.getAbsolutePath());
-                DownloadUtils.download(url, modelPath, new ProgressBar());
-                verifyModelZipFile(modelFormat, modelPath, modelName, functionName);
-                String hash = calculateFileHash(modelZipFile);
+                log.debug("download model to chunks {}", modelPartsPath);
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                List<String> chunkFiles;
+                try (InputStream inputStream = new DigestInputStream(openModelStream(url), digest)) {
+                    chunkFiles = splitStreamIntoChunks(inputStream, modelPartsPath, CHUNK_SIZE);
+                }
+                long modelSizeInBytes = 0;
+                for (String chunkFile : chunkFiles) {
+                    modelSizeInBytes += new File(chunkFile).length();
+                }
+                List<String> entryNames = new ZipCentralDirectory(chunkFiles, CHUNK_SIZE, modelSizeInBytes).readEntryNames();
+                verifyModelZipEntries(modelFormat, entryNames, modelName, functionName);
+                String hash = HashCode.fromBytes(digest.digest()).toString();
                 if (hash.equals(modelContentHash)) {
-                    List<String> chunkFiles = splitFileIntoChunks(modelZipFile, modelPartsPath, CHUNK_SIZE);
                     Map<String, Object> result = new HashMap<>();
                     result.put(CHUNK_FILES, chunkFiles);
-                    result.put(MODEL_SIZE_IN_BYTES, modelZipFile.length());
-
-                    result.put(MODEL_FILE_HASH, calculateFileHash(modelZipFile));
-                    deleteFileQuietly(modelZipFile);
+                    result.put(MODEL_SIZE_IN_BYTES, modelSizeInBytes);
+                    result.put(MODEL_FILE_HASH, hash);
                     listener.onResponse(result);
                     return null;
                 } else {
@@ -222,19 +235,33 @@ public class ModelHelper {
         }
     }
 
+    // Same as DJL DownloadUtils, which downloads to a file: gz files are decompressed.
+    private static InputStream openModelStream(String url) throws IOException {
+        URL modelUrl = new URL(url.trim());
+        InputStream inputStream = modelUrl.openStream();
+        return modelUrl.getFile().endsWith(".gz") ? new GZIPInputStream(inputStream) : inputStream;
+    }
+
     public void verifyModelZipFile(MLModelFormat modelFormat, String modelZipFilePath, String modelName, FunctionName functionName) throws IOException {
-        boolean hasPtFile = false;
-        boolean hasOnnxFile = false;
-        boolean hasTokenizerFile = false;
+        List<String> entryNames = new ArrayList<>();
         try (ZipFile zipFile = new ZipFile(modelZipFilePath)) {
             Enumeration zipEntries = zipFile.entries();
             while (zipEntries.hasMoreElements()) {
-                String fileName = ((ZipEntry) zipEntries.nextElement()).getName();
-                hasPtFile = hasModelFile(modelFormat, MLModelFormat.TORCH_SCRIPT, PYTORCH_FILE_EXTENSION, hasPtFile, fileName);
-                hasOnnxFile = hasModelFile(modelFormat, MLModelFormat.ONNX, ONNX_FILE_EXTENSION, hasOnnxFile, fileName);
-                if (fileName.equals(TOKENIZER_FILE_NAME)) {
-                    hasTokenizerFile = true;
-                }
+                entryNames.add(((ZipEntry) zipEntries.nextElement()).getName());
+            }
+        }
+        verifyModelZipEntries(modelFormat, entryNames, modelName, functionName);
+    }
+
+    private static void verifyModelZipEntries(MLModelFormat modelFormat, List<String> entryNames, String modelName, FunctionName functionName) {
+        boolean hasPtFile = false;
+        boolean hasOnnxFile = false;
+        boolean hasTokenizerFile = false;
+        for (String fileName : entryNames) {
+            hasPtFile = hasModelFile(modelFormat, MLModelFormat.TORCH_SCRIPT, PYTORCH_FILE_EXTENSION, hasPtFile, fileName);
+            hasOnnxFile = hasModelFile(modelFormat, MLModelFormat.ONNX, ONNX_FILE_EXTENSION, hasOnnxFile, fileName);
+            if (fileName.equals(TOKENIZER_FILE_NAME)) {
+                hasTokenizerFile = true;
             }
         }
         if (!hasPtFile && !hasOnnxFile && functionName != FunctionName.SPARSE_TOKENIZE) { // sparse tokenizer model doesn't need model file.
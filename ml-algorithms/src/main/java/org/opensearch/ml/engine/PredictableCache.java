@@ -0,0 +1,180 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.hash.Hashing;
+import lombok.extern.log4j.Log4j2;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Bounded LRU cache of initialized predictors for models which are not deployed.
+ * Without it, every predict request on an undeployed model deserializes the model content again.
+ * Entries are keyed by model id and only served while the model version and content digest match.
+ */
+@Log4j2
+public class PredictableCache {
+    public static final long DEFAULT_MAX_SIZE_IN_BYTES = 100L * 1024 * 1024;
+
+    // These algorithms only read the deserialized model in predict(MLInput) and don't depend on parameters
+    // the predictor was created with, so one initialized instance can be shared by concurrent requests.
+    public static final Set<FunctionName> CACHEABLE_ALGORITHMS = ImmutableSet.of(
+            FunctionName.BATCH_RCF,
+            FunctionName.KMEANS,
+            FunctionName.LINEAR_REGRESSION,
+            FunctionName.LOGISTIC_REGRESSION,
+            FunctionName.AD_LIBSVM
+    );
+
+    private final LinkedHashMap<String, CachedPredictable> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long maxSizeInBytes;
+    private long sizeInBytes;
+
+    public PredictableCache() {
+        this(DEFAULT_MAX_SIZE_IN_BYTES);
+    }
+
+    public PredictableCache(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+    }
+
+    /**
+     * Check if predictor of this model can be cached.
+     * @param model ML model
+     * @return true if model has id, content and a cacheable algorithm
+     */
+    public boolean isCacheable(MLModel model) {
+        return model != null
+                && model.getModelId() != null
+                && model.getContent() != null
+                && CACHEABLE_ALGORITHMS.contains(model.getAlgorithm());
+    }
+
+    /**
+     * Get cached predictor of model. Stale entry will be removed if model version or content changed.
+     * The model content is digested outside the cache lock, so concurrent requests don't wait on each other.
+     * @param model ML model
+     * @return cached predictor or null if not cached
+     */
+    public Predictable get(MLModel model) {
+        CachedPredictable cachedPredictable;
+        synchronized (this) {
+            cachedPredictable = cache.get(model.getModelId());
+        }
+        if (cachedPredictable == null) {
+            return null;
+        }
+        if (!cachedPredictable.matches(model)) {
+            log.debug("Model {} changed, remove stale predictor from cache", model.getModelId());
+            synchronized (this) {
+                // Another request may have cached the predictor of the changed model already.
+                if (cache.get(model.getModelId()) == cachedPredictable) {
+                    remove(model.getModelId());
+                }
+            }
+            return null;
+        }
+        return cachedPredictable.predictable;
+    }
+
+    /**
+     * Cache predictor of model and evict least recently used predictors if cache is full.
+     * @param model ML model
+     * @param predictable initialized predictor of the model
+     */
+    public void put(MLModel model, Predictable predictable) {
+        long weight = estimateSizeInBytes(model);
+        CachedPredictable cachedPredictable = new CachedPredictable(predictable, model.getVersion(), digest(model), weight);
+        synchronized (this) {
+            if (weight > maxSizeInBytes) {
+                return;
+            }
+            remove(model.getModelId());
+            cache.put(model.getModelId(), cachedPredictable);
+            sizeInBytes += weight;
+            evict();
+        }
+    }
+
+    public synchronized void invalidate(String modelId) {
+        if (modelId != null) {
+            remove(modelId);
+        }
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+        sizeInBytes = 0;
+    }
+
+    public synchronized void setMaxSizeInBytes(long maxSizeInBytes) {
+        this.maxSizeInBytes = maxSizeInBytes;
+        evict();
+    }
+
+    public synchronized long getSizeInBytes() {
+        return sizeInBytes;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private void remove(String modelId) {
+        CachedPredictable removed = cache.remove(modelId);
+        if (removed != null) {
+            sizeInBytes -= removed.sizeInBytes;
+        }
+    }
+
+    // Don't close evicted predictors, other threads may still predict with them. They are released by GC.
+    private void evict() {
+        Iterator<Map.Entry<String, CachedPredictable>> iterator = cache.entrySet().iterator();
+        while (sizeInBytes > maxSizeInBytes && iterator.hasNext()) {
+            sizeInBytes -= iterator.next().getValue().sizeInBytes;
+            iterator.remove();
+        }
+    }
+
+    // The deserialized model is usually close to the size of its serialized content.
+    private static long estimateSizeInBytes(MLModel model) {
+        return model.getContent().length() * 3L / 4;
+    }
+
+    // Use the content hash stored with the model if there is one, otherwise digest the content.
+    private static String digest(MLModel model) {
+        if (model.getModelContentHash() != null) {
+            return model.getModelContentHash();
+        }
+        return Hashing.sha256().hashString(model.getContent(), StandardCharsets.UTF_8).toString();
+    }
+
+    private static class CachedPredictable {
+        private final Predictable predictable;
+        private final String version;
+        private final String digest;
+        private final long sizeInBytes;
+
+        CachedPredictable(Predictable predictable, String version, String digest, long sizeInBytes) {
+            this.predictable = predictable;
+            this.version = version;
+            this.digest = digest;
+            this.sizeInBytes = sizeInBytes;
+        }
+
+        boolean matches(MLModel model) {
+            return Objects.equals(version, model.getVersion()) && digest.equals(digest(model));
+        }
+    }
+}
@@ -323,7 +323,16 @@ public abstract class DLModel implements Predictable {
         if (output == null) {
             throw new MLException("No output generated");
         }
-        byte[] bytes = output.getData().getAsBytes();
+        return parseModelTensors(output.getData().getAsBytes(), resultFilter);
+    }
+
+    /**
+     * Parse serialized model tensors and apply result filter.
+     * @param bytes serialized model tensors
+     * @param resultFilter result filter
+     * @return model tensors
+     */
+    protected ModelTensors parseModelTensors(byte[] bytes, ModelResultFilter resultFilter) {
         ModelTensors tensorOutput = ModelTensors.fromBytes(bytes);
         if (resultFilter != null) {
             tensorOutput.filter(resultFilter);
@@ -44,7 +44,7 @@ public abstract class DLModelExecute implements MLExecutable {
     public static final String ML_ENGINE = "ml_engine";
     protected ModelHelper modelHelper;
     protected MLEngine mlEngine;
-    protected String modelId;
+    protected volatile String modelId;
 
     protected Predictor<float[][], ai.djl.modality.Output>[] predictors;
     protected ZooModel[] models;
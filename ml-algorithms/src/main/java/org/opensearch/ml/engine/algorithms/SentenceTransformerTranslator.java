@@ -25,6 +25,15 @@ import java.util.Map;
 
 public abstract class SentenceTransformerTranslator implements ServingTranslator {
     protected HuggingFaceTokenizer tokenizer;
+    // Texts are truncated to this many tokens if set.
+    protected Integer modelMaxLength;
+
+    public SentenceTransformerTranslator() {
+    }
+
+    public SentenceTransformerTranslator(Integer modelMaxLength) {
+        this.modelMaxLength = modelMaxLength;
+    }
 
     @Override
     public Batchifier getBatchifier() {
@@ -33,7 +42,11 @@ public abstract class SentenceTransformerTranslator implements ServingTranslator
     @Override
     public void prepare(TranslatorContext ctx) throws IOException {
         Path path = ctx.getModel().getModelPath();
-        tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json")).build();
+        HuggingFaceTokenizer.Builder builder = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json"));
+        if (modelMaxLength != null) {
+            builder.optTruncation(true).optMaxLength(modelMaxLength);
+        }
+        tokenizer = builder.build();
     }
 
     @Override
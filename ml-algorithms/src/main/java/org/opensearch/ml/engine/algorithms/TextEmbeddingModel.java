@@ -1,13 +1,17 @@
 package org.opensearch.ml.engine.algorithms;
 
+import ai.djl.MalformedModelException;
 import ai.djl.inference.Predictor;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.repository.zoo.ModelNotFoundException;
+import ai.djl.repository.zoo.ZooModel;
 import ai.djl.translate.TranslateException;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorFactory;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
@@ -16,20 +20,33 @@ import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.algorithms.DLModel;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 public abstract class TextEmbeddingModel extends DLModel {
+    // Max number of texts predicted as one padded batch.
+    public static final int MAX_BATCH_SIZE = 32;
+
+    protected boolean batchInputSupported;
+
     @Override
     public ModelTensorOutput predict(String modelId, MLInput mlInput) throws TranslateException {
         MLInputDataset inputDataSet = mlInput.getInputDataset();
-        List<ModelTensors> tensorOutputs = new ArrayList<>();
-        Output output;
         TextDocsInputDataSet textDocsInput = (TextDocsInputDataSet) inputDataSet;
         ModelResultFilter resultFilter = textDocsInput.getResultFilter();
-        for (String doc : textDocsInput.getDocs()) {
+        List<String> docs = textDocsInput.getDocs();
+        if (batchInputSupported && docs.size() > 1) {
+            return new ModelTensorOutput(batchPredict(docs, resultFilter));
+        }
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        Output output;
+        for (String doc : docs) {
             Input input = new Input();
             input.add(doc);
             output = getPredictor().predict(input);
@@ -38,6 +55,55 @@ public abstract class TextEmbeddingModel extends DLModel {
         return new ModelTensorOutput(tensorOutputs);
     }
 
+    /**
+     * Predict docs in batches. Each batch is padded to its longest doc, so docs are sorted by length first
+     * to batch docs of similar length together and keep padding small. Results are in the order of docs.
+     */
+    private List<ModelTensors> batchPredict(List<String> docs, ModelResultFilter resultFilter) throws TranslateException {
+        // Character length is a cheap estimate of token length, docs are tokenized by the translator.
+        Integer[] order = new Integer[docs.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(i -> docs.get(i).length()));
+
+        ModelTensors[] results = new ModelTensors[order.length];
+        for (int start = 0; start < order.length; start += MAX_BATCH_SIZE) {
+            int end = Math.min(start + MAX_BATCH_SIZE, order.length);
+            Input input = new Input();
+            for (int i = start; i < end; i++) {
+                input.add(docs.get(order[i]));
+            }
+            Output output = getPredictor().predict(input);
+            if (output == null || output.getContent().size() != end - start) {
+                throw new MLException("Model output doesn't match input docs");
+            }
+            for (int i = start; i < end; i++) {
+                results[order[i]] = parseModelTensors(output.get(i - start).getAsBytes(), resultFilter);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Check if translator of the model accepts multiple texts in one input and returns one result per text.
+     * @param engine model engine
+     * @param modelConfig model config
+     * @return true if texts can be predicted in batches
+     */
+    protected boolean isBatchInputSupported(String engine, MLModelConfig modelConfig) {
+        return false;
+    }
+
+    @Override
+    protected void doLoadModel(List<Predictor<Input, Output>> predictorList, List<ZooModel<Input, Output>> modelList,
+                               String engine,
+                               Path modelPath,
+                               MLModelConfig modelConfig) throws ModelNotFoundException, MalformedModelException, IOException, TranslateException {
+        batchInputSupported = isBatchInputSupported(engine, modelConfig);
+        super.doLoadModel(predictorList, modelList, engine, modelPath, modelConfig);
+    }
+
     public void warmUp(Predictor predictor, String modelId, MLModelConfig modelConfig) throws TranslateException {
         TextEmbeddingModelConfig textEmbeddingModelConfig = (TextEmbeddingModelConfig) modelConfig;
         String warmUpSentence = "warm up sentence";
@@ -6,16 +6,20 @@
 package org.opensearch.ml.engine.algorithms.anomalylocalization;
 
 import java.util.AbstractMap.SimpleEntry;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -51,10 +55,11 @@ import org.opensearch.search.aggregations.bucket.filter.Filters;
 import org.opensearch.search.aggregations.bucket.filter.FiltersAggregationBuilder;
 import org.opensearch.search.aggregations.bucket.filter.FiltersAggregator.KeyedFilter;
 import org.opensearch.search.aggregations.metrics.NumericMetricsAggregation.SingleValue;
+import org.opensearch.search.aggregations.metrics.SumAggregationBuilder;
+import org.opensearch.search.aggregations.metrics.ValueCountAggregationBuilder;
 import org.opensearch.search.builder.SearchSourceBuilder;
 
 import lombok.Data;
-import lombok.SneakyThrows;
 import lombok.extern.log4j.Log4j2;
 
 import static org.opensearch.core.action.ActionListener.wrap;
@@ -75,6 +80,9 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
     // The minimum number of contributor candidates.
     protected static final int MIN_CONTRIBUTOR_CANDIDATE = 100;
 
+    // The maximum number of composite aggregation scans running at the same time for one localization.
+    protected static final int MAX_CONCURRENT_SCANS = 4;
+
     private final Client client;
     private final Settings settings;
     private final ClusterService clusterService;
@@ -105,34 +113,40 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
      * Each bucket of data is aggregated as a whole and also sliced into entity key-value pairs. With first bucket being the base,
      * the change from a new bucket later is the difference of the new aggregate value and the base aggregate value.
      * The contribution to the change from an entity is the difference between its new value and base value.
+     * <p>
+     * Aggregations are localized concurrently. Composite aggregation scans of all buckets share a bounded number of
+     * concurrent scans, see {@link #MAX_CONCURRENT_SCANS}.
      */
     @Override
-    @SneakyThrows
     public void getLocalizationResults(AnomalyLocalizationInput input, ActionListener<AnomalyLocalizationOutput> listener) {
-        AnomalyLocalizationOutput output = new AnomalyLocalizationOutput();
-        input.getAggregations().stream().forEach(agg -> localizeByBuckets(input, agg, output, notifyOnce(listener)));
-    }
-
-    /**
-     * Bucketizes data by time and get overall aggregates.
-     */
-    private void localizeByBuckets(AnomalyLocalizationInput input, AggregationBuilder agg, AnomalyLocalizationOutput output,
-                                   ActionListener<AnomalyLocalizationOutput> listener) {
         LocalizationTimeBuckets timeBuckets = getTimeBuckets(input);
-        getOverallAggregates(input, timeBuckets, agg, output, listener);
+        AnomalyLocalizationOutput output = new AnomalyLocalizationOutput();
+        ActionListener<AnomalyLocalizationOutput> outputListener = notifyOnce(listener);
+        ScanThrottle throttle = new ScanThrottle(MAX_CONCURRENT_SCANS);
+        AtomicInteger pendingAggregations = new AtomicInteger(input.getAggregations().size());
+        for (AggregationBuilder agg : input.getAggregations()) {
+            ActionListener<AnomalyLocalizationOutput.Result> resultListener = notifyOnce(ActionListener.<AnomalyLocalizationOutput.Result>wrap(result -> {
+                synchronized (output) {
+                    output.getResults().put(agg.getName(), result);
+                }
+                if (pendingAggregations.decrementAndGet() == 0) {
+                    outputListener.onResponse(output);
+                }
+            }, outputListener::onFailure));
+            getOverallAggregates(input, timeBuckets, agg, throttle, resultListener);
+        }
     }
 
     private void getOverallAggregates(AnomalyLocalizationInput input, LocalizationTimeBuckets timeBuckets, AggregationBuilder agg,
-                                      AnomalyLocalizationOutput output,
-                                      ActionListener<AnomalyLocalizationOutput> listener) {
+                                      ScanThrottle throttle, ActionListener<AnomalyLocalizationOutput.Result> listener) {
         MultiSearchRequest searchRequest = newSearchRequestForOverallAggregates(input, agg, timeBuckets);
-        client.multiSearch(searchRequest, wrap(r -> onOverallAggregatesResponse(r, input, agg, output, timeBuckets, listener),
+        client.multiSearch(searchRequest, wrap(r -> onOverallAggregatesResponse(r, input, agg, timeBuckets, throttle, listener),
                 listener::onFailure));
     }
 
     private void onOverallAggregatesResponse(MultiSearchResponse response, AnomalyLocalizationInput input, AggregationBuilder agg,
-                                             AnomalyLocalizationOutput output,
-                                             LocalizationTimeBuckets timeBuckets, ActionListener<AnomalyLocalizationOutput> listener) {
+                                             LocalizationTimeBuckets timeBuckets, ScanThrottle throttle,
+                                             ActionListener<AnomalyLocalizationOutput.Result> listener) {
         AnomalyLocalizationOutput.Result result = new AnomalyLocalizationOutput.Result();
         List<Map.Entry<Long, Long>> intervals = timeBuckets.getAllIntervals();
 
@@ -146,8 +160,7 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
                 bucket.setOverallAggValue(value);
                 result.getBuckets().add(bucket);
             }
-            output.getResults().put(agg.getName(), result);
-            getLocalizedEntities(input, agg, result, output, listener);
+            getLocalizedEntities(input, agg, result, throttle, listener);
         } else {
             log.info("index: {} does not exist", input.getIndexName());
             listener.onFailure(new IndexNotFoundException("Failed to find index: " + input.getIndexName()));
@@ -165,96 +178,98 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
 
     /**
      * Identifies buckets of data that need localization and localizes entities in the bucket.
+     * The base bucket is scanned first, then all new buckets are scanned concurrently against the base counter.
      */
     private void getLocalizedEntities(AnomalyLocalizationInput input, AggregationBuilder agg, AnomalyLocalizationOutput.Result result,
-                                      AnomalyLocalizationOutput output,
-                                      ActionListener<AnomalyLocalizationOutput> listener) {
-        if (setBase(result, input)) {
-            Counter counter = new HybridCounter();
-            result.getBuckets().stream().filter(e -> e.getBase().isPresent() && e.getBase().get().equals(e))
-                    .forEach(e -> processBaseEntry(input, agg, result, e, counter, Optional.empty(), output, listener));
+                                      ScanThrottle throttle, ActionListener<AnomalyLocalizationOutput.Result> listener) {
+        if (!setBase(result, input)) {
+            listener.onResponse(result);
+            return;
         }
-        outputIfResultsAreComplete(output, listener);
+        AnomalyLocalizationOutput.Bucket baseBucket = result.getBuckets().get(0);
+        List<AnomalyLocalizationOutput.Bucket> newBuckets =
+                result.getBuckets().stream().filter(e -> e.getCompleted() != null).collect(Collectors.toList());
+        Counter counter = new HybridCounter();
+        scanBaseBucket(input, agg, baseBucket, counter, throttle, wrap(r -> {
+            log.debug("base bucket counted with error bound {}", counter.getErrorBound());
+            baseBucket.setCounter(Optional.of(counter));
+            ActionListener<Void> bucketListener = countDown(newBuckets.size(), wrap(v -> listener.onResponse(result), listener::onFailure));
+            newBuckets.forEach(bucket -> localizeNewBucket(input, agg, bucket, throttle, bucketListener));
+        }, listener::onFailure));
     }
 
-    private void outputIfResultsAreComplete(AnomalyLocalizationOutput output, ActionListener<AnomalyLocalizationOutput> listener) {
-        if (output.getResults().values().stream().allMatch(this::isResultComplete)) {
-            listener.onResponse(output);
+    /**
+     * Keeps info from entities in the base bucket to compare entities from new buckets against.
+     * For additive aggregations, the base bucket is split by time into slices which are scanned concurrently,
+     * and the partial counts of each page are merged into the base counter.
+     */
+    private void scanBaseBucket(AnomalyLocalizationInput input, AggregationBuilder agg, AnomalyLocalizationOutput.Bucket bucket,
+                                Counter counter, ScanThrottle throttle, ActionListener<Void> listener) {
+        long start = bucket.getStartTime();
+        long end = bucket.getEndTime();
+        int numSlices = isAdditive(agg) ? (int) Math.max(1, Math.min(MAX_CONCURRENT_SCANS, (end - start) / input.getMinTimeInterval())) : 1;
+        long sliceInterval = (end - start) / numSlices;
+        ActionListener<Void> sliceListener = countDown(numSlices, listener);
+        for (int i = 0; i < numSlices; i++) {
+            long sliceStart = start + i * sliceInterval;
+            boolean lastSlice = i == numSlices - 1;
+            // Slices are [start, end) except the last one which includes the bucket end, same as the whole bucket.
+            RangeQueryBuilder timeRange = lastSlice ? newTimeRange(input, sliceStart, end)
+                    : new RangeQueryBuilder(input.getTimeFieldName()).from(sliceStart, true).to(sliceStart + sliceInterval, false);
+            throttle.submit(() -> scan(input, agg, timeRange, Optional.empty(), page -> mergeIntoCounter(page, input, agg, counter),
+                    ActionListener.runBefore(sliceListener, throttle::release)));
         }
     }
 
-    private boolean isResultComplete(AnomalyLocalizationOutput.Result result) {
-        // When completed is null, the bucket does not localization, base bucket for example.
-        return result.getBuckets().stream().allMatch(e -> e.getCompleted() == null || e.getCompleted().get() == true);
+    private void mergeIntoCounter(CompositeAggregation page, AnomalyLocalizationInput input, AggregationBuilder agg, Counter counter) {
+        List<SimpleEntry<List<String>, Double>> partialCounts = page.getBuckets().stream()
+                .map(b -> new SimpleEntry<>(toStringKey(b.getKey(), input), getDoubleValue((SingleValue) b.getAggregations().get(agg.getName()))))
+                .collect(Collectors.toList());
+        synchronized (counter) {
+            partialCounts.forEach(e -> counter.increment(e.getKey(), e.getValue()));
+        }
     }
 
-    private void processBaseEntry(AnomalyLocalizationInput input, AggregationBuilder agg, AnomalyLocalizationOutput.Result result,
-                                  AnomalyLocalizationOutput.Bucket bucket, Counter counter,
-                                  Optional<Map<String, Object>> afterKey, AnomalyLocalizationOutput output,
-                                  ActionListener<AnomalyLocalizationOutput> listener) {
-        SearchRequest request = newSearchRequestForEntry(input, agg, bucket, afterKey);
-        client.search(request, wrap(r -> onBaseEntryResponse(r, input, agg, result, bucket, counter, output, listener),
-                listener::onFailure));
+    // Values of these aggregations over a time range are the sum of values over the sub ranges.
+    private boolean isAdditive(AggregationBuilder agg) {
+        return agg instanceof SumAggregationBuilder || agg instanceof ValueCountAggregationBuilder;
     }
 
     /**
-     * Keeps info from entities in the base bucket to compare entities from new buckets against.
+     * Chooses entities from the new bucket that contribute the most to the overall change.
      */
-    private void onBaseEntryResponse(SearchResponse response, AnomalyLocalizationInput input, AggregationBuilder agg,
-                                     AnomalyLocalizationOutput.Result result,
-                                     AnomalyLocalizationOutput.Bucket bucket, Counter counter, AnomalyLocalizationOutput output,
-                                     ActionListener<AnomalyLocalizationOutput> listener) {
-        Optional<CompositeAggregation> respAgg =
-                Optional.ofNullable(response.getAggregations()).map(aggs -> (CompositeAggregation) aggs.get(agg.getName()));
-        respAgg.map(a -> a.getBuckets()).orElse(Collections.emptyList()).stream().forEach(b -> {
-            counter.increment(toStringKey(b.getKey(), input), getDoubleValue((SingleValue) b.getAggregations().get(agg.getName())));
-        });
-        Optional<Map<String, Object>> afterKey = respAgg.map(r -> r.afterKey());
-        if (afterKey.isPresent()) {
-            processBaseEntry(input, agg, result, bucket, counter, afterKey, output, listener);
+    private void localizeNewBucket(AnomalyLocalizationInput input, AggregationBuilder agg, AnomalyLocalizationOutput.Bucket bucket,
+                                   ScanThrottle throttle, ActionListener<Void> listener) {
+        PriorityQueue<AnomalyLocalizationOutput.Entity> queue;
+        int queueSize = Math.max(input.getNumOutputs(), MIN_CONTRIBUTOR_CANDIDATE);
+        if (bucket.getOverallAggValue() > 0) {
+            queue = new PriorityQueue<AnomalyLocalizationOutput.Entity>(queueSize,
+                    (a, b) -> (int) Math.signum(a.getContributionValue() - b.getContributionValue()));
         } else {
-            bucket.setCounter(Optional.of(counter));
-            result.getBuckets().stream().filter(e -> e.getCompleted() != null && e.getCompleted().get() == false)
-                    .forEach(e -> {
-                        PriorityQueue<AnomalyLocalizationOutput.Entity> queue;
-                        int queueSize = Math.max(input.getNumOutputs(), MIN_CONTRIBUTOR_CANDIDATE);
-                        if (e.getOverallAggValue() > 0) {
-                            queue = new PriorityQueue<AnomalyLocalizationOutput.Entity>(queueSize,
-                                    (a, b) -> (int) Math.signum(a.getContributionValue() - b.getContributionValue()));
-                        } else {
-                            queue = new PriorityQueue<AnomalyLocalizationOutput.Entity>(queueSize,
-                                    (a, b) -> (int) Math.signum(b.getContributionValue() - a.getContributionValue()));
-                        }
-                        ;
-                        processNewEntry(input, agg, result, e, Optional.empty(), queue, output, listener);
-                    });
+            queue = new PriorityQueue<AnomalyLocalizationOutput.Entity>(queueSize,
+                    (a, b) -> (int) Math.signum(b.getContributionValue() - a.getContributionValue()));
         }
+        Counter baseCounter = bucket.getBase().get().getCounter().get();
+        RangeQueryBuilder timeRange = newTimeRange(input, bucket.getStartTime(), bucket.getEndTime());
+        throttle.submit(() -> scan(input, agg, timeRange, Optional.empty(), page -> addCandidates(page, input, agg, baseCounter, queue),
+                ActionListener.runBefore(wrap(r -> {
+                    List<List<String>> keys = queue.stream().map(AnomalyLocalizationOutput.Entity::getKey).collect(Collectors.toList());
+                    SearchRequest request = newSearchRequestForEntityKeys(input, agg, bucket, keys);
+                    client.search(request, wrap(resp -> {
+                        onEntityKeysResponse(resp, agg, bucket, queue);
+                        listener.onResponse(null);
+                    }, listener::onFailure));
+                }, listener::onFailure), throttle::release)));
     }
 
-    private void processNewEntry(AnomalyLocalizationInput input, AggregationBuilder agg, AnomalyLocalizationOutput.Result result,
-                                 AnomalyLocalizationOutput.Bucket bucket, Optional<Map<String,
-            Object>> afterKey, PriorityQueue<AnomalyLocalizationOutput.Entity> queue, AnomalyLocalizationOutput output,
-                                 ActionListener<AnomalyLocalizationOutput> listener) {
-        SearchRequest request = newSearchRequestForEntry(input, agg, bucket, afterKey);
-        client.search(request, wrap(r -> onNewEntryResponse(r, input, agg, result, bucket, queue, output, listener), listener::onFailure));
-    }
-
-    /**
-     * Chooses entities from the new bucket that contribute the most to the overall change.
-     */
-    private void onNewEntryResponse(SearchResponse response, AnomalyLocalizationInput input, AggregationBuilder agg,
-                                    AnomalyLocalizationOutput.Result result,
-                                    AnomalyLocalizationOutput.Bucket outputBucket, PriorityQueue<AnomalyLocalizationOutput.Entity> queue,
-                                    AnomalyLocalizationOutput output,
-                                    ActionListener<AnomalyLocalizationOutput> listener) {
-        Optional<CompositeAggregation> respAgg =
-                Optional.ofNullable(response.getAggregations()).map(aggs -> (CompositeAggregation) aggs.get(agg.getName()));
-        for (CompositeAggregation.Bucket bucket : respAgg.map(a -> a.getBuckets()).orElse(Collections.emptyList())) {
+    private void addCandidates(CompositeAggregation page, AnomalyLocalizationInput input, AggregationBuilder agg, Counter baseCounter,
+                               PriorityQueue<AnomalyLocalizationOutput.Entity> queue) {
+        for (CompositeAggregation.Bucket bucket : page.getBuckets()) {
             List<String> key = toStringKey(bucket.getKey(), input);
             AnomalyLocalizationOutput.Entity entity = new AnomalyLocalizationOutput.Entity();
             entity.setKey(key);
             entity.setNewValue(getDoubleValue((SingleValue) bucket.getAggregations().get(agg.getName())));
-            entity.setBaseValue(outputBucket.getBase().get().getCounter().get().estimate(key));
+            entity.setBaseValue(baseCounter.estimate(key));
             entity.setContributionValue(entity.getNewValue() - entity.getBaseValue());
             if (queue.size() < input.getNumOutputs()) {
                 queue.add(entity);
@@ -263,25 +278,32 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
                 queue.add(entity);
             }
         }
-        Optional<Map<String, Object>> afterKey = respAgg.map(r -> r.afterKey());
-        if (afterKey.isPresent()) {
-            processNewEntry(input, agg, result, outputBucket, afterKey, queue, output, listener);
-        } else {
-            List<List<String>> keys = queue.stream().map(AnomalyLocalizationOutput.Entity::getKey).collect(Collectors.toList());
-            SearchRequest request = newSearchRequestForEntityKeys(input, agg, outputBucket, keys);
-            client.search(request, wrap(r -> onEntityKeysResponse(r, input, agg, result, outputBucket, queue, output, listener),
-                    listener::onFailure));
-        }
+    }
+
+    /**
+     * Scans all pages of the composite aggregation over the time range. Pages are passed to the consumer in order.
+     */
+    private void scan(AnomalyLocalizationInput input, AggregationBuilder agg, RangeQueryBuilder timeRange,
+                      Optional<Map<String, Object>> afterKey, Consumer<CompositeAggregation> pageConsumer, ActionListener<Void> listener) {
+        SearchRequest request = newSearchRequestForEntry(input, agg, timeRange, afterKey);
+        client.search(request, wrap(r -> {
+            Optional<CompositeAggregation> respAgg =
+                    Optional.ofNullable(r.getAggregations()).map(aggs -> (CompositeAggregation) aggs.get(agg.getName()));
+            respAgg.ifPresent(pageConsumer);
+            Optional<Map<String, Object>> nextAfterKey = respAgg.map(a -> a.afterKey());
+            if (nextAfterKey.isPresent()) {
+                scan(input, agg, timeRange, nextAfterKey, pageConsumer, listener);
+            } else {
+                listener.onResponse(null);
+            }
+        }, listener::onFailure));
     }
 
     /**
      * Updates to date entity contribution values in final output.
      */
-    private void onEntityKeysResponse(SearchResponse response, AnomalyLocalizationInput input, AggregationBuilder agg,
-                                      AnomalyLocalizationOutput.Result result,
-                                      AnomalyLocalizationOutput.Bucket bucket, PriorityQueue<AnomalyLocalizationOutput.Entity> queue,
-                                      AnomalyLocalizationOutput output,
-                                      ActionListener<AnomalyLocalizationOutput> listener) {
+    private void onEntityKeysResponse(SearchResponse response, AggregationBuilder agg, AnomalyLocalizationOutput.Bucket bucket,
+                                      PriorityQueue<AnomalyLocalizationOutput.Entity> queue) {
         List<AnomalyLocalizationOutput.Entity> entities = new ArrayList<AnomalyLocalizationOutput.Entity>(queue);
         Optional<Filters> respAgg = Optional.ofNullable(response.getAggregations()).map(aggs -> (Filters) aggs.get(agg.getName()));
         for (Filters.Bucket respBucket : respAgg.map(a -> a.getBuckets()).orElse(Collections.emptyList())) {
@@ -297,8 +319,6 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
                 entities.stream().filter(entity -> Math.signum(entity.getContributionValue()) == newChangeSign).sorted(queue.comparator().reversed()).collect(Collectors.toList());
         bucket.setEntities(entities);
         bucket.getCompleted().set(true);
-
-        outputIfResultsAreComplete(output, listener);
     }
 
     private SearchRequest newSearchRequestForEntityKeys(AnomalyLocalizationInput input, AggregationBuilder agg,
@@ -328,12 +348,15 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         return input.getAttributeFieldNames().stream().map(name -> key.get(name).toString()).collect(Collectors.toList());
     }
 
+    private RangeQueryBuilder newTimeRange(AnomalyLocalizationInput input, long start, long end) {
+        return new RangeQueryBuilder(input.getTimeFieldName())
+                .from(start, true)
+                .to(end, true);
+    }
+
     private SearchRequest newSearchRequestForEntry(AnomalyLocalizationInput input, AggregationBuilder agg,
-                                                   AnomalyLocalizationOutput.Bucket bucket, Optional<Map<String,
+                                                   RangeQueryBuilder timeRangeFilter, Optional<Map<String,
             Object>> afterKey) {
-        RangeQueryBuilder timeRangeFilter = new RangeQueryBuilder(input.getTimeFieldName())
-                .from(bucket.getStartTime(), true)
-                .to(bucket.getEndTime(), true);
         BoolQueryBuilder filter = QueryBuilders.boolQuery().filter(timeRangeFilter);
         input.getFilterQuery().ifPresent(q -> filter.filter(q));
         CompositeAggregationBuilder compositeAgg = new CompositeAggregationBuilder(agg.getName(),
@@ -425,6 +448,19 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         };
     }
 
+    /**
+     * Returns a listener which responds after being responded for count times, or fails at the first failure.
+     */
+    private ActionListener<Void> countDown(int count, ActionListener<Void> listener) {
+        ActionListener<Void> onceListener = notifyOnce(listener);
+        AtomicInteger pending = new AtomicInteger(count);
+        return wrap(r -> {
+            if (pending.decrementAndGet() == 0) {
+                onceListener.onResponse(null);
+            }
+        }, onceListener::onFailure);
+    }
+
     private double getDoubleValue(SingleValue singleValue) {
         double value = singleValue.value();
         return Double.isFinite(value) ? value : 0.0;
@@ -444,6 +480,50 @@ public class AnomalyLocalizerImpl implements AnomalyLocalizer, Executable {
         }
     }
 
+    /**
+     * Limits the number of concurrent scans. Scans over the limit are queued and started when running scans release.
+     */
+    protected static class ScanThrottle {
+        private final Deque<Runnable> pendingScans = new ArrayDeque<>();
+        private int available;
+
+        protected ScanThrottle(int maxConcurrentScans) {
+            this.available = maxConcurrentScans;
+        }
+
+        protected void submit(Runnable scan) {
+            synchronized (this) {
+                if (available == 0) {
+                    pendingScans.add(scan);
+                    return;
+                }
+                available--;
+            }
+            scan.run();
+        }
+
+        protected void release() {
+            Runnable next;
+            synchronized (this) {
+                next = pendingScans.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            next.run();
+        }
+    }
+
+    @Override
+    public void execute(Input input, ActionListener<Output> listener) {
+        try {
+            getLocalizationResults((AnomalyLocalizationInput) input, wrap(listener::onResponse, listener::onFailure));
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
     @Override
     public Output execute(Input input) {
         CountDownLatch latch = new CountDownLatch(1);
@@ -6,16 +6,15 @@
 package org.opensearch.ml.engine.algorithms.anomalylocalization;
 
 import java.util.List;
-import java.util.Random;
-import java.util.stream.IntStream;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.ml.common.output.execute.anomalylocalization.Counter;
 
 /**
- * CountMin sketch implementation.
+ * CountMin sketch implementation with conservative update.
  *
  * @see <a href="https://www.cs.tufts.edu/comp/150FP/archive/graham-cormode/count-min.pdf">Cormode, G., & Muthukrishnan, S. (2005). An improved data stream summary: the count-min sketch and its applications.</a>
+ * @see <a href="https://dl.acm.org/doi/10.1145/964725.633056">Estan, C., & Varghese, G. (2002). New directions in traffic measurement and accounting.</a>
  */
 @Log4j2
 public class CountMinSketch implements Counter {
@@ -24,37 +23,97 @@ public class CountMinSketch implements Counter {
     protected static final double LOG_BASE_2 = 2;
     protected static final double INV_EPSILON = 1 / 0.001;
 
-    private int numHashes;
-    private int numBuckets;
-    private double[][] counts;
-    private int[] hashes;
+    private final int numHashes;
+    private final int numBuckets;
+    private final int bucketShift;
+    // numHashes rows of numBuckets counts
+    private final double[] counts;
+    private double totalValue;
 
     /**
      * Constructor.
      */
     public CountMinSketch() {
         this.numHashes = (int) Math.ceil(Math.log(INV_DELTOID) / Math.log(LOG_BASE_2));
-        this.numBuckets = (int) Math.ceil(INV_EPSILON);
-        this.counts = new double[this.numHashes][this.numBuckets];
-        this.hashes = new Random().ints(this.numHashes).toArray();
+        // power of 2, so the bucket index is the high bits of the row hash
+        this.numBuckets = Integer.highestOneBit((int) Math.ceil(INV_EPSILON) - 1) << 1;
+        this.bucketShift = Long.SIZE - Integer.numberOfTrailingZeros(this.numBuckets);
+        this.counts = new double[this.numHashes * this.numBuckets];
         log.info("count min sketch size " + this.numHashes + " * " + this.numBuckets + " = " + this.numHashes * this.numBuckets);
     }
 
     @Override
     public void increment(List<String> key, double value) {
-        int keyHash = key.hashCode();
+        increment(SketchHash.hash(key), value);
+    }
+
+    /**
+     * Increments the value for the key hash. Non-negative values are added conservatively, counts are only raised to
+     * the new estimate of the key, which reduces overestimation for colliding keys.
+     *
+     * @param keyHash The key hash from {@link SketchHash#hash(List)}.
+     * @param value   The value to increment.
+     */
+    public void increment(long keyHash, double value) {
+        this.totalValue += value;
+        if (value < 0) {
+            for (int i = 0; i < this.numHashes; i++) {
+                counts[getIndex(keyHash, i)] += value;
+            }
+            return;
+        }
+        double newEstimate = estimate(keyHash) + value;
         for (int i = 0; i < this.numHashes; i++) {
-            counts[i][getBucketIndex(keyHash, i)] += value;
+            int index = getIndex(keyHash, i);
+            if (counts[index] < newEstimate) {
+                counts[index] = newEstimate;
+            }
         }
     }
 
     @Override
     public double estimate(List<String> key) {
-        int keyHash = key.hashCode();
-        return IntStream.range(0, this.numHashes).mapToDouble(i -> counts[i][getBucketIndex(keyHash, i)]).min().orElse(0.0);
+        return estimate(SketchHash.hash(key));
+    }
+
+    /**
+     * Gets the value for the key hash.
+     *
+     * @param keyHash The key hash from {@link SketchHash#hash(List)}.
+     * @return the approximate value for the key, never less than the exact value for non-negative values
+     */
+    public double estimate(long keyHash) {
+        double min = Double.POSITIVE_INFINITY;
+        for (int i = 0; i < this.numHashes; i++) {
+            min = Math.min(min, counts[getIndex(keyHash, i)]);
+        }
+        return min;
+    }
+
+    /**
+     * Adds the counts of another sketch, e.g. of a partial aggregation.
+     *
+     * @param other The sketch to merge.
+     */
+    public void merge(CountMinSketch other) {
+        if (other.numHashes != this.numHashes || other.numBuckets != this.numBuckets) {
+            throw new IllegalArgumentException("Can't merge count min sketches of different sizes");
+        }
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+        this.totalValue += other.totalValue;
+    }
+
+    /**
+     * Estimates exceed the exact values by at most e / numBuckets * total value with probability 1 - e^-numHashes.
+     */
+    @Override
+    public double getErrorBound() {
+        return Math.E / this.numBuckets * Math.abs(this.totalValue);
     }
 
-    private int getBucketIndex(int keyHash, int hashIndex) {
-        return Math.floorMod(this.hashes[hashIndex] ^ keyHash, this.numBuckets);
+    private int getIndex(long keyHash, int hashIndex) {
+        return hashIndex * this.numBuckets + (int) (SketchHash.rowHash(keyHash, hashIndex) >>> this.bucketShift);
     }
 }
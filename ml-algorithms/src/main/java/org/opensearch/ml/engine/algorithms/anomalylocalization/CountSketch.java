@@ -5,9 +5,8 @@
 
 package org.opensearch.ml.engine.algorithms.anomalylocalization;
 
+import java.util.Arrays;
 import java.util.List;
-import java.util.Random;
-import java.util.stream.IntStream;
 
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.ml.common.output.execute.anomalylocalization.Counter;
@@ -24,47 +23,107 @@ public class CountSketch implements Counter {
     protected static final double LOG_BASE_2 = 2;
     protected static final double INV_EPSILON = 1 / 0.001;
 
-    private int numHashes;
-    private int numBuckets;
-    private double[][] counts;
-    private int[] hashes;
-    private int[] signHashes;
+    private final int numHashes;
+    private final int numBuckets;
+    private final int bucketShift;
+    // numHashes rows of numBuckets counts
+    private final double[] counts;
 
     /**
      * Constructor.
      */
     public CountSketch() {
         this.numHashes = (int) Math.ceil(Math.log(INV_DELTOID) / Math.log(LOG_BASE_2));
-        this.numBuckets = (int) Math.ceil(INV_EPSILON);
-        this.counts = new double[this.numHashes][this.numBuckets];
-        Random random = new Random();
-        this.hashes = random.ints(this.numHashes).toArray();
-        this.signHashes = random.ints(this.numHashes).toArray();
+        // power of 2, so the bucket index is the high bits of the row hash
+        this.numBuckets = Integer.highestOneBit((int) Math.ceil(INV_EPSILON) - 1) << 1;
+        this.bucketShift = Long.SIZE - Integer.numberOfTrailingZeros(this.numBuckets);
+        this.counts = new double[this.numHashes * this.numBuckets];
         log.info("count sketch size " + this.numHashes + " * " + this.numBuckets + " = " + this.numHashes * this.numBuckets);
     }
 
     @Override
     public void increment(List<String> key, double value) {
-        int keyHash = key.hashCode();
+        increment(SketchHash.hash(key), value);
+    }
+
+    /**
+     * Increments the value for the key hash.
+     *
+     * @param keyHash The key hash from {@link SketchHash#hash(List)}.
+     * @param value   The value to increment.
+     */
+    public void increment(long keyHash, double value) {
         for (int i = 0; i < this.numHashes; i++) {
-            counts[i][getBucketIndex(keyHash, i)] += getCountSign(keyHash, i) * value;
+            long rowHash = SketchHash.rowHash(keyHash, i);
+            counts[getIndex(rowHash, i)] += getCountSign(rowHash) * value;
         }
     }
 
     @Override
     public double estimate(List<String> key) {
-        int keyHash = key.hashCode();
-        double[] estimates =
-                IntStream.range(0, this.numHashes).mapToDouble(i -> counts[i][getBucketIndex(keyHash, i)] * getCountSign(keyHash, i)).sorted().toArray();
-        int numEstimates = estimates.length;
-        return (estimates[(numEstimates - 1) / 2] + estimates[numEstimates / 2]) / 2;
+        return estimate(SketchHash.hash(key));
+    }
+
+    /**
+     * Gets the value for the key hash.
+     *
+     * @param keyHash The key hash from {@link SketchHash#hash(List)}.
+     * @return the approximate value for the key
+     */
+    public double estimate(long keyHash) {
+        double[] estimates = new double[this.numHashes];
+        for (int i = 0; i < this.numHashes; i++) {
+            long rowHash = SketchHash.rowHash(keyHash, i);
+            estimates[i] = counts[getIndex(rowHash, i)] * getCountSign(rowHash);
+        }
+        return median(estimates);
+    }
+
+    /**
+     * Adds the counts of another sketch, e.g. of a partial aggregation.
+     *
+     * @param other The sketch to merge.
+     */
+    public void merge(CountSketch other) {
+        if (other.numHashes != this.numHashes || other.numBuckets != this.numBuckets) {
+            throw new IllegalArgumentException("Can't merge count sketches of different sizes");
+        }
+        for (int i = 0; i < this.counts.length; i++) {
+            this.counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * Estimates differ from the exact values by at most sqrt(3 * F2 / numBuckets) with high probability, where the
+     * second moment F2 of the values is itself estimated from the rows.
+     *
+     * @see <a href="https://dl.acm.org/doi/10.1145/237814.237823">Alon, N., Matias, Y., & Szegedy, M. (1996). The space complexity of approximating the frequency moments.</a>
+     */
+    @Override
+    public double getErrorBound() {
+        double[] secondMoments = new double[this.numHashes];
+        for (int i = 0; i < this.numHashes; i++) {
+            double sum = 0;
+            for (int j = i * this.numBuckets; j < (i + 1) * this.numBuckets; j++) {
+                sum += counts[j] * counts[j];
+            }
+            secondMoments[i] = sum;
+        }
+        return Math.sqrt(3 * median(secondMoments) / this.numBuckets);
+    }
+
+    private int getIndex(long rowHash, int hashIndex) {
+        return hashIndex * this.numBuckets + (int) (rowHash >>> this.bucketShift);
     }
 
-    private int getBucketIndex(int keyHash, int hashIndex) {
-        return Math.floorMod(this.hashes[hashIndex] ^ keyHash, this.numBuckets);
+    // the low bit is independent of the high bits used for the bucket index
+    private int getCountSign(long rowHash) {
+        return (int) (rowHash & 1) * 2 - 1;
     }
 
-    private int getCountSign(int keyHash, int hashIndex) {
-        return Math.floorMod(this.signHashes[hashIndex] ^ keyHash, 2) * 2 - 1;
+    private static double median(double[] values) {
+        Arrays.sort(values);
+        int numValues = values.length;
+        return (values[(numValues - 1) / 2] + values[numValues / 2]) / 2;
     }
 }
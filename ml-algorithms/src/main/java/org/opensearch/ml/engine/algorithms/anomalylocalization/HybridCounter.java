@@ -33,6 +33,11 @@ public class HybridCounter implements Counter {
         return this.counter.estimate(key);
     }
 
+    @Override
+    public double getErrorBound() {
+        return this.counter.getErrorBound();
+    }
+
     private void updateCount() {
         this.count++;
         if (this.count == SKETCH_THRESHOLD) {
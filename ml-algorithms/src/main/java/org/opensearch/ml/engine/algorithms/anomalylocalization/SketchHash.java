@@ -0,0 +1,80 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.anomalylocalization;
+
+import java.util.List;
+
+/**
+ * 64 bit hashing of composite keys for sketches.
+ *
+ * Keys are hashed with the block mixing and finalization of MurmurHash3 x64 over the length prefixed UTF-16 code
+ * units of their strings, 4 code units per block, so keys don't need to be encoded into a byte array first.
+ * Rows of a sketch use fixed seeds, so sketches of the same size can be merged.
+ */
+final class SketchHash {
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final long ROW_SEED = 0x9e3779b97f4a7c15L;
+
+    private SketchHash() {}
+
+    /**
+     * Hashes a composite key.
+     *
+     * @param key The composite key.
+     * @return 64 bit hash of the key
+     */
+    static long hash(List<String> key) {
+        long h = key.size();
+        for (String part : key) {
+            int length = part.length();
+            // length prefix, so that ["ab", "c"] and ["a", "bc"] differ
+            h = mix(h, length);
+            int i = 0;
+            for (; i + 4 <= length; i += 4) {
+                h = mix(h, part.charAt(i) | (long) part.charAt(i + 1) << 16 | (long) part.charAt(i + 2) << 32
+                        | (long) part.charAt(i + 3) << 48);
+            }
+            if (i < length) {
+                long block = 0;
+                for (int shift = 0; i < length; i++, shift += 16) {
+                    block |= (long) part.charAt(i) << shift;
+                }
+                h = mix(h, block);
+            }
+        }
+        return fmix64(h);
+    }
+
+    /**
+     * Hashes a key hash for a row of a sketch. Hashes of different rows are independent.
+     *
+     * @param keyHash The key hash.
+     * @param row     The row of the sketch.
+     * @return 64 bit hash of the key for the row
+     */
+    static long rowHash(long keyHash, int row) {
+        return fmix64(keyHash + (row + 1) * ROW_SEED);
+    }
+
+    private static long mix(long h, long k) {
+        k *= C1;
+        k = Long.rotateLeft(k, 31);
+        k *= C2;
+        h ^= k;
+        return Long.rotateLeft(h, 27) * 5 + 0x52dce729;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -9,18 +9,22 @@ import ai.djl.modality.Output;
 import ai.djl.translate.TranslateException;
 import com.google.common.annotations.VisibleForTesting;
 import lombok.extern.log4j.Log4j2;
-import org.opensearch.common.action.ActionFuture;
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.ResourceAlreadyExistsException;
 import org.opensearch.core.action.ActionListener;
-import org.opensearch.action.ActionRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexRequest;
 import org.opensearch.action.admin.indices.create.CreateIndexResponse;
 import org.opensearch.action.get.GetRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexRequest;
 import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.support.ContextPreservingActionListener;
+import org.opensearch.action.support.PlainActionFuture;
+import org.opensearch.action.support.ThreadedActionListener;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.ToXContent;
@@ -31,7 +35,6 @@ import org.opensearch.ml.common.CommonValue;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.MLModelGroup;
-import org.opensearch.ml.common.MLTask;
 import org.opensearch.ml.common.AccessMode;
 import org.opensearch.ml.common.exception.ExecuteException;
 import org.opensearch.ml.common.exception.MLException;
@@ -49,25 +52,21 @@ import org.opensearch.ml.common.transport.deploy.MLDeployModelRequest;
 import org.opensearch.ml.common.transport.deploy.MLDeployModelResponse;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
-import org.opensearch.ml.common.transport.model.MLModelGetResponse;
 import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
-import org.opensearch.ml.common.transport.task.MLTaskGetAction;
-import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
-import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.ml.engine.algorithms.DLModelExecute;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.IOException;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
-import java.util.function.BooleanSupplier;
 
 import static org.opensearch.index.query.QueryBuilders.termQuery;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_GROUP_INDEX;
@@ -79,11 +78,20 @@ import static org.opensearch.ml.common.MLModel.MODEL_STATE_FIELD;
 @Function(FunctionName.METRICS_CORRELATION)
 public class MetricsCorrelation extends DLModelExecute {
 
-    private static final int AWAIT_BUSY_THRESHOLD = 1000;
+    // Requests fail if the model isn't deployed in time, the model keeps deploying so they can be retried.
+    private static final TimeValue MODEL_READY_TIMEOUT = TimeValue.timeValueSeconds(10);
+    private static final TimeValue MODEL_STATE_CHECK_INTERVAL = TimeValue.timeValueSeconds(1);
     public static final String MODEL_CONTENT_HASH = "4d7e4ede2293d3611def0f9fc4065852cb7f6841bc7df7d6bfc16562ae4f6743";
     private Client client;
     private final Settings settings;
     private final ClusterService clusterService;
+    // Thread pool to run queued requests and model state checks on
+    private final String executor;
+    // Requests waiting for the model to be deployed
+    private final List<ActionListener<String>> pendingRequests = new ArrayList<>();
+    private Scheduler.Cancellable pendingTimeout;
+    // Whether a model state check loop is running, guarded by pendingRequests
+    private boolean modelStateCheckRunning;
     //As metrics correlation is an experimental feature we are marking the version as 1.0.0b1
     public static final String MCORR_ML_VERSION = "1.0.0b1";
     //This is python based model which is developed in house.
@@ -94,10 +102,11 @@ public class MetricsCorrelation extends DLModelExecute {
     public static final String MCORR_MODEL_URL =
             "https://artifacts.opensearch.org/models/ml-models/amazon/metrics_correlation/1.0.0b1/torch_script/metrics_correlation-1.0.0b1-torch_script.zip";
 
-    public MetricsCorrelation(Client client, Settings settings, ClusterService clusterService) {
+    public MetricsCorrelation(Client client, Settings settings, ClusterService clusterService, String executor) {
         this.client = client;
         this.settings = settings;
         this.clusterService = clusterService;
+        this.executor = executor;
     }
 
     /**
@@ -111,94 +120,264 @@ public class MetricsCorrelation extends DLModelExecute {
         if (!(input instanceof MetricsCorrelationInput)) {
             throw new ExecuteException("wrong input");
         }
-        List<MCorrModelTensors> tensorOutputs = new ArrayList<>();
+        PlainActionFuture<org.opensearch.ml.common.output.Output> future = PlainActionFuture.newFuture();
+        execute(input, future);
+        return (MetricsCorrelationOutput) future.actionGet();
+    }
+
+    /**
+     * Run metrics correlation without blocking while the model is registered or deployed. Requests arriving
+     * while the model warms up are queued and run when the model manager notifies that the model is deployed.
+     * @param input input data for metrics correlation
+     * @param listener action listener
+     */
+    @Override
+    public void execute(Input input, ActionListener<org.opensearch.ml.common.output.Output> listener) {
+        if (!(input instanceof MetricsCorrelationInput)) {
+            listener.onFailure(new ExecuteException("wrong input"));
+            return;
+        }
         MetricsCorrelationInput metricsCorrelation = (MetricsCorrelationInput) input;
         List<float[]> inputData = metricsCorrelation.getInputData();
 
         // converting List of float array to 2 dimension float array for DJL input
         float[][] processedInputData = processedInput(inputData);
 
-        if (modelId == null) {
-            boolean hasModelGroupIndex = clusterService.state().getMetadata().hasIndex(ML_MODEL_GROUP_INDEX);
-            if (!hasModelGroupIndex) { // Create model group index if doesn't exist
-                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                    CreateIndexRequest request = new CreateIndexRequest(ML_MODEL_GROUP_INDEX).mapping(ML_MODEL_GROUP_INDEX_MAPPING);
-                    CreateIndexResponse createIndexResponse = client.admin().indices().create(request).actionGet(1000);
-                    if (!createIndexResponse.isAcknowledged()) {
-                        throw new MLException("Failed to create model group index");
+        if (predictors != null) {
+            // model is deployed on this node, no need to check the model state
+            predict(processedInputData, listener);
+            return;
+        }
+        waitForModel(ActionListener.wrap(r -> predict(processedInputData, listener), listener::onFailure));
+    }
+
+    private void predict(float[][] processedInputData, ActionListener<org.opensearch.ml.common.output.Output> listener) {
+        List<MCorrModelTensors> tensorOutputs = new ArrayList<>();
+        try {
+            if (predictors == null) {
+                throw new ExecuteException("Model is not loaded yet. Please try again.");
+            }
+            Output djlOutput = getPredictor().predict(processedInputData);
+            tensorOutputs.add(parseModelTensorOutput(djlOutput, null));
+        } catch (TranslateException translateException) {
+            listener.onFailure(new ExecuteException(translateException));
+            return;
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(new MetricsCorrelationOutput(tensorOutputs));
+    }
+
+    /**
+     * Queue a request until the model is deployed. Only the first queued request registers or deploys the model.
+     * @param listener called with the model id once the model is deployed
+     */
+    @VisibleForTesting
+    void waitForModel(ActionListener<String> listener) {
+        ThreadPool threadPool = client.threadPool();
+        // Model state notifications arrive on transport threads, so run the prediction on the ML executor
+        // with the thread context of the request.
+        ActionListener<String> queuedListener = new ThreadedActionListener<>(
+                log,
+                threadPool,
+                executor,
+                ContextPreservingActionListener.wrapPreservingContext(listener, threadPool.getThreadContext()),
+                false
+        );
+        synchronized (pendingRequests) {
+            pendingRequests.add(queuedListener);
+            if (pendingRequests.size() > 1) {
+                return;
+            }
+            pendingTimeout = threadPool.schedule(
+                    () -> completePendingRequests(null, new ExecuteException("Model is not loaded yet. Please try again.")),
+                    MODEL_READY_TIMEOUT,
+                    executor
+            );
+        }
+        prepareModel(ActionListener.wrap(deployed -> {
+            if (deployed) {
+                completePendingRequests(modelId, null);
+            } else {
+                startModelStateCheck();
+            }
+        }, e -> completePendingRequests(null, e)));
+    }
+
+    /**
+     * Called by the model manager after it updated the state of a model. The model manager only notifies on the
+     * node which coordinated the deployment, which is this node if the deployment was started by
+     * {@link #deployModel(String, ActionListener)}.
+     * @param modelId model id
+     * @param modelState new model state
+     */
+    public void onModelStateChanged(String modelId, MLModelState modelState) {
+        String expectedModelId = this.modelId == null ? FunctionName.METRICS_CORRELATION.name() : this.modelId;
+        if (!expectedModelId.equals(modelId)) {
+            return;
+        }
+        if (modelState == MLModelState.DEPLOYED || modelState == MLModelState.PARTIALLY_DEPLOYED) {
+            this.modelId = modelId;
+            completePendingRequests(modelId, null);
+        } else if (modelState == MLModelState.DEPLOY_FAILED) {
+            completePendingRequests(null, new MLException("Failed to deploy metrics correlation model"));
+        }
+    }
+
+    // Backup for deployments coordinated by another node, e.g. if the model was registered on another node.
+    // Only one check loop runs at a time, it keeps running while requests are waiting.
+    @VisibleForTesting
+    void startModelStateCheck() {
+        synchronized (pendingRequests) {
+            if (modelStateCheckRunning || pendingRequests.isEmpty()) {
+                return;
+            }
+            modelStateCheckRunning = true;
+        }
+        scheduleModelStateCheck(MODEL_STATE_CHECK_INTERVAL);
+    }
+
+    private void scheduleModelStateCheck(TimeValue delay) {
+        client.threadPool().schedule(() -> {
+            String currentModelId = modelId;
+            synchronized (pendingRequests) {
+                if (pendingRequests.isEmpty() || currentModelId == null) {
+                    modelStateCheckRunning = false;
+                    return;
+                }
+            }
+            getModel(currentModelId, ActionListener.wrap(model -> {
+                MLModelState modelState = model.getModelState();
+                if (modelState == MLModelState.DEPLOYED || modelState == MLModelState.PARTIALLY_DEPLOYED
+                        || modelState == MLModelState.DEPLOY_FAILED) {
+                    synchronized (pendingRequests) {
+                        modelStateCheckRunning = false;
                     }
+                    onModelStateChanged(model.getModelId() == null ? currentModelId : model.getModelId(), modelState);
+                } else {
+                    scheduleModelStateCheck(TimeValue.timeValueMillis(delay.millis() * 2));
                 }
+            }, e -> {
+                log.debug("Failed to check state of metrics correlation model", e);
+                scheduleModelStateCheck(TimeValue.timeValueMillis(delay.millis() * 2));
+            }));
+        }, delay, executor);
+    }
+
+    private void completePendingRequests(String deployedModelId, Exception exception) {
+        List<ActionListener<String>> requests;
+        synchronized (pendingRequests) {
+            if (pendingTimeout != null) {
+                pendingTimeout.cancel();
+                pendingTimeout = null;
             }
+            requests = new ArrayList<>(pendingRequests);
+            pendingRequests.clear();
+        }
+        for (ActionListener<String> request : requests) {
+            if (exception == null) {
+                request.onResponse(deployedModelId);
+            } else {
+                request.onFailure(exception);
+            }
+        }
+    }
 
+    /**
+     * Find, register or deploy the metrics correlation model.
+     * @param listener called with true if the model is deployed already, false if it's registering or deploying
+     */
+    @VisibleForTesting
+    void prepareModel(ActionListener<Boolean> listener) {
+        if (modelId != null) {
+            String currentModelId = modelId;
+            getModel(currentModelId, ActionListener.wrap(model ->
+                    deployIfNotDeployed(currentModelId, model.getModelState(), listener), listener::onFailure));
+            return;
+        }
+
+        createModelGroupIndexIfAbsent(ActionListener.wrap(created -> {
             boolean hasModelIndex = clusterService.state().getMetadata().hasIndex(ML_MODEL_INDEX);
             if (!hasModelIndex) { // If model index doesn't exist, register model
                 log.warn("Model Index Not found. Register metric correlation model");
-                try {
-                    registerModel(ActionListener.wrap(registerModelResponse ->
-                                    modelId = getTask(registerModelResponse.getTaskId()).getModelId(),
-                            ex -> log.error("Exception during registering the Metrics correlation model", ex)));
-                } catch (InterruptedException ex) {
-                    throw new RuntimeException(ex);
-                }
-            } else {
-                try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-                    GetRequest getModelRequest = new GetRequest(ML_MODEL_INDEX).id(FunctionName.METRICS_CORRELATION.name());
-                    ActionListener<GetResponse> listener = ActionListener.wrap(r -> {
-                        if (r.isExists()) {
-                            modelId = r.getId();
-                            Map<String, Object> sourceAsMap = r.getSourceAsMap();
-                            String state = (String)sourceAsMap.get(MODEL_STATE_FIELD);
-                            if (!MLModelState.DEPLOYED.name().equals(state) &&
-                                    !MLModelState.PARTIALLY_DEPLOYED.name().equals(state)) {
-                                // if we find a model in the index but the model is not deployed then we will deploy the model
-                                deployModel(r.getId(), ActionListener.wrap(deployModelResponse -> modelId = getTask(deployModelResponse.getTaskId()).getModelId(), e -> log.error("Metrics correlation model didn't get deployed to the index successfully", e)));
-                            }
-                        } else { // If model index doesn't exist, register model
-                            log.info("metric correlation model not registered yet");
-                            // if we don't find any model in the index then we will register a model in the index
-                            registerModel(ActionListener.wrap(registerModelResponse ->
-                                            modelId = getTask(registerModelResponse.getTaskId()).getModelId(),
-                                    e -> log.error("Metrics correlation model didn't get registered to the index successfully", e)));
-                        }
-                    }, e-> {
-                        log.error("Failed to get model", e);
-                    });
-                    client.get(getModelRequest, ActionListener.runBefore(listener, () -> context.restore()));
-                }
+                registerModel(registerModelListener(listener));
+                return;
             }
-        } else {
-            MLModel model = getModel(modelId);
-            if (model.getModelState() != MLModelState.DEPLOYED &&
-                    model.getModelState() != MLModelState.PARTIALLY_DEPLOYED) {
-                deployModel(modelId, ActionListener.wrap(deployModelResponse -> modelId = getTask(deployModelResponse.getTaskId()).getModelId(), e -> log.error("Metrics correlation model didn't get deployed to the index successfully", e)));
+            try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+                GetRequest getModelRequest = new GetRequest(ML_MODEL_INDEX).id(FunctionName.METRICS_CORRELATION.name());
+                ActionListener<GetResponse> getListener = ActionListener.wrap(r -> {
+                    if (r.isExists()) {
+                        modelId = r.getId();
+                        Map<String, Object> sourceAsMap = r.getSourceAsMap();
+                        String state = (String)sourceAsMap.get(MODEL_STATE_FIELD);
+                        deployIfNotDeployed(r.getId(), state == null ? null : MLModelState.from(state), listener);
+                    } else {
+                        log.info("metric correlation model not registered yet");
+                        // if we don't find any model in the index then we will register a model in the index
+                        registerModel(registerModelListener(listener));
+                    }
+                }, e -> {
+                    log.error("Failed to get model", e);
+                    listener.onFailure(e);
+                });
+                client.get(getModelRequest, ActionListener.runBefore(getListener, () -> context.restore()));
             }
+        }, listener::onFailure));
+    }
+
+    private void createModelGroupIndexIfAbsent(ActionListener<Boolean> listener) {
+        if (clusterService.state().getMetadata().hasIndex(ML_MODEL_GROUP_INDEX)) {
+            listener.onResponse(false);
+            return;
+        }
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            CreateIndexRequest request = new CreateIndexRequest(ML_MODEL_GROUP_INDEX).mapping(ML_MODEL_GROUP_INDEX_MAPPING);
+            ActionListener<CreateIndexResponse> createListener = ActionListener.wrap(r -> {
+                if (!r.isAcknowledged()) {
+                    listener.onFailure(new MLException("Failed to create model group index"));
+                    return;
+                }
+                listener.onResponse(true);
+            }, e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof ResourceAlreadyExistsException) {
+                    listener.onResponse(false);
+                } else {
+                    listener.onFailure(e);
+                }
+            });
+            client.admin().indices().create(request, ActionListener.runBefore(createListener, () -> context.restore()));
         }
+    }
 
-        //We will be waiting here until actionListeners set the model id to the modelId.
-        waitUntil(() -> {
-            if (modelId != null) {
-                MLModelState modelState = getModel(modelId).getModelState();
-                return modelState == MLModelState.DEPLOYED || modelState == MLModelState.PARTIALLY_DEPLOYED;
-            }
-            return false;
-        }, 10, TimeUnit.SECONDS);
+    private ActionListener<MLRegisterModelResponse> registerModelListener(ActionListener<Boolean> listener) {
+        // The metrics correlation model is indexed with the function name as id and deployed after registering.
+        return ActionListener.wrap(r -> {
+            modelId = FunctionName.METRICS_CORRELATION.name();
+            listener.onResponse(false);
+        }, e -> {
+            log.error("Metrics correlation model didn't get registered to the index successfully", e);
+            listener.onFailure(e);
+        });
+    }
 
-        Output djlOutput;
-        try {
-            if (modelId == null) {
-                throw new ExecuteException("Model is not loaded yet. Please try again.");
-            }
-            djlOutput = getPredictor().predict(processedInputData);
-        } catch (TranslateException translateException) {
-            throw new ExecuteException(translateException);
+    private void deployIfNotDeployed(String modelId, MLModelState modelState, ActionListener<Boolean> listener) {
+        if (modelState == MLModelState.DEPLOYED || modelState == MLModelState.PARTIALLY_DEPLOYED) {
+            listener.onResponse(true);
+        } else if (modelState == MLModelState.REGISTERING || modelState == MLModelState.DEPLOYING) {
+            // wait for the running registration or deployment
+            listener.onResponse(false);
+        } else {
+            // if we find a model in the index but the model is not deployed then we will deploy the model
+            deployModel(modelId, ActionListener.wrap(r -> listener.onResponse(false), e -> {
+                log.error("Metrics correlation model didn't get deployed to the index successfully", e);
+                listener.onFailure(e);
+            }));
         }
-
-        tensorOutputs.add(parseModelTensorOutput(djlOutput, null));
-        return new MetricsCorrelationOutput(tensorOutputs);
     }
 
     @VisibleForTesting
-    void registerModel(ActionListener<MLRegisterModelResponse> listener) throws InterruptedException {
+    void registerModel(ActionListener<MLRegisterModelResponse> listener) {
 
         FunctionName functionName = FunctionName.METRICS_CORRELATION;
         MLModelFormat modelFormat = MLModelFormat.TORCH_SCRIPT;
@@ -257,13 +436,8 @@ public class MetricsCorrelation extends DLModelExecute {
 
     @VisibleForTesting
     float[][] processedInput(List<float[]> input) {
-        float[][] processInput = new float[input.size()][];
-        for (int i = 0; i < input.size(); i++) {
-            float[] innerList = input.get(i);
-            float[] temp = processInput[i] = new float[innerList.length];
-            System.arraycopy(innerList, 0, temp, 0, temp.length);
-        }
-        return processInput;
+        // the translator copies the rows into the model input, so they don't need to be copied here
+        return input.toArray(new float[0][]);
     }
 
     @Override
@@ -286,42 +460,9 @@ public class MetricsCorrelation extends DLModelExecute {
                 .indices(CommonValue.ML_MODEL_INDEX);
     }
 
-    public static boolean waitUntil(BooleanSupplier breakSupplier, long maxWaitTime, TimeUnit unit) throws ExecuteException {
-        long maxTimeInMillis = TimeUnit.MILLISECONDS.convert(maxWaitTime, unit);
-        long timeInMillis = 1;
-        long sum = 0;
-        while (sum + timeInMillis < maxTimeInMillis) {
-            if (breakSupplier.getAsBoolean()) {
-                return true;
-            }
-            try {
-                Thread.sleep(timeInMillis);
-            } catch (InterruptedException interruptedException) {
-                throw new ExecuteException(interruptedException);
-            }
-            sum += timeInMillis;
-            timeInMillis = Math.min(AWAIT_BUSY_THRESHOLD, timeInMillis * 2);
-        }
-        timeInMillis = maxTimeInMillis - sum;
-        try {
-            Thread.sleep(Math.max(timeInMillis, 0));
-        } catch (InterruptedException interruptedException) {
-            throw new ExecuteException(interruptedException);
-        }
-        return breakSupplier.getAsBoolean();
-    }
-
-    public MLTask getTask(String taskId) {
-        MLTaskGetRequest getRequest = new MLTaskGetRequest(taskId);
-        MLTaskGetResponse response = client.execute(MLTaskGetAction.INSTANCE, getRequest).actionGet(10000);
-        return response.getMlTask();
-    }
-
-    public MLModel getModel(String modelId) {
+    public void getModel(String modelId, ActionListener<MLModel> listener) {
         MLModelGetRequest getRequest = new MLModelGetRequest(modelId, false);
-        ActionFuture<MLModelGetResponse> future = client.execute(MLModelGetAction.INSTANCE, getRequest);
-        MLModelGetResponse response = future.actionGet(5000);
-        return response.getMlModel();
+        client.execute(MLModelGetAction.INSTANCE, getRequest, ActionListener.wrap(r -> listener.onResponse(r.getMlModel()), listener::onFailure));
     }
 
     /**
@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.algorithms.metrics_correlation;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.ndarray.types.Shape;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.Translator;
@@ -15,6 +16,8 @@ import ai.djl.translate.TranslatorContext;
 import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor;
 import org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensors;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.FloatBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -25,6 +28,7 @@ import static org.opensearch.ml.common.output.execute.metrics_correlation.MCorrM
 import static org.opensearch.ml.common.output.execute.metrics_correlation.MCorrModelTensor.EVENT_WINDOW;
 
 public class MetricsCorrelationTranslator implements Translator<float[][], Output> {
+    private final ThreadLocal<ByteBuffer> inputBuffer = new ThreadLocal<>();
 
     @Override
     public Batchifier getBatchifier() {
@@ -39,17 +43,38 @@ public class MetricsCorrelationTranslator implements Translator<float[][], Outpu
 
     @Override
     public NDList processInput(TranslatorContext ctx, float[][] input) {
-        FloatBuffer buffer = FloatBuffer.allocate(input.length * input[0].length);
+        int rows = input.length;
+        int columns = input[0].length;
+        ByteBuffer buffer = getInputBuffer(rows * columns);
+        FloatBuffer floatBuffer = buffer.asFloatBuffer();
         for (float[] d : input) {
-            buffer.put(d);
+            floatBuffer.put(d);
         }
-        buffer.rewind();
-        NDArray array = ctx.getNDManager().create(buffer, new Shape(input.length, input[0].length));
+        NDArray array = ctx.getNDManager().create(buffer, new Shape(rows, columns), DataType.FLOAT32);
         NDList inputNDList = new NDList(array);
         inputNDList.attach(ctx.getNDManager());
         return inputNDList;
     }
 
+    /**
+     * Direct buffer in native byte order which is reused by all predictions on the current thread. The engine
+     * would copy a heap buffer into a new direct buffer for every prediction. The input array is closed with the
+     * translator context at the end of the prediction, before the thread can predict again.
+     * @param size number of floats
+     * @return buffer with limit set to size floats
+     */
+    private ByteBuffer getInputBuffer(int size) {
+        int bytes = size * Float.BYTES;
+        ByteBuffer buffer = inputBuffer.get();
+        if (buffer == null || buffer.capacity() < bytes) {
+            buffer = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+            inputBuffer.set(buffer);
+        }
+        buffer.clear();
+        buffer.limit(bytes);
+        return buffer;
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
@@ -8,11 +8,10 @@ package org.opensearch.ml.engine.algorithms.rcf;
 import com.amazon.randomcutforest.RandomCutForest;
 import com.amazon.randomcutforest.state.RandomCutForestMapper;
 import com.amazon.randomcutforest.state.RandomCutForestState;
+import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
-import org.opensearch.ml.common.dataframe.ColumnMeta;
-import org.opensearch.ml.common.dataframe.ColumnValue;
 import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataframe.DataFrameBuilder;
 import org.opensearch.ml.common.dataframe.Row;
@@ -32,6 +31,11 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
 
@@ -53,9 +57,18 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     private Double anomalyScoreThreshold = DEFAULT_ANOMALY_SCORE_THRESHOLD;
     private Integer trainingDataSize;
 
+    // Minimal number of rows scored by one forest instance when scoring in parallel.
+    private static final int MIN_ROWS_PER_CHUNK = 1000;
+
     private static final RandomCutForestMapper rcfMapper = new RandomCutForestMapper();
 
-    private RandomCutForest forest;
+    // Keep the immutable forest state rather than a forest instance. Scoring creates its own forest
+    // instances from the state, so concurrent predict requests never share a mutable forest.
+    private RandomCutForestState forestState;
+
+    // Executor to score chunks on, set by the ML engine. Points are scored on the calling thread if not set.
+    @Setter
+    private Executor predictExecutor;
 
     public BatchRandomCutForest(){}
 
@@ -73,25 +86,22 @@ public class BatchRandomCutForest implements TrainAndPredictable {
 
     @Override
     public void initModel(MLModel model, Map<String, Object> params, Encryptor encryptor) {
-        RandomCutForestState state = RCFModelSerDeSer.deserializeRCF(model);
-        forest = rcfMapper.toModel(state);
+        forestState = RCFModelSerDeSer.deserializeRCF(model);
     }
 
     @Override
     public void close() {
-        forest = null;
+        forestState = null;
     }
 
     @Override
     public boolean isModelReady() {
-        return forest != null;
+        return forestState != null;
     }
 
     @Override
     public MLOutput predict(MLInput mlInput) {
-        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, 0);
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        return predict(mlInput, forestState);
     }
 
     @Override
@@ -99,9 +109,76 @@ public class BatchRandomCutForest implements TrainAndPredictable {
         if (model == null) {
             throw new IllegalArgumentException("No model found for batch RCF prediction.");
         }
-        RandomCutForestState state = RCFModelSerDeSer.deserializeRCF(model);
-        forest = rcfMapper.toModel(state);
-        return predict(mlInput);
+        return predict(mlInput, RCFModelSerDeSer.deserializeRCF(model));
+    }
+
+    private MLOutput predict(MLInput mlInput, RandomCutForestState state) {
+        if (state == null) {
+            throw new IllegalArgumentException("model not deployed");
+        }
+        double threshold = anomalyScoreThreshold;
+        if (mlInput.getParameters() instanceof BatchRCFParams) {
+            threshold = Optional.ofNullable(((BatchRCFParams) mlInput.getParameters()).getAnomalyScoreThreshold()).orElse(threshold);
+        }
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        double[][] points = toPoints(dataFrame);
+        double[] scores = score(state, points);
+        List<Map<String, Object>> predictResult = new ArrayList<>(scores.length);
+        for (double anomalyScore : scores) {
+            predictResult.add(toResult(anomalyScore, threshold));
+        }
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+    }
+
+    /**
+     * Score points with read only forests. Points are split into chunks, each chunk scored with its own
+     * forest instance created from the same state. The calling thread scores chunks too and the chunks
+     * not yet picked up by the executor, so waiting never depends on free executor threads. If the executor
+     * rejects a task, the calling thread scores the chunks left.
+     */
+    private double[] score(RandomCutForestState state, double[][] points) {
+        double[] scores = new double[points.length];
+        int chunks = predictExecutor == null ? 1
+                : Math.max(1, Math.min(Runtime.getRuntime().availableProcessors(), points.length / MIN_ROWS_PER_CHUNK));
+        int chunkSize = (points.length + chunks - 1) / chunks;
+        AtomicInteger nextChunk = new AtomicInteger();
+        CountDownLatch scoredChunks = new CountDownLatch(chunks);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        Runnable scorer = () -> {
+            int chunk;
+            while ((chunk = nextChunk.getAndIncrement()) < chunks) {
+                try {
+                    RandomCutForest forest = rcfMapper.toModel(state);
+                    int end = Math.min(points.length, (chunk + 1) * chunkSize);
+                    for (int i = chunk * chunkSize; i < end; i++) {
+                        scores[i] = forest.getAnomalyScore(points[i]);
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    scoredChunks.countDown();
+                }
+            }
+        };
+        for (int i = 1; i < chunks; i++) {
+            try {
+                predictExecutor.execute(scorer);
+            } catch (RejectedExecutionException e) {
+                log.debug("Executor is busy, score the remaining batch RCF chunks on the calling thread");
+                break;
+            }
+        }
+        scorer.run();
+        try {
+            scoredChunks.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while scoring points with batch RCF", e);
+        }
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+        return scores;
     }
 
     @Override
@@ -132,30 +209,39 @@ public class BatchRandomCutForest implements TrainAndPredictable {
     }
 
     private List<Map<String, Object>> process(DataFrame dataFrame, RandomCutForest forest, Integer actualTrainingDataSize) {
-        List<Double> pointList = new ArrayList<>();
-        ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
-
-        for (int rowNum = 0; rowNum< dataFrame.size(); rowNum++) {
-            for (int i = 0; i < columnMetas.length; i++) {
-                Row row = dataFrame.getRow(rowNum);
-                ColumnValue value = row.getValue(i);
-                pointList.add(value.doubleValue());
-            }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
-            double anomalyScore = forest.getAnomalyScore(point);
+        double[][] points = toPoints(dataFrame);
+        List<Map<String, Object>> predictResult = new ArrayList<>(points.length);
+        for (int rowNum = 0; rowNum < points.length; rowNum++) {
+            double anomalyScore = forest.getAnomalyScore(points[rowNum]);
             if (actualTrainingDataSize == null || rowNum < actualTrainingDataSize) {
-                forest.update(point);
+                forest.update(points[rowNum]);
             }
-            Map<String, Object> result = new HashMap<>();
-            result.put("score", anomalyScore);
-            result.put("anomalous", anomalyScore > anomalyScoreThreshold);
-            predictResult.add(result);
+            predictResult.add(toResult(anomalyScore, anomalyScoreThreshold));
         }
         return predictResult;
     }
 
+    private double[][] toPoints(DataFrame dataFrame) {
+        int dimensions = dataFrame.columnMetas().length;
+        double[][] points = new double[dataFrame.size()][];
+        for (int rowNum = 0; rowNum < points.length; rowNum++) {
+            Row row = dataFrame.getRow(rowNum);
+            double[] point = new double[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                point[i] = row.getValue(i).doubleValue();
+            }
+            points[rowNum] = point;
+        }
+        return points;
+    }
+
+    private Map<String, Object> toResult(double anomalyScore, double threshold) {
+        Map<String, Object> result = new HashMap<>();
+        result.put("score", anomalyScore);
+        result.put("anomalous", anomalyScore > threshold);
+        return result;
+    }
+
     private RandomCutForest createRandomCutForest(DataFrame dataFrame) {
         //TODO: add memory estimation of RCF. Will be better if support memory estimation in RCF
         RandomCutForest forest = RandomCutForest
@@ -32,15 +32,20 @@ import org.opensearch.ml.engine.TrainAndPredictable;
 import org.opensearch.ml.engine.annotation.Function;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 
-import java.text.DateFormat;
-import java.text.ParseException;
-import java.text.SimpleDateFormat;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQueries;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TimeZone;
 
 import static org.opensearch.ml.engine.utils.ModelSerDeSer.encodeBase64;
 
@@ -73,9 +78,10 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
     private String dateFormat;
     private String timeZone;
 
-    private DateFormat simpleDateFormat;
+    private DateTimeFormatter dateTimeFormatter;
     private static final ThresholdedRandomCutForestMapper trcfMapper = new ThresholdedRandomCutForestMapper();
 
+    // Scoring updates the forest, so the deployed forest keeps learning from the points it scores.
     private ThresholdedRandomCutForest forest;
 
     public FixedInTimeRandomCutForest(){}
@@ -93,8 +99,7 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
         this.dateFormat = Optional.ofNullable(rcfParams.getDateFormat()).orElse(DEFAULT_DATE_FORMAT);
         this.timeZone = Optional.ofNullable(rcfParams.getTimeZone()).orElse(DEFAULT_TIME_ZONE);
         if (dateFormat != null) {
-            simpleDateFormat = new SimpleDateFormat(dateFormat);
-            simpleDateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
+            dateTimeFormatter = createDateTimeFormatter(dateFormat, timeZone);
         }
     }
 
@@ -117,9 +122,7 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
 
     @Override
     public MLOutput predict(MLInput mlInput) {
-        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
-        List<Map<String, Object>> predictResult = process(dataFrame, forest, mlInput.getParameters());
-        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
+        return predict(mlInput, forest);
     }
 
     @Override
@@ -128,8 +131,20 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
             throw new IllegalArgumentException("No model found for FIT RCF prediction.");
         }
         ThresholdedRandomCutForestState state = RCFModelSerDeSer.deserializeTRCF(model);
-        forest = trcfMapper.toModel(state);
-        return predict(mlInput);
+        return predict(mlInput, trcfMapper.toModel(state));
+    }
+
+    private MLOutput predict(MLInput mlInput, ThresholdedRandomCutForest forest) {
+        if (forest == null) {
+            throw new IllegalArgumentException("model not deployed");
+        }
+        DataFrame dataFrame = ((DataFrameInputDataset)mlInput.getInputDataset()).getDataFrame();
+        List<Map<String, Object>> predictResult;
+        // Scoring updates the forest, so concurrent requests score their rows one request after the other.
+        synchronized (forest) {
+            predictResult = process(dataFrame, forest, mlInput.getParameters());
+        }
+        return MLPredictionOutput.builder().predictionResult(DataFrameBuilder.load(predictResult)).build();
     }
 
     @Override
@@ -159,48 +174,38 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
 
     private List<Map<String, Object>> process(DataFrame dataFrame, ThresholdedRandomCutForest forest, MLAlgoParams parameters) {
         String timeField = this.timeField;
-        DateFormat dateFormat = this.simpleDateFormat;
+        DateTimeFormatter dateTimeFormatter = this.dateTimeFormatter;
         if (parameters != null) {
             FitRCFParams rcfParams = (FitRCFParams) parameters;
             timeField = Optional.ofNullable(rcfParams.getTimeField()).orElse(DEFAULT_TIME_FIELD);
             String timeZone = Optional.ofNullable(rcfParams.getTimeZone()).orElse(DEFAULT_TIME_ZONE);
-            dateFormat = new SimpleDateFormat(Optional.ofNullable(rcfParams.getDateFormat()).orElse(DEFAULT_DATE_FORMAT));
-            dateFormat.setTimeZone(TimeZone.getTimeZone(timeZone));
+            dateTimeFormatter = createDateTimeFormatter(Optional.ofNullable(rcfParams.getDateFormat()).orElse(DEFAULT_DATE_FORMAT), timeZone);
         }
 
-
-        List<Double> pointList = new ArrayList<>();
         ColumnMeta[] columnMetas = dataFrame.columnMetas();
-        List<Map<String, Object>> predictResult = new ArrayList<>();
+        int timeFieldIndex = -1;
+        for (int i = 0; i < columnMetas.length; i++) {
+            if (timeField != null && timeField.equals(columnMetas[i].getName())) {
+                timeFieldIndex = i;
+                break;
+            }
+        }
+        int dimensions = timeFieldIndex >= 0 ? columnMetas.length - 1 : columnMetas.length;
+        List<Map<String, Object>> predictResult = new ArrayList<>(dataFrame.size());
         for (int rowNum = 0; rowNum< dataFrame.size(); rowNum++) {
             Row row = dataFrame.getRow(rowNum);
             long timestamp = -1;
+            double[] point = new double[dimensions];
+            int pointIndex = 0;
             for (int i = 0; i < columnMetas.length; i++) {
-                ColumnMeta columnMeta = columnMetas[i];
                 ColumnValue value = row.getValue(i);
-
-
                 // TODO: sort dataframe by time field with asc order. Currently consider the date already sorted by time.
-                if (timeField != null && timeField.equals(columnMeta.getName())) {
-                    ColumnType columnType = columnMeta.getColumnType();
-                    if (columnType == ColumnType.LONG ) {
-                        timestamp = value.longValue();
-                    } else if (columnType == ColumnType.STRING) {
-                        try {
-                            timestamp = dateFormat.parse(value.stringValue()).getTime();
-                        } catch (ParseException e) {
-                            log.error("Failed to parse timestamp " + value.stringValue(), e);
-                            throw new MLValidationException("Failed to parse timestamp " + value.stringValue());
-                        }
-                    } else  {
-                        throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
-                    }
+                if (i == timeFieldIndex) {
+                    timestamp = parseTimestamp(columnMetas[i].getColumnType(), value, dateTimeFormatter);
                 } else {
-                    pointList.add(value.doubleValue());
+                    point[pointIndex++] = value.doubleValue();
                 }
             }
-            double[] point = pointList.stream().mapToDouble(d -> d).toArray();
-            pointList.clear();
             Map<String, Object> result = new HashMap<>();
 
             AnomalyDescriptor process = forest.process(point, timestamp);
@@ -212,6 +217,31 @@ public class FixedInTimeRandomCutForest implements TrainAndPredictable {
         return predictResult;
     }
 
+    private long parseTimestamp(ColumnType columnType, ColumnValue value, DateTimeFormatter dateTimeFormatter) {
+        if (columnType == ColumnType.LONG) {
+            return value.longValue();
+        } else if (columnType == ColumnType.STRING) {
+            try {
+                TemporalAccessor parsed = dateTimeFormatter.parse(value.stringValue());
+                LocalDate date = parsed.query(TemporalQueries.localDate());
+                if (date == null) {
+                    throw new DateTimeException("No date found in " + value.stringValue());
+                }
+                LocalTime time = Optional.ofNullable(parsed.query(TemporalQueries.localTime())).orElse(LocalTime.MIDNIGHT);
+                return ZonedDateTime.of(date, time, parsed.query(TemporalQueries.zone())).toInstant().toEpochMilli();
+            } catch (DateTimeException e) {
+                log.error("Failed to parse timestamp " + value.stringValue(), e);
+                throw new MLValidationException("Failed to parse timestamp " + value.stringValue());
+            }
+        }
+        throw new MLValidationException("Wrong data type of time field. Should use LONG or STRING, but got " + columnType);
+    }
+
+    // DateTimeFormatter is immutable and thread-safe, the zone is used when the date string has no zone or offset.
+    private static DateTimeFormatter createDateTimeFormatter(String dateFormat, String timeZone) {
+        return DateTimeFormatter.ofPattern(dateFormat, Locale.ROOT).withZone(ZoneId.of(timeZone));
+    }
+
     private ThresholdedRandomCutForest createThresholdedRandomCutForest(DataFrame dataFrame) {
         //TODO: add memory estimation of RCF. Will be better if support memory estimation in RCF
         ThresholdedRandomCutForest forest = ThresholdedRandomCutForest.builder()
@@ -24,8 +24,10 @@ import software.amazon.awssdk.http.HttpExecuteRequest;
 import software.amazon.awssdk.http.HttpExecuteResponse;
 import software.amazon.awssdk.http.SdkHttpClient;
 import software.amazon.awssdk.http.SdkHttpFullRequest;
+import software.amazon.awssdk.http.SdkHttpResponse;
 
 import java.io.BufferedReader;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
@@ -33,14 +35,17 @@ import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.opensearch.ml.common.connector.ConnectorProtocols.AWS_SIGV4;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processStreamEvent;
 import static software.amazon.awssdk.http.SdkHttpMethod.POST;
 
 @Log4j2
 @ConnectorExecutor(AWS_SIGV4)
 public class AwsConnectorExecutor implements RemoteConnectorExecutor{
+    private static final String CONTENT_TYPE_HEADER = "Content-Type";
 
     @Getter
     private AwsConnector connector;
@@ -57,8 +62,13 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor{
         this(connector, new DefaultSdkHttpClientBuilder().build());
     }
 
-     @Override
-     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
+    @Override
+    public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
+        tensorOutputs.add(aggregateRemoteModelOutput(mlInput, parameters, payload));
+    }
+
+    @Override
+    public void streamRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, Consumer<ModelTensors> tensorConsumer) {
         try {
             String endpoint = connector.getPredictEndpoint(parameters);
             RequestBody requestBody = RequestBody.fromString(payload);
@@ -88,21 +98,36 @@ public class AwsConnectorExecutor implements RemoteConnectorExecutor{
                 body = response.responseBody().get();
             }
 
-            StringBuilder responseBuilder = new StringBuilder();
-            if (body != null) {
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
-                    String line;
-                    while ((line = reader.readLine()) != null) {
-                        responseBuilder.append(line);
+            if (body == null) {
+                throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
+            }
+            SdkHttpResponse httpResponse = response.httpResponse();
+            String contentType = httpResponse == null ? null : httpResponse.firstMatchingHeader(CONTENT_TYPE_HEADER).orElse(null);
+            if (AwsEventStreamReader.isEventStream(contentType) || ServerSentEventReader.isEventStream(contentType)) {
+                // Post process every event as it arrives instead of waiting for the whole response.
+                ServerSentEventReader.EventHandler handler = event -> tensorConsumer
+                        .accept(processStreamEvent(event, connector, scriptService, parameters));
+                try (InputStream content = body) {
+                    if (AwsEventStreamReader.isEventStream(contentType)) {
+                        AwsEventStreamReader.read(content, handler);
+                    } else {
+                        ServerSentEventReader.read(content, handler);
                     }
                 }
-            } else {
-                throw new OpenSearchStatusException("No response from model", RestStatus.BAD_REQUEST);
+                return;
+            }
+
+            StringBuilder responseBuilder = new StringBuilder();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    responseBuilder.append(line);
+                }
             }
             String modelResponse = responseBuilder.toString();
 
             ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
-            tensorOutputs.add(tensors);
+            tensorConsumer.accept(tensors);
         } catch (RuntimeException exception) {
             log.error("Failed to execute predict in aws connector: " + exception.getMessage(), exception);
             throw exception;
@@ -0,0 +1,162 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.opensearch.ml.common.exception.MLException;
+
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import static org.opensearch.ml.common.utils.StringUtils.gson;
+
+/**
+ * Reads AWS event streams (content type "application/vnd.amazon.eventstream") as they arrive, e.g. responses of
+ * Bedrock InvokeModelWithResponseStream. Every message is prelude (total length, headers length, prelude CRC),
+ * headers, payload and message CRC. The payload of event messages is passed to the handler, base64 decoded if
+ * it's a Bedrock chunk {"bytes": "..."}.
+ */
+public class AwsEventStreamReader {
+    public static final String CONTENT_TYPE = "application/vnd.amazon.eventstream";
+
+    private static final int PRELUDE_LENGTH = 12;
+    private static final int CRC_LENGTH = 4;
+    private static final String MESSAGE_TYPE_HEADER = ":message-type";
+    private static final String EXCEPTION_TYPE_HEADER = ":exception-type";
+    private static final String ERROR_CODE_HEADER = ":error-code";
+    private static final String EVENT_MESSAGE_TYPE = "event";
+    private static final String CHUNK_BYTES_FIELD = "bytes";
+
+    public static boolean isEventStream(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(CONTENT_TYPE);
+    }
+
+    /**
+     * Read messages until the end of the stream.
+     * @param inputStream response body
+     * @param handler called with the payload of every event message, in order
+     * @throws IOException if the stream is malformed or handling an event fails
+     */
+    public static void read(InputStream inputStream, ServerSentEventReader.EventHandler handler) throws IOException {
+        DataInputStream in = new DataInputStream(inputStream);
+        byte[] prelude = new byte[PRELUDE_LENGTH];
+        while (readPrelude(in, prelude)) {
+            ByteBuffer preludeBuffer = ByteBuffer.wrap(prelude);
+            int totalLength = preludeBuffer.getInt();
+            int headersLength = preludeBuffer.getInt();
+            int preludeCrc = preludeBuffer.getInt();
+            if (crc(prelude, 0, 8) != preludeCrc) {
+                throw new IOException("Invalid prelude checksum of event stream message");
+            }
+            if (totalLength < PRELUDE_LENGTH + headersLength + CRC_LENGTH || headersLength < 0) {
+                throw new IOException("Invalid length of event stream message: " + totalLength);
+            }
+            byte[] message = new byte[totalLength];
+            System.arraycopy(prelude, 0, message, 0, PRELUDE_LENGTH);
+            in.readFully(message, PRELUDE_LENGTH, totalLength - PRELUDE_LENGTH);
+            ByteBuffer messageBuffer = ByteBuffer.wrap(message);
+            if (crc(message, 0, totalLength - CRC_LENGTH) != messageBuffer.getInt(totalLength - CRC_LENGTH)) {
+                throw new IOException("Invalid message checksum of event stream message");
+            }
+
+            messageBuffer.position(PRELUDE_LENGTH);
+            Map<String, String> headers = readHeaders(messageBuffer, PRELUDE_LENGTH + headersLength);
+            String payload = new String(
+                message,
+                PRELUDE_LENGTH + headersLength,
+                totalLength - PRELUDE_LENGTH - headersLength - CRC_LENGTH,
+                StandardCharsets.UTF_8
+            );
+            String messageType = headers.getOrDefault(MESSAGE_TYPE_HEADER, EVENT_MESSAGE_TYPE);
+            if (!EVENT_MESSAGE_TYPE.equals(messageType)) {
+                String type = headers.getOrDefault(EXCEPTION_TYPE_HEADER, headers.get(ERROR_CODE_HEADER));
+                throw new MLException("Remote model returned " + messageType + " " + type + ": " + payload);
+            }
+            handler.onEvent(decodeChunk(payload));
+        }
+    }
+
+    private static boolean readPrelude(DataInputStream in, byte[] prelude) throws IOException {
+        int first = in.read();
+        if (first < 0) {
+            return false;
+        }
+        prelude[0] = (byte) first;
+        try {
+            in.readFully(prelude, 1, PRELUDE_LENGTH - 1);
+        } catch (EOFException e) {
+            throw new IOException("Truncated event stream message", e);
+        }
+        return true;
+    }
+
+    // Only string headers are needed, values of other types are skipped.
+    private static Map<String, String> readHeaders(ByteBuffer buffer, int end) throws IOException {
+        Map<String, String> headers = new HashMap<>();
+        while (buffer.position() < end) {
+            byte[] name = new byte[buffer.get() & 0xff];
+            buffer.get(name);
+            byte type = buffer.get();
+            switch (type) {
+                case 0: // true
+                case 1: // false
+                    break;
+                case 2: // byte
+                    buffer.get();
+                    break;
+                case 3: // short
+                    buffer.getShort();
+                    break;
+                case 4: // int
+                    buffer.getInt();
+                    break;
+                case 5: // long
+                case 8: // timestamp
+                    buffer.getLong();
+                    break;
+                case 6: // byte array
+                case 7: // string
+                    byte[] value = new byte[buffer.getShort() & 0xffff];
+                    buffer.get(value);
+                    if (type == 7) {
+                        headers.put(new String(name, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8));
+                    }
+                    break;
+                case 9: // uuid
+                    buffer.position(buffer.position() + 16);
+                    break;
+                default:
+                    throw new IOException("Unknown header type of event stream message: " + type);
+            }
+        }
+        return headers;
+    }
+
+    private static String decodeChunk(String payload) {
+        if (payload.startsWith("{") && payload.contains("\"" + CHUNK_BYTES_FIELD + "\"")) {
+            Map<?, ?> chunk = gson.fromJson(payload, Map.class);
+            Object bytes = chunk.get(CHUNK_BYTES_FIELD);
+            if (bytes instanceof String) {
+                return new String(Base64.getDecoder().decode((String) bytes), StandardCharsets.UTF_8);
+            }
+        }
+        return payload;
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, offset, length);
+        return (int) crc32.getValue();
+    }
+}
@@ -174,6 +174,19 @@ public class ConnectorUtils {
         return ModelTensors.builder().mlModelTensors(modelTensors).build();
     }
 
+    /**
+     * Same as {@link #processOutput(String, Connector, ScriptService, Map)} for an event of a streaming response. The
+     * tensors are named {@link ModelTensor#STREAM_EVENT_NAME}, so that consumers can tell streamed output apart, even
+     * when the response has a single event.
+     */
+    public static ModelTensors processStreamEvent(String event, Connector connector, ScriptService scriptService, Map<String, String> parameters) throws IOException {
+        ModelTensors tensors = processOutput(event, connector, scriptService, parameters);
+        if (tensors.getMlModelTensors() != null) {
+            tensors.getMlModelTensors().forEach(tensor -> tensor.setName(ModelTensor.STREAM_EVENT_NAME));
+        }
+        return tensors;
+    }
+
     public static SdkHttpFullRequest signRequest(SdkHttpFullRequest request, String accessKey, String secretKey, String sessionToken, String signingName, String region) {
         AwsCredentials credentials = sessionToken == null ? AwsBasicCredentials.create(accessKey, secretKey) : AwsSessionCredentials.create(accessKey, secretKey, sessionToken);
 
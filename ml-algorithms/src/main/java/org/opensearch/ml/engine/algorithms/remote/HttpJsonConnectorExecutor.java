@@ -8,6 +8,7 @@ package org.opensearch.ml.engine.algorithms.remote;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.log4j.Log4j2;
+import org.apache.http.Header;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
@@ -25,15 +26,17 @@ import org.opensearch.ml.engine.annotation.ConnectorExecutor;
 import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
 import org.opensearch.script.ScriptService;
 
+import java.io.InputStream;
 import java.security.AccessController;
 import java.security.PrivilegedExceptionAction;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 import static org.opensearch.ml.common.connector.ConnectorProtocols.HTTP;
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processOutput;
+import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processStreamEvent;
 
 @Log4j2
 @ConnectorExecutor(HTTP)
@@ -50,9 +53,12 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
 
     @Override
     public void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs) {
-        try {
-            AtomicReference<String> responseRef = new AtomicReference<>("");
+        tensorOutputs.add(aggregateRemoteModelOutput(mlInput, parameters, payload));
+    }
 
+    @Override
+    public void streamRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, Consumer<ModelTensors> tensorConsumer) {
+        try {
             HttpUriRequest request;
             switch (connector.getPredictHttpMethod().toUpperCase(Locale.ROOT)) {
                 case "POST":
@@ -94,16 +100,21 @@ public class HttpJsonConnectorExecutor implements RemoteConnectorExecutor {
                 try (CloseableHttpClient httpClient = getHttpClient();
                      CloseableHttpResponse response = httpClient.execute(request)) {
                     HttpEntity responseEntity = response.getEntity();
-                    String responseBody = EntityUtils.toString(responseEntity);
-                    EntityUtils.consume(responseEntity);
-                    responseRef.set(responseBody);
+                    Header contentType = responseEntity.getContentType();
+                    if (contentType != null && ServerSentEventReader.isEventStream(contentType.getValue())) {
+                        // Post process every event as it arrives instead of waiting for the whole response.
+                        try (InputStream content = responseEntity.getContent()) {
+                            ServerSentEventReader
+                                .read(content, event -> tensorConsumer.accept(processStreamEvent(event, connector, scriptService, parameters)));
+                        }
+                    } else {
+                        String modelResponse = EntityUtils.toString(responseEntity);
+                        EntityUtils.consume(responseEntity);
+                        tensorConsumer.accept(processOutput(modelResponse, connector, scriptService, parameters));
+                    }
                 }
                 return null;
             });
-            String modelResponse = responseRef.get();
-
-            ModelTensors tensors = processOutput(modelResponse, connector, scriptService, parameters);
-            tensorOutputs.add(tensors);
         } catch (RuntimeException e) {
             log.error("Fail to execute http connector", e);
             throw e;
@@ -14,6 +14,7 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.script.ScriptService;
@@ -22,6 +23,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import static org.opensearch.ml.engine.algorithms.remote.ConnectorUtils.processInput;
 
@@ -39,6 +41,7 @@ public interface RemoteConnectorExecutor {
         }
         return new ModelTensorOutput(tensorOutputs);
     }
+
     default void setScriptService(ScriptService scriptService){}
     ScriptService getScriptService();
     Connector getConnector();
@@ -47,6 +50,13 @@ public interface RemoteConnectorExecutor {
     default void setClusterService(ClusterService clusterService){}
 
     default void preparePayloadAndInvokeRemoteModel(MLInput mlInput, List<ModelTensors> tensorOutputs) {
+        Map<String, String> parameters = prepareParameters(mlInput);
+        String payload = getConnector().createPredictPayload(parameters);
+        getConnector().validatePayload(payload);
+        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+    }
+
+    default Map<String, String> prepareParameters(MLInput mlInput) {
         Connector connector = getConnector();
 
         Map<String, String> parameters = new HashMap<>();
@@ -62,12 +72,39 @@ public interface RemoteConnectorExecutor {
         if (inputData.getParameters() != null) {
             parameters.putAll(inputData.getParameters());
         }
-        String payload = connector.createPredictPayload(parameters);
-        connector.validatePayload(payload);
-        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+        return parameters;
     }
 
     void invokeRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, List<ModelTensors> tensorOutputs);
 
+    /**
+     * Invoke the remote model and pass model output to the consumer as soon as it's parsed. For streaming responses
+     * (server-sent events or AWS event streams), the consumer gets the post processed output of every event.
+     * Executors which support streaming responses override this.
+     */
+    default void streamRemoteModel(MLInput mlInput, Map<String, String> parameters, String payload, Consumer<ModelTensors> tensorConsumer) {
+        List<ModelTensors> tensorOutputs = new ArrayList<>();
+        invokeRemoteModel(mlInput, parameters, payload, tensorOutputs);
+        tensorOutputs.forEach(tensorConsumer);
+    }
+
+    /**
+     * Invoke the remote model and return its output as one {@link ModelTensors}. The tensors of all events of a
+     * streaming response are returned together, in the order of the events.
+     */
+    default ModelTensors aggregateRemoteModelOutput(MLInput mlInput, Map<String, String> parameters, String payload) {
+        List<ModelTensors> eventOutputs = new ArrayList<>();
+        streamRemoteModel(mlInput, parameters, payload, eventOutputs::add);
+        if (eventOutputs.size() == 1) {
+            return eventOutputs.get(0);
+        }
+        List<ModelTensor> modelTensors = new ArrayList<>();
+        for (ModelTensors eventOutput : eventOutputs) {
+            if (eventOutput.getMlModelTensors() != null) {
+                modelTensors.addAll(eventOutput.getMlModelTensors());
+            }
+        }
+        return ModelTensors.builder().mlModelTensors(modelTensors).build();
+    }
 
 }
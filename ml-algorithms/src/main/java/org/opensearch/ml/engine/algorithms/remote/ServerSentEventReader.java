@@ -0,0 +1,84 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Reads server-sent events (content type "text/event-stream") as they arrive, e.g. chat completions of OpenAI
+ * with "stream": true. Only the data of events is used, the OpenAI "[DONE]" event ends the stream.
+ */
+public class ServerSentEventReader {
+    public static final String CONTENT_TYPE = "text/event-stream";
+    public static final String DONE = "[DONE]";
+
+    private static final String DATA_FIELD = "data";
+
+    @FunctionalInterface
+    public interface EventHandler {
+        void onEvent(String data) throws IOException;
+    }
+
+    public static boolean isEventStream(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).startsWith(CONTENT_TYPE);
+    }
+
+    /**
+     * Read events until the end of the stream or the "[DONE]" event.
+     * @param inputStream response body
+     * @param handler called with the data of every event, in order
+     * @throws IOException if reading the stream or handling an event fails
+     */
+    public static void read(InputStream inputStream, EventHandler handler) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        StringBuilder data = null;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isEmpty()) {
+                // blank line dispatches the event
+                if (data != null && dispatch(data.toString(), handler)) {
+                    return;
+                }
+                data = null;
+                continue;
+            }
+            if (line.startsWith(":")) {
+                // comment, e.g. keep-alive
+                continue;
+            }
+            int colon = line.indexOf(':');
+            String field = colon < 0 ? line : line.substring(0, colon);
+            if (!DATA_FIELD.equals(field)) {
+                continue;
+            }
+            String value = colon < 0 ? "" : line.substring(colon + 1);
+            if (value.startsWith(" ")) {
+                value = value.substring(1);
+            }
+            if (data == null) {
+                data = new StringBuilder(value);
+            } else {
+                data.append('\n').append(value);
+            }
+        }
+        if (data != null) {
+            dispatch(data.toString(), handler);
+        }
+    }
+
+    private static boolean dispatch(String data, EventHandler handler) throws IOException {
+        if (DONE.equals(data.trim())) {
+            return true;
+        }
+        handler.onEvent(data);
+        return false;
+    }
+}
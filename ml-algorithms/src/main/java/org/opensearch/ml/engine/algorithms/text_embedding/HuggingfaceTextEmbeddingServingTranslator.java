@@ -15,6 +15,7 @@ import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensors;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,14 +24,30 @@ import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDe
 public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Input, Output> {
 
     private Translator<String, float[]> translator;
+    // If true, all texts of one input are predicted as one batch padded to its longest text.
+    private boolean batchInput;
+    private MLResultDataType embeddingDataType;
+    private boolean normalized;
 
     public HuggingfaceTextEmbeddingServingTranslator(Translator<String, float[]> translator) {
         this.translator = translator;
     }
 
+    public HuggingfaceTextEmbeddingServingTranslator(HuggingfaceTextEmbeddingTranslator translator, boolean batchInput) {
+        this(translator, batchInput, null);
+    }
+
+    public HuggingfaceTextEmbeddingServingTranslator(HuggingfaceTextEmbeddingTranslator translator, boolean batchInput,
+                                                     MLResultDataType embeddingDataType) {
+        this.translator = translator;
+        this.batchInput = batchInput;
+        this.embeddingDataType = embeddingDataType;
+        this.normalized = translator.isNormalize();
+    }
+
     @Override
     public Batchifier getBatchifier() {
-        return translator.getBatchifier();
+        return batchInput ? null : translator.getBatchifier();
     }
 
     @Override
@@ -43,6 +60,14 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
      */
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) throws Exception {
+        if (batchInput) {
+            int size = input.getContent().size();
+            List<String> texts = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                texts.add(input.getAsString(i));
+            }
+            return ((HuggingfaceTextEmbeddingTranslator) translator).batchProcessInput(ctx, texts);
+        }
         String text = input.getData().getAsString();
         return translator.processInput(ctx, text);
     }
@@ -52,24 +77,22 @@ public class HuggingfaceTextEmbeddingServingTranslator implements Translator<Inp
      */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) throws Exception {
-        float[] ret = translator.processOutput(ctx, list);
-        Number[] data = new Float[ret.length];
-        for (int i = 0; i < ret.length; i++) {
-            data[i] = ret[i];
+        Output output = new Output();
+        if (batchInput) {
+            for (float[] embedding : ((HuggingfaceTextEmbeddingTranslator) translator).batchProcessOutput(ctx, list)) {
+                output.add(toModelTensors(embedding).toBytes());
+            }
+        } else {
+            output.add(toModelTensors(translator.processOutput(ctx, list)).toBytes());
         }
+        return output;
+    }
+
+    private ModelTensors toModelTensors(float[] ret) {
         long[] shape = new long[]{1, ret.length};
-        ModelTensor tensor = ModelTensor.builder()
-                .name(SENTENCE_EMBEDDING)
-                .data(data)
-                .shape(shape)
-                .dataType(MLResultDataType.FLOAT32)
-                .build();
+        ModelTensor tensor = TextEmbeddingPostProcessor.toModelTensor(SENTENCE_EMBEDDING, ret, shape, embeddingDataType, normalized);
         List<ModelTensor> outputs = Collections.singletonList(tensor);
-
-        Output output = new Output();
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
-        return output;
+        return new ModelTensors(outputs);
     }
 
-}
\ No newline at end of file
+}
@@ -24,6 +24,7 @@ import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorContext;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
 /** The translator for Huggingface text embedding model. */
@@ -36,18 +37,30 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
     private boolean normalize;
     private String pooling;
     private boolean inputTokenTypeIds;
+    private long padId;
 
     HuggingfaceTextEmbeddingTranslator(
             HuggingFaceTokenizer tokenizer,
             Batchifier batchifier,
             String pooling,
             boolean normalize,
-            boolean inputTokenTypeIds) {
+            boolean inputTokenTypeIds,
+            long padId) {
         this.tokenizer = tokenizer;
         this.batchifier = batchifier;
         this.pooling = pooling;
         this.normalize = normalize;
         this.inputTokenTypeIds = inputTokenTypeIds;
+        this.padId = padId;
+    }
+
+    /**
+     * Whether embeddings are L2 normalized.
+     *
+     * @return true if embeddings are normalized
+     */
+    public boolean isNormalize() {
+        return normalize;
     }
 
     /** {@inheritDoc} */
@@ -74,24 +87,76 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         return ndList;
     }
 
+    /**
+     * Encodes texts as one batch of shape [batch size, padded length]. Texts are padded to the longest text
+     * of the batch. Use it with {@link #batchProcessOutput} and no batchifier.
+     *
+     * @param ctx the translator context
+     * @param inputs the texts
+     * @return the model input
+     */
+    public NDList batchProcessInput(TranslatorContext ctx, List<String> inputs) {
+        PaddedEncodings encodings = PaddedEncodings.encode(tokenizer, inputs, padId);
+        ctx.setAttachment("encodings", encodings);
+        return encodings.toNDList(ctx.getNDManager(), inputTokenTypeIds);
+    }
+
     /** {@inheritDoc} */
     @Override
     public float[] processOutput(TranslatorContext ctx, NDList list) {
+        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
+        return pool(ctx, getTokenEmbeddings(list), encoding.getAttentionMask());
+    }
+
+    /**
+     * Pools token embeddings of a batch encoded by {@link #batchProcessInput}.
+     *
+     * @param ctx the translator context
+     * @param list the model output
+     * @return embeddings of texts in the same order as input
+     */
+    public float[][] batchProcessOutput(TranslatorContext ctx, NDList list) {
+        NDArray embeddings = getTokenEmbeddings(list);
+        PaddedEncodings encodings = (PaddedEncodings) ctx.getAttachment("encodings");
+        float[][] result = new float[encodings.size()][];
+        if (isMeanPooling()) {
+            // Copy token embeddings of the whole batch once and pool them on the float array.
+            long[] shape = embeddings.getShape().getShape();
+            int dimension = (int) shape[2];
+            float[] tokenEmbeddings = embeddings.toType(DataType.FLOAT32, false).toFloatArray();
+            for (int i = 0; i < result.length; i++) {
+                result[i] = TextEmbeddingPostProcessor.meanPool(tokenEmbeddings, (int) (i * shape[1] * dimension),
+                        encodings.getAttentionMask(i), dimension, "mean_sqrt_len".equals(pooling), normalize);
+            }
+            return result;
+        }
+        for (int i = 0; i < result.length; i++) {
+            result[i] = pool(ctx, embeddings.get(i), encodings.getAttentionMask(i));
+        }
+        return result;
+    }
+
+    private NDArray getTokenEmbeddings(NDList list) {
         NDArray embeddings = list.get("last_hidden_state");
         if (embeddings == null) {
             embeddings = list.get(0);
         }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
+        return embeddings;
+    }
+
+    private boolean isMeanPooling() {
+        return "mean".equals(pooling) || "mean_sqrt_len".equals(pooling);
+    }
+
+    private float[] pool(TranslatorContext ctx, NDArray embeddings, long[] attentionMask) {
+        if (isMeanPooling()) {
+            int dimension = (int) embeddings.getShape().get(1);
+            return TextEmbeddingPostProcessor.meanPool(embeddings.toType(DataType.FLOAT32, false).toFloatArray(), 0, attentionMask,
+                    dimension, "mean_sqrt_len".equals(pooling), normalize);
+        }
         NDManager manager = ctx.getNDManager();
         NDArray inputAttentionMask = manager.create(attentionMask).toType(DataType.FLOAT32, true);
         switch (pooling) {
-            case "mean":
-                embeddings = meanPool(embeddings, inputAttentionMask, false);
-                break;
-            case "mean_sqrt_len":
-                embeddings = meanPool(embeddings, inputAttentionMask, true);
-                break;
             case "max":
                 embeddings = maxPool(embeddings, inputAttentionMask);
                 break;
@@ -104,24 +169,11 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
             default:
                 throw new AssertionError("Unexpected pooling model: " + pooling);
         }
+        float[] result = embeddings.toType(DataType.FLOAT32, false).toFloatArray();
         if (normalize) {
-            embeddings = embeddings.normalize(2, 0);
+            TextEmbeddingPostProcessor.normalize(result);
         }
-
-        return embeddings.toFloatArray();
-    }
-
-    private NDArray meanPool(NDArray embeddings, NDArray inputAttentionMask, boolean sqrt) {
-        long[] shape = embeddings.getShape().getShape();
-        inputAttentionMask = inputAttentionMask.expandDims(-1).broadcast(shape);
-        NDArray inputAttentionMaskSum = inputAttentionMask.sum(AXIS);
-        NDArray clamp = inputAttentionMaskSum.clip(1e-9, 1e12);
-        NDArray prod = embeddings.mul(inputAttentionMask);
-        NDArray sum = prod.sum(AXIS);
-        if (sqrt) {
-            return sum.div(clamp.sqrt());
-        }
-        return sum.div(clamp);
+        return result;
     }
 
     private NDArray maxPool(NDArray embeddings, NDArray inputAttentionMask) {
@@ -176,6 +228,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
         private Batchifier batchifier = Batchifier.STACK;
         private boolean normalize = false;
         private boolean inputTokenTypeIds = false;
+        private long padId = 0;
         private String pooling = "mean";
 
         Builder(HuggingFaceTokenizer tokenizer) {
@@ -229,6 +282,17 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
             return this;
         }
 
+        /**
+         * Sets the pad id of the tokenizer, which pads token ids of batched texts.
+         *
+         * @param padId the pad id
+         * @return this builder
+         */
+        public HuggingfaceTextEmbeddingTranslator.Builder optPadId(long padId) {
+            this.padId = padId;
+            return this;
+        }
+
 
         /**
          * Configures the builder with the model arguments.
@@ -250,7 +314,7 @@ public class HuggingfaceTextEmbeddingTranslator implements Translator<String, fl
          * @throws IOException if I/O error occurs
          */
         public HuggingfaceTextEmbeddingTranslator build() throws IOException {
-            return new HuggingfaceTextEmbeddingTranslator(tokenizer, batchifier, pooling, normalize, inputTokenTypeIds);
+            return new HuggingfaceTextEmbeddingTranslator(tokenizer, batchifier, pooling, normalize, inputTokenTypeIds, padId);
         }
     }
 }
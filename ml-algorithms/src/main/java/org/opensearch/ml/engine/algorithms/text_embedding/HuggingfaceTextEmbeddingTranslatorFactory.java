@@ -9,11 +9,13 @@ import ai.djl.Model;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
+import ai.djl.translate.ArgumentsUtil;
 import ai.djl.translate.TranslateException;
 import ai.djl.translate.Translator;
 import ai.djl.translate.TranslatorFactory;
 import ai.djl.util.Pair;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 
 import java.io.IOException;
 import java.lang.reflect.Type;
@@ -22,6 +24,10 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+/**
+ * Creates translators for Huggingface text embedding models. Neuron models are compiled for static input shapes,
+ * so they predict one text at a time. Other models predict all texts of one input as a padded batch.
+ */
 public class HuggingfaceTextEmbeddingTranslatorFactory implements TranslatorFactory {
 
     private static final Set<Pair<Type, Type>> SUPPORTED_TYPES = new HashSet<>();
@@ -35,12 +41,19 @@ public class HuggingfaceTextEmbeddingTranslatorFactory implements TranslatorFact
     private boolean normalizeResult;
     private final String modelType;
     private final boolean neuron;
+    private final MLResultDataType embeddingDataType;
 
     public HuggingfaceTextEmbeddingTranslatorFactory(TextEmbeddingModelConfig.PoolingMode poolingMode, boolean normalizeResult, String modelType, boolean neuron) {
+        this(poolingMode, normalizeResult, modelType, neuron, null);
+    }
+
+    public HuggingfaceTextEmbeddingTranslatorFactory(TextEmbeddingModelConfig.PoolingMode poolingMode, boolean normalizeResult, String modelType, boolean neuron,
+                                                     MLResultDataType embeddingDataType) {
         this.poolingMode = poolingMode == null ? TextEmbeddingModelConfig.PoolingMode.MEAN : poolingMode;
         this.normalizeResult = normalizeResult;
         this.modelType = modelType;
         this.neuron = neuron;
+        this.embeddingDataType = embeddingDataType;
     }
 
     /** {@inheritDoc} */
@@ -57,22 +70,27 @@ public class HuggingfaceTextEmbeddingTranslatorFactory implements TranslatorFact
             throws TranslateException {
         Path modelPath = model.getModelPath();
         try {
-            HuggingFaceTokenizer tokenizer =
+            HuggingFaceTokenizer.Builder tokenizerBuilder =
                     HuggingFaceTokenizer.builder(arguments)
                             .optTokenizerPath(modelPath)
-                            .optManager(model.getNDManager())
-                            .build();
+                            .optManager(model.getNDManager());
+            if (arguments.containsKey("modelMaxLength")) {
+                // Longer texts fail on models with fixed position embeddings, truncate them when tokenizing.
+                tokenizerBuilder.optTruncation(true).optMaxLength(ArgumentsUtil.intValue(arguments, "modelMaxLength"));
+            }
+            HuggingFaceTokenizer tokenizer = tokenizerBuilder.build();
             boolean inputTokenTypeIds = neuron && ("bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType));
             HuggingfaceTextEmbeddingTranslator translator =
                     HuggingfaceTextEmbeddingTranslator.builder(tokenizer, arguments)
                             .optPoolingMode(poolingMode.getName())
                             .optNormalize(normalizeResult)
                             .optInputTokenTypeIds(inputTokenTypeIds)
+                            .optPadId(PaddedEncodings.readPadId(modelPath))
                             .build();
             if (input == String.class && output == float[].class) {
                 return (Translator<I, O>) translator;
             } else if (input == Input.class && output == Output.class) {
-                return (Translator<I, O>) new HuggingfaceTextEmbeddingServingTranslator(translator);
+                return (Translator<I, O>) new HuggingfaceTextEmbeddingServingTranslator(translator, !neuron, embeddingDataType);
             }
             throw new IllegalArgumentException("Unsupported input/output types.");
         } catch (IOException e) {
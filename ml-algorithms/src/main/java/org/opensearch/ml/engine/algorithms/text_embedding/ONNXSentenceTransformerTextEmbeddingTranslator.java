@@ -5,13 +5,13 @@
 
 package org.opensearch.ml.engine.algorithms.text_embedding;
 
-import ai.djl.huggingface.tokenizers.Encoding;
 import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
 import ai.djl.modality.Input;
 import ai.djl.modality.Output;
 import ai.djl.ndarray.NDArray;
 import ai.djl.ndarray.NDList;
 import ai.djl.ndarray.NDManager;
+import ai.djl.ndarray.types.DataType;
 import ai.djl.translate.Batchifier;
 import ai.djl.translate.ServingTranslator;
 import ai.djl.translate.TranslatorContext;
@@ -28,17 +28,35 @@ import java.util.Map;
 
 import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
 
+/**
+ * Translator of ONNX text embedding models. All texts of one input are encoded as one batch, which is padded
+ * to the longest text of the batch only.
+ */
 public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTranslator {
     private static final int[] AXIS = {0};
     private HuggingFaceTokenizer tokenizer;
+    private long padId;
     private TextEmbeddingModelConfig.PoolingMode poolingMode;
     private boolean normalizeResult;
     private String modelType;
+    private Integer modelMaxLength;
+    private MLResultDataType embeddingDataType;
 
     public ONNXSentenceTransformerTextEmbeddingTranslator(TextEmbeddingModelConfig.PoolingMode poolingMode, boolean normalizeResult, String modelType) {
+        this(poolingMode, normalizeResult, modelType, null);
+    }
+
+    public ONNXSentenceTransformerTextEmbeddingTranslator(TextEmbeddingModelConfig.PoolingMode poolingMode, boolean normalizeResult, String modelType, Integer modelMaxLength) {
+        this(poolingMode, normalizeResult, modelType, modelMaxLength, null);
+    }
+
+    public ONNXSentenceTransformerTextEmbeddingTranslator(TextEmbeddingModelConfig.PoolingMode poolingMode, boolean normalizeResult, String modelType,
+                                                          Integer modelMaxLength, MLResultDataType embeddingDataType) {
         this.poolingMode = poolingMode == null ? TextEmbeddingModelConfig.PoolingMode.MEAN : poolingMode;
         this.normalizeResult = normalizeResult;
         this.modelType = modelType;
+        this.modelMaxLength = modelMaxLength;
+        this.embeddingDataType = embeddingDataType;
     }
 
     @Override
@@ -49,54 +67,62 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
     @Override
     public void prepare(TranslatorContext ctx) throws IOException {
         Path path = ctx.getModel().getModelPath();
-        tokenizer = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json")).build();
+        HuggingFaceTokenizer.Builder builder = HuggingFaceTokenizer.builder().optPadding(true).optTokenizerPath(path.resolve("tokenizer.json"));
+        if (modelMaxLength != null) {
+            builder.optTruncation(true).optMaxLength(modelMaxLength);
+        }
+        tokenizer = builder.build();
+        padId = PaddedEncodings.readPadId(path.resolve("tokenizer.json"));
     }
 
     @Override
     public NDList processInput(TranslatorContext ctx, Input input) {
-        NDManager manager = ctx.getNDManager();
-        String sentence = input.getAsString(0);
-        NDList ndList = new NDList();
-
-        Encoding encode = tokenizer.encode(sentence);
-        ctx.setAttachment("encoding", encode);
-        long[] indices = encode.getIds();
-        long[] attentionMask = encode.getAttentionMask();
-
-        NDArray indicesArray = manager.create(indices).expandDims(0);
-        indicesArray.setName("input_ids");
-        NDArray attentionMaskArray = manager.create(attentionMask).expandDims(0);
-        attentionMaskArray.setName("attention_mask");
-        ndList.add(indicesArray);
-        ndList.add(attentionMaskArray);
-        if ("bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType)) {
-            long[] tokenTypeIds = encode.getTypeIds();
-            NDArray tokenTypeIdsArray = manager.create(tokenTypeIds).expandDims(0);
-            tokenTypeIdsArray.setName("token_type_ids");
-            ndList.add(tokenTypeIdsArray);
-        }
-        return ndList;
+        PaddedEncodings encodings = PaddedEncodings.encode(tokenizer, input, padId);
+        ctx.setAttachment("encodings", encodings);
+        boolean withTypeIds = "bert".equalsIgnoreCase(modelType) || "albert".equalsIgnoreCase(modelType);
+        return encodings.toNDList(ctx.getNDManager(), withTypeIds);
     }
 
     /** {@inheritDoc} */
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
-        NDArray embeddings = list.get(0);
-        int shapeLength = embeddings.getShape().getShape().length;
-        if (shapeLength == 3) {
-            embeddings = embeddings.get(0);
+        NDArray batchEmbeddings = list.get(0);
+        PaddedEncodings encodings = (PaddedEncodings) ctx.getAttachment("encodings");
+        int shapeLength = batchEmbeddings.getShape().getShape().length;
+        if (shapeLength != 3 && encodings.size() > 1) {
+            throw new IllegalArgumentException("Model output should be token embeddings of shape [batch, tokens, dimension]");
+        }
+        Output output = new Output();
+        if (poolingMode == TextEmbeddingModelConfig.PoolingMode.MEAN || poolingMode == TextEmbeddingModelConfig.PoolingMode.MEAN_SQRT_LEN) {
+            // Copy token embeddings of the whole batch once and pool them on the float array.
+            long[] shape = batchEmbeddings.getShape().getShape();
+            int dimension = (int) shape[shape.length - 1];
+            int batchStride = shapeLength == 3 ? (int) (shape[1] * dimension) : 0;
+            float[] tokenEmbeddings = batchEmbeddings.toType(DataType.FLOAT32, false).toFloatArray();
+            boolean sqrtLen = poolingMode == TextEmbeddingModelConfig.PoolingMode.MEAN_SQRT_LEN;
+            for (int i = 0; i < encodings.size(); i++) {
+                float[] embedding = TextEmbeddingPostProcessor
+                        .meanPool(tokenEmbeddings, i * batchStride, encodings.getAttentionMask(i), dimension, sqrtLen, normalizeResult);
+                output.add(toModelTensors(embedding, new long[]{dimension}).toBytes());
+            }
+            return output;
         }
-        Encoding encoding = (Encoding) ctx.getAttachment("encoding");
-        long[] attentionMask = encoding.getAttentionMask();
         NDManager manager = ctx.getNDManager();
-        NDArray inputAttentionMask = manager.create(attentionMask);
+        for (int i = 0; i < encodings.size(); i++) {
+            NDArray embeddings = shapeLength == 3 ? batchEmbeddings.get(i) : batchEmbeddings;
+            NDArray inputAttentionMask = manager.create(encodings.getAttentionMask(i));
+            NDArray pooled = pool(embeddings, inputAttentionMask);
+            float[] embedding = pooled.toType(DataType.FLOAT32, false).toFloatArray();
+            if (normalizeResult) {
+                TextEmbeddingPostProcessor.normalize(embedding);
+            }
+            output.add(toModelTensors(embedding, pooled.getShape().getShape()).toBytes());
+        }
+        return output;
+    }
+
+    private NDArray pool(NDArray embeddings, NDArray inputAttentionMask) {
         switch (this.poolingMode) {
-            case MEAN:
-                embeddings = meanPool(embeddings, inputAttentionMask, false);
-                break;
-            case MEAN_SQRT_LEN:
-                embeddings = meanPool(embeddings, inputAttentionMask, true);
-                break;
             case MAX:
                 embeddings = maxPool(embeddings, inputAttentionMask);
                 break;
@@ -109,39 +135,13 @@ public class ONNXSentenceTransformerTextEmbeddingTranslator implements ServingTr
             default:
                 throw new IllegalArgumentException("Unsupported pooling method");
         }
-
-        if (normalizeResult) {
-            embeddings = embeddings.normalize(2, 0);
-        }
-
-        Number[] data = embeddings.toArray();
-        List<ModelTensor> outputs = new ArrayList<>();
-        long[] shape = embeddings.getShape().getShape();
-        ModelTensor modelTensor = ModelTensor.builder()
-                .name(SENTENCE_EMBEDDING)
-                .data(data)
-                .shape(shape)
-                .dataType(MLResultDataType.FLOAT32)
-                .build();
-        outputs.add(modelTensor);
-
-        Output output = new Output();
-        ModelTensors modelTensorOutput = new ModelTensors(outputs);
-        output.add(modelTensorOutput.toBytes());
-        return output;
+        return embeddings;
     }
 
-    private NDArray meanPool(NDArray embeddings, NDArray inputAttentionMask, boolean sqrt) {
-        long[] shape = embeddings.getShape().getShape();
-        inputAttentionMask = inputAttentionMask.expandDims(-1).broadcast(shape);
-        NDArray inputAttentionMaskSum = inputAttentionMask.sum(AXIS);
-        NDArray clamp = inputAttentionMaskSum.clip(1e-9, 1e12);
-        NDArray prod = embeddings.mul(inputAttentionMask);
-        NDArray sum = prod.sum(AXIS);
-        if (sqrt) {
-            return sum.div(clamp.sqrt());
-        }
-        return sum.div(clamp);
+    private ModelTensors toModelTensors(float[] embedding, long[] shape) {
+        List<ModelTensor> outputs = new ArrayList<>();
+        outputs.add(TextEmbeddingPostProcessor.toModelTensor(SENTENCE_EMBEDDING, embedding, shape, embeddingDataType, normalizeResult));
+        return new ModelTensors(outputs);
     }
 
     private NDArray maxPool(NDArray embeddings, NDArray inputAttentionMask) {
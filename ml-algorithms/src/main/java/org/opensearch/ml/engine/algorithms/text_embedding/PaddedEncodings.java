@@ -0,0 +1,139 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import ai.djl.huggingface.tokenizers.Encoding;
+import ai.djl.huggingface.tokenizers.HuggingFaceTokenizer;
+import ai.djl.modality.Input;
+import ai.djl.ndarray.NDArray;
+import ai.djl.ndarray.NDList;
+import ai.djl.ndarray.NDManager;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.opensearch.ml.common.utils.StringUtils.gson;
+import static org.opensearch.ml.engine.ModelHelper.TOKENIZER_FILE_NAME;
+
+/**
+ * Token ids, attention masks and token type ids of a batch of texts, padded to the longest text of the batch.
+ * Padded positions have the pad id of the tokenizer and attention mask 0, so pooling ignores them.
+ */
+public class PaddedEncodings {
+    private final long[][] ids;
+    private final long[][] attentionMask;
+    private final long[][] typeIds;
+
+    // Pad id of tokenizers without padding config, same as the default of the Huggingface tokenizers library.
+    private static final long DEFAULT_PAD_ID = 0;
+
+    private PaddedEncodings(Encoding[] encodings, long padId) {
+        int length = 0;
+        for (Encoding encoding : encodings) {
+            length = Math.max(length, encoding.getIds().length);
+        }
+        this.ids = pad(encodings, Encoding::getIds, length, padId);
+        this.attentionMask = pad(encodings, Encoding::getAttentionMask, length, 0);
+        this.typeIds = pad(encodings, Encoding::getTypeIds, length, 0);
+    }
+
+    /**
+     * Encode all texts of input as one batch.
+     * @param tokenizer tokenizer
+     * @param input input with one text per content entry
+     * @param padId pad id of the tokenizer, see {@link #readPadId(Path)}
+     * @return padded encodings
+     */
+    public static PaddedEncodings encode(HuggingFaceTokenizer tokenizer, Input input, long padId) {
+        int size = input.getContent().size();
+        List<String> texts = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            texts.add(input.getAsString(i));
+        }
+        return encode(tokenizer, texts, padId);
+    }
+
+    public static PaddedEncodings encode(HuggingFaceTokenizer tokenizer, List<String> texts, long padId) {
+        return new PaddedEncodings(tokenizer.batchEncode(texts), padId);
+    }
+
+    /**
+     * Read the pad id from the padding config of a tokenizer.
+     * @param tokenizerPath tokenizer file, or model directory containing tokenizer.json
+     * @return pad id of the tokenizer, 0 if the tokenizer has no padding config
+     * @throws IOException if the tokenizer file can't be read
+     */
+    public static long readPadId(Path tokenizerPath) throws IOException {
+        Path tokenizerFile = Files.isDirectory(tokenizerPath) ? tokenizerPath.resolve(TOKENIZER_FILE_NAME) : tokenizerPath;
+        try (Reader reader = Files.newBufferedReader(tokenizerFile, StandardCharsets.UTF_8);
+             JsonReader jsonReader = new JsonReader(reader)) {
+            Map<?, ?> config = gson.fromJson(jsonReader, Map.class);
+            Object padding = config == null ? null : config.get("padding");
+            if (padding instanceof Map && ((Map<?, ?>) padding).get("pad_id") instanceof Number) {
+                return ((Number) ((Map<?, ?>) padding).get("pad_id")).longValue();
+            }
+            return DEFAULT_PAD_ID;
+        }
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /**
+     * Create model input arrays of shape [batch size, padded length].
+     * @param manager NDManager
+     * @param withTypeIds add token type ids
+     * @return input ids, attention mask and optionally token type ids
+     */
+    public NDList toNDList(NDManager manager, boolean withTypeIds) {
+        NDList ndList = new NDList(withTypeIds ? 3 : 2);
+        NDArray idsArray = manager.create(ids);
+        idsArray.setName("input_ids");
+        NDArray attentionMaskArray = manager.create(attentionMask);
+        attentionMaskArray.setName("attention_mask");
+        ndList.add(idsArray);
+        ndList.add(attentionMaskArray);
+        if (withTypeIds) {
+            NDArray typeIdsArray = manager.create(typeIds);
+            typeIdsArray.setName("token_type_ids");
+            ndList.add(typeIdsArray);
+        }
+        return ndList;
+    }
+
+    /**
+     * Attention mask of one text in batch, including padded positions.
+     * @param index index of text in batch
+     * @return attention mask
+     */
+    public long[] getAttentionMask(int index) {
+        return attentionMask[index];
+    }
+
+    // The tokenizer normally pads the batch already, then this only copies the arrays.
+    private static long[][] pad(Encoding[] encodings, Function<Encoding, long[]> values, int length, long padValue) {
+        long[][] padded = new long[encodings.length][length];
+        for (int i = 0; i < encodings.length; i++) {
+            long[] value = values.apply(encodings[i]);
+            int copied = Math.min(value.length, length);
+            System.arraycopy(value, 0, padded[i], 0, copied);
+            if (padValue != 0) {
+                Arrays.fill(padded[i], copied, length, padValue);
+            }
+        }
+        return padded;
+    }
+}
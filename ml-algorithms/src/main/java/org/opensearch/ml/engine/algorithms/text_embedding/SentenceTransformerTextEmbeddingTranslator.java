@@ -29,7 +29,25 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.SENTENCE_EMBEDDING;
+
 public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransformerTranslator {
+    private boolean normalizeResult;
+    private MLResultDataType embeddingDataType;
+
+    public SentenceTransformerTextEmbeddingTranslator() {
+    }
+
+    public SentenceTransformerTextEmbeddingTranslator(Integer modelMaxLength) {
+        super(modelMaxLength);
+    }
+
+    public SentenceTransformerTextEmbeddingTranslator(Integer modelMaxLength, boolean normalizeResult, MLResultDataType embeddingDataType) {
+        super(modelMaxLength);
+        this.normalizeResult = normalizeResult;
+        this.embeddingDataType = embeddingDataType;
+    }
+
     @Override
     public Output processOutput(TranslatorContext ctx, NDList list) {
         Output output = new Output(200, "OK");
@@ -39,6 +57,17 @@ public class SentenceTransformerTextEmbeddingTranslator extends SentenceTransfor
         while (iterator.hasNext()) {
             NDArray ndArray = iterator.next();
             String name = ndArray.getName();
+            if (SENTENCE_EMBEDDING.equals(name) && embeddingDataType != null && embeddingDataType != MLResultDataType.FLOAT32) {
+                float[] embedding = ndArray.toType(DataType.FLOAT32, false).toFloatArray();
+                long[] shape = ndArray.getShape().getShape();
+                // Normalization is part of the traced model. INT8 embeddings need to be normalized, normalizing
+                // an embedding which the model normalized already doesn't change it.
+                if (normalizeResult && embeddingDataType == MLResultDataType.INT8) {
+                    TextEmbeddingPostProcessor.normalize(embedding, (int) shape[shape.length - 1]);
+                }
+                outputs.add(TextEmbeddingPostProcessor.toModelTensor(name, embedding, shape, embeddingDataType, normalizeResult));
+                continue;
+            }
             Number[] data = ndArray.toArray();
             long[] shape = ndArray.getShape().getShape();
             DataType dataType = ndArray.getDataType();
@@ -15,6 +15,7 @@ import lombok.extern.log4j.Log4j2;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.model.MLModelConfig;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.output.model.MLResultDataType;
 import org.opensearch.ml.engine.algorithms.TextEmbeddingModel;
 import org.opensearch.ml.engine.annotation.Function;
 
@@ -38,11 +39,13 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
         String modelType = textEmbeddingModelConfig.getModelType();
         TextEmbeddingModelConfig.PoolingMode poolingMode = textEmbeddingModelConfig.getPoolingMode();
         boolean normalizeResult = textEmbeddingModelConfig.isNormalizeResult();
+        Integer modelMaxLength = textEmbeddingModelConfig.getModelMaxLength();
+        MLResultDataType embeddingDataType = textEmbeddingModelConfig.getEmbeddingDataType();
 
         if (ONNX_ENGINE.equals(engine)) { //ONNX
-            return new ONNXSentenceTransformerTextEmbeddingTranslator(poolingMode, normalizeResult, modelType);
+            return new ONNXSentenceTransformerTextEmbeddingTranslator(poolingMode, normalizeResult, modelType, modelMaxLength, embeddingDataType);
         } else if (transformersType == SENTENCE_TRANSFORMERS) {// pytorch sentence_transformer
-            return new SentenceTransformerTextEmbeddingTranslator();
+            return new SentenceTransformerTextEmbeddingTranslator(modelMaxLength, normalizeResult, embeddingDataType);
         }
         return null;
     }
@@ -60,8 +63,25 @@ public class TextEmbeddingDenseModel extends TextEmbeddingModel {
             if (transformersType.name().endsWith("_NEURON")) {
                 neuron = true;
             }
-            return new HuggingfaceTextEmbeddingTranslatorFactory(poolingMode, normalizeResult, modelType, neuron);
+            return new HuggingfaceTextEmbeddingTranslatorFactory(poolingMode, normalizeResult, modelType, neuron,
+                    textEmbeddingModelConfig.getEmbeddingDataType());
         }
         return null;
     }
+
+    /**
+     * TorchScript sentence transformers are traced with single text input and neuron models are compiled for
+     * static input shapes, so they still predict one text at a time.
+     */
+    @Override
+    protected boolean isBatchInputSupported(String engine, MLModelConfig modelConfig) {
+        if (ONNX_ENGINE.equals(engine)) {
+            return true;
+        }
+        if (modelConfig == null) {
+            return false;
+        }
+        TextEmbeddingModelConfig.FrameworkType transformersType = ((TextEmbeddingModelConfig) modelConfig).getFrameworkType();
+        return PYTORCH_ENGINE.equals(engine) && transformersType != SENTENCE_TRANSFORMERS && !transformersType.name().endsWith("_NEURON");
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.utils.Float16Utils;
+
+import java.util.Map;
+
+/**
+ * Pools, normalizes and quantizes text embeddings on plain float arrays. Token embeddings are copied out of
+ * the model output once, instead of creating an intermediate NDArray for every pooling step.
+ */
+public class TextEmbeddingPostProcessor {
+    public static final String SCALE_FIELD = "scale";
+
+    // INT8 embeddings are normalized, so all values are in [-1, 1] and share one scale. A per embedding
+    // scale would change the distances between quantized embeddings.
+    public static final float INT8_SCALE = 127f;
+
+    /**
+     * Mean pools token embeddings with the attention mask in one pass.
+     * @param tokenEmbeddings token embeddings, row major with one row of dimension values per token
+     * @param offset offset of the first token in token embeddings
+     * @param attentionMask attention mask of tokens, padding tokens are 0
+     * @param dimension embedding dimension
+     * @param sqrtLen divide the sum by square root of the number of tokens instead of the number of tokens
+     * @param normalize L2 normalize the embedding
+     * @return embedding
+     */
+    public static float[] meanPool(float[] tokenEmbeddings, int offset, long[] attentionMask, int dimension, boolean sqrtLen,
+                                   boolean normalize) {
+        float[] sum = new float[dimension];
+        long count = 0;
+        for (int i = 0; i < attentionMask.length; i++) {
+            if (attentionMask[i] == 0) {
+                continue;
+            }
+            count++;
+            int start = offset + i * dimension;
+            for (int j = 0; j < dimension; j++) {
+                sum[j] += tokenEmbeddings[start + j];
+            }
+        }
+        if (normalize) {
+            // The normalized mean is the normalized sum.
+            return normalize(sum);
+        }
+        double divisor = Math.max(count, 1e-9);
+        if (sqrtLen) {
+            divisor = Math.sqrt(divisor);
+        }
+        float scale = (float) (1 / divisor);
+        for (int j = 0; j < dimension; j++) {
+            sum[j] *= scale;
+        }
+        return sum;
+    }
+
+    /**
+     * L2 normalizes an embedding in place.
+     * @param embedding embedding
+     * @return the same embedding
+     */
+    public static float[] normalize(float[] embedding) {
+        return normalize(embedding, embedding.length);
+    }
+
+    /**
+     * L2 normalizes embeddings in place.
+     * @param embeddings embeddings, row major with one row of dimension values per embedding
+     * @param dimension embedding dimension
+     * @return the same embeddings
+     */
+    public static float[] normalize(float[] embeddings, int dimension) {
+        for (int start = 0; start + dimension <= embeddings.length; start += dimension) {
+            double squareSum = 0;
+            for (int i = start; i < start + dimension; i++) {
+                squareSum += embeddings[i] * embeddings[i];
+            }
+            float scale = (float) (1 / Math.max(Math.sqrt(squareSum), 1e-12));
+            for (int i = start; i < start + dimension; i++) {
+                embeddings[i] *= scale;
+            }
+        }
+        return embeddings;
+    }
+
+    /**
+     * Creates model tensor of an embedding with the embedding data type.
+     * FLOAT16 values are rounded to half precision. INT8 values are the normalized embedding multiplied by the fixed
+     * scale 127 and rounded. The scale is returned in data as map, so the embedding can be restored by dividing the
+     * values by it.
+     * @param name tensor name
+     * @param embedding embedding
+     * @param shape tensor shape
+     * @param dataType embedding data type, FLOAT32 if null
+     * @param normalized whether the embedding is L2 normalized, INT8 embeddings must be normalized
+     * @return model tensor
+     */
+    public static ModelTensor toModelTensor(String name, float[] embedding, long[] shape, MLResultDataType dataType,
+                                            boolean normalized) {
+        ModelTensor.ModelTensorBuilder builder = ModelTensor.builder().name(name).shape(shape);
+        Number[] data = new Number[embedding.length];
+        if (dataType == MLResultDataType.INT8) {
+            if (!normalized) {
+                throw new IllegalArgumentException("INT8 embedding must be normalized");
+            }
+            for (int i = 0; i < embedding.length; i++) {
+                data[i] = (int) Math.max(-INT8_SCALE, Math.min(INT8_SCALE, Math.round(embedding[i] * INT8_SCALE)));
+            }
+            return builder.data(data).dataType(MLResultDataType.INT8).dataAsMap(Map.of(SCALE_FIELD, INT8_SCALE)).build();
+        }
+        if (dataType == MLResultDataType.FLOAT16) {
+            for (int i = 0; i < embedding.length; i++) {
+                data[i] = Float16Utils.roundToFloat16(embedding[i]);
+            }
+            return builder.data(data).dataType(MLResultDataType.FLOAT16).build();
+        }
+        for (int i = 0; i < embedding.length; i++) {
+            data[i] = embedding[i];
+        }
+        return builder.data(data).dataType(MLResultDataType.FLOAT32).build();
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Set;
  */
 @Log4j2
 public class FileUtils {
+    private static final int BUFFER_SIZE = 64 * 1024;
 
     /**
      * Split file into smaller chunks evenly.
@@ -41,26 +42,49 @@ public class FileUtils {
      * @throws IOException
      */
     public static List<String> splitFileIntoChunks(File file, Path outputPath, int chunkSize) throws IOException {
-        int fileSize = (int) file.length();
+        try (InputStream inStream = new FileInputStream(file)) {
+            return splitStreamIntoChunks(inStream, outputPath, chunkSize);
+        }
+    }
+
+    /**
+     * Split stream into chunks of chunk size, only the last chunk may be smaller. The stream is read once with
+     * a fixed buffer, so it works for streams of any length, e.g. downloading a model larger than 2GB.
+     * @param inputStream input stream, not closed
+     * @param outputPath output path
+     * @param chunkSize chunk size
+     * @return a list of chunk file names
+     * @throws IOException
+     */
+    public static List<String> splitStreamIntoChunks(InputStream inputStream, Path outputPath, int chunkSize) throws IOException {
+        org.apache.commons.io.FileUtils.forceMkdir(outputPath.toFile());
         ArrayList<String> nameList = new ArrayList<>();
-        try (InputStream inStream = new BufferedInputStream(new FileInputStream(file))){
-            int numberOfChunk = 0;
-            int totalBytesRead = 0;
-            while (totalBytesRead < fileSize) {
-                String partName = numberOfChunk + "";
-                int bytesRemaining = fileSize - totalBytesRead;
-                if (bytesRemaining < chunkSize) {
-                    chunkSize = bytesRemaining;
-                }
-                byte[] temporary = new byte[chunkSize];
-                int bytesRead = inStream.read(temporary, 0, chunkSize);
-                if (bytesRead > 0) {
-                    totalBytesRead += bytesRead;
-                    numberOfChunk++;
+        byte[] buffer = new byte[BUFFER_SIZE];
+        OutputStream output = null;
+        try {
+            int chunkBytesWritten = chunkSize;
+            int bytesRead;
+            while ((bytesRead = inputStream.read(buffer)) >= 0) {
+                int offset = 0;
+                while (offset < bytesRead) {
+                    if (chunkBytesWritten == chunkSize) {
+                        if (output != null) {
+                            output.close();
+                        }
+                        String partFileName = outputPath.resolve(String.valueOf(nameList.size())).toString();
+                        output = new FileOutputStream(partFileName);
+                        nameList.add(partFileName);
+                        chunkBytesWritten = 0;
+                    }
+                    int length = Math.min(bytesRead - offset, chunkSize - chunkBytesWritten);
+                    output.write(buffer, offset, length);
+                    offset += length;
+                    chunkBytesWritten += length;
                 }
-                Path partFileName = outputPath.resolve(partName + "");
-                write(temporary, partFileName.toString());
-                nameList.add(partFileName.toString());
+            }
+        } finally {
+            if (output != null) {
+                output.close();
             }
         }
         return nameList;
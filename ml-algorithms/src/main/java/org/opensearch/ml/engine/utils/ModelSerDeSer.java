@@ -11,12 +11,18 @@ import org.apache.commons.io.serialization.ValidatingObjectInputStream;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
 
+import java.io.BufferedInputStream;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectOutputStream;
-import java.io.ObjectInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Base64;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
 
 @Log4j2
 @UtilityClass
@@ -38,6 +44,7 @@ public class ModelSerDeSer {
             "[Ljava.lang.*",
             "[Lorg.tribuo.*",
             "[Llibsvm.*",
+            "[Lcom.oracle.labs.mlrg.olcut.provenance.*",
             "[[I",
             "[[Z",
             "[[J",
@@ -68,41 +75,101 @@ public class ModelSerDeSer {
             "java.time.chrono.*",
     };
 
+    // Models are serialized as a versioned header followed by a deflate compressed java serialization payload.
+    // Content without the header is a legacy model which was java serialized without compression.
+    private static final byte[] FORMAT_MAGIC = {'O', 'S', 'M', 'L'};
+    public static final byte FORMAT_VERSION = 1;
+    private static final int BUFFER_SIZE = 8192;
+    // Nodes of older versions can only read the legacy format, so the versioned format is only written once enabled.
+    private static volatile boolean versionedFormatEnabled = false;
+
+    /**
+     * Set whether models are serialized in the versioned, compressed format. Only enable this once every node of the
+     * cluster can read it, models written in the versioned format can't be read by older nodes.
+     * @param enabled whether to write the versioned format
+     */
+    public static void setVersionedFormatEnabled(boolean enabled) {
+        versionedFormatEnabled = enabled;
+    }
+
     public static String serializeToBase64(Object model) {
         byte[] bytes = serialize(model);
         return encodeBase64(bytes);
     }
 
     public static byte[] serialize(Object model) {
+        if (!versionedFormatEnabled) {
+            return serializeLegacy(model);
+        }
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream()) {
+            byteArrayOutputStream.write(FORMAT_MAGIC);
+            byteArrayOutputStream.write(FORMAT_VERSION);
+            try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(new DeflaterOutputStream(byteArrayOutputStream, deflater, BUFFER_SIZE))) {
+                objectOutputStream.writeObject(model);
+            }
+            return byteArrayOutputStream.toByteArray();
+        } catch (IOException e) {
+            throw new ModelSerDeSerException("Failed to serialize model.", e);
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] serializeLegacy(Object model) {
         try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
              ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
             objectOutputStream.writeObject(model);
             objectOutputStream.flush();
             return byteArrayOutputStream.toByteArray();
         } catch (IOException e) {
-            throw new ModelSerDeSerException("Failed to serialize model.", e.getCause());
+            throw new ModelSerDeSerException("Failed to serialize model.", e);
         }
     }
 
     // This method has been tested in K-means, Linear Regression, Logistic regression, Anomaly Detection and Random Cut Forest summarization and passed.
     public static Object deserialize(byte[] modelBin) {
-        try (ByteArrayInputStream inputStream = new ByteArrayInputStream(modelBin);
-             ValidatingObjectInputStream validatingObjectInputStream = new ValidatingObjectInputStream(inputStream);
-             ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(modelBin))){
+        return deserialize(new ByteArrayInputStream(modelBin));
+    }
+
+    public static Object deserialize(MLModel model) {
+        // Decode base64 content while reading, so the decoded model bytes are never held in memory at once.
+        byte[] base64Bytes = model.getContent().getBytes(StandardCharsets.ISO_8859_1);
+        return deserialize(Base64.getDecoder().wrap(new ByteArrayInputStream(base64Bytes)));
+    }
+
+    /**
+     * Deserialize model from stream. Both versioned and legacy model formats are supported.
+     * Only classes in accept list can be deserialized to avoid deserialization attack.
+     * @param inputStream model input stream
+     * @return deserialized model
+     */
+    public static Object deserialize(InputStream inputStream) {
+        try (InputStream modelStream = toModelStream(new BufferedInputStream(inputStream, BUFFER_SIZE));
+             ValidatingObjectInputStream validatingObjectInputStream = new ValidatingObjectInputStream(modelStream)) {
             // Validate the model class type to avoid deserialization attack.
             validatingObjectInputStream
                     .accept(ACCEPT_CLASS_PATTERNS)
                     .reject(REJECT_CLASS_PATTERNS);
-            return objectInputStream.readObject();
+            return validatingObjectInputStream.readObject();
         } catch (Throwable e) {
             log.error("Failed to deserialize model", e);
-            throw new ModelSerDeSerException("Failed to deserialize model.", e.getCause());
+            throw new ModelSerDeSerException("Failed to deserialize model.", e);
         }
     }
 
-    public static Object deserialize(MLModel model) {
-        byte[] decodeBytes = decodeBase64(model.getContent());
-        return deserialize(decodeBytes);
+    private static InputStream toModelStream(BufferedInputStream inputStream) throws IOException {
+        inputStream.mark(FORMAT_MAGIC.length + 1);
+        byte[] header = inputStream.readNBytes(FORMAT_MAGIC.length + 1);
+        if (header.length <= FORMAT_MAGIC.length || !Arrays.equals(FORMAT_MAGIC, Arrays.copyOf(header, FORMAT_MAGIC.length))) {
+            inputStream.reset();
+            return inputStream;
+        }
+        byte version = header[FORMAT_MAGIC.length];
+        if (version != FORMAT_VERSION) {
+            throw new ModelSerDeSerException("Unsupported model format version: " + version);
+        }
+        return new InflaterInputStream(inputStream);
     }
 
     public static byte[] decodeBase64(String base64Str) {
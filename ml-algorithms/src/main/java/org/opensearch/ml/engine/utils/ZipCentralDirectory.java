@@ -0,0 +1,130 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipException;
+
+/**
+ * Reads the central directory of a zip file which is split into chunk files, without merging the chunks.
+ *
+ * The central directory is at the end of a zip file, so only the last bytes of the last chunks are read: the end of
+ * central directory record, the zip64 end of central directory record of zip files larger than 4GB, and the central
+ * directory itself.
+ */
+public class ZipCentralDirectory {
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_LENGTH = 22;
+    private static final int MAX_COMMENT_LENGTH = 0xffff;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_LOCATOR_LENGTH = 20;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH = 56;
+    private static final int CENTRAL_FILE_HEADER_SIGNATURE = 0x02014b50;
+    private static final int CENTRAL_FILE_HEADER_LENGTH = 46;
+
+    private final List<String> chunkFiles;
+    private final int chunkSize;
+    private final long size;
+
+    /**
+     * @param chunkFiles chunk files in order, all but the last one have chunk size bytes
+     * @param chunkSize chunk size
+     * @param size size of the zip file
+     */
+    public ZipCentralDirectory(List<String> chunkFiles, int chunkSize, long size) {
+        this.chunkFiles = chunkFiles;
+        this.chunkSize = chunkSize;
+        this.size = size;
+    }
+
+    /**
+     * Read names of all entries in the central directory.
+     * @return entry names
+     * @throws IOException if reading chunk files fails or the zip file is malformed
+     */
+    public List<String> readEntryNames() throws IOException {
+        int tailLength = (int) Math.min(size, END_OF_CENTRAL_DIRECTORY_LENGTH + MAX_COMMENT_LENGTH);
+        ByteBuffer tail = read(size - tailLength, tailLength);
+        int end = findEndOfCentralDirectory(tail);
+        long entries = tail.getShort(end + 10) & 0xffff;
+        long directorySize = tail.getInt(end + 12) & 0xffffffffL;
+        long directoryOffset = tail.getInt(end + 16) & 0xffffffffL;
+        if (entries == 0xffff || directorySize == 0xffffffffL || directoryOffset == 0xffffffffL) {
+            if (end < ZIP64_LOCATOR_LENGTH || tail.getInt(end - ZIP64_LOCATOR_LENGTH) != ZIP64_LOCATOR_SIGNATURE) {
+                throw new ZipException("Zip64 end of central directory locator not found");
+            }
+            ByteBuffer zip64End = read(tail.getLong(end - ZIP64_LOCATOR_LENGTH + 8), ZIP64_END_OF_CENTRAL_DIRECTORY_LENGTH);
+            if (zip64End.getInt(0) != ZIP64_END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                throw new ZipException("Zip64 end of central directory not found");
+            }
+            entries = zip64End.getLong(32);
+            directorySize = zip64End.getLong(40);
+            directoryOffset = zip64End.getLong(48);
+        }
+        if (directorySize > Integer.MAX_VALUE || directoryOffset + directorySize > size) {
+            throw new ZipException("Invalid central directory");
+        }
+
+        ByteBuffer directory = read(directoryOffset, (int) directorySize);
+        List<String> names = new ArrayList<>();
+        for (long i = 0; i < entries; i++) {
+            int position = directory.position();
+            if (directory.remaining() < CENTRAL_FILE_HEADER_LENGTH || directory.getInt(position) != CENTRAL_FILE_HEADER_SIGNATURE) {
+                throw new ZipException("Invalid central directory file header");
+            }
+            int nameLength = directory.getShort(position + 28) & 0xffff;
+            int extraLength = directory.getShort(position + 30) & 0xffff;
+            int commentLength = directory.getShort(position + 32) & 0xffff;
+            int headerLength = CENTRAL_FILE_HEADER_LENGTH + nameLength + extraLength + commentLength;
+            if (directory.remaining() < headerLength) {
+                throw new ZipException("Invalid central directory file header");
+            }
+            byte[] name = new byte[nameLength];
+            directory.position(position + CENTRAL_FILE_HEADER_LENGTH);
+            directory.get(name);
+            names.add(new String(name, StandardCharsets.UTF_8));
+            directory.position(position + headerLength);
+        }
+        return names;
+    }
+
+    private static int findEndOfCentralDirectory(ByteBuffer tail) throws ZipException {
+        for (int i = tail.limit() - END_OF_CENTRAL_DIRECTORY_LENGTH; i >= 0; i--) {
+            if (tail.getInt(i) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return i;
+            }
+        }
+        throw new ZipException("End of central directory not found");
+    }
+
+    // Read bytes at position of the zip file, which may span several chunk files.
+    private ByteBuffer read(long position, int length) throws IOException {
+        if (position < 0 || position + length > size) {
+            throw new ZipException("Invalid offset in zip file: " + position);
+        }
+        byte[] bytes = new byte[length];
+        int read = 0;
+        while (read < length) {
+            long current = position + read;
+            int chunk = (int) (current / chunkSize);
+            int offset = (int) (current % chunkSize);
+            int n = Math.min(length - read, chunkSize - offset);
+            try (RandomAccessFile file = new RandomAccessFile(chunkFiles.get(chunk), "r")) {
+                file.seek(offset);
+                file.readFully(bytes, read, n);
+            }
+            read += n;
+        }
+        return ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
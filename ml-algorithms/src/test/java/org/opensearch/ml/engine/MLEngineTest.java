@@ -80,6 +80,24 @@ public class MLEngineTest {
         predictions.forEach(row -> Assert.assertTrue(row.getValue(0).intValue() == 0 || row.getValue(0).intValue() == 1));
     }
 
+    @Test
+    public void predictKMeans_CachePredictable() {
+        MLModel model = trainKMeansModel();
+        model.setModelId("test_model_id");
+        DataFrame predictionDataFrame = constructTestDataFrame(10);
+        MLInputDataset inputDataset = DataFrameInputDataset.builder().dataFrame(predictionDataFrame).build();
+        Input mlInput = MLInput.builder().algorithm(FunctionName.KMEANS).inputDataset(inputDataset).build();
+        MLPredictionOutput output = (MLPredictionOutput)mlEngine.predict(mlInput, model);
+        assertEquals(10, output.getPredictionResult().size());
+        assertEquals(1, mlEngine.getPredictableCache().size());
+        Predictable cachedPredictable = mlEngine.getPredictableCache().get(model);
+        Assert.assertNotNull(cachedPredictable);
+
+        output = (MLPredictionOutput)mlEngine.predict(mlInput, model);
+        assertEquals(10, output.getPredictionResult().size());
+        Assert.assertSame(cachedPredictable, mlEngine.getPredictableCache().get(model));
+    }
+
     @Test
     public void predictLinearRegression() {
         MLModel model = trainLinearRegressionModel();
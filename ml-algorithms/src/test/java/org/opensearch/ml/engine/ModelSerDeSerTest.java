@@ -5,6 +5,7 @@
 
 package org.opensearch.ml.engine;
 
+import org.junit.After;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -14,12 +15,22 @@ import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.clustering.KMeansParams;
 import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParams;
 import org.opensearch.ml.engine.algorithms.clustering.KMeans;
+import org.opensearch.ml.engine.algorithms.clustering.SerializableSummary;
 import org.opensearch.ml.engine.algorithms.regression.LinearRegression;
+import org.opensearch.ml.engine.exceptions.ModelSerDeSerException;
 import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.tribuo.clustering.kmeans.KMeansModel;
 import org.tribuo.regression.sgd.linear.LinearSGDModel;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.opensearch.ml.engine.helper.MLTestHelper.concstructDataFrameInputDataSet;
 
 public class ModelSerDeSerTest {
@@ -46,4 +57,62 @@ public class ModelSerDeSerTest {
         assertNotNull(deserializedModel);
     }
 
+    @After
+    public void tearDown() {
+        ModelSerDeSer.setVersionedFormatEnabled(false);
+    }
+
+    @Test
+    public void testModelSerDeSer_VersionedFormat() {
+        ModelSerDeSer.setVersionedFormatEnabled(true);
+        byte[] bytes = ModelSerDeSer.serialize(new SerializableSummary());
+        assertArrayEquals(new byte[]{'O', 'S', 'M', 'L', ModelSerDeSer.FORMAT_VERSION}, Arrays.copyOf(bytes, 5));
+        assertTrue(ModelSerDeSer.deserialize(bytes) instanceof SerializableSummary);
+    }
+
+    @Test
+    public void testModelSerDeSer_LegacyFormatByDefault() throws IOException {
+        SerializableSummary summary = new SerializableSummary();
+        summary.setMean(new float[]{1.0f, 2.0f});
+        byte[] bytes = ModelSerDeSer.serialize(summary);
+        assertArrayEquals(javaSerialize(summary), bytes);
+        SerializableSummary deserializedSummary = (SerializableSummary) ModelSerDeSer.deserialize(bytes);
+        assertArrayEquals(new float[]{1.0f, 2.0f}, deserializedSummary.getMean(), 0.0f);
+    }
+
+    @Test
+    public void testModelSerDeSer_LegacyFormat() throws IOException {
+        SerializableSummary summary = new SerializableSummary();
+        summary.setMean(new float[]{1.0f, 2.0f});
+        MLModel model = MLModel.builder().algorithm(FunctionName.RCF_SUMMARIZE).content(ModelSerDeSer.encodeBase64(javaSerialize(summary))).build();
+
+        SerializableSummary deserializedSummary = (SerializableSummary) ModelSerDeSer.deserialize(model);
+        assertArrayEquals(new float[]{1.0f, 2.0f}, deserializedSummary.getMean(), 0.0f);
+    }
+
+    @Test
+    public void testModelSerDeSer_RejectNotAcceptedClass() throws IOException {
+        thrown.expect(ModelSerDeSerException.class);
+        thrown.expectMessage("Failed to deserialize model.");
+        ModelSerDeSer.deserialize(javaSerialize(new File("test")));
+    }
+
+    @Test
+    public void testModelSerDeSer_UnsupportedVersion() {
+        thrown.expect(ModelSerDeSerException.class);
+        ModelSerDeSer.setVersionedFormatEnabled(true);
+        byte[] bytes = ModelSerDeSer.serialize(new SerializableSummary());
+        bytes[4] = (byte) (ModelSerDeSer.FORMAT_VERSION + 1);
+        ModelSerDeSer.deserialize(bytes);
+    }
+
+    private byte[] javaSerialize(Object object) throws IOException {
+        try (ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+             ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream)) {
+            objectOutputStream.writeObject(object);
+            objectOutputStream.flush();
+            return byteArrayOutputStream.toByteArray();
+        }
+    }
+
 }
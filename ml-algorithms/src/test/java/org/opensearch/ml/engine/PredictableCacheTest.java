@@ -0,0 +1,123 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class PredictableCacheTest {
+
+    private PredictableCache predictableCache;
+
+    @Before
+    public void setUp() {
+        predictableCache = new PredictableCache(1000);
+    }
+
+    @Test
+    public void isCacheable() {
+        assertTrue(predictableCache.isCacheable(model("model1", FunctionName.KMEANS, "1", "content")));
+        assertFalse(predictableCache.isCacheable(null));
+        assertFalse(predictableCache.isCacheable(model(null, FunctionName.KMEANS, "1", "content")));
+        assertFalse(predictableCache.isCacheable(model("model1", FunctionName.KMEANS, "1", null)));
+        assertFalse(predictableCache.isCacheable(model("model1", FunctionName.FIT_RCF, "1", "content")));
+    }
+
+    @Test
+    public void get_Cached() {
+        MLModel model = model("model1", FunctionName.KMEANS, "1", "content");
+        Predictable predictable = mock(Predictable.class);
+        predictableCache.put(model, predictable);
+        assertSame(predictable, predictableCache.get(model));
+        assertSame(predictable, predictableCache.get(model("model1", FunctionName.KMEANS, "1", "content")));
+        assertEquals(1, predictableCache.size());
+    }
+
+    @Test
+    public void get_ContentChanged() {
+        predictableCache.put(model("model1", FunctionName.KMEANS, "1", "content"), mock(Predictable.class));
+        assertNull(predictableCache.get(model("model1", FunctionName.KMEANS, "1", "changed")));
+        assertEquals(0, predictableCache.size());
+        assertEquals(0, predictableCache.getSizeInBytes());
+    }
+
+    @Test
+    public void get_ContentChangedSameHashCode() {
+        // Same length and String.hashCode
+        predictableCache.put(model("model1", FunctionName.KMEANS, "1", "Aa"), mock(Predictable.class));
+        assertNull(predictableCache.get(model("model1", FunctionName.KMEANS, "1", "BB")));
+        assertEquals(0, predictableCache.size());
+    }
+
+    @Test
+    public void get_ModelContentHash() {
+        Predictable predictable = mock(Predictable.class);
+        predictableCache.put(model("model1", FunctionName.KMEANS, "1", "content", "hash1"), predictable);
+        assertSame(predictable, predictableCache.get(model("model1", FunctionName.KMEANS, "1", "content", "hash1")));
+        assertNull(predictableCache.get(model("model1", FunctionName.KMEANS, "1", "content", "hash2")));
+        assertEquals(0, predictableCache.size());
+    }
+
+    @Test
+    public void get_VersionChanged() {
+        predictableCache.put(model("model1", FunctionName.KMEANS, "1", "content"), mock(Predictable.class));
+        assertNull(predictableCache.get(model("model1", FunctionName.KMEANS, "2", "content")));
+        assertEquals(0, predictableCache.size());
+    }
+
+    @Test
+    public void put_EvictLeastRecentlyUsed() {
+        String content = "a".repeat(800);
+        MLModel model1 = model("model1", FunctionName.KMEANS, "1", content);
+        MLModel model2 = model("model2", FunctionName.KMEANS, "1", content);
+        predictableCache.put(model1, mock(Predictable.class));
+        predictableCache.put(model2, mock(Predictable.class));
+        assertNull(predictableCache.get(model1));
+        assertTrue(predictableCache.get(model2) != null);
+        assertEquals(600, predictableCache.getSizeInBytes());
+    }
+
+    @Test
+    public void put_TooLarge() {
+        predictableCache.put(model("model1", FunctionName.KMEANS, "1", "a".repeat(2000)), mock(Predictable.class));
+        assertEquals(0, predictableCache.size());
+    }
+
+    @Test
+    public void invalidate() {
+        MLModel model = model("model1", FunctionName.KMEANS, "1", "content");
+        predictableCache.put(model, mock(Predictable.class));
+        predictableCache.invalidate("model1");
+        assertNull(predictableCache.get(model));
+        assertEquals(0, predictableCache.getSizeInBytes());
+    }
+
+    @Test
+    public void setMaxSizeInBytes() {
+        predictableCache.put(model("model1", FunctionName.KMEANS, "1", "a".repeat(800)), mock(Predictable.class));
+        predictableCache.setMaxSizeInBytes(100);
+        assertEquals(0, predictableCache.size());
+        assertEquals(0, predictableCache.getSizeInBytes());
+    }
+
+    private MLModel model(String modelId, FunctionName algorithm, String version, String content) {
+        return model(modelId, algorithm, version, content, null);
+    }
+
+    private MLModel model(String modelId, FunctionName algorithm, String version, String content, String modelContentHash) {
+        return MLModel.builder().modelId(modelId).algorithm(algorithm).version(version).content(content)
+                .modelContentHash(modelContentHash).build();
+    }
+}
@@ -43,6 +43,7 @@ import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.index.IndexNotFoundException;
 import org.opensearch.index.query.QueryBuilder;
 import org.opensearch.ml.common.input.execute.anomalylocalization.AnomalyLocalizationInput;
+import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.common.output.execute.anomalylocalization.AnomalyLocalizationOutput;
 import org.opensearch.search.aggregations.AggregationBuilder;
 import org.opensearch.search.aggregations.AggregationBuilders;
@@ -412,6 +413,41 @@ public class AnomalyLocalizerImplTests {
         assertEquals(expectedOutput, actualOutput);
     }
 
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testExecuteAsync() {
+        when(clusterService.state()).thenReturn(testState);
+        when(indexNameExpressionResolver.concreteIndexNames(any(ClusterState.class),
+                any(IndicesOptions.class), anyString()))
+                .thenReturn(IndicesOptions);
+        ActionListener<Output> listener = mock(ActionListener.class);
+        anomalyLocalizer.execute(input, listener);
+
+        ArgumentCaptor<Output> outputCaptor = ArgumentCaptor.forClass(Output.class);
+        verify(listener).onResponse(outputCaptor.capture());
+        assertEquals(expectedOutput, outputCaptor.getValue());
+    }
+
+    @Test
+    public void testScanThrottle() {
+        AnomalyLocalizerImpl.ScanThrottle throttle = new AnomalyLocalizerImpl.ScanThrottle(2);
+        AtomicInteger started = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            throttle.submit(started::incrementAndGet);
+        }
+        assertEquals(2, started.get());
+        throttle.release();
+        assertEquals(3, started.get());
+        throttle.release();
+        assertEquals(4, started.get());
+        throttle.release();
+        throttle.release();
+        throttle.submit(started::incrementAndGet);
+        throttle.submit(started::incrementAndGet);
+        throttle.submit(started::incrementAndGet);
+        assertEquals(6, started.get());
+    }
+
     @SuppressWarnings("unchecked")
     @Test(expected = RuntimeException.class)
     public void testExecuteFail() {
@@ -0,0 +1,73 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.anomalylocalization;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CountMinSketchTests {
+
+    @Test
+    public void testEstimateHighCardinality() {
+        CountMinSketch sketch = new CountMinSketch();
+        HashMapCounter hash = new HashMapCounter();
+        for (int i = 0; i < 100_000; i++) {
+            List<String> key = Arrays.asList("host" + (i % 20_000), "region" + (i % 7));
+            sketch.increment(key, 1);
+            hash.increment(key, 1);
+        }
+        double errorBound = sketch.getErrorBound();
+        assertEquals(Math.E / 1024 * 100_000, errorBound, 1e-6);
+        int withinBound = 0;
+        for (List<String> key : hash.getKeyValues().keySet()) {
+            double estimate = sketch.estimate(key);
+            double truth = hash.estimate(key);
+            assertTrue(estimate >= truth);
+            if (estimate - truth <= errorBound) {
+                withinBound++;
+            }
+        }
+        assertTrue(withinBound >= hash.getKeyValues().size() * 0.99);
+    }
+
+    @Test
+    public void testConservativeUpdate() {
+        CountMinSketch sketch = new CountMinSketch();
+        List<String> key = Arrays.asList("a", "b");
+        sketch.increment(key, 2);
+        sketch.increment(key, 3);
+        assertEquals(5, sketch.estimate(key), 1e-9);
+        assertEquals(0, sketch.estimate(Arrays.asList("a", "c")), 1e-9);
+    }
+
+    @Test
+    public void testMerge() {
+        CountMinSketch sketch = new CountMinSketch();
+        CountMinSketch other = new CountMinSketch();
+        List<String> key = Arrays.asList("a");
+        sketch.increment(key, 2);
+        other.increment(key, 3);
+        other.increment(Arrays.asList("b"), 1);
+        sketch.merge(other);
+        assertEquals(5, sketch.estimate(key), 1e-9);
+        assertEquals(1, sketch.estimate(Arrays.asList("b")), 1e-9);
+        assertEquals(Math.E / 1024 * 6, sketch.getErrorBound(), 1e-9);
+    }
+
+    @Test
+    public void testCompositeKeyHash() {
+        assertEquals(SketchHash.hash(Arrays.asList("ab", "c")), SketchHash.hash(Arrays.asList("ab", "c")));
+        assertNotEquals(SketchHash.hash(Arrays.asList("ab", "c")), SketchHash.hash(Arrays.asList("a", "bc")));
+        assertNotEquals(SketchHash.hash(Arrays.asList("a", "")), SketchHash.hash(Arrays.asList("a")));
+        assertNotEquals(SketchHash.rowHash(1L, 0), SketchHash.rowHash(1L, 1));
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.anomalylocalization;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class CountSketchTests {
+
+    @Test
+    public void testEstimateHighCardinality() {
+        CountSketch sketch = new CountSketch();
+        HashMapCounter hash = new HashMapCounter();
+        for (int i = 0; i < 100_000; i++) {
+            List<String> key = Arrays.asList("host" + (i % 20_000), "region" + (i % 7));
+            double value = (i % 3) - 1.5;
+            sketch.increment(key, value);
+            hash.increment(key, value);
+        }
+        double errorBound = sketch.getErrorBound();
+        assertTrue(errorBound > 0);
+        int withinBound = 0;
+        for (List<String> key : hash.getKeyValues().keySet()) {
+            if (Math.abs(sketch.estimate(key) - hash.estimate(key)) <= errorBound) {
+                withinBound++;
+            }
+        }
+        assertTrue(withinBound >= hash.getKeyValues().size() * 0.99);
+    }
+
+    @Test
+    public void testMerge() {
+        CountSketch sketch = new CountSketch();
+        CountSketch other = new CountSketch();
+        List<String> key = Arrays.asList("a");
+        sketch.increment(key, -2);
+        other.increment(key, 3);
+        other.increment(Arrays.asList("b"), -1);
+        sketch.merge(other);
+        assertEquals(1, sketch.estimate(key), 1e-9);
+        assertEquals(-1, sketch.estimate(Arrays.asList("b")), 1e-9);
+    }
+}
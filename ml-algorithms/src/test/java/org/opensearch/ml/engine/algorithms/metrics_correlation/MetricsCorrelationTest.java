@@ -11,9 +11,9 @@ import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.opensearch.common.action.ActionFuture;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
@@ -22,6 +22,8 @@ import org.opensearch.client.Client;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.IndexNotFoundException;
@@ -52,9 +54,6 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelAction;
 import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.register.MLRegisterModelRequest;
 import org.opensearch.ml.common.transport.register.MLRegisterModelResponse;
-import org.opensearch.ml.common.transport.task.MLTaskGetAction;
-import org.opensearch.ml.common.transport.task.MLTaskGetRequest;
-import org.opensearch.ml.common.transport.task.MLTaskGetResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.encryptor.Encryptor;
@@ -67,6 +66,8 @@ import org.opensearch.search.fetch.subphase.FetchSourceContext;
 import org.opensearch.search.internal.InternalSearchResponse;
 import org.opensearch.search.profile.SearchProfileShardResults;
 import org.opensearch.search.suggest.Suggest;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 import java.io.File;
 import java.io.IOException;
@@ -85,11 +86,13 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
-import static org.mockito.Mockito.anyLong;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.opensearch.ml.engine.algorithms.DLModel.ML_ENGINE;
@@ -111,6 +114,10 @@ public class MetricsCorrelationTest {
     @Mock
     private ClusterService clusterService;
     @Mock
+    ThreadPool threadPool;
+    @Mock
+    Scheduler.ScheduledCancellable scheduledTimeout;
+    @Mock
     SearchRequest searchRequest;
     SearchResponse searchResponse;
 
@@ -185,7 +192,11 @@ public class MetricsCorrelationTest {
         params.put(ML_ENGINE, mlEngine);
 
         MockitoAnnotations.openMocks(this);
-        metricsCorrelation = spy(new MetricsCorrelation(client, settings, clusterService));
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.getThreadContext()).thenReturn(new ThreadContext(Settings.EMPTY));
+        when(threadPool.executor(any())).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+        when(threadPool.schedule(any(), any(), any())).thenReturn(scheduledTimeout);
+        metricsCorrelation = spy(new MetricsCorrelation(client, settings, clusterService, "opensearch_ml_execute"));
         List<float[]> inputData = new ArrayList<>();
         inputData.add(new float[]{-1.0f, 2.0f, 3.0f});
         inputData.add(new float[]{-1.0f, 2.0f, 3.0f});
@@ -203,19 +214,12 @@ public class MetricsCorrelationTest {
     public void testWhenModelIdNotNullButModelIsNotDeployed() throws ExecuteException {
         metricsCorrelation.initModel(model, params);
         MLModelGetResponse response = new MLModelGetResponse(model);
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
+        mockGetModel(response);
 
         doAnswer(invocation -> {
             MLModel smallModel = model.toBuilder().modelConfig(modelConfig).modelState(MLModelState.DEPLOYED).build();
             MLModelGetResponse responseTemp = new MLModelGetResponse(smallModel);
-            ActionFuture<MLModelGetResponse> mockedFutureTemp = mock(ActionFuture.class);
-            MLTaskGetResponse taskResponse = new MLTaskGetResponse(mlTask);
-            ActionFuture<MLTaskGetResponse> mockedFutureResponse = mock(ActionFuture.class);
-            when(client.execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class))).thenReturn(mockedFutureResponse);
-            when(mockedFutureResponse.actionGet(anyLong())).thenReturn(taskResponse);
-            when(mockedFutureTemp.actionGet(anyLong())).thenReturn(responseTemp);
+            mockGetModel(responseTemp);
 
             metricsCorrelation.initModel(smallModel, params);
             return null;
@@ -246,9 +250,7 @@ public class MetricsCorrelationTest {
             return searchListener;
         }).when(client).execute(any(MLModelSearchAction.class), any(SearchRequest.class), isA(ActionListener.class));
 
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
+        mockGetModel(response);
         doAnswer(invocation -> {
             metricsCorrelation.initModel(smallModel, params);
             return null;
@@ -269,17 +271,11 @@ public class MetricsCorrelationTest {
 
         MLModel smallModel = model.toBuilder().modelConfig(modelConfig).modelState(MLModelState.DEPLOYED).build();
         MLModelGetResponse response = new MLModelGetResponse(smallModel);
-        MLTaskGetResponse taskResponse = new MLTaskGetResponse(mlTask);
 
         metricsCorrelation.initModel(smallModel, params);
 
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
+        mockGetModel(response);
 
-        ActionFuture<MLTaskGetResponse> mockedFutureResponse = mock(ActionFuture.class);
-        when(client.execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class))).thenReturn(mockedFutureResponse);
-        when(mockedFutureResponse.actionGet(anyLong())).thenReturn(taskResponse);
 
 
         MetricsCorrelationOutput output = metricsCorrelation.execute(extendedInput);
@@ -300,15 +296,9 @@ public class MetricsCorrelationTest {
 
         MLModel smallModel = model.toBuilder().modelConfig(modelConfig).modelState(MLModelState.DEPLOYED).build();
         MLModelGetResponse response = new MLModelGetResponse(smallModel);
-        MLTaskGetResponse taskResponse = new MLTaskGetResponse(mlTask);
 
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
+        mockGetModel(response);
 
-        ActionFuture<MLTaskGetResponse> mockedFutureResponse = mock(ActionFuture.class);
-        when(client.execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class))).thenReturn(mockedFutureResponse);
-        when(mockedFutureResponse.actionGet(anyLong())).thenReturn(taskResponse);
 
         doAnswer(invocation -> {
             ActionListener<SearchResponse> searchListener = invocation.getArgument(2);
@@ -342,15 +332,9 @@ public class MetricsCorrelationTest {
         MLModel smallModel = model.toBuilder().modelConfig(modelConfig).modelState(MLModelState.PARTIALLY_DEPLOYED).build();
         MLModelGetResponse responseBeforeDeployed = new MLModelGetResponse(model);
         MLModelGetResponse responseAfterDeployed = new MLModelGetResponse(smallModel);
-        MLTaskGetResponse taskResponse = new MLTaskGetResponse(mlTask);
 
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(responseBeforeDeployed);
+        mockGetModel(responseBeforeDeployed);
 
-        ActionFuture<MLTaskGetResponse> mockedFutureResponse = mock(ActionFuture.class);
-        when(client.execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class))).thenReturn(mockedFutureResponse);
-        when(mockedFutureResponse.actionGet(anyLong())).thenReturn(taskResponse);
 
         doAnswer(invocation -> {
             ActionListener<SearchResponse> searchListener = invocation.getArgument(2);
@@ -362,9 +346,7 @@ public class MetricsCorrelationTest {
         doAnswer(invocation -> {
             ActionListener<MLDeployModelResponse> deployModelResponseListener = invocation.getArgument(2);
             metricsCorrelation.initModel(smallModel, params);
-            ActionFuture<MLModelGetResponse> mockedFutureNext = mock(ActionFuture.class);
-            when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFutureNext);
-            when(mockedFutureNext.actionGet(anyLong())).thenReturn(responseAfterDeployed);
+            mockGetModel(responseAfterDeployed);
 
             deployModelResponseListener.onResponse(mlDeployModelResponse);
             return mlDeployModelResponse;
@@ -389,15 +371,9 @@ public class MetricsCorrelationTest {
 
         MLModel smallModel = model.toBuilder().modelConfig(modelConfig).modelState(MLModelState.DEPLOYED).build();
         MLModelGetResponse response = new MLModelGetResponse(smallModel);
-        MLTaskGetResponse taskResponse = new MLTaskGetResponse(mlTask);
 
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
+        mockGetModel(response);
 
-        ActionFuture<MLTaskGetResponse> mockedFutureResponse = mock(ActionFuture.class);
-        when(client.execute(any(MLTaskGetAction.class), any(MLTaskGetRequest.class))).thenReturn(mockedFutureResponse);
-        when(mockedFutureResponse.actionGet(anyLong())).thenReturn(taskResponse);
 
         doAnswer(invocation -> {
             ActionListener<SearchResponse> searchListener = invocation.getArgument(2);
@@ -424,12 +400,14 @@ public class MetricsCorrelationTest {
         
     @Test
     public void testGetModel() {
-        ActionFuture<MLModelGetResponse> mockedFuture = mock(ActionFuture.class);
         MLModel smallModel = model.toBuilder().modelConfig(modelConfig).build();
         MLModelGetResponse response = new MLModelGetResponse(smallModel);
-        when(client.execute(any(MLModelGetAction.class), any(MLModelGetRequest.class))).thenReturn(mockedFuture);
-        when(mockedFuture.actionGet(anyLong())).thenReturn(response);
-        MLModel mlModel = metricsCorrelation.getModel(modelId);
+        mockGetModel(response);
+        ActionListener<MLModel> listener = mock(ActionListener.class);
+        metricsCorrelation.getModel(modelId, listener);
+        ArgumentCaptor<MLModel> captor = ArgumentCaptor.forClass(MLModel.class);
+        verify(listener).onResponse(captor.capture());
+        MLModel mlModel = captor.getValue();
         model = MLModel.builder()
                 .modelFormat(MLModelFormat.TORCH_SCRIPT)
                 .name(FunctionName.METRICS_CORRELATION.name())
@@ -453,6 +431,73 @@ public class MetricsCorrelationTest {
         return XContentBuilder.builder(XContentType.JSON.xContent());
     }
 
+    @Test
+    public void testQueuedRequestsRunWhenModelDeployed() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(false);
+            return null;
+        }).when(metricsCorrelation).prepareModel(any());
+        ActionListener<String> firstListener = mock(ActionListener.class);
+        ActionListener<String> secondListener = mock(ActionListener.class);
+        metricsCorrelation.waitForModel(firstListener);
+        metricsCorrelation.waitForModel(secondListener);
+        // only the first request prepares the model
+        verify(metricsCorrelation, times(1)).prepareModel(any());
+        verify(firstListener, never()).onResponse(any());
+
+        metricsCorrelation.onModelStateChanged("other_model", MLModelState.DEPLOYED);
+        verify(firstListener, never()).onResponse(any());
+
+        metricsCorrelation.onModelStateChanged(FunctionName.METRICS_CORRELATION.name(), MLModelState.DEPLOYED);
+        verify(firstListener).onResponse(FunctionName.METRICS_CORRELATION.name());
+        verify(secondListener).onResponse(FunctionName.METRICS_CORRELATION.name());
+        verify(scheduledTimeout).cancel();
+    }
+
+    @Test
+    public void testQueuedRequestsFailWhenModelDeployFailed() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(false);
+            return null;
+        }).when(metricsCorrelation).prepareModel(any());
+        ActionListener<String> listener = mock(ActionListener.class);
+        metricsCorrelation.waitForModel(listener);
+
+        metricsCorrelation.onModelStateChanged(FunctionName.METRICS_CORRELATION.name(), MLModelState.DEPLOY_FAILED);
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(captor.capture());
+        assertEquals("Failed to deploy metrics correlation model", captor.getValue().getMessage());
+    }
+
+    @Test
+    public void testOnlyOneModelStateCheckRuns() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(false);
+            return null;
+        }).when(metricsCorrelation).prepareModel(any());
+        ActionListener<String> listener = mock(ActionListener.class);
+        metricsCorrelation.waitForModel(listener);
+        metricsCorrelation.startModelStateCheck();
+        metricsCorrelation.startModelStateCheck();
+        // one request timeout and one model state check
+        verify(threadPool, times(2)).schedule(any(), any(), eq("opensearch_ml_execute"));
+    }
+
+    @Test
+    public void testRequestRunsWhenModelDeployedAlready() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(true);
+            return null;
+        }).when(metricsCorrelation).prepareModel(any());
+        ActionListener<String> listener = mock(ActionListener.class);
+        metricsCorrelation.waitForModel(listener);
+        verify(listener).onResponse(any());
+    }
+
     @Test
     public void testSearchRequest() {
         String expectedIndex = CommonValue.ML_MODEL_INDEX;
@@ -603,6 +648,14 @@ public class MetricsCorrelationTest {
         metricsCorrelation.initModel(mlModel, params);
     }
 
+    private void mockGetModel(MLModelGetResponse response) {
+        doAnswer(invocation -> {
+            ActionListener<MLModelGetResponse> listener = invocation.getArgument(2);
+            listener.onResponse(response);
+            return null;
+        }).when(client).execute(any(MLModelGetAction.class), any(MLModelGetRequest.class), isA(ActionListener.class));
+    }
+
     private SearchResponse createSearchModelResponse(
     ) throws IOException {
         XContentBuilder content = builder();
@@ -20,8 +20,15 @@ import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class BatchRandomCutForestTest {
@@ -70,6 +77,92 @@ public class BatchRandomCutForestTest {
         verifyPredictionResult(output);
     }
 
+    @Test
+    public void predictWithDeployedModel() throws Exception {
+        MLModel model = forest.train(trainDataFrameInput);
+        BatchRandomCutForest deployedForest = new BatchRandomCutForest(parameters);
+        deployedForest.initModel(model, null, null);
+        Assert.assertTrue(deployedForest.isModelReady());
+
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<MLOutput>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executorService.submit(() -> deployedForest.predict(predictionDataFrameInput)));
+            }
+            for (Future<MLOutput> future : futures) {
+                verifyPredictionResult((MLPredictionOutput) future.get());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+
+        deployedForest.close();
+        Assert.assertFalse(deployedForest.isModelReady());
+    }
+
+    @Test
+    public void predictWithExecutor() {
+        MLModel model = forest.train(trainDataFrameInput);
+        dataSize = 5000;
+        MLInput mlInput = MLInput.builder()
+                .algorithm(FunctionName.BATCH_RCF)
+                .inputDataset(new DataFrameInputDataset(constructRCFDataFrame(true)))
+                .build();
+        DataFrame expected = ((MLPredictionOutput) forest.predict(mlInput, model)).getPredictionResult();
+
+        ExecutorService executorService = Executors.newFixedThreadPool(1);
+        try {
+            BatchRandomCutForest parallelForest = new BatchRandomCutForest(parameters);
+            parallelForest.setPredictExecutor(executorService);
+            MLPredictionOutput output = (MLPredictionOutput) parallelForest.predict(mlInput, model);
+            verifyPredictionResult(output);
+            for (int i = 0; i < dataSize; i++) {
+                Assert.assertEquals(expected.getRow(i).getValue(0).doubleValue(),
+                        output.getPredictionResult().getRow(i).getValue(0).doubleValue(), 0.0);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void predictWithRejectingExecutor() {
+        MLModel model = forest.train(trainDataFrameInput);
+        dataSize = 5000;
+        MLInput mlInput = MLInput.builder()
+                .algorithm(FunctionName.BATCH_RCF)
+                .inputDataset(new DataFrameInputDataset(constructRCFDataFrame(true)))
+                .build();
+        DataFrame expected = ((MLPredictionOutput) forest.predict(mlInput, model)).getPredictionResult();
+
+        BatchRandomCutForest parallelForest = new BatchRandomCutForest(parameters);
+        // A busy executor, the calling thread scores all chunks.
+        parallelForest.setPredictExecutor(command -> {
+            throw new RejectedExecutionException("rejected");
+        });
+        MLPredictionOutput output = (MLPredictionOutput) parallelForest.predict(mlInput, model);
+        verifyPredictionResult(output);
+        for (int i = 0; i < dataSize; i++) {
+            Assert.assertEquals(expected.getRow(i).getValue(0).doubleValue(),
+                    output.getPredictionResult().getRow(i).getValue(0).doubleValue(), 0.0);
+        }
+    }
+
+    @Test
+    public void predictWithThresholdInRequest() {
+        MLModel model = forest.train(trainDataFrameInput);
+        BatchRCFParams predictParameters = BatchRCFParams.builder().anomalyScoreThreshold(Double.MAX_VALUE).build();
+        MLInput mlInput = MLInput.builder()
+                .algorithm(FunctionName.BATCH_RCF)
+                .parameters(predictParameters)
+                .inputDataset(predictionDataFrameInputDataSet)
+                .build();
+        DataFrame predictions = ((MLPredictionOutput) forest.predict(mlInput, model)).getPredictionResult();
+        Assert.assertEquals(dataSize, predictions.size());
+        predictions.forEach(row -> Assert.assertFalse(row.getValue(1).booleanValue()));
+    }
+
     @Test
     public void predictWithNullModel() {
         exceptionRule.expect(IllegalArgumentException.class);
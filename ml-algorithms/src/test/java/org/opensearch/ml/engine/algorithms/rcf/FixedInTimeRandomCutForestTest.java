@@ -23,6 +23,9 @@ import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.input.parameter.rcf.FitRCFParams;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class FixedInTimeRandomCutForestTest {
@@ -96,6 +99,43 @@ public class FixedInTimeRandomCutForestTest {
         Assert.assertNotNull(model.getContent());
     }
 
+    @Test
+    public void trainWithDateFormatTimestamp() {
+        FitRCFParams params = FitRCFParams.builder()
+                .numberOfTrees(10)
+                .shingleSize(8)
+                .sampleSize(100)
+                .timeField("timestamp")
+                .dateFormat("yyyy-MM-dd HH:mm:ss")
+                .timeZone("UTC")
+                .build();
+        DataFrame dataFrame = constructRCFDataFrameDateTimestamp();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.FIT_RCF).inputDataset(new DataFrameInputDataset(dataFrame)).parameters(params).build();
+        MLOutput mlOutput = new FixedInTimeRandomCutForest(params).trainAndPredict(mlInput);
+        DataFrame predictions = ((MLPredictionOutput) mlOutput).getPredictionResult();
+        Assert.assertEquals(dataSize, predictions.size());
+        ColumnMeta[] predictionColumnMetas = predictions.columnMetas();
+        for (int i = 0; i < predictionColumnMetas.length; i++) {
+            if ("timestamp".equals(predictionColumnMetas[i].getName())) {
+                Assert.assertEquals(1643677200000L, predictions.getRow(0).getValue(i).longValue());
+            }
+        }
+    }
+
+    @Test
+    public void predictWithDeployedModel() {
+        MLModel model = forest.train(trainDataFrameInput);
+        FixedInTimeRandomCutForest deployedForest = new FixedInTimeRandomCutForest(parameters);
+        deployedForest.initModel(model, null, null);
+        Assert.assertTrue(deployedForest.isModelReady());
+        for (int i = 0; i < 2; i++) {
+            MLPredictionOutput output = (MLPredictionOutput) deployedForest.predict(predictionDataFrameInput);
+            Assert.assertEquals(dataSize, output.getPredictionResult().size());
+        }
+        deployedForest.close();
+        Assert.assertFalse(deployedForest.isModelReady());
+    }
+
     @Test
     public void trainWithMLAlgoParams() {
         FitRCFParams params = FitRCFParams.builder().build();
@@ -128,6 +168,17 @@ public class FixedInTimeRandomCutForestTest {
         return dataFrame;
     }
 
+    private DataFrame constructRCFDataFrameDateTimestamp() {
+        ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta("timestamp", ColumnType.STRING), new ColumnMeta("value", ColumnType.INTEGER)};
+        DataFrame dataFrame = new DefaultDataFrame(columnMetas);
+        LocalDateTime startTime = LocalDateTime.of(2022, 2, 1, 1, 0, 0);
+        for (int i = 0; i < dataSize; i++) {
+            String time = startTime.plusMinutes(i).format(DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss", Locale.ROOT));
+            dataFrame.appendRow(new Object[]{time, ThreadLocalRandom.current().nextInt(1, 10)});
+        }
+        return dataFrame;
+    }
+
     private DataFrame constructRCFDataFrameStringTimestamp(boolean predict) {
         ColumnMeta[] columnMetas = new ColumnMeta[]{new ColumnMeta("timestamp", ColumnType.STRING), new ColumnMeta("value", ColumnType.INTEGER)};
         DataFrame dataFrame = new DefaultDataFrame(columnMetas);
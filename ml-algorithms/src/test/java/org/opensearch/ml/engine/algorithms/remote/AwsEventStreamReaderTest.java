@@ -0,0 +1,119 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import com.google.common.collect.ImmutableMap;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.opensearch.ml.common.exception.MLException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+public class AwsEventStreamReaderTest {
+
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Test
+    public void read_BedrockChunks() throws IOException {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        stream.write(bedrockChunk("{\"completion\":\"Hello\"}"));
+        stream.write(bedrockChunk("{\"completion\":\" world\"}"));
+        List<String> events = new ArrayList<>();
+        AwsEventStreamReader.read(new ByteArrayInputStream(stream.toByteArray()), events::add);
+        Assert.assertEquals(List.of("{\"completion\":\"Hello\"}", "{\"completion\":\" world\"}"), events);
+    }
+
+    @Test
+    public void read_RawPayload() throws IOException {
+        byte[] message = encodeMessage(ImmutableMap.of(":message-type", "event"), "{\"key\":\"value\"}".getBytes(StandardCharsets.UTF_8));
+        List<String> events = new ArrayList<>();
+        AwsEventStreamReader.read(new ByteArrayInputStream(message), events::add);
+        Assert.assertEquals(List.of("{\"key\":\"value\"}"), events);
+    }
+
+    @Test
+    public void read_Exception() throws IOException {
+        exceptionRule.expect(MLException.class);
+        exceptionRule.expectMessage("throttlingException");
+        byte[] message = encodeMessage(
+                ImmutableMap.of(":message-type", "exception", ":exception-type", "throttlingException"),
+                "{\"message\":\"Too many requests\"}".getBytes(StandardCharsets.UTF_8)
+        );
+        AwsEventStreamReader.read(new ByteArrayInputStream(message), event -> {});
+    }
+
+    @Test
+    public void read_InvalidChecksum() throws IOException {
+        exceptionRule.expect(IOException.class);
+        exceptionRule.expectMessage("Invalid message checksum");
+        byte[] message = bedrockChunk("{\"completion\":\"Hello\"}");
+        message[message.length - 1] ^= 1;
+        AwsEventStreamReader.read(new ByteArrayInputStream(message), event -> {});
+    }
+
+    @Test
+    public void read_Truncated() throws IOException {
+        exceptionRule.expect(IOException.class);
+        byte[] message = bedrockChunk("{\"completion\":\"Hello\"}");
+        AwsEventStreamReader.read(new ByteArrayInputStream(message, 0, message.length - 5), event -> {});
+    }
+
+    @Test
+    public void isEventStream() {
+        Assert.assertTrue(AwsEventStreamReader.isEventStream("application/vnd.amazon.eventstream"));
+        Assert.assertFalse(AwsEventStreamReader.isEventStream("application/json"));
+        Assert.assertFalse(AwsEventStreamReader.isEventStream(null));
+    }
+
+    static byte[] bedrockChunk(String json) {
+        String payload = "{\"bytes\":\"" + Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8)) + "\"}";
+        return encodeMessage(
+                ImmutableMap.of(":message-type", "event", ":event-type", "chunk", ":content-type", "application/json"),
+                payload.getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    static byte[] encodeMessage(Map<String, String> headers, byte[] payload) {
+        ByteArrayOutputStream headerBytes = new ByteArrayOutputStream();
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            byte[] name = header.getKey().getBytes(StandardCharsets.UTF_8);
+            byte[] value = header.getValue().getBytes(StandardCharsets.UTF_8);
+            headerBytes.write(name.length);
+            headerBytes.write(name, 0, name.length);
+            headerBytes.write(7);
+            headerBytes.write(value.length >> 8);
+            headerBytes.write(value.length);
+            headerBytes.write(value, 0, value.length);
+        }
+        int totalLength = 12 + headerBytes.size() + payload.length + 4;
+        ByteBuffer buffer = ByteBuffer.allocate(totalLength);
+        buffer.putInt(totalLength);
+        buffer.putInt(headerBytes.size());
+        buffer.putInt(crc(buffer.array(), 8));
+        buffer.put(headerBytes.toByteArray());
+        buffer.put(payload);
+        buffer.putInt(crc(buffer.array(), totalLength - 4));
+        return buffer.array();
+    }
+
+    private static int crc(byte[] bytes, int length) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes, 0, length);
+        return (int) crc32.getValue();
+    }
+}
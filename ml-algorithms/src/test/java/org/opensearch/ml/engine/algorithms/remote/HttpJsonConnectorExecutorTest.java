@@ -6,10 +6,12 @@
 package org.opensearch.ml.engine.algorithms.remote;
 
 import com.google.common.collect.ImmutableMap;
+import com.sun.net.httpserver.HttpServer;
 import org.apache.http.HttpEntity;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -28,12 +30,24 @@ import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.ml.engine.httpclient.MLHttpClientFactory;
 import org.opensearch.script.ScriptService;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -156,4 +170,74 @@ public class HttpJsonConnectorExecutorTest {
         Assert.assertArrayEquals(new Number[] {-0.014555434, -0.002135904, 0.0035105038}, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getData());
         Assert.assertArrayEquals(new Number[] {-0.014555434, -0.002135904, 0.0035105038}, modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors().get(1).getData());
     }
+
+    @Test
+    public void executePredict_ServerSentEvents() throws Exception {
+        CountDownLatch firstChunkReceived = new CountDownLatch(1);
+        AtomicBoolean streamed = new AtomicBoolean(false);
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/v1/chat/completions", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write("data: {\"choices\":[{\"delta\":{\"content\":\"Hello\"}}]}\n\n".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                // The second event is only sent after the client processed the first one.
+                streamed.set(firstChunkReceived.await(10, TimeUnit.SECONDS));
+                out.write(": keep-alive\n\n".getBytes(StandardCharsets.UTF_8));
+                out.write("data: {\"choices\":[{\"delta\":{\"content\":\" world\"}}]}\n\n".getBytes(StandardCharsets.UTF_8));
+                out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.start();
+        try {
+            ConnectorAction predictAction = ConnectorAction.builder()
+                    .actionType(ConnectorAction.ActionType.PREDICT)
+                    .method("POST")
+                    .url("http://127.0.0.1:" + server.getAddress().getPort() + "/v1/chat/completions")
+                    .requestBody("{\"stream\": true, \"messages\": ${parameters.messages}}")
+                    .build();
+            Connector connector = HttpConnector.builder().name("test connector").version("1").protocol("http").actions(Arrays.asList(predictAction)).build();
+            HttpJsonConnectorExecutor executor = spy(new HttpJsonConnectorExecutor(connector));
+            // The default client of the executor rejects local addresses.
+            when(executor.getHttpClient()).thenAnswer(invocation -> HttpClients.createDefault());
+            MLInputDataset inputDataSet = RemoteInferenceInputDataSet.builder().parameters(ImmutableMap.of("messages", "[{\"role\":\"user\",\"content\":\"hi\"}]")).build();
+
+            MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(inputDataSet).build();
+            Map<String, String> parameters = executor.prepareParameters(mlInput);
+            String payload = connector.createPredictPayload(parameters);
+
+            List<ModelTensors> chunks = new ArrayList<>();
+            executor.streamRemoteModel(mlInput, parameters, payload, tensors -> {
+                chunks.add(tensors);
+                firstChunkReceived.countDown();
+            });
+
+            Assert.assertTrue(streamed.get());
+            Assert.assertEquals(2, chunks.size());
+            Assert.assertEquals("Hello", getDeltaContent(chunks.get(0).getMlModelTensors().get(0)));
+            Assert.assertEquals(" world", getDeltaContent(chunks.get(1).getMlModelTensors().get(0)));
+
+            // Predict returns the events of the response together in one output.
+            firstChunkReceived.countDown();
+            ModelTensorOutput modelTensorOutput = executor.executePredict(mlInput);
+            Assert.assertEquals(1, modelTensorOutput.getMlModelOutputs().size());
+            List<ModelTensor> modelTensors = modelTensorOutput.getMlModelOutputs().get(0).getMlModelTensors();
+            Assert.assertEquals(2, modelTensors.size());
+            Assert.assertEquals("Hello", getDeltaContent(modelTensors.get(0)));
+            Assert.assertEquals(" world", getDeltaContent(modelTensors.get(1)));
+            Assert.assertEquals(ModelTensor.STREAM_EVENT_NAME, modelTensors.get(0).getName());
+            Assert.assertEquals(ModelTensor.STREAM_EVENT_NAME, modelTensors.get(1).getName());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    private String getDeltaContent(ModelTensor tensor) {
+        Map<String, ?> dataAsMap = tensor.getDataAsMap();
+        Map<?, ?> choice = (Map<?, ?>) ((List<?>) dataAsMap.get("choices")).get(0);
+        return (String) ((Map<?, ?>) choice.get("delta")).get("content");
+    }
 }
@@ -0,0 +1,54 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.remote;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ServerSentEventReaderTest {
+
+    @Test
+    public void read() throws IOException {
+        String stream = ": comment\n"
+                + "event: message\n"
+                + "data: first\n"
+                + "\n"
+                + "data:second line 1\n"
+                + "data: second line 2\n"
+                + "id: 2\n"
+                + "\n"
+                + "\n"
+                + "data: [DONE]\n"
+                + "\n"
+                + "data: after done\n"
+                + "\n";
+        List<String> events = new ArrayList<>();
+        ServerSentEventReader.read(new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8)), events::add);
+        Assert.assertEquals(List.of("first", "second line 1\nsecond line 2"), events);
+    }
+
+    @Test
+    public void read_LastEventWithoutBlankLine() throws IOException {
+        String stream = "data: first\r\n\r\ndata: last";
+        List<String> events = new ArrayList<>();
+        ServerSentEventReader.read(new ByteArrayInputStream(stream.getBytes(StandardCharsets.UTF_8)), events::add);
+        Assert.assertEquals(List.of("first", "last"), events);
+    }
+
+    @Test
+    public void isEventStream() {
+        Assert.assertTrue(ServerSentEventReader.isEventStream("text/event-stream"));
+        Assert.assertTrue(ServerSentEventReader.isEventStream("Text/Event-Stream; charset=utf-8"));
+        Assert.assertFalse(ServerSentEventReader.isEventStream("application/json"));
+        Assert.assertFalse(ServerSentEventReader.isEventStream(null));
+    }
+}
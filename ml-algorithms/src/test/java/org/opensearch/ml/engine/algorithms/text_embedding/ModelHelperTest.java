@@ -22,13 +22,17 @@ import org.opensearch.ml.engine.ModelHelper;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.PrivilegedActionException;
 import java.util.List;
 import java.util.Map;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
@@ -100,6 +104,32 @@ public class ModelHelperTest {
         verify(actionListener).onResponse(argumentCaptor.capture());
         assertNotNull(argumentCaptor.getValue());
         assertNotEquals(0, argumentCaptor.getValue().size());
+        assertEquals(hashValue, argumentCaptor.getValue().get(ModelHelper.MODEL_FILE_HASH));
+    }
+
+    @Test
+    public void testDownloadAndSplit_Chunks() throws URISyntaxException, IOException {
+        File modelFile = new File(getClass().getResource("traced_small_model.zip").toURI());
+        modelHelper.downloadAndSplit(modelFormat, modelId, "model_name", "1", modelFile.toURI().toString(), hashValue, FunctionName.TEXT_EMBEDDING, actionListener);
+        ArgumentCaptor<Map> argumentCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(actionListener).onResponse(argumentCaptor.capture());
+        List<String> chunkFiles = (List<String>) argumentCaptor.getValue().get(ModelHelper.CHUNK_FILES);
+        assertEquals(modelFile.length(), argumentCaptor.getValue().get(ModelHelper.MODEL_SIZE_IN_BYTES));
+        ByteArrayOutputStream merged = new ByteArrayOutputStream();
+        for (String chunkFile : chunkFiles) {
+            merged.write(Files.readAllBytes(Path.of(chunkFile)));
+        }
+        assertArrayEquals(Files.readAllBytes(modelFile.toPath()), merged.toByteArray());
+    }
+
+    @Test
+    public void testDownloadAndSplit_WrongModelFormat() throws URISyntaxException {
+        String modelUrl = getClass().getResource("traced_small_model_wrong_onnx.zip").toURI().toString();
+        modelHelper.downloadAndSplit(modelFormat, modelId, "model_name", "1", modelUrl, hashValue, FunctionName.TEXT_EMBEDDING, actionListener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(actionListener).onFailure(argumentCaptor.capture());
+        assertEquals(IllegalArgumentException.class, argumentCaptor.getValue().getClass());
+        assertEquals("Model format is TORCH_SCRIPT, but find .onnx file", argumentCaptor.getValue().getMessage());
     }
 
     @Test
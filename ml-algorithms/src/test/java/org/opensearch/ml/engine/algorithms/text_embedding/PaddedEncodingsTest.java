@@ -0,0 +1,43 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+
+public class PaddedEncodingsTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void readPadId() throws IOException {
+        File tokenizerFile = writeTokenizer("{\"version\":\"1.0\",\"padding\":{\"strategy\":\"BatchLongest\",\"pad_id\":1,\"pad_token\":\"<pad>\"}}");
+        assertEquals(1L, PaddedEncodings.readPadId(tokenizerFile.toPath()));
+        // model directory containing tokenizer.json
+        assertEquals(1L, PaddedEncodings.readPadId(tempFolder.getRoot().toPath()));
+    }
+
+    @Test
+    public void readPadId_NoPadding() throws IOException {
+        File tokenizerFile = writeTokenizer("{\"version\":\"1.0\",\"padding\":null}");
+        assertEquals(0L, PaddedEncodings.readPadId(tokenizerFile.toPath()));
+    }
+
+    private File writeTokenizer(String content) throws IOException {
+        File tokenizerFile = new File(tempFolder.getRoot(), "tokenizer.json");
+        Files.write(tokenizerFile.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return tokenizerFile;
+    }
+}
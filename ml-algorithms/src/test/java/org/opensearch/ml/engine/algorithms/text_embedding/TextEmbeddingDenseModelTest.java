@@ -196,6 +196,42 @@ public class TextEmbeddingDenseModelTest {
         initModel_predict_HuggingfaceModel(modelFile, modelType, poolingMode, normalize, modelMaxLength, modelFormat, 768);
     }
 
+    @Test
+    public void initModel_predict_ONNX_BatchedDocs() throws URISyntaxException {
+        Map<String, Object> params = new HashMap<>();
+        params.put(MODEL_HELPER, modelHelper);
+        params.put(MODEL_ZIP_FILE, new File(getClass().getResource("all-MiniLM-L6-v2_onnx.zip").toURI()));
+        params.put(ML_ENGINE, mlEngine);
+        TextEmbeddingModelConfig onnxModelConfig = modelConfig.toBuilder()
+                .frameworkType(HUGGINGFACE_TRANSFORMERS)
+                .modelType("bert")
+                .poolingMode(TextEmbeddingModelConfig.PoolingMode.MEAN)
+                .normalizeResult(true)
+                .modelMaxLength(512)
+                .build();
+        MLModel mlModel = model.toBuilder().modelFormat(MLModelFormat.ONNX).modelConfig(onnxModelConfig).build();
+        textEmbeddingDenseModel.initModel(mlModel, params, encryptor);
+
+        // Docs of different lengths are padded in one batch, results should be same as predicting one by one.
+        List<String> docs = Arrays.asList("That is a happy dog running in the park", "today is sunny", "hello");
+        TextDocsInputDataSet batchDataSet = TextDocsInputDataSet.builder().docs(docs).build();
+        MLInput mlInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(batchDataSet).build();
+        List<ModelTensors> batchOutputs = ((ModelTensorOutput) textEmbeddingDenseModel.predict(mlInput)).getMlModelOutputs();
+        assertEquals(docs.size(), batchOutputs.size());
+        for (int i = 0; i < docs.size(); i++) {
+            TextDocsInputDataSet singleDataSet = TextDocsInputDataSet.builder().docs(Arrays.asList(docs.get(i))).build();
+            MLInput singleInput = MLInput.builder().algorithm(FunctionName.TEXT_EMBEDDING).inputDataset(singleDataSet).build();
+            ModelTensors singleOutput = ((ModelTensorOutput) textEmbeddingDenseModel.predict(singleInput)).getMlModelOutputs().get(0);
+            Number[] expected = singleOutput.getMlModelTensors().get(0).getData();
+            Number[] actual = batchOutputs.get(i).getMlModelTensors().get(0).getData();
+            assertEquals(dimension, actual.length);
+            for (int j = 0; j < expected.length; j++) {
+                assertEquals(expected[j].floatValue(), actual[j].floatValue(), 1e-4);
+            }
+        }
+        textEmbeddingDenseModel.close();
+    }
+
     private void initModel_predict_HuggingfaceModel(String modelFile, String modelType, TextEmbeddingModelConfig.PoolingMode poolingMode,
                                                     boolean normalizeResult, Integer modelMaxLength,
                                                     MLModelFormat modelFormat, int dimension) throws URISyntaxException {
@@ -0,0 +1,103 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.algorithms.text_embedding;
+
+import org.junit.Test;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingPostProcessor.SCALE_FIELD;
+
+public class TextEmbeddingPostProcessorTest {
+    private static final float DELTA = 1e-6f;
+
+    // 2 texts of 3 tokens with dimension 2, the last token of the first text and the last 2 tokens of the second text are padding
+    private final float[] tokenEmbeddings = {1, 2, 3, 4, 100, 100, 6, -8, 100, 100, 100, 100};
+
+    @Test
+    public void meanPool() {
+        float[] embedding = TextEmbeddingPostProcessor.meanPool(tokenEmbeddings, 0, new long[]{1, 1, 0}, 2, false, false);
+        assertArrayEquals(new float[]{2, 3}, embedding, DELTA);
+
+        embedding = TextEmbeddingPostProcessor.meanPool(tokenEmbeddings, 6, new long[]{1, 0, 0}, 2, false, false);
+        assertArrayEquals(new float[]{6, -8}, embedding, DELTA);
+    }
+
+    @Test
+    public void meanPool_SqrtLen() {
+        float[] embedding = TextEmbeddingPostProcessor.meanPool(tokenEmbeddings, 0, new long[]{1, 1, 0}, 2, true, false);
+        assertArrayEquals(new float[]{(float) (4 / Math.sqrt(2)), (float) (6 / Math.sqrt(2))}, embedding, DELTA);
+    }
+
+    @Test
+    public void meanPool_Normalize() {
+        float[] embedding = TextEmbeddingPostProcessor.meanPool(tokenEmbeddings, 6, new long[]{1, 0, 0}, 2, false, true);
+        assertArrayEquals(new float[]{0.6f, -0.8f}, embedding, DELTA);
+    }
+
+    @Test
+    public void meanPool_AllPadding() {
+        float[] embedding = TextEmbeddingPostProcessor.meanPool(tokenEmbeddings, 0, new long[]{0, 0, 0}, 2, false, true);
+        assertArrayEquals(new float[]{0, 0}, embedding, DELTA);
+    }
+
+    @Test
+    public void normalize() {
+        float[] embedding = {3, 4};
+        TextEmbeddingPostProcessor.normalize(embedding);
+        assertArrayEquals(new float[]{0.6f, 0.8f}, embedding, DELTA);
+    }
+
+    @Test
+    public void toModelTensor_Float32() {
+        ModelTensor tensor = TextEmbeddingPostProcessor.toModelTensor("test", new float[]{0.1f, -0.2f}, new long[]{2}, null, false);
+        assertEquals("test", tensor.getName());
+        assertEquals(MLResultDataType.FLOAT32, tensor.getDataType());
+        assertArrayEquals(new long[]{2}, tensor.getShape());
+        assertArrayEquals(new Number[]{0.1f, -0.2f}, tensor.getData());
+        assertNull(tensor.getDataAsMap());
+    }
+
+    @Test
+    public void toModelTensor_Float16() {
+        ModelTensor tensor = TextEmbeddingPostProcessor.toModelTensor("test", new float[]{0.1f, 2049f}, new long[]{2}, MLResultDataType.FLOAT16, false);
+        assertEquals(MLResultDataType.FLOAT16, tensor.getDataType());
+        assertArrayEquals(new Number[]{0.0999755859375f, 2048f}, tensor.getData());
+    }
+
+    @Test
+    public void toModelTensor_Int8_Normalized() {
+        ModelTensor tensor = TextEmbeddingPostProcessor.toModelTensor("test", new float[]{0.6f, -0.8f}, new long[]{2}, MLResultDataType.INT8, true);
+        assertEquals(MLResultDataType.INT8, tensor.getDataType());
+        assertArrayEquals(new Number[]{76, -102}, tensor.getData());
+        assertEquals(Map.of(SCALE_FIELD, 127f), tensor.getDataAsMap());
+    }
+
+    @Test
+    public void toModelTensor_Int8_FixedScale() {
+        // same scale for all embeddings, so distances of quantized embeddings match
+        ModelTensor tensor = TextEmbeddingPostProcessor.toModelTensor("test", new float[]{0.1f, 0.2f}, new long[]{2}, MLResultDataType.INT8, true);
+        assertArrayEquals(new Number[]{13, 25}, tensor.getData());
+        assertEquals(Map.of(SCALE_FIELD, 127f), tensor.getDataAsMap());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void toModelTensor_Int8_NotNormalized() {
+        TextEmbeddingPostProcessor.toModelTensor("test", new float[]{1f, -2f, 0.5f}, new long[]{3}, MLResultDataType.INT8, false);
+    }
+
+    @Test
+    public void normalize_Rows() {
+        float[] embeddings = new float[]{3f, 4f, 0f, 2f};
+        TextEmbeddingPostProcessor.normalize(embeddings, 2);
+        assertArrayEquals(new float[]{0.6f, 0.8f, 0f, 1f}, embeddings, DELTA);
+    }
+}
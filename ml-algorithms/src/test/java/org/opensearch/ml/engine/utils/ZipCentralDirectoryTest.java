@@ -0,0 +1,100 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.engine.utils;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ZipCentralDirectoryTest {
+    @Rule
+    public ExpectedException exceptionRule = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    @Test
+    public void testReadEntryNames() throws IOException {
+        File zipFile = createZipFile(3, "model comment");
+        List<String> chunkFiles = FileUtils.splitFileIntoChunks(zipFile, tempFolder.newFolder().toPath(), 100);
+
+        List<String> entryNames = new ZipCentralDirectory(chunkFiles, 100, zipFile.length()).readEntryNames();
+        assertEquals(List.of("entry_0.pt", "entry_1.pt", "entry_2.pt"), entryNames);
+    }
+
+    @Test
+    public void testReadEntryNames_Zip64() throws IOException {
+        // more than 65535 entries need the zip64 end of central directory record
+        File zipFile = createZipFile(70_000, null);
+        List<String> chunkFiles = FileUtils.splitFileIntoChunks(zipFile, tempFolder.newFolder().toPath(), 10_000);
+
+        List<String> entryNames = new ZipCentralDirectory(chunkFiles, 10_000, zipFile.length()).readEntryNames();
+        assertEquals(70_000, entryNames.size());
+        assertEquals("entry_0.pt", entryNames.get(0));
+        assertEquals("entry_69999.pt", entryNames.get(69_999));
+    }
+
+    @Test
+    public void testReadEntryNames_NotZipFile() throws IOException {
+        exceptionRule.expect(ZipException.class);
+        exceptionRule.expectMessage("End of central directory not found");
+        File file = tempFolder.newFile();
+        Files.write(file.toPath(), new byte[1000]);
+        List<String> chunkFiles = FileUtils.splitFileIntoChunks(file, tempFolder.newFolder().toPath(), 100);
+
+        new ZipCentralDirectory(chunkFiles, 100, file.length()).readEntryNames();
+    }
+
+    @Test
+    public void testSplitFileIntoChunks() throws IOException {
+        File file = tempFolder.newFile();
+        byte[] content = new byte[250];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+        Files.write(file.toPath(), content);
+
+        List<String> chunkFiles = FileUtils.splitFileIntoChunks(file, tempFolder.newFolder().toPath(), 100);
+        assertEquals(3, chunkFiles.size());
+        assertEquals(100, new File(chunkFiles.get(0)).length());
+        assertEquals(100, new File(chunkFiles.get(1)).length());
+        assertEquals(50, new File(chunkFiles.get(2)).length());
+        byte[] merged = new byte[250];
+        for (int i = 0; i < chunkFiles.size(); i++) {
+            byte[] chunk = Files.readAllBytes(new File(chunkFiles.get(i)).toPath());
+            System.arraycopy(chunk, 0, merged, i * 100, chunk.length);
+        }
+        assertArrayEquals(content, merged);
+    }
+
+    private File createZipFile(int entries, String comment) throws IOException {
+        File file = tempFolder.newFile();
+        try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(file))) {
+            if (comment != null) {
+                zipOutputStream.setComment(comment);
+            }
+            for (int i = 0; i < entries; i++) {
+                zipOutputStream.putNextEntry(new ZipEntry("entry_" + i + ".pt"));
+                zipOutputStream.write(new byte[] { 1, 2, 3 });
+                zipOutputStream.closeEntry();
+            }
+        }
+        return file;
+    }
+}
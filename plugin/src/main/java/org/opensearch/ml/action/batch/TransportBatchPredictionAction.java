@@ -0,0 +1,345 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.batch;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.common.CommonValue.ML_TASK_INDEX;
+import static org.opensearch.ml.common.MLTask.BATCH_PREDICTION_CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.BATCH_PREDICTION_INPUT_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.LAST_UPDATE_TIME_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.common.MLTask.WORKER_NODE_FIELD;
+import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.opensearch.ExceptionsHelper;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.action.ActionRequest;
+import org.opensearch.action.get.GetRequest;
+import org.opensearch.action.get.GetResponse;
+import org.opensearch.action.support.ActionFilters;
+import org.opensearch.action.support.HandledTransportAction;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.action.update.UpdateResponse;
+import org.opensearch.client.Client;
+import org.opensearch.cluster.metadata.IndexMetadata;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.inject.Inject;
+import org.opensearch.common.util.concurrent.ThreadContext;
+import org.opensearch.common.xcontent.XContentFactory;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.commons.authuser.User;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.ToXContent;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.index.engine.VersionConflictEngineException;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.dataset.MLInputDataType;
+import org.opensearch.ml.common.exception.MLResourceNotFoundException;
+import org.opensearch.ml.common.exception.MLValidationException;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionRequest;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionResponse;
+import org.opensearch.ml.helper.ModelAccessControlHelper;
+import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.task.MLBatchPredictionJob;
+import org.opensearch.ml.task.MLTaskManager;
+import org.opensearch.ml.utils.RestActionUtils;
+import org.opensearch.tasks.Task;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.transport.TransportService;
+
+import lombok.AccessLevel;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Starts a batch prediction job on the node receiving the request, or resumes the job of a failed task from its last
+ * checkpoint. The job runs in the background and its progress is tracked with the task.
+ *
+ * The node running the job is recorded as the worker node of the task. A task can only be resumed once it failed, or
+ * once its worker node left the cluster, and resuming claims the task with optimistic concurrency control, so only one
+ * job runs for a task at a time.
+ */
+@Log4j2
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class TransportBatchPredictionAction extends HandledTransportAction<ActionRequest, MLBatchPredictionResponse> {
+    Client client;
+    ClusterService clusterService;
+    ThreadPool threadPool;
+    NamedXContentRegistry xContentRegistry;
+    MLModelManager mlModelManager;
+    MLTaskManager mlTaskManager;
+    ModelAccessControlHelper modelAccessControlHelper;
+
+    @Inject
+    public TransportBatchPredictionAction(
+        TransportService transportService,
+        ActionFilters actionFilters,
+        Client client,
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        NamedXContentRegistry xContentRegistry,
+        MLModelManager mlModelManager,
+        MLTaskManager mlTaskManager,
+        ModelAccessControlHelper modelAccessControlHelper
+    ) {
+        super(MLBatchPredictionAction.NAME, transportService, actionFilters, MLBatchPredictionRequest::new);
+        this.client = client;
+        this.clusterService = clusterService;
+        this.threadPool = threadPool;
+        this.xContentRegistry = xContentRegistry;
+        this.mlModelManager = mlModelManager;
+        this.mlTaskManager = mlTaskManager;
+        this.modelAccessControlHelper = modelAccessControlHelper;
+    }
+
+    @Override
+    protected void doExecute(Task task, ActionRequest request, ActionListener<MLBatchPredictionResponse> listener) {
+        MLBatchPredictionRequest batchPredictionRequest = MLBatchPredictionRequest.fromActionRequest(request);
+        User user = RestActionUtils.getUserContext(client);
+        // the job reads and writes data indices with the permissions of the user
+        Supplier<ThreadContext.StoredContext> userContext = client.threadPool().getThreadContext().newRestorableContext(false);
+        try {
+            if (batchPredictionRequest.getTaskId() == null) {
+                MLBatchPredictionInput input = batchPredictionRequest.getBatchPredictionInput();
+                int numberOfShards = getNumberOfShards(input);
+                validateModel(user, input.getModelId(), ActionListener.wrap(functionName -> {
+                    Instant now = Instant.now();
+                    MLTask mlTask = MLTask
+                        .builder()
+                        .taskType(MLTaskType.BATCH_PREDICTION)
+                        .modelId(input.getModelId())
+                        .functionName(functionName)
+                        .inputType(MLInputDataType.TEXT_DOCS)
+                        .outputIndex(input.getTargetIndexOrSource())
+                        .state(MLTaskState.CREATED)
+                        .createTime(now)
+                        .lastUpdateTime(now)
+                        .workerNodes(List.of(clusterService.localNode().getId()))
+                        .async(true)
+                        .build();
+                    createTask(mlTask, input, ActionListener.wrap(taskId -> {
+                        startJob(mlTask, input, null, numberOfShards, userContext);
+                        listener.onResponse(new MLBatchPredictionResponse(taskId, MLTaskState.CREATED.name()));
+                    }, listener::onFailure));
+                }, listener::onFailure));
+            } else {
+                resumeJob(user, batchPredictionRequest.getTaskId(), userContext, listener);
+            }
+        } catch (Exception e) {
+            log.error("Failed to run batch prediction", e);
+            listener.onFailure(e);
+        }
+    }
+
+    private void validateModel(User user, String modelId, ActionListener<FunctionName> listener) {
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<FunctionName> wrappedListener = ActionListener.runBefore(listener, () -> context.restore());
+            mlModelManager.getModel(modelId, ActionListener.wrap(mlModel -> {
+                FunctionName functionName = mlModel.getAlgorithm();
+                modelAccessControlHelper
+                    .validateModelGroupAccess(user, mlModel.getModelGroupId(), client, ActionListener.wrap(access -> {
+                        if (!access) {
+                            wrappedListener
+                                .onFailure(
+                                    new MLValidationException("User Doesn't have privilege to perform this operation on this model")
+                                );
+                            return;
+                        }
+                        String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName, true);
+                        if (workerNodes == null || workerNodes.length == 0) {
+                            wrappedListener
+                                .onFailure(
+                                    new IllegalArgumentException(
+                                        "Model not ready yet. Please run this first: POST /_plugins/_ml/models/" + modelId + "/_deploy"
+                                    )
+                                );
+                            return;
+                        }
+                        wrappedListener.onResponse(functionName);
+                    }, wrappedListener::onFailure));
+            }, e -> {
+                log.error("Failed to find model " + modelId, e);
+                wrappedListener.onFailure(e);
+            }));
+        }
+    }
+
+    private void createTask(MLTask mlTask, MLBatchPredictionInput input, ActionListener<String> listener) {
+        mlTaskManager.createMLTask(mlTask, ActionListener.wrap(r -> {
+            String taskId = r.getId();
+            mlTask.setTaskId(taskId);
+            mlTaskManager
+                .updateMLTaskDirectly(
+                    taskId,
+                    Map.of(BATCH_PREDICTION_INPUT_FIELD, toMap(input)),
+                    ActionListener.wrap(res -> listener.onResponse(taskId), listener::onFailure)
+                );
+        }, listener::onFailure));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void resumeJob(
+        User user,
+        String taskId,
+        Supplier<ThreadContext.StoredContext> userContext,
+        ActionListener<MLBatchPredictionResponse> listener
+    ) {
+        GetRequest getRequest = new GetRequest(ML_TASK_INDEX).id(taskId);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            client.get(getRequest, ActionListener.runBefore(ActionListener.wrap(r -> {
+                if (r == null || !r.isExists()) {
+                    listener.onFailure(new MLResourceNotFoundException("Fail to find task"));
+                    return;
+                }
+                MLTask mlTask;
+                try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, r.getSourceAsBytesRef())) {
+                    ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+                    mlTask = MLTask.parse(parser);
+                    mlTask.setTaskId(taskId);
+                }
+                Map<String, Object> source = r.getSourceAsMap();
+                if (mlTask.getTaskType() != MLTaskType.BATCH_PREDICTION || !source.containsKey(BATCH_PREDICTION_INPUT_FIELD)) {
+                    listener.onFailure(new IllegalArgumentException("Task is not a batch prediction task: " + taskId));
+                    return;
+                }
+                validateResumable(mlTask, clusterService.state().nodes(), mlTaskManager.contains(taskId));
+                MLBatchPredictionInput input = parseInput((Map<String, Object>) source.get(BATCH_PREDICTION_INPUT_FIELD));
+                Map<String, Object> checkpoint = (Map<String, Object>) source.get(BATCH_PREDICTION_CHECKPOINT_FIELD);
+                int numberOfShards = getNumberOfShards(input);
+                validateModel(user, input.getModelId(), ActionListener.wrap(functionName -> {
+                    claimTask(r, ActionListener.wrap(claimed -> {
+                        mlTask.setError(null);
+                        mlTask.setWorkerNodes(List.of(clusterService.localNode().getId()));
+                        startJob(mlTask, input, checkpoint, numberOfShards, userContext);
+                        listener.onResponse(new MLBatchPredictionResponse(taskId, MLTaskState.RUNNING.name()));
+                    }, listener::onFailure));
+                }, listener::onFailure));
+            }, e -> {
+                log.error("Failed to get ML task " + taskId, e);
+                listener.onFailure(e);
+            }), () -> context.restore()));
+        }
+    }
+
+    /**
+     * Check if the job of a batch prediction task can be resumed. A task can be resumed once it failed, or if its job is
+     * not running any more: the worker node left the cluster, or it's this node and the job is not running here, e.g.
+     * after a restart.
+     * @param mlTask batch prediction task
+     * @param nodes nodes of the cluster
+     * @param runningLocally whether the job of the task is running on this node
+     */
+    static void validateResumable(MLTask mlTask, DiscoveryNodes nodes, boolean runningLocally) {
+        String taskId = mlTask.getTaskId();
+        if (runningLocally) {
+            throw new OpenSearchStatusException("Batch prediction task is running: " + taskId, RestStatus.CONFLICT);
+        }
+        if (mlTask.getState() == MLTaskState.COMPLETED) {
+            throw new IllegalArgumentException("Batch prediction task is already completed: " + taskId);
+        }
+        if (mlTask.getState() == MLTaskState.FAILED) {
+            return;
+        }
+        List<String> workerNodes = mlTask.getWorkerNodes();
+        String workerNode = workerNodes == null || workerNodes.isEmpty() ? null : workerNodes.get(0);
+        if (workerNode != null && nodes.nodeExists(workerNode) && !workerNode.equals(nodes.getLocalNodeId())) {
+            throw new OpenSearchStatusException(
+                "Batch prediction task is running on node " + workerNode + ", resume it on that node: " + taskId,
+                RestStatus.CONFLICT
+            );
+        }
+    }
+
+    // Mark the task as running on this node, unless it was changed since it was read, e.g. resumed by another request.
+    private void claimTask(GetResponse taskResponse, ActionListener<Void> listener) {
+        String taskId = taskResponse.getId();
+        Map<String, Object> updatedFields = new HashMap<>();
+        updatedFields.put(STATE_FIELD, MLTaskState.RUNNING);
+        updatedFields.put(WORKER_NODE_FIELD, List.of(clusterService.localNode().getId()));
+        updatedFields.put(ERROR_FIELD, null);
+        updatedFields.put(LAST_UPDATE_TIME_FIELD, Instant.now().toEpochMilli());
+        UpdateRequest updateRequest = new UpdateRequest(ML_TASK_INDEX, taskId)
+            .doc(updatedFields)
+            .setIfSeqNo(taskResponse.getSeqNo())
+            .setIfPrimaryTerm(taskResponse.getPrimaryTerm())
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+        try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
+            ActionListener<UpdateResponse> updateListener = ActionListener.wrap(r -> listener.onResponse(null), e -> {
+                if (ExceptionsHelper.unwrapCause(e) instanceof VersionConflictEngineException) {
+                    listener
+                        .onFailure(new OpenSearchStatusException("Batch prediction task is being resumed: " + taskId, RestStatus.CONFLICT));
+                    return;
+                }
+                listener.onFailure(e);
+            });
+            client.update(updateRequest, ActionListener.runBefore(updateListener, () -> context.restore()));
+        }
+    }
+
+    private void startJob(
+        MLTask mlTask,
+        MLBatchPredictionInput input,
+        Map<String, Object> checkpoint,
+        int numberOfShards,
+        Supplier<ThreadContext.StoredContext> userContext
+    ) {
+        int concurrentSlices = input.getSlices() != null
+            ? input.getSlices()
+            : Math.max(1, mlModelManager.getWorkerNodes(input.getModelId(), mlTask.getFunctionName(), true).length);
+        MLBatchPredictionJob job = new MLBatchPredictionJob(
+            mlTask,
+            input,
+            checkpoint,
+            concurrentSlices,
+            client,
+            threadPool,
+            mlTaskManager
+        );
+        try (ThreadContext.StoredContext context = userContext.get()) {
+            job.start(numberOfShards);
+        }
+    }
+
+    // Shards are the slices of the job, so the source index must be a concrete index rather than an alias or pattern.
+    private int getNumberOfShards(MLBatchPredictionInput input) {
+        IndexMetadata indexMetadata = clusterService.state().metadata().index(input.getSourceIndex());
+        if (indexMetadata == null) {
+            throw new MLResourceNotFoundException("Fail to find source index " + input.getSourceIndex());
+        }
+        return indexMetadata.getNumberOfShards();
+    }
+
+    private Map<String, Object> toMap(MLBatchPredictionInput input) throws Exception {
+        BytesReference bytes = BytesReference.bytes(input.toXContent(XContentFactory.jsonBuilder(), ToXContent.EMPTY_PARAMS));
+        return XContentHelper.convertToMap(bytes, false, XContentType.JSON).v2();
+    }
+
+    private MLBatchPredictionInput parseInput(Map<String, Object> inputMap) throws Exception {
+        BytesReference bytes = BytesReference.bytes(XContentFactory.jsonBuilder().map(inputMap));
+        try (XContentParser parser = createXContentParserFromRegistry(xContentRegistry, bytes)) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            return MLBatchPredictionInput.parse(parser, null);
+        }
+    }
+}
@@ -202,7 +202,11 @@ public class TransportForwardAction extends HandledTransportAction<ActionRequest
         String[] workerNodes = mlModelManager.getWorkerNodes(modelId, functionName);
         if (allNodes.length > 1 && workerNodes != null && workerNodes.length > 0) {
             log.debug("Sync to other nodes about worker nodes of model {}: {}", modelId, Arrays.toString(workerNodes));
-            MLSyncUpInput syncUpInput = MLSyncUpInput.builder().addedWorkerNodes(ImmutableMap.of(modelId, workerNodes)).build();
+            MLSyncUpInput syncUpInput = MLSyncUpInput
+                .builder()
+                .addedWorkerNodes(ImmutableMap.of(modelId, workerNodes))
+                .modelFunctionNames(functionName == null ? null : ImmutableMap.of(modelId, functionName))
+                .build();
             MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
             client
                 .execute(
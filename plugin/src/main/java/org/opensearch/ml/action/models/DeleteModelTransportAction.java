@@ -22,6 +22,7 @@ import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.action.support.HandledTransportAction;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.inject.Inject;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -34,12 +35,17 @@ import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.DeleteByQueryAction;
 import org.opensearch.index.reindex.DeleteByQueryRequest;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLValidationException;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.model.MLModelDeleteAction;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.utils.RestActionUtils;
 import org.opensearch.search.fetch.subphase.FetchSourceContext;
@@ -47,6 +53,7 @@ import org.opensearch.tasks.Task;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableSet;
 
 import lombok.AccessLevel;
 import lombok.experimental.FieldDefaults;
@@ -65,6 +72,8 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
     ClusterService clusterService;
 
     ModelAccessControlHelper modelAccessControlHelper;
+    MLEngine mlEngine;
+    DiscoveryNodeHelper nodeFilter;
 
     @Inject
     public DeleteModelTransportAction(
@@ -73,13 +82,17 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         Client client,
         NamedXContentRegistry xContentRegistry,
         ClusterService clusterService,
-        ModelAccessControlHelper modelAccessControlHelper
+        ModelAccessControlHelper modelAccessControlHelper,
+        MLEngine mlEngine,
+        DiscoveryNodeHelper nodeFilter
     ) {
         super(MLModelDeleteAction.NAME, transportService, actionFilters, MLModelDeleteRequest::new);
         this.client = client;
         this.xContentRegistry = xContentRegistry;
         this.clusterService = clusterService;
         this.modelAccessControlHelper = modelAccessControlHelper;
+        this.mlEngine = mlEngine;
+        this.nodeFilter = nodeFilter;
     }
 
     @Override
@@ -188,6 +201,7 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
         client.delete(deleteRequest, new ActionListener<DeleteResponse>() {
             @Override
             public void onResponse(DeleteResponse deleteResponse) {
+                invalidatePredictableCache(modelId);
                 deleteModelChunks(modelId, deleteResponse, actionListener);
             }
 
@@ -201,4 +215,13 @@ public class DeleteModelTransportAction extends HandledTransportAction<ActionReq
             }
         });
     }
+
+    // Any node may have cached a predictor of the model for predict requests without deploy, so release it on all nodes.
+    private void invalidatePredictableCache(String modelId) {
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().deletedModelIds(ImmutableSet.of(modelId)).build();
+        DiscoveryNode[] allNodes = nodeFilter.getAllNodes();
+        client.execute(MLSyncUpAction.INSTANCE, new MLSyncUpNodesRequest(allNodes, syncUpInput), ActionListener.wrap(r -> {
+            log.debug("Released cached predictors of deleted model {}", modelId);
+        }, e -> { log.error("Failed to release cached predictors of deleted model " + modelId, e); }));
+    }
 }
@@ -12,6 +12,7 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -67,6 +68,11 @@ public class TransportSyncUpOnNodeAction extends
 
     private final MLModelCacheHelper mlModelCacheHelper;
 
+    // Deployed models last reported to the sync up job and their version. The version only changes when the deployed
+    // models change, so the sync up job can ask for changes since the version it has seen.
+    private long deploymentStateVersion;
+    private Set<String> reportedDeployedModelIds;
+
     @Inject
     public TransportSyncUpOnNodeAction(
         TransportService transportService,
@@ -159,14 +165,22 @@ public class TransportSyncUpOnNodeAction extends
             }
         }
 
-        String[] deployedModelIds = null;
-        String[] runningDeployModelTaskIds = null;
-        String[] runningDeployModelIds = null;
+        MLSyncUpNodeResponse response = null;
         if (syncUpInput.isGetDeployedModels()) {
-            deployedModelIds = mlModelManager.getLocalDeployedModels();
+            Map<String, Long> deploymentStateVersions = syncUpInput.getDeploymentStateVersions();
+            Long acknowledgedVersion = deploymentStateVersions == null
+                ? null
+                : deploymentStateVersions.get(clusterService.localNode().getEphemeralId());
+            // Running deploy model tasks are short-lived, always report all of them.
             List<String[]> localRunningDeployModel = mlTaskManager.getLocalRunningDeployModelTasks();
-            runningDeployModelTaskIds = localRunningDeployModel.get(0);
-            runningDeployModelIds = localRunningDeployModel.get(1);
+            // Deployed models include remote models, so their function names are synced too.
+            response = createDeploymentStateResponse(
+                mlModelManager.getLocalDeployedModels(),
+                acknowledgedVersion,
+                localRunningDeployModel.get(1),
+                localRunningDeployModel.get(0)
+            );
+            response.setDeployedModelFunctionNames(mlModelManager.getModelFunctionNames(response.getDeployedModelIds()));
         }
 
         if (syncUpInput.isClearRoutingTable()) {
@@ -177,16 +191,73 @@ public class TransportSyncUpOnNodeAction extends
             }
             mlModelManager.syncModelWorkerNodes(modelRoutingTable);
         }
+        if (syncUpInput.getModelFunctionNames() != null) {
+            mlModelManager.syncModelFunctionNames(syncUpInput.getModelFunctionNames());
+        }
+        if (syncUpInput.getDeletedModelIds() != null) {
+            syncUpInput.getDeletedModelIds().forEach(modelId -> mlEngine.getPredictableCache().invalidate(modelId));
+        }
 
         cleanUpLocalCache(runningDeployModelTasks);
         cleanUpLocalCacheFiles();
 
+        if (response == null) {
+            response = new MLSyncUpNodeResponse(clusterService.localNode(), "ok", null, null, null);
+        }
+        return response;
+    }
+
+    /**
+     * Report deployed models of this node as changes since the version acknowledged by the sync up job, or all deployed
+     * models if the sync up job hasn't seen the last reported version (e.g. new cluster manager or lost response).
+     * @param localDeployedModelIds currently deployed models
+     * @param acknowledgedVersion version acknowledged by the sync up job, null if unknown
+     * @param runningDeployModelIds model ids which have deploying model task running
+     * @param runningDeployModelTaskIds deploy model task ids which is running
+     * @return sync up node response
+     */
+    @VisibleForTesting
+    synchronized MLSyncUpNodeResponse createDeploymentStateResponse(
+        String[] localDeployedModelIds,
+        Long acknowledgedVersion,
+        String[] runningDeployModelIds,
+        String[] runningDeployModelTaskIds
+    ) {
+        if (localDeployedModelIds == null) {
+            localDeployedModelIds = new String[0];
+        }
+        Set<String> deployedModelIds = new HashSet<>(Arrays.asList(localDeployedModelIds));
+        long previousVersion = deploymentStateVersion;
+        Set<String> previousDeployedModelIds = reportedDeployedModelIds;
+        if (previousDeployedModelIds == null || !previousDeployedModelIds.equals(deployedModelIds)) {
+            deploymentStateVersion++;
+            reportedDeployedModelIds = deployedModelIds;
+        }
+        if (previousDeployedModelIds == null || acknowledgedVersion == null || acknowledgedVersion != previousVersion) {
+            return new MLSyncUpNodeResponse(
+                clusterService.localNode(),
+                "ok",
+                localDeployedModelIds,
+                runningDeployModelIds,
+                runningDeployModelTaskIds,
+                deploymentStateVersion,
+                MLSyncUpNodeResponse.NO_VERSION,
+                null
+            );
+        }
+        Set<String> added = new HashSet<>(deployedModelIds);
+        added.removeAll(previousDeployedModelIds);
+        Set<String> removed = new HashSet<>(previousDeployedModelIds);
+        removed.removeAll(deployedModelIds);
         return new MLSyncUpNodeResponse(
             clusterService.localNode(),
             "ok",
-            deployedModelIds,
+            added.toArray(new String[0]),
             runningDeployModelIds,
-            runningDeployModelTaskIds
+            runningDeployModelTaskIds,
+            deploymentStateVersion,
+            previousVersion,
+            removed.toArray(new String[0])
         );
     }
 
@@ -199,6 +270,10 @@ public class TransportSyncUpOnNodeAction extends
         for (String taskId : allTaskIds) {
             MLTaskCache mlTaskCache = mlTaskManager.getMLTaskCache(taskId);
             MLTask mlTask = mlTaskCache.getMlTask();
+            if (mlTask.getTaskType() == MLTaskType.BATCH_PREDICTION) {
+                // batch prediction jobs run for hours and fail their task themselves
+                continue;
+            }
             Instant lastUpdateTime = mlTask.getLastUpdateTime();
             Instant now = Instant.now();
             if (now.isAfter(lastUpdateTime.plusSeconds(mlTaskTimeout))) {
@@ -225,7 +300,9 @@ public class TransportSyncUpOnNodeAction extends
         Path registerModelRootPath = mlEngine.getRegisterModelRootPath();
         Path deployModelRootPath = mlEngine.getDeployModelRootPath();
         Path modelCacheRootPath = mlEngine.getModelCacheRootPath();
-        Set<String> modelsInCacheFolder = FileUtils.getFileNames(registerModelRootPath, deployModelRootPath, modelCacheRootPath);
+        Path modelArtifactRootPath = mlEngine.getModelArtifactRootPath();
+        Set<String> modelsInCacheFolder = FileUtils
+            .getFileNames(registerModelRootPath, deployModelRootPath, modelCacheRootPath, modelArtifactRootPath);
         if (modelsInCacheFolder.size() > 0) {
             log
                 .debug(
@@ -248,5 +325,6 @@ public class TransportSyncUpOnNodeAction extends
         deleteFileQuietly(mlEngine.getModelCachePath(modelId));
         deleteFileQuietly(mlEngine.getDeployModelPath(modelId));
         deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+        deleteFileQuietly(mlEngine.getModelArtifactPath(modelId));
     }
 }
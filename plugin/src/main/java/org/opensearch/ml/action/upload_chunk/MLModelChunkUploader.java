@@ -10,7 +10,6 @@ import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.utils.MLExceptionUtils.logException;
 import static org.opensearch.ml.utils.MLNodeUtils.createXContentParserFromRegistry;
 
-import java.util.Base64;
 import java.util.concurrent.Semaphore;
 
 import org.opensearch.action.get.GetRequest;
@@ -114,19 +113,12 @@ public class MLModelChunkUploader {
                                             .totalChunks(existingModel.getTotalChunks())
                                             .algorithm(existingModel.getAlgorithm())
                                             .chunkNumber(chunkNum)
-                                            .content(Base64.getEncoder().encodeToString(bytes))
                                             .build();
                                         IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
                                         indexRequest.id(uploadModelChunkInput.getModelId() + "_" + uploadModelChunkInput.getChunkNumber());
-                                        indexRequest
-                                            .source(
-                                                mlModel
-                                                    .toXContent(
-                                                        XContentBuilder.builder(XContentType.JSON.xContent()),
-                                                        ToXContent.EMPTY_PARAMS
-                                                    )
-                                            );
-                                        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+                                        // Chunks are read by id, indexing the model meta doc after the last chunk refreshes them.
+                                        XContentBuilder source = XContentBuilder.builder(XContentType.JSON.xContent());
+                                        indexRequest.source(mlModel.toXContent(source, bytes, 0, bytes.length));
                                         client.index(indexRequest, ActionListener.wrap(response -> {
                                             log
                                                 .info(
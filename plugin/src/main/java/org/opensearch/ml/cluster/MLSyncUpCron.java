@@ -13,6 +13,7 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -33,6 +34,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.IdsQueryBuilder;
 import org.opensearch.index.query.TermsQueryBuilder;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -49,12 +51,17 @@ import org.opensearch.search.builder.SearchSourceBuilder;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableMap;
 
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.log4j.Log4j2;
 
 @Log4j2
 public class MLSyncUpCron implements Runnable {
 
     public static final int DEPLOY_MODEL_TASK_GRACE_TIME_IN_MS = 20_000;
+    // Broadcast the whole model routing table and refresh the state of all models every this many runs, even if no
+    // deployment changed, so node caches and model index can't drift from the deployed models for long.
+    public static final int FULL_SYNC_INTERVAL_IN_RUNS = 10;
     private Client client;
     private ClusterService clusterService;
     private DiscoveryNodeHelper nodeHelper;
@@ -64,6 +71,16 @@ public class MLSyncUpCron implements Runnable {
     @VisibleForTesting
     Semaphore updateModelStateSemaphore;
 
+    // key is ephemeral node id, value is deployed models of the node at the version it reported last
+    private final Map<String, NodeDeploymentState> nodeDeploymentStates = new HashMap<>();
+    // model routing table of last run, key is model id, value is set of worker node ids
+    private Map<String, Set<String>> lastModelWorkerNodes;
+    // function names of deployed models as reported by worker nodes, key is model id
+    private final Map<String, FunctionName> modelFunctionNames = new HashMap<>();
+    private int runsSinceFullSync;
+    private volatile boolean fullSyncRequired = true;
+    private volatile boolean refreshAllModelStatesRequired = true;
+
     public MLSyncUpCron(
         Client client,
         ClusterService clusterService,
@@ -89,78 +106,228 @@ public class MLSyncUpCron implements Runnable {
         }
         log.debug("ML sync job starts");
         DiscoveryNode[] allNodes = nodeHelper.getAllNodes();
-        MLSyncUpInput gatherInfoInput = MLSyncUpInput.builder().getDeployedModels(true).build();
+        MLSyncUpInput gatherInfoInput = MLSyncUpInput
+            .builder()
+            .getDeployedModels(true)
+            .deploymentStateVersions(getDeploymentStateVersions())
+            .build();
         MLSyncUpNodesRequest gatherInfoRequest = new MLSyncUpNodesRequest(allNodes, gatherInfoInput);
 
-        // gather running model/tasks on nodes
-        client.execute(MLSyncUpAction.INSTANCE, gatherInfoRequest, ActionListener.wrap(r -> {
-            List<MLSyncUpNodeResponse> responses = r.getNodes();
-            // key is model id, value is set of worker node ids
-            Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
-            // key is task id, value is set of worker node ids
-            Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
-            // key is model id, value is set of worker node ids
-            Map<String, Set<String>> deployingModels = new HashMap<>();
-            for (MLSyncUpNodeResponse response : responses) {
-                String nodeId = response.getNode().getId();
-                String[] deployedModelIds = response.getDeployedModelIds();
-                if (deployedModelIds != null && deployedModelIds.length > 0) {
-                    for (String modelId : deployedModelIds) {
-                        Set<String> workerNodes = modelWorkerNodes.computeIfAbsent(modelId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
-                }
-                String[] runningModelIds = response.getRunningDeployModelIds();
-                if (runningModelIds != null && runningModelIds.length > 0) {
-                    for (String modelId : runningModelIds) {
-                        Set<String> workerNodes = deployingModels.computeIfAbsent(modelId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
+        // gather changes of deployed models and running tasks on nodes
+        client
+            .execute(
+                MLSyncUpAction.INSTANCE,
+                gatherInfoRequest,
+                ActionListener.wrap(r -> { syncUp(allNodes, r.getNodes()); }, e -> { log.error("Failed to sync model routing", e); })
+            );
+    }
+
+    @VisibleForTesting
+    synchronized void syncUp(DiscoveryNode[] allNodes, List<MLSyncUpNodeResponse> responses) {
+        // key is task id, value is set of worker node ids
+        Map<String, Set<String>> runningDeployModelTasks = new HashMap<>();
+        // key is model id, value is set of worker node ids
+        Map<String, Set<String>> deployingModels = new HashMap<>();
+        // Only nodes which responded are counted as worker nodes, same as nodes which left the cluster.
+        Map<String, NodeDeploymentState> respondedNodeStates = new HashMap<>();
+        for (MLSyncUpNodeResponse response : responses) {
+            String nodeId = response.getNode().getId();
+            respondedNodeStates.put(response.getNode().getEphemeralId(), updateDeploymentState(response));
+            if (response.getDeployedModelFunctionNames() != null) {
+                modelFunctionNames.putAll(response.getDeployedModelFunctionNames());
+            }
+            String[] runningModelIds = response.getRunningDeployModelIds();
+            if (runningModelIds != null && runningModelIds.length > 0) {
+                for (String modelId : runningModelIds) {
+                    Set<String> workerNodes = deployingModels.computeIfAbsent(modelId, it -> new HashSet<>());
+                    workerNodes.add(nodeId);
                 }
+            }
 
-                String[] runningDeployModelTaskIds = response.getRunningDeployModelTaskIds();
-                if (runningDeployModelTaskIds != null && runningDeployModelTaskIds.length > 0) {
-                    for (String taskId : runningDeployModelTaskIds) {
-                        Set<String> workerNodes = runningDeployModelTasks.computeIfAbsent(taskId, it -> new HashSet<>());
-                        workerNodes.add(nodeId);
-                    }
+            String[] runningDeployModelTaskIds = response.getRunningDeployModelTaskIds();
+            if (runningDeployModelTaskIds != null && runningDeployModelTaskIds.length > 0) {
+                for (String taskId : runningDeployModelTaskIds) {
+                    Set<String> workerNodes = runningDeployModelTasks.computeIfAbsent(taskId, it -> new HashSet<>());
+                    workerNodes.add(nodeId);
                 }
             }
-            for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
-                String modelId = entry.getKey();
-                log.debug("will sync model worker nodes for model: {}: {}", modelId, entry.getValue().toArray(new String[0]));
+        }
+        boolean nodesChanged = !respondedNodeStates.keySet().equals(nodeDeploymentStates.keySet());
+        nodeDeploymentStates.clear();
+        nodeDeploymentStates.putAll(respondedNodeStates);
+
+        // key is model id, value is set of worker node ids
+        Map<String, Set<String>> modelWorkerNodes = new HashMap<>();
+        for (NodeDeploymentState nodeState : nodeDeploymentStates.values()) {
+            for (String modelId : nodeState.getDeployedModelIds()) {
+                Set<String> workerNodes = modelWorkerNodes.computeIfAbsent(modelId, it -> new HashSet<>());
+                workerNodes.add(nodeState.getNodeId());
             }
-            for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
-                log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+        modelFunctionNames.keySet().retainAll(modelWorkerNodes.keySet());
+        for (Map.Entry<String, Set<String>> entry : runningDeployModelTasks.entrySet()) {
+            log.debug("will sync running task: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
+        }
+
+        boolean fullSync = fullSyncRequired
+            || nodesChanged
+            || lastModelWorkerNodes == null
+            || ++runsSinceFullSync >= FULL_SYNC_INTERVAL_IN_RUNS;
+        MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
+            .builder()
+            .syncRunningDeployModelTasks(true)
+            .runningDeployModelTasks(runningDeployModelTasks);
+        // models of which worker nodes changed since last run, null if all models should be refreshed
+        Set<String> changedModelIds = null;
+        if (fullSync) {
+            runsSinceFullSync = 0;
+            fullSyncRequired = false;
+            for (Map.Entry<String, Set<String>> entry : modelWorkerNodes.entrySet()) {
+                log.debug("will sync model worker nodes for model: {}: {}", entry.getKey(), entry.getValue().toArray(new String[0]));
             }
-            MLSyncUpInput.MLSyncUpInputBuilder inputBuilder = MLSyncUpInput
-                .builder()
-                .syncRunningDeployModelTasks(true)
-                .runningDeployModelTasks(runningDeployModelTasks);
             if (modelWorkerNodes.size() == 0) {
                 log.debug("No deployed model found. Will clear model routing on all nodes");
                 inputBuilder.clearRoutingTable(true);
             } else {
-                inputBuilder.modelRoutingTable(modelWorkerNodes);
+                inputBuilder.modelRoutingTable(modelWorkerNodes).modelFunctionNames(new HashMap<>(modelFunctionNames));
+            }
+        } else {
+            Map<String, String[]> addedWorkerNodes = new HashMap<>();
+            Map<String, String[]> removedWorkerNodes = new HashMap<>();
+            changedModelIds = diffModelWorkerNodes(lastModelWorkerNodes, modelWorkerNodes, addedWorkerNodes, removedWorkerNodes);
+            if (changedModelIds.size() > 0) {
+                log.debug("will sync worker nodes of changed models: {}", changedModelIds);
+                Map<String, FunctionName> addedModelFunctionNames = new HashMap<>();
+                for (String modelId : addedWorkerNodes.keySet()) {
+                    if (modelFunctionNames.containsKey(modelId)) {
+                        addedModelFunctionNames.put(modelId, modelFunctionNames.get(modelId));
+                    }
+                }
+                inputBuilder
+                    .addedWorkerNodes(addedWorkerNodes)
+                    .removedWorkerNodes(removedWorkerNodes)
+                    .modelFunctionNames(addedModelFunctionNames);
+            }
+        }
+        lastModelWorkerNodes = modelWorkerNodes;
+        if (refreshAllModelStatesRequired) {
+            refreshAllModelStatesRequired = false;
+            changedModelIds = null;
+        }
+
+        MLSyncUpInput syncUpInput = inputBuilder.build();
+        MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
+        // sync up running model/tasks on nodes
+        client.execute(MLSyncUpAction.INSTANCE, syncUpRequest, ActionListener.wrap(re -> {
+            if (re.hasFailures()) {
+                // nodes which missed the routing changes get the whole routing table next run
+                fullSyncRequired = true;
+                log.debug("Failed to sync model routing on some nodes", re.failures().get(0));
             }
-            MLSyncUpInput syncUpInput = inputBuilder.build();
-            MLSyncUpNodesRequest syncUpRequest = new MLSyncUpNodesRequest(allNodes, syncUpInput);
-            // sync up running model/tasks on nodes
-            client
-                .execute(
-                    MLSyncUpAction.INSTANCE,
-                    syncUpRequest,
-                    ActionListener.wrap(re -> { log.debug("sync model routing job finished"); }, ex -> {
-                        log.error("Failed to sync model routing", ex);
+            log.debug("sync model routing job finished");
+        }, ex -> {
+            fullSyncRequired = true;
+            log.error("Failed to sync model routing", ex);
+        }));
+
+        // refresh model status
+        Set<String> refreshModelIds = changedModelIds;
+        mlIndicesHandler
+            .initModelIndexIfAbsent(
+                ActionListener
+                    .wrap(res -> { refreshModelState(modelWorkerNodes, deployingModels, refreshModelIds); }, e -> {
+                        log.error("Failed to init model index", e);
                     })
-                );
+            );
+    }
+
+    private Map<String, Long> getDeploymentStateVersions() {
+        Map<String, Long> versions = new HashMap<>();
+        synchronized (this) {
+            for (Map.Entry<String, NodeDeploymentState> entry : nodeDeploymentStates.entrySet()) {
+                if (entry.getValue().getVersion() != MLSyncUpNodeResponse.NO_VERSION) {
+                    versions.put(entry.getKey(), entry.getValue().getVersion());
+                }
+            }
+        }
+        return versions;
+    }
 
-            // refresh model status
-            mlIndicesHandler
-                .initModelIndexIfAbsent(ActionListener.wrap(res -> { refreshModelState(modelWorkerNodes, deployingModels); }, e -> {
-                    log.error("Failed to init model index", e);
-                }));
-        }, e -> { log.error("Failed to sync model routing", e); }));
+    private NodeDeploymentState updateDeploymentState(MLSyncUpNodeResponse response) {
+        String nodeId = response.getNode().getId();
+        NodeDeploymentState knownState = nodeDeploymentStates.get(response.getNode().getEphemeralId());
+        Set<String> deployedModelIds = toSet(response.getDeployedModelIds());
+        if (!response.isDeploymentStateDelta()) {
+            return new NodeDeploymentState(nodeId, response.getDeploymentStateVersion(), deployedModelIds);
+        }
+        if (knownState == null || knownState.getVersion() != response.getBaseDeploymentStateVersion()) {
+            // Changes since a version this job doesn't know, e.g. responses of overlapping runs. Use what is known and
+            // don't acknowledge any version, so the node reports all deployed models next run.
+            log.debug("Unknown base deployment state version of node {}, will gather all deployed models", nodeId);
+            Set<String> merged = knownState == null ? new HashSet<>() : new HashSet<>(knownState.getDeployedModelIds());
+            merged.addAll(deployedModelIds);
+            merged.removeAll(toSet(response.getUndeployedModelIds()));
+            return new NodeDeploymentState(nodeId, MLSyncUpNodeResponse.NO_VERSION, merged);
+        }
+        String[] undeployedModelIds = response.getUndeployedModelIds();
+        if (deployedModelIds.isEmpty() && (undeployedModelIds == null || undeployedModelIds.length == 0)) {
+            return knownState;
+        }
+        Set<String> updated = new HashSet<>(knownState.getDeployedModelIds());
+        updated.addAll(deployedModelIds);
+        updated.removeAll(toSet(undeployedModelIds));
+        return new NodeDeploymentState(nodeId, response.getDeploymentStateVersion(), updated);
+    }
+
+    /**
+     * Compare model routing tables.
+     * @param previous previous routing table, key is model id, value is set of worker node ids
+     * @param current current routing table
+     * @param addedWorkerNodes output of added worker nodes per model
+     * @param removedWorkerNodes output of removed worker nodes per model
+     * @return ids of models of which worker nodes changed
+     */
+    @VisibleForTesting
+    static Set<String> diffModelWorkerNodes(
+        Map<String, Set<String>> previous,
+        Map<String, Set<String>> current,
+        Map<String, String[]> addedWorkerNodes,
+        Map<String, String[]> removedWorkerNodes
+    ) {
+        Set<String> modelIds = new HashSet<>(previous.keySet());
+        modelIds.addAll(current.keySet());
+        Set<String> changedModelIds = new HashSet<>();
+        for (String modelId : modelIds) {
+            Set<String> previousNodes = previous.getOrDefault(modelId, Collections.emptySet());
+            Set<String> currentNodes = current.getOrDefault(modelId, Collections.emptySet());
+            if (previousNodes.equals(currentNodes)) {
+                continue;
+            }
+            changedModelIds.add(modelId);
+            Set<String> added = new HashSet<>(currentNodes);
+            added.removeAll(previousNodes);
+            if (added.size() > 0) {
+                addedWorkerNodes.put(modelId, added.toArray(new String[0]));
+            }
+            Set<String> removed = new HashSet<>(previousNodes);
+            removed.removeAll(currentNodes);
+            if (removed.size() > 0) {
+                removedWorkerNodes.put(modelId, removed.toArray(new String[0]));
+            }
+        }
+        return changedModelIds;
+    }
+
+    private static Set<String> toSet(String[] values) {
+        return values == null ? new HashSet<>() : new HashSet<>(Arrays.asList(values));
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class NodeDeploymentState {
+        private final String nodeId;
+        private final long version;
+        private final Set<String> deployedModelIds;
     }
 
     @VisibleForTesting
@@ -195,7 +362,27 @@ public class MLSyncUpCron implements Runnable {
 
     @VisibleForTesting
     void refreshModelState(Map<String, Set<String>> modelWorkerNodes, Map<String, Set<String>> deployingModels) {
+        refreshModelState(modelWorkerNodes, deployingModels, null);
+    }
+
+    /**
+     * Refresh state of models whose state could have changed: models of which worker nodes changed, models with
+     * running deploy model tasks and models in deploying state, which may have timed out.
+     * @param modelWorkerNodes worker nodes of deployed models
+     * @param deployingModels nodes with running deploy model task of models
+     * @param changedModelIds models of which worker nodes changed since last run, null to refresh all models
+     */
+    @VisibleForTesting
+    void refreshModelState(
+        Map<String, Set<String>> modelWorkerNodes,
+        Map<String, Set<String>> deployingModels,
+        Set<String> changedModelIds
+    ) {
         if (!updateModelStateSemaphore.tryAcquire()) {
+            if (changedModelIds != null) {
+                // changes of this run would be missed otherwise
+                refreshAllModelStatesRequired = true;
+            }
             return;
         }
         try {
@@ -218,6 +405,22 @@ public class MLSyncUpCron implements Runnable {
                             )
                     )
                 );
+            if (changedModelIds != null) {
+                BoolQueryBuilder candidateQueryBuilder = new BoolQueryBuilder().minimumShouldMatch(1);
+                candidateQueryBuilder
+                    .should(
+                        new TermsQueryBuilder(
+                            MLModel.MODEL_STATE_FIELD,
+                            Arrays.asList(MLModelState.LOADING.name(), MLModelState.DEPLOYING.name())
+                        )
+                    );
+                Set<String> candidateModelIds = new HashSet<>(changedModelIds);
+                candidateModelIds.addAll(deployingModels.keySet());
+                if (candidateModelIds.size() > 0) {
+                    candidateQueryBuilder.should(new IdsQueryBuilder().addIds(candidateModelIds.toArray(new String[0])));
+                }
+                queryBuilder.filter(candidateQueryBuilder);
+            }
             SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
             sourceBuilder.query(queryBuilder);
             sourceBuilder.size(10_000);
@@ -285,10 +488,12 @@ public class MLSyncUpCron implements Runnable {
                 }
                 bulkUpdateModelState(modelWorkerNodes, newModelStates, newPlanningWorkerNodes);
             }, e -> {
+                refreshAllModelStatesRequired = true;
                 updateModelStateSemaphore.release();
                 log.error("Failed to search models", e);
             }));
         } catch (Exception e) {
+            refreshAllModelStatesRequired = true;
             updateModelStateSemaphore.release();
             log.error("Failed to refresh model state", e);
         }
@@ -377,6 +582,7 @@ public class MLSyncUpCron implements Runnable {
                 updateModelStateSemaphore.release();
                 log.debug("Refresh model state successfully");
             }, e -> {
+                refreshAllModelStatesRequired = true;
                 updateModelStateSemaphore.release();
                 log.error("Failed to bulk update model state", e);
             }));
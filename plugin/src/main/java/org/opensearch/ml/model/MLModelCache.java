@@ -14,6 +14,7 @@ import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.stream.DoubleStream;
 
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.engine.MLExecutable;
 import org.opensearch.ml.engine.Predictable;
@@ -38,6 +39,12 @@ public class MLModelCache {
     private final Queue<Double> predictRequestDurationQueue;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationCPU;
     private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) Long memSizeEstimationGPU;
+    // Model meta to reload the predictor from the local model file after it's unloaded, null if it can't be unloaded.
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) MLModel modelMeta;
+    private @Setter(AccessLevel.PROTECTED) @Getter(AccessLevel.PROTECTED) volatile long lastAccessTime;
+    private @Getter(AccessLevel.PROTECTED) volatile boolean unloaded;
+    // Number of predict requests running with the predictor, the predictor is not unloaded while it's in use.
+    private @Getter(AccessLevel.PROTECTED) int activePredictCount;
 
     // In rare case, this could be null, e.g. model info not synced up yet a predict request comes in.
     @Setter
@@ -125,9 +132,12 @@ public class MLModelCache {
         workerNodes.clear();
     }
 
-    public void clear() {
+    public synchronized void clear() {
         modelState = null;
         functionName = null;
+        modelMeta = null;
+        unloaded = false;
+        activePredictCount = 0;
         workerNodes.clear();
         modelInferenceDurationQueue.clear();
         predictRequestDurationQueue.clear();
@@ -141,6 +151,67 @@ public class MLModelCache {
         }
     }
 
+    /**
+     * Get predictor to run a predict request and record the access time. The predictor is not unloaded until it's
+     * released with {@link #releasePredictor(long)}.
+     * @param time access time
+     * @return predictor, null if not loaded
+     */
+    public synchronized Predictable acquirePredictor(long time) {
+        lastAccessTime = time;
+        if (predictor != null) {
+            activePredictCount++;
+        }
+        return predictor;
+    }
+
+    /**
+     * Release predictor acquired by {@link #acquirePredictor(long)} once the predict request is done.
+     * @param time access time
+     */
+    public synchronized void releasePredictor(long time) {
+        lastAccessTime = time;
+        if (activePredictCount > 0) {
+            activePredictCount--;
+        }
+    }
+
+    /**
+     * Unload predictor of deployed model which is not accessed since the given time. The model stays deployed, its
+     * predictor can be reloaded from model meta. Predictor used by running predict requests is not unloaded.
+     * @param idleSince time since when the model is not accessed
+     * @return unloaded predictor which should be closed, null if predictor can't be unloaded
+     */
+    public synchronized Predictable unloadPredictor(long idleSince) {
+        if (predictor == null
+            || modelMeta == null
+            || modelState != MLModelState.DEPLOYED
+            || lastAccessTime > idleSince
+            || activePredictCount > 0) {
+            return null;
+        }
+        Predictable unloadedPredictor = predictor;
+        predictor = null;
+        unloaded = true;
+        return unloadedPredictor;
+    }
+
+    /**
+     * Set reloaded predictor of unloaded model.
+     * @param predictor reloaded predictor
+     * @param time access time
+     * @return false if model is not unloaded any more, e.g. undeployed during reloading
+     */
+    public synchronized boolean reloadPredictor(Predictable predictor, long time) {
+        if (!unloaded || modelState != MLModelState.DEPLOYED) {
+            return false;
+        }
+        this.predictor = predictor;
+        this.unloaded = false;
+        this.lastAccessTime = time;
+        return true;
+    }
+
     public void addModelInferenceDuration(double duration, long maxRequestCount) {
         addInferenceDuration(duration, maxRequestCount, modelInferenceDurationQueue);
     }
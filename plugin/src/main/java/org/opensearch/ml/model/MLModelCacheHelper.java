@@ -7,6 +7,7 @@ package org.opensearch.ml.model;
 
 import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
 
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,7 @@ import java.util.stream.Collectors;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
@@ -214,6 +216,131 @@ public class MLModelCacheHelper {
         return modelCache.getPredictor();
     }
 
+    /**
+     * Get predictor of model to run a predict request, the predictor is not unloaded until it's released.
+     * @param modelId model id
+     * @param accessTime access time
+     * @return predictor
+     */
+    public Predictable acquirePredictor(String modelId, long accessTime) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.acquirePredictor(accessTime);
+    }
+
+    /**
+     * Release predictor of model once the predict request is done.
+     * @param modelId model id
+     * @param accessTime access time
+     */
+    public void releasePredictor(String modelId, long accessTime) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache != null) {
+            modelCache.releasePredictor(accessTime);
+        }
+    }
+
+    /**
+     * Set model meta which is needed to reload the predictor of model after it's unloaded.
+     * @param modelId model id
+     * @param modelMeta model meta
+     * @param accessTime access time
+     */
+    public void setModelMeta(String modelId, MLModel modelMeta, long accessTime) {
+        MLModelCache modelCache = getExistingModelCache(modelId);
+        modelCache.setModelMeta(modelMeta);
+        modelCache.setLastAccessTime(accessTime);
+    }
+
+    /**
+     * Get model meta to reload the predictor of model.
+     * @param modelId model id
+     * @return model meta, null if predictor of model can't be reloaded
+     */
+    public MLModel getModelMeta(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.getModelMeta();
+    }
+
+    /**
+     * Get models whose predictor can be unloaded, least recently used first.
+     * @param idleSince time since when the models are not accessed
+     * @return list of model id
+     */
+    public List<String> getIdleModels(long idleSince) {
+        return modelCaches
+            .entrySet()
+            .stream()
+            .filter(
+                entry -> entry.getValue().getModelState() == MLModelState.DEPLOYED
+                    && entry.getValue().getPredictor() != null
+                    && entry.getValue().getModelMeta() != null
+                    && entry.getValue().getLastAccessTime() <= idleSince
+            )
+            .sorted(Comparator.comparingLong(entry -> entry.getValue().getLastAccessTime()))
+            .map(entry -> entry.getKey())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Unload predictor of model if it's not accessed since the given time.
+     * @param modelId model id
+     * @param idleSince time since when the model is not accessed
+     * @return unloaded predictor which should be closed, null if not unloaded
+     */
+    public Predictable unloadPredictor(String modelId, long idleSince) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        if (modelCache == null) {
+            return null;
+        }
+        return modelCache.unloadPredictor(idleSince);
+    }
+
+    /**
+     * Set reloaded predictor of unloaded model.
+     * @param modelId model id
+     * @param predictor reloaded predictor
+     * @param accessTime access time
+     * @return false if model is not unloaded any more
+     */
+    public boolean reloadPredictor(String modelId, Predictable predictor, long accessTime) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache != null && modelCache.reloadPredictor(predictor, accessTime);
+    }
+
+    /**
+     * Check if model is deployed on node but its predictor is unloaded.
+     * @param modelId model id
+     * @return true if predictor of model is unloaded
+     */
+    public boolean isModelUnloaded(String modelId) {
+        MLModelCache modelCache = modelCaches.get(modelId);
+        return modelCache != null && modelCache.getModelState() == MLModelState.DEPLOYED && modelCache.isUnloaded();
+    }
+
+    /**
+     * Get deployed local models on node whose predictor is loaded.
+     * @return array of model id
+     */
+    public String[] getLoadedLocalDeployedModels() {
+        return modelCaches
+            .entrySet()
+            .stream()
+            .filter(
+                entry -> (entry.getValue().getModelState() == MLModelState.DEPLOYED
+                    && entry.getValue().getFunctionName() != FunctionName.REMOTE
+                    && !entry.getValue().isUnloaded())
+            )
+            .map(entry -> entry.getKey())
+            .collect(Collectors.toList())
+            .toArray(new String[0]);
+    }
+
     /**
      * Set target worker nodes of model.
      * @param modelId model id
@@ -416,6 +543,20 @@ public class MLModelCacheHelper {
         return Optional.ofNullable(functionName);
     }
 
+    /**
+     * Set function names of models which have no function name in cache yet, e.g. models only deployed on other nodes.
+     * Models not in cache are ignored, they have no worker node.
+     * @param functionNames function names, key is model id
+     */
+    public synchronized void setFunctionNames(Map<String, FunctionName> functionNames) {
+        for (Map.Entry<String, FunctionName> entry : functionNames.entrySet()) {
+            MLModelCache modelCache = modelCaches.get(entry.getKey());
+            if (modelCache != null && modelCache.getFunctionName() == null) {
+                modelCache.setFunctionName(entry.getValue());
+            }
+        }
+    }
+
     public void setDeployToAllNodes(String modelId, Boolean deployToAllNodes) {
         MLModelCache modelCache = modelCaches.get(modelId);
         if (modelCache != null) {
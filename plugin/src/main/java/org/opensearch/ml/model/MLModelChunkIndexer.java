@@ -0,0 +1,186 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.common.xcontent.XContentType.JSON;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.ThreadedActionListener;
+import org.opensearch.client.Client;
+import org.opensearch.common.io.stream.BytesStreamOutput;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.XContentBuilder;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Index model chunk files into the model index with bulk requests.
+ *
+ * Chunk files are read and base64 encoded while earlier bulk requests are indexed, with at most
+ * {@link #MAX_IN_FLIGHT_BULK_REQUESTS} bulk requests of about {@link #MAX_BULK_SIZE_IN_BYTES} each in flight. The buffer
+ * of a bulk request is released once it is indexed, so no model sized buffer outlives the bulk request. Chunks are
+ * indexed without refresh, they are read by id. Updating the model meta doc after the last chunk refreshes the model
+ * index once.
+ */
+@Log4j2
+public class MLModelChunkIndexer {
+    public static final int MAX_IN_FLIGHT_BULK_REQUESTS = 2;
+    // Small models are indexed with a few chunks in one bulk request. A bulk request has at least one chunk, so chunks
+    // of 10MB are indexed one per bulk request.
+    public static final int MAX_BULK_SIZE_IN_BYTES = 4 * 1024 * 1024;
+
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final String executor;
+    private final List<String> chunkFiles;
+    private final IntFunction<MLModel> chunkMeta;
+    private final ActionListener<Void> listener;
+    private final int maxBulkSizeInBytes;
+
+    private int nextChunk;
+    private int inFlightBulkRequests;
+    private boolean done;
+
+    @VisibleForTesting
+    MLModelChunkIndexer(
+        Client client,
+        ThreadPool threadPool,
+        String executor,
+        List<String> chunkFiles,
+        IntFunction<MLModel> chunkMeta,
+        ActionListener<Void> listener,
+        int maxBulkSizeInBytes
+    ) {
+        this.client = client;
+        this.threadPool = threadPool;
+        this.executor = executor;
+        this.chunkFiles = chunkFiles;
+        this.chunkMeta = chunkMeta;
+        this.listener = listener;
+        this.maxBulkSizeInBytes = maxBulkSizeInBytes;
+    }
+
+    /**
+     * Index chunk files. Chunk files are deleted once indexed.
+     * @param client client
+     * @param threadPool thread pool
+     * @param executor executor to read chunk files on
+     * @param chunkFiles chunk files, named by chunk number
+     * @param chunkMeta creates the chunk doc without content for chunk number
+     * @param listener called when all chunks are indexed or indexing one failed
+     */
+    public static void index(
+        Client client,
+        ThreadPool threadPool,
+        String executor,
+        List<String> chunkFiles,
+        IntFunction<MLModel> chunkMeta,
+        ActionListener<Void> listener
+    ) {
+        new MLModelChunkIndexer(client, threadPool, executor, chunkFiles, chunkMeta, listener, MAX_BULK_SIZE_IN_BYTES).indexNextBulks();
+    }
+
+    @VisibleForTesting
+    synchronized void indexNextBulks() {
+        while (!done && inFlightBulkRequests < MAX_IN_FLIGHT_BULK_REQUESTS && nextChunk < chunkFiles.size()) {
+            BytesStreamOutput buffer = new BytesStreamOutput();
+            List<File> files = new ArrayList<>();
+            BulkRequest bulkRequest;
+            try {
+                bulkRequest = createBulkRequest(buffer, files);
+            } catch (Exception e) {
+                onFailure(e);
+                return;
+            }
+            inFlightBulkRequests++;
+            log.debug("Indexing {} of {} model chunks, {} bytes", nextChunk, chunkFiles.size(), bulkRequest.estimatedSizeInBytes());
+            client
+                .bulk(
+                    bulkRequest,
+                    new ThreadedActionListener<>(
+                        log,
+                        threadPool,
+                        executor,
+                        ActionListener.wrap(r -> onBulkResponse(r, files), this::onFailure),
+                        false
+                    )
+                );
+        }
+        if (!done && inFlightBulkRequests == 0 && nextChunk == chunkFiles.size()) {
+            done = true;
+            listener.onResponse(null);
+        }
+    }
+
+    private BulkRequest createBulkRequest(BytesStreamOutput buffer, List<File> files) throws IOException {
+        List<IndexRequest> indexRequests = new ArrayList<>();
+        List<Integer> offsets = new ArrayList<>();
+        while (nextChunk < chunkFiles.size()) {
+            File file = new File(chunkFiles.get(nextChunk));
+            long encodedLength = (file.length() + 2) / 3 * 4;
+            if (indexRequests.size() > 0 && buffer.size() + encodedLength > maxBulkSizeInBytes) {
+                break;
+            }
+            int chunkNumber = Integer.parseInt(file.getName());
+            MLModel chunk = chunkMeta.apply(chunkNumber);
+            byte[] content = Files.readAllBytes(file.toPath());
+            offsets.add((int) buffer.size());
+            try (XContentBuilder builder = new XContentBuilder(JSON.xContent(), buffer)) {
+                chunk.toXContent(builder, content, 0, content.length);
+            }
+            indexRequests.add(new IndexRequest(ML_MODEL_INDEX).id(chunk.getModelId() + "_" + chunkNumber));
+            files.add(file);
+            nextChunk++;
+        }
+        offsets.add((int) buffer.size());
+        BytesReference bytes = buffer.bytes();
+        BulkRequest bulkRequest = new BulkRequest();
+        for (int i = 0; i < indexRequests.size(); i++) {
+            int offset = offsets.get(i);
+            bulkRequest.add(indexRequests.get(i).source(bytes.slice(offset, offsets.get(i + 1) - offset), XContentType.JSON));
+        }
+        return bulkRequest;
+    }
+
+    // The bulk request and its buffer are no longer referenced once this returns.
+    private void onBulkResponse(BulkResponse response, List<File> files) {
+        if (response.hasFailures()) {
+            onFailure(new MLException("Failed to index model chunks: " + response.buildFailureMessage()));
+            return;
+        }
+        files.forEach(file -> deleteFileQuietly(file));
+        synchronized (this) {
+            inFlightBulkRequests--;
+        }
+        indexNextBulks();
+    }
+
+    private synchronized void onFailure(Exception e) {
+        if (done) {
+            return;
+        }
+        done = true;
+        listener.onFailure(e);
+    }
+}
@@ -55,10 +55,13 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.apache.logging.log4j.util.Strings;
@@ -125,7 +128,6 @@ import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.io.Files;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -136,7 +138,6 @@ import lombok.extern.log4j.Log4j2;
 public class MLModelManager {
 
     public static final int TIMEOUT_IN_MILLIS = 5000;
-    public static final long MODEL_FILE_SIZE_LIMIT = 4l * 1024 * 1024 * 1024;// 4GB
 
     private final Client client;
     private final ClusterService clusterService;
@@ -152,6 +153,9 @@ public class MLModelManager {
     private final MLTaskManager mlTaskManager;
     private final MLEngine mlEngine;
     private final DiscoveryNodeHelper nodeHelper;
+    private final MLModelResidencyManager modelResidencyManager;
+    private final List<BiConsumer<String, MLModelState>> modelStateListeners = new CopyOnWriteArrayList<>();
+    private final List<Consumer<String>> modelRemovedListeners = new CopyOnWriteArrayList<>();
 
     private volatile Integer maxModelPerNode;
     private volatile Integer maxRegisterTasksPerNode;
@@ -181,7 +185,8 @@ public class MLModelManager {
         MLTaskManager mlTaskManager,
         MLModelCacheHelper modelCacheHelper,
         MLEngine mlEngine,
-        DiscoveryNodeHelper nodeHelper
+        DiscoveryNodeHelper nodeHelper,
+        MLModelResidencyManager modelResidencyManager
     ) {
         this.client = client;
         this.threadPool = threadPool;
@@ -196,6 +201,7 @@ public class MLModelManager {
         this.mlTaskManager = mlTaskManager;
         this.mlEngine = mlEngine;
         this.nodeHelper = nodeHelper;
+        this.modelResidencyManager = modelResidencyManager;
 
         this.maxModelPerNode = ML_COMMONS_MAX_MODELS_PER_NODE.get(settings);
         clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MAX_MODELS_PER_NODE, it -> maxModelPerNode = it);
@@ -677,68 +683,46 @@ public class MLModelManager {
                 functionName,
                 ActionListener.wrap(result -> {
                     Long modelSizeInBytes = (Long) result.get(MODEL_SIZE_IN_BYTES);
-                    if (modelSizeInBytes >= MODEL_FILE_SIZE_LIMIT) {
-                        throw new MLException("Model file size exceeds the limit of 4GB: " + modelSizeInBytes);
-                    }
                     List<String> chunkFiles = (List<String>) result.get(CHUNK_FILES);
                     String hashValue = (String) result.get(MODEL_FILE_HASH);
-                    Semaphore semaphore = new Semaphore(1);
-                    AtomicInteger uploaded = new AtomicInteger(0);
-                    AtomicBoolean failedToUploadChunk = new AtomicBoolean(false);
-                    // upload chunks
-                    for (String name : chunkFiles) {
-                        semaphore.tryAcquire(10, TimeUnit.SECONDS);
-                        if (failedToUploadChunk.get()) {
-                            throw new MLException("Failed to save model chunk");
-                        }
-                        File file = new File(name);
-                        byte[] bytes = Files.toByteArray(file);
-                        int chunkNum = Integer.parseInt(file.getName());
-                        Instant now = Instant.now();
-                        MLModel mlModel = MLModel
-                            .builder()
-                            .modelId(modelId)
-                            .name(modelName)
-                            .algorithm(functionName)
-                            .version(version)
-                            .modelFormat(registerModelInput.getModelFormat())
-                            .chunkNumber(chunkNum)
-                            .totalChunks(chunkFiles.size())
-                            .content(Base64.getEncoder().encodeToString(bytes))
-                            .createdTime(now)
-                            .lastUpdateTime(now)
-                            .build();
-                        IndexRequest indexRequest = new IndexRequest(ML_MODEL_INDEX);
-                        String chunkId = getModelChunkId(modelId, chunkNum);
-                        indexRequest.id(chunkId);
-                        indexRequest.source(mlModel.toXContent(XContentBuilder.builder(JSON.xContent()), EMPTY_PARAMS));
-                        indexRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-                        client.index(indexRequest, ActionListener.wrap(r -> {
-                            uploaded.getAndIncrement();
-                            if (uploaded.get() == chunkFiles.size()) {
-                                updateModelRegisterStateAsDone(
-                                    registerModelInput,
-                                    taskId,
-                                    modelId,
-                                    modelSizeInBytes,
-                                    chunkFiles,
-                                    hashValue
-                                );
-                            } else {
-                                deleteFileQuietly(file);
-                            }
-                            semaphore.release();
-                        }, e -> {
-                            log.error("Failed to index model chunk " + chunkId, e);
-                            failedToUploadChunk.set(true);
-                            handleException(functionName, taskId, e);
-                            deleteFileQuietly(file);
-                            // remove model doc as failed to upload model
-                            deleteModel(modelId);
-                            semaphore.release();
-                            deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
-                        }));
-                    }
+                    Instant now = Instant.now();
+                    MLModelChunkIndexer
+                        .index(
+                            client,
+                            threadPool,
+                            REGISTER_THREAD_POOL,
+                            chunkFiles,
+                            chunkNum -> MLModel
+                                .builder()
+                                .modelId(modelId)
+                                .name(modelName)
+                                .algorithm(functionName)
+                                .version(version)
+                                .modelFormat(registerModelInput.getModelFormat())
+                                .chunkNumber(chunkNum)
+                                .totalChunks(chunkFiles.size())
+                                .createdTime(now)
+                                .lastUpdateTime(now)
+                                .build(),
+                            ActionListener
+                                .wrap(
+                                    r -> updateModelRegisterStateAsDone(
+                                        registerModelInput,
+                                        taskId,
+                                        modelId,
+                                        modelSizeInBytes,
+                                        chunkFiles,
+                                        hashValue
+                                    ),
+                                    e -> {
+                                        log.error("Failed to index model chunks of model " + modelId, e);
+                                        handleException(functionName, taskId, e);
+                                        // remove model doc as failed to upload model
+                                        deleteModel(modelId);
+                                        deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
+                                    }
+                                )
+                        );
                 }, e -> {
                     log.error("Failed to index chunk file", e);
                     deleteFileQuietly(mlEngine.getRegisterModelPath(modelId));
@@ -876,7 +860,11 @@ public class MLModelManager {
             listener.onResponse("successful");
             return;
         }
-        if (modelCacheHelper.getLocalDeployedModels().length >= maxModelPerNode) {
+        // unloaded models don't take memory, memory pressure instead of model count limits how many of them are deployed
+        String[] localDeployedModels = modelResidencyManager.isEnabled()
+            ? modelCacheHelper.getLoadedLocalDeployedModels()
+            : modelCacheHelper.getLocalDeployedModels();
+        if (localDeployedModels.length >= maxModelPerNode) {
             listener.onFailure(new IllegalArgumentException("Exceed max local model per node limit"));
             return;
         }
@@ -942,8 +930,11 @@ public class MLModelManager {
                         return;
                     }
                     log.debug("Model content matches original hash value, continue deploying");
+                    File modelFile = FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())
+                        ? modelZipFile
+                        : modelResidencyManager.keepModelFile(mlModel, modelZipFile);
                     Map<String, Object> params = ImmutableMap
-                        .of(MODEL_ZIP_FILE, modelZipFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+                        .of(MODEL_ZIP_FILE, modelFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
                     if (FunctionName.METRICS_CORRELATION.equals(mlModel.getAlgorithm())) {
                         MLExecutable mlExecutable = mlEngine.deployExecute(mlModel, params);
                         try {
@@ -1130,13 +1121,52 @@ public class MLModelManager {
             && MODEL_DONE_STATES.contains(newUpdatedFields.get(MLModel.MODEL_STATE_FIELD))) {
             updateRequest.retryOnConflict(3);
         }
+        ActionListener<UpdateResponse> updateListener = listener;
+        Object modelState = newUpdatedFields.get(MLModel.MODEL_STATE_FIELD);
+        if (modelState != null && !modelStateListeners.isEmpty()) {
+            // only a persisted state change is notified
+            updateListener = ActionListener.wrap(response -> {
+                notifyModelStateListeners(modelId, modelState);
+                listener.onResponse(response);
+            }, listener::onFailure);
+        }
         try (ThreadContext.StoredContext context = client.threadPool().getThreadContext().stashContext()) {
-            client.update(updateRequest, ActionListener.runBefore(listener, () -> context.restore()));
+            client.update(updateRequest, ActionListener.runBefore(updateListener, () -> context.restore()));
         } catch (Exception e) {
             listener.onFailure(e);
         }
     }
 
+    /**
+     * Add listener which is called after this node updated the state of a model, e.g. when the deployment
+     * coordinated by this node is done.
+     *
+     * @param listener called with model id and new model state
+     */
+    public void addModelStateListener(BiConsumer<String, MLModelState> listener) {
+        modelStateListeners.add(listener);
+    }
+
+    /**
+     * Add listener which is called after a model is removed from this node, e.g. when the model is undeployed.
+     *
+     * @param listener called with model id
+     */
+    public void addModelRemovedListener(Consumer<String> listener) {
+        modelRemovedListeners.add(listener);
+    }
+
+    private void notifyModelStateListeners(String modelId, Object state) {
+        MLModelState modelState = state instanceof MLModelState ? (MLModelState) state : MLModelState.from(state.toString());
+        for (BiConsumer<String, MLModelState> listener : modelStateListeners) {
+            try {
+                listener.accept(modelId, modelState);
+            } catch (Exception e) {
+                log.error("Failed to notify model state change of model " + modelId, e);
+            }
+        }
+    }
+
     /**
      * Get model chunk id
      * @param modelId model id
@@ -1233,6 +1263,14 @@ public class MLModelManager {
     private void removeModel(String modelId) {
         modelCacheHelper.removeModel(modelId);
         modelHelper.deleteFileCache(modelId);
+        modelResidencyManager.deleteModelFile(modelId);
+        for (Consumer<String> listener : modelRemovedListeners) {
+            try {
+                listener.accept(modelId);
+            } catch (Exception e) {
+                log.error("Failed to notify removal of model " + modelId, e);
+            }
+        }
     }
 
     /**
@@ -1271,13 +1309,43 @@ public class MLModelManager {
     }
 
     /**
-     * Get predictable instance with model id.
+     * Get predictable instance with model id to run a predict request. Release it with {@link #releasePredictor(String)}
+     * once the request is done, so the predictor is not unloaded while it's used.
      *
      * @param modelId model id
      * @return predictable instance
      */
-    public Predictable getPredictor(String modelId) {
-        return modelCacheHelper.getPredictor(modelId);
+    public Predictable acquirePredictor(String modelId) {
+        return modelResidencyManager.acquirePredictor(modelId);
+    }
+
+    /**
+     * Release predictable instance acquired with {@link #acquirePredictor(String)}.
+     *
+     * @param modelId model id
+     */
+    public void releasePredictor(String modelId) {
+        modelResidencyManager.releasePredictor(modelId);
+    }
+
+    /**
+     * Check if model is deployed on this node but its predictor is unloaded to free memory.
+     *
+     * @param modelId model id
+     * @return true if predictor should be reloaded before predict
+     */
+    public boolean isModelUnloaded(String modelId) {
+        return modelCacheHelper.isModelUnloaded(modelId);
+    }
+
+    /**
+     * Reload the unloaded predictor of model from the local model file.
+     *
+     * @param modelId model id
+     * @param listener called with reloaded predictor
+     */
+    public void reloadModel(String modelId, ActionListener<Predictable> listener) {
+        modelResidencyManager.reloadModel(modelId, listener);
     }
 
     /**
@@ -1290,7 +1358,7 @@ public class MLModelManager {
     }
 
     /**
-     * Get all local model ids.
+     * Get all local model ids, including remote models deployed on this node.
      *
      * @return array of local deployed models
      */
@@ -1335,6 +1403,32 @@ public class MLModelManager {
         return modelCacheHelper.getOptionalFunctionName(modelId);
     }
 
+    /**
+     * Get function names of models from cache.
+     *
+     * @param modelIds model ids
+     * @return function names of models which have function name in cache, key is model id
+     */
+    public Map<String, FunctionName> getModelFunctionNames(String[] modelIds) {
+        Map<String, FunctionName> functionNames = new HashMap<>();
+        if (modelIds != null) {
+            for (String modelId : modelIds) {
+                modelCacheHelper.getOptionalFunctionName(modelId).ifPresent(functionName -> functionNames.put(modelId, functionName));
+            }
+        }
+        return functionNames;
+    }
+
+    /**
+     * Sync function names of models deployed on other nodes to cache, so predict requests of these models can be parsed
+     * without getting the model from index.
+     *
+     * @param modelFunctionNames function names, key is model id
+     */
+    public void syncModelFunctionNames(Map<String, FunctionName> modelFunctionNames) {
+        modelCacheHelper.setFunctionNames(modelFunctionNames);
+    }
+
     public boolean isModelRunningOnNode(String modelId) {
         return modelCacheHelper.isModelRunningOnNode(modelId);
     }
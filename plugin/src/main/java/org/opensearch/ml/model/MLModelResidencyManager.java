@@ -0,0 +1,331 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.ML_ENGINE;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_HELPER;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.engine.utils.FileUtils.deleteFileQuietly;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.DEPLOY_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_RESIDENCY_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD;
+import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.lifecycle.LifecycleListener;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.monitor.jvm.JvmService;
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.monitor.os.OsService;
+import org.opensearch.monitor.os.OsStats;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Keeps predictors of deployed local models in memory only while memory allows.
+ *
+ * When enabled, the model zip file of a deployed local model is kept on disk. Heap and native memory usage are checked
+ * periodically; once usage gets close to the memory thresholds, predictors of the least recently used models which
+ * are idle for the min idle time are unloaded until their estimated memory size covers the excess. Unloaded models
+ * stay deployed on the node, so predict requests are still routed here: the first request reloads the predictor from
+ * the model zip file, and requests which come in during the reload wait for it.
+ */
+@Log4j2
+public class MLModelResidencyManager {
+    // Start unloading models when memory usage is this close to the thresholds, before circuit breakers reject requests.
+    public static final int MEMORY_HEADROOM_PERCENT = 5;
+    public static final TimeValue CHECK_INTERVAL = TimeValue.timeValueSeconds(10);
+
+    private final ThreadPool threadPool;
+    private final MLModelCacheHelper modelCacheHelper;
+    private final MLEngine mlEngine;
+    private final ModelHelper modelHelper;
+    private final MLCircuitBreakerService mlCircuitBreakerService;
+    private final MLStats mlStats;
+    private final JvmService jvmService;
+    private final OsService osService;
+    // Listeners waiting for the predictor of a model being reloaded, key is model id.
+    private final Map<String, List<ActionListener<Predictable>>> pendingReloads = new HashMap<>();
+
+    private volatile boolean enabled;
+    private volatile TimeValue minIdleTime;
+    private volatile Integer jvmHeapMemThreshold;
+    private volatile Integer nativeMemThreshold;
+    private Scheduler.Cancellable residencyCheck;
+
+    public MLModelResidencyManager(
+        ClusterService clusterService,
+        ThreadPool threadPool,
+        Settings settings,
+        MLModelCacheHelper modelCacheHelper,
+        MLEngine mlEngine,
+        ModelHelper modelHelper,
+        MLCircuitBreakerService mlCircuitBreakerService,
+        MLStats mlStats,
+        JvmService jvmService,
+        OsService osService
+    ) {
+        this.threadPool = threadPool;
+        this.modelCacheHelper = modelCacheHelper;
+        this.mlEngine = mlEngine;
+        this.modelHelper = modelHelper;
+        this.mlCircuitBreakerService = mlCircuitBreakerService;
+        this.mlStats = mlStats;
+        this.jvmService = jvmService;
+        this.osService = osService;
+
+        this.minIdleTime = ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME, it -> minIdleTime = it);
+        this.jvmHeapMemThreshold = ML_COMMONS_JVM_HEAP_MEM_THRESHOLD.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_JVM_HEAP_MEM_THRESHOLD, it -> jvmHeapMemThreshold = it);
+        this.nativeMemThreshold = ML_COMMONS_NATIVE_MEM_THRESHOLD.get(settings);
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_NATIVE_MEM_THRESHOLD, it -> nativeMemThreshold = it);
+
+        setEnabled(ML_COMMONS_MODEL_RESIDENCY_ENABLED.get(settings));
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_MODEL_RESIDENCY_ENABLED, this::setEnabled);
+        clusterService.addLifecycleListener(new LifecycleListener() {
+            @Override
+            public void beforeStop() {
+                stopResidencyCheck();
+            }
+        });
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    private synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (enabled && residencyCheck == null) {
+            residencyCheck = threadPool.scheduleWithFixedDelay(this::checkMemory, CHECK_INTERVAL, GENERAL_THREAD_POOL);
+        } else if (!enabled) {
+            stopResidencyCheck();
+        }
+    }
+
+    private synchronized void stopResidencyCheck() {
+        if (residencyCheck != null) {
+            residencyCheck.cancel();
+            residencyCheck = null;
+        }
+    }
+
+    /**
+     * Keep the model zip file of a local model being deployed, so its predictor can be reloaded after it's unloaded.
+     * The zip file is moved out of the deploy folder which is deleted once the model is deployed.
+     *
+     * @param mlModel model meta
+     * @param modelZipFile model zip file in deploy folder
+     * @return model zip file to deploy the model from
+     * @throws IOException if moving the model zip file fails
+     */
+    public File keepModelFile(MLModel mlModel, File modelZipFile) throws IOException {
+        if (!enabled) {
+            return modelZipFile;
+        }
+        String modelId = mlModel.getModelId();
+        Path modelFile = mlEngine.getModelArtifactZipPath(modelId);
+        Files.createDirectories(modelFile.getParent());
+        Files.move(modelZipFile.toPath(), modelFile, StandardCopyOption.REPLACE_EXISTING);
+        modelCacheHelper.setModelMeta(modelId, mlModel, now());
+        return modelFile.toFile();
+    }
+
+    /**
+     * Delete the kept model zip file of model.
+     * @param modelId model id
+     */
+    public void deleteModelFile(String modelId) {
+        deleteFileQuietly(mlEngine.getModelArtifactPath(modelId));
+    }
+
+    /**
+     * Get predictor of model to run a predict request and record the access time. The predictor is not unloaded until
+     * it's released.
+     * @param modelId model id
+     * @return predictor, null if not deployed or unloaded
+     */
+    public Predictable acquirePredictor(String modelId) {
+        return modelCacheHelper.acquirePredictor(modelId, now());
+    }
+
+    /**
+     * Release predictor of model once the predict request is done.
+     * @param modelId model id
+     */
+    public void releasePredictor(String modelId) {
+        modelCacheHelper.releasePredictor(modelId, now());
+    }
+
+    /**
+     * Reload the unloaded predictor of model. Only one reload of a model runs at a time, listeners of requests which
+     * come in during the reload are called once it's done.
+     * @param modelId model id
+     * @param listener called with reloaded predictor
+     */
+    public void reloadModel(String modelId, ActionListener<Predictable> listener) {
+        synchronized (pendingReloads) {
+            List<ActionListener<Predictable>> listeners = pendingReloads.get(modelId);
+            if (listeners != null) {
+                log.debug("Model {} is being reloaded, wait for it", modelId);
+                listeners.add(listener);
+                return;
+            }
+            listeners = new ArrayList<>();
+            listeners.add(listener);
+            pendingReloads.put(modelId, listeners);
+        }
+        try {
+            threadPool.executor(DEPLOY_THREAD_POOL).execute(() -> {
+                Predictable predictor;
+                try {
+                    predictor = loadPredictor(modelId);
+                } catch (Exception e) {
+                    log.error("Failed to reload model " + modelId, e);
+                    notifyReloadListeners(modelId, l -> l.onFailure(e));
+                    return;
+                }
+                notifyReloadListeners(modelId, l -> l.onResponse(predictor));
+            });
+        } catch (Exception e) {
+            log.error("Failed to reload model " + modelId, e);
+            notifyReloadListeners(modelId, l -> l.onFailure(e));
+        }
+    }
+
+    private void notifyReloadListeners(String modelId, Consumer<ActionListener<Predictable>> consumer) {
+        List<ActionListener<Predictable>> listeners;
+        synchronized (pendingReloads) {
+            listeners = pendingReloads.remove(modelId);
+        }
+        for (ActionListener<Predictable> listener : listeners) {
+            try {
+                consumer.accept(listener);
+            } catch (Exception e) {
+                log.error("Failed to notify reload of model " + modelId, e);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    Predictable loadPredictor(String modelId) {
+        Predictable loadedPredictor = modelCacheHelper.getPredictor(modelId);
+        if (loadedPredictor != null) {
+            // reloaded by an earlier reload which finished after the model was found unloaded
+            return loadedPredictor;
+        }
+        MLModel modelMeta = modelCacheHelper.getModelMeta(modelId);
+        if (modelMeta == null || !modelCacheHelper.isModelUnloaded(modelId)) {
+            throw new IllegalArgumentException("Model not ready to be used: " + modelId);
+        }
+        Long memSize = modelCacheHelper.getMemEstCPU(modelId);
+        unloadIdleModels(bytesOverMemoryThreshold() + (memSize == null ? 0 : memSize));
+        checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+
+        File modelFile = mlEngine.getModelArtifactZipPath(modelId).toFile();
+        Map<String, Object> params = ImmutableMap.of(MODEL_ZIP_FILE, modelFile, MODEL_HELPER, modelHelper, ML_ENGINE, mlEngine);
+        Predictable predictor = mlEngine.deploy(modelMeta, params);
+        if (!modelCacheHelper.reloadPredictor(modelId, predictor, now())) {
+            // undeployed during reloading
+            predictor.close();
+            throw new IllegalArgumentException("Model not ready to be used: " + modelId);
+        }
+        log.info("Reloaded model {}", modelId);
+        return predictor;
+    }
+
+    @VisibleForTesting
+    void checkMemory() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            long bytesToFree = bytesOverMemoryThreshold();
+            if (bytesToFree > 0) {
+                log.debug("Memory usage is {} bytes over the unload threshold", bytesToFree);
+                unloadIdleModels(bytesToFree);
+            }
+        } catch (Exception e) {
+            log.error("Failed to unload idle models", e);
+        }
+    }
+
+    /**
+     * Unload predictors of least recently used idle models until their estimated memory size adds up to the given
+     * bytes.
+     * @param bytesToFree bytes to free
+     * @return estimated bytes freed
+     */
+    @VisibleForTesting
+    long unloadIdleModels(long bytesToFree) {
+        if (bytesToFree <= 0) {
+            return 0;
+        }
+        long idleSince = now() - minIdleTime.millis();
+        long freedBytes = 0;
+        for (String modelId : modelCacheHelper.getIdleModels(idleSince)) {
+            if (freedBytes >= bytesToFree) {
+                break;
+            }
+            Long memSize = modelCacheHelper.getMemEstCPU(modelId);
+            Predictable predictor = modelCacheHelper.unloadPredictor(modelId, idleSince);
+            if (predictor != null) {
+                predictor.close();
+                freedBytes += memSize == null ? 0 : memSize;
+                log.info("Unloaded idle model {} to free memory, estimated size {} bytes", modelId, memSize);
+            }
+        }
+        return freedBytes;
+    }
+
+    // Bytes of heap or native memory used over the thresholds minus headroom, whichever is more; negative if under both.
+    @VisibleForTesting
+    long bytesOverMemoryThreshold() {
+        JvmStats.Mem heap = jvmService.stats().getMem();
+        long heapOver = bytesOver(heap.getHeapUsed().getBytes(), heap.getHeapMax().getBytes(), jvmHeapMemThreshold);
+        OsStats.Mem mem = osService.stats().getMem();
+        long nativeOver = bytesOver(mem.getUsed().getBytes(), mem.getTotal().getBytes(), nativeMemThreshold);
+        return Math.max(heapOver, nativeOver);
+    }
+
+    private static long bytesOver(long used, long total, int thresholdPercent) {
+        // thresholds lower than the headroom unload at any usage
+        int unloadPercent = Math.max(thresholdPercent - MEMORY_HEADROOM_PERCENT, 0);
+        return used - total / 100 * unloadPercent;
+    }
+
+    private long now() {
+        return threadPool.relativeTimeInMillis();
+    }
+}
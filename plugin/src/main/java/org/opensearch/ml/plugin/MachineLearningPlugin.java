@@ -36,6 +36,7 @@ import org.opensearch.core.common.io.stream.NamedWriteableRegistry;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.env.Environment;
 import org.opensearch.env.NodeEnvironment;
+import org.opensearch.ml.action.batch.TransportBatchPredictionAction;
 import org.opensearch.ml.action.connector.DeleteConnectorTransportAction;
 import org.opensearch.ml.action.connector.GetConnectorTransportAction;
 import org.opensearch.ml.action.connector.SearchConnectorTransportAction;
@@ -87,6 +88,7 @@ import org.opensearch.ml.common.input.parameter.regression.LinearRegressionParam
 import org.opensearch.ml.common.input.parameter.regression.LogisticRegressionParams;
 import org.opensearch.ml.common.input.parameter.sample.SampleAlgoParams;
 import org.opensearch.ml.common.model.TextEmbeddingModelConfig;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorDeleteAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorGetAction;
 import org.opensearch.ml.common.transport.connector.MLConnectorSearchAction;
@@ -122,6 +124,7 @@ import org.opensearch.ml.engine.algorithms.metrics_correlation.MetricsCorrelatio
 import org.opensearch.ml.engine.algorithms.sample.LocalSampleCalculator;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
+import org.opensearch.ml.engine.utils.ModelSerDeSer;
 import org.opensearch.ml.helper.ConnectorAccessControlHelper;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.indices.MLIndicesHandler;
@@ -140,6 +143,8 @@ import org.opensearch.ml.memory.action.conversation.GetInteractionsTransportActi
 import org.opensearch.ml.memory.index.OpenSearchConversationalMemoryHandler;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
+import org.opensearch.ml.model.MLModelResidencyManager;
+import org.opensearch.ml.rest.RestMLBatchPredictionAction;
 import org.opensearch.ml.rest.RestMLCreateConnectorAction;
 import org.opensearch.ml.rest.RestMLDeleteConnectorAction;
 import org.opensearch.ml.rest.RestMLDeleteModelAction;
@@ -178,7 +183,9 @@ import org.opensearch.ml.stats.MLStat;
 import org.opensearch.ml.stats.MLStats;
 import org.opensearch.ml.stats.suppliers.CounterSupplier;
 import org.opensearch.ml.stats.suppliers.IndexStatusSupplier;
+import org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier;
 import org.opensearch.ml.task.MLExecuteTaskRunner;
+import org.opensearch.ml.task.MLPredictAdmissionController;
 import org.opensearch.ml.task.MLPredictTaskRunner;
 import org.opensearch.ml.task.MLTaskDispatcher;
 import org.opensearch.ml.task.MLTaskManager;
@@ -217,6 +224,8 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
     public static final String EXECUTE_THREAD_POOL = "opensearch_ml_execute";
     public static final String TRAIN_THREAD_POOL = "opensearch_ml_train";
     public static final String PREDICT_THREAD_POOL = "opensearch_ml_predict";
+    public static final String REMOTE_PREDICT_THREAD_POOL = "opensearch_ml_predict_remote";
+    public static final String PARALLEL_PREDICT_THREAD_POOL = "opensearch_ml_predict_parallel";
     public static final String REGISTER_THREAD_POOL = "opensearch_ml_register";
     public static final String DEPLOY_THREAD_POOL = "opensearch_ml_deploy";
     public static final String ML_BASE_URI = "/_plugins/_ml";
@@ -263,6 +272,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 new ActionHandler<>(MLStatsNodesAction.INSTANCE, MLStatsNodesTransportAction.class),
                 new ActionHandler<>(MLExecuteTaskAction.INSTANCE, TransportExecuteTaskAction.class),
                 new ActionHandler<>(MLPredictionTaskAction.INSTANCE, TransportPredictionTaskAction.class),
+                new ActionHandler<>(MLBatchPredictionAction.INSTANCE, TransportBatchPredictionAction.class),
                 new ActionHandler<>(MLTrainingTaskAction.INSTANCE, TransportTrainingTaskAction.class),
                 new ActionHandler<>(MLTrainAndPredictionTaskAction.INSTANCE, TransportTrainAndPredictionTaskAction.class),
                 new ActionHandler<>(MLModelGetAction.INSTANCE, GetModelTransportAction.class),
@@ -324,9 +334,31 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         Encryptor encryptor = new EncryptorImpl(clusterService, client);
 
         mlEngine = new MLEngine(dataPath, encryptor);
+        mlEngine.setPredictExecutor(threadPool.executor(PARALLEL_PREDICT_THREAD_POOL));
+        mlEngine
+            .getPredictableCache()
+            .setMaxSizeInBytes(MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_SIZE_IN_MB.get(settings) * 1024L * 1024);
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_SIZE_IN_MB,
+                it -> mlEngine.getPredictableCache().setMaxSizeInBytes(it * 1024L * 1024)
+            );
+        ModelSerDeSer.setVersionedFormatEnabled(MLCommonsSettings.ML_COMMONS_VERSIONED_MODEL_FORMAT_ENABLED.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(
+                MLCommonsSettings.ML_COMMONS_VERSIONED_MODEL_FORMAT_ENABLED,
+                ModelSerDeSer::setVersionedFormatEnabled
+            );
         nodeHelper = new DiscoveryNodeHelper(clusterService, settings);
         modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
-        cmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
+        OpenSearchConversationalMemoryHandler openSearchCmHandler = new OpenSearchConversationalMemoryHandler(client, clusterService);
+        openSearchCmHandler.setRefreshOnRead(MLCommonsSettings.ML_COMMONS_MEMORY_REFRESH_ON_READ.get(settings));
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(MLCommonsSettings.ML_COMMONS_MEMORY_REFRESH_ON_READ, openSearchCmHandler::setRefreshOnRead);
+        cmHandler = openSearchCmHandler;
 
         JvmService jvmService = new JvmService(environment.settings());
         OsService osService = new OsService(environment.settings());
@@ -348,11 +380,31 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_REJECTED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats
+            .put(MLNodeLevelStat.ML_PREDICT_THREAD_POOL, new MLStat<>(false, new ThreadPoolStatsSupplier(threadPool, PREDICT_THREAD_POOL)));
+        stats
+            .put(
+                MLNodeLevelStat.ML_REMOTE_PREDICT_THREAD_POOL,
+                new MLStat<>(false, new ThreadPoolStatsSupplier(threadPool, REMOTE_PREDICT_THREAD_POOL))
+            );
         this.mlStats = new MLStats(stats);
 
         mlIndicesHandler = new MLIndicesHandler(clusterService, client);
         mlTaskManager = new MLTaskManager(client, threadPool, mlIndicesHandler);
         modelHelper = new ModelHelper(mlEngine);
+        MLModelResidencyManager modelResidencyManager = new MLModelResidencyManager(
+            clusterService,
+            threadPool,
+            settings,
+            modelCacheHelper,
+            mlEngine,
+            modelHelper,
+            mlCircuitBreakerService,
+            mlStats,
+            jvmService,
+            osService
+        );
         mlModelManager = new MLModelManager(
             clusterService,
             scriptService,
@@ -367,7 +419,8 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             mlTaskManager,
             modelCacheHelper,
             mlEngine,
-            nodeHelper
+            nodeHelper,
+            modelResidencyManager
         );
         mlInputDatasetHandler = new MLInputDatasetHandler(client);
         modelAccessControlHelper = new ModelAccessControlHelper(clusterService, settings);
@@ -390,6 +443,9 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             nodeHelper,
             mlEngine
         );
+        MLPredictAdmissionController predictAdmissionController = new MLPredictAdmissionController(clusterService, settings);
+        // Drop queue state of undeployed models
+        mlModelManager.addModelRemovedListener(predictAdmissionController::removeModel);
         mlPredictTaskRunner = new MLPredictTaskRunner(
             threadPool,
             clusterService,
@@ -402,7 +458,8 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             xContentRegistry,
             mlModelManager,
             nodeHelper,
-            mlEngine
+            mlEngine,
+            predictAdmissionController
         );
         mlTrainAndPredictTaskRunner = new MLTrainAndPredictTaskRunner(
             threadPool,
@@ -436,8 +493,10 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         AnomalyLocalizerImpl anomalyLocalizer = new AnomalyLocalizerImpl(client, settings, clusterService, indexNameExpressionResolver);
         MLEngineClassLoader.register(FunctionName.ANOMALY_LOCALIZATION, anomalyLocalizer);
 
-        MetricsCorrelation metricsCorrelation = new MetricsCorrelation(client, settings, clusterService);
+        MetricsCorrelation metricsCorrelation = new MetricsCorrelation(client, settings, clusterService, EXECUTE_THREAD_POOL);
         MLEngineClassLoader.register(FunctionName.METRICS_CORRELATION, metricsCorrelation);
+        // Queued metrics correlation requests run when the model manager reports the model deployed.
+        mlModelManager.addModelStateListener(metricsCorrelation::onModelStateChanged);
         MLSearchHandler mlSearchHandler = new MLSearchHandler(client, xContentRegistry, modelAccessControlHelper, clusterService);
         MLModelAutoReDeployer mlModelAutoRedeployer = new MLModelAutoReDeployer(
             clusterService,
@@ -513,6 +572,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
         RestMLTrainingAction restMLTrainingAction = new RestMLTrainingAction();
         RestMLTrainAndPredictAction restMLTrainAndPredictAction = new RestMLTrainAndPredictAction();
         RestMLPredictionAction restMLPredictionAction = new RestMLPredictionAction(mlModelManager, mlFeatureEnabledSetting);
+        RestMLBatchPredictionAction restMLBatchPredictionAction = new RestMLBatchPredictionAction();
         RestMLExecuteAction restMLExecuteAction = new RestMLExecuteAction();
         RestMLGetModelAction restMLGetModelAction = new RestMLGetModelAction();
         RestMLDeleteModelAction restMLDeleteModelAction = new RestMLDeleteModelAction();
@@ -549,6 +609,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 restMLStatsAction,
                 restMLTrainingAction,
                 restMLPredictionAction,
+                restMLBatchPredictionAction,
                 restMLExecuteAction,
                 restMLTrainAndPredictAction,
                 restMLGetModelAction,
@@ -621,17 +682,46 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
             ML_THREAD_POOL_PREFIX + TRAIN_THREAD_POOL,
             false
         );
+        // local models are CPU bound, more threads than processors only add contention
         FixedExecutorBuilder predictThreadPool = new FixedExecutorBuilder(
             settings,
             PREDICT_THREAD_POOL,
-            OpenSearchExecutors.allocatedProcessors(settings) * 2,
+            OpenSearchExecutors.allocatedProcessors(settings),
             10000,
             ML_THREAD_POOL_PREFIX + PREDICT_THREAD_POOL,
             false
         );
+        // remote models mostly wait on HTTP responses, so a slow remote service shouldn't block local models
+        FixedExecutorBuilder remotePredictThreadPool = new FixedExecutorBuilder(
+            settings,
+            REMOTE_PREDICT_THREAD_POOL,
+            Math.max(32, OpenSearchExecutors.allocatedProcessors(settings) * 8),
+            10000,
+            ML_THREAD_POOL_PREFIX + REMOTE_PREDICT_THREAD_POOL,
+            false
+        );
+        // parallel tasks of one local prediction, e.g. batch RCF chunks. The queue is short since the predicting thread
+        // runs rejected tasks itself, and these tasks don't take slots of the predict thread pool
+        FixedExecutorBuilder parallelPredictThreadPool = new FixedExecutorBuilder(
+            settings,
+            PARALLEL_PREDICT_THREAD_POOL,
+            OpenSearchExecutors.allocatedProcessors(settings),
+            OpenSearchExecutors.allocatedProcessors(settings),
+            ML_THREAD_POOL_PREFIX + PARALLEL_PREDICT_THREAD_POOL,
+            false
+        );
 
         return ImmutableList
-            .of(generalThreadPool, registerModelThreadPool, deployModelThreadPool, executeThreadPool, trainThreadPool, predictThreadPool);
+            .of(
+                generalThreadPool,
+                registerModelThreadPool,
+                deployModelThreadPool,
+                executeThreadPool,
+                trainThreadPool,
+                predictThreadPool,
+                remotePredictThreadPool,
+                parallelPredictThreadPool
+            );
     }
 
     @Override
@@ -669,6 +759,13 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_TRUSTED_URL_REGEX,
                 MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD,
                 MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
+                MLCommonsSettings.ML_COMMONS_PREDICTABLE_CACHE_SIZE_IN_MB,
+                MLCommonsSettings.ML_COMMONS_VERSIONED_MODEL_FORMAT_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_RESIDENCY_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME,
+                MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED,
+                MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY,
+                MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL,
                 MLCommonsSettings.ML_COMMONS_EXCLUDE_NODE_NAMES,
                 MLCommonsSettings.ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN,
                 MLCommonsSettings.ML_COMMONS_ENABLE_INHOUSE_PYTHON_MODEL,
@@ -683,6 +780,7 @@ public class MachineLearningPlugin extends Plugin implements ActionPlugin, Searc
                 MLCommonsSettings.ML_COMMONS_LOCAL_MODEL_ELIGIBLE_NODE_ROLES,
                 MLCommonsSettings.ML_COMMONS_REMOTE_INFERENCE_ENABLED,
                 MLCommonsSettings.ML_COMMONS_MEMORY_FEATURE_ENABLED,
+                MLCommonsSettings.ML_COMMONS_MEMORY_REFRESH_ON_READ,
                 MLCommonsSettings.ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED
             );
         return settings;
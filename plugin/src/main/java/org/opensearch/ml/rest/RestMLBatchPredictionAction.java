@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TASK_ID;
+import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionRequest;
+import org.opensearch.rest.BaseRestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.rest.action.RestToXContentListener;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+
+public class RestMLBatchPredictionAction extends BaseRestHandler {
+    private static final String ML_BATCH_PREDICTION_ACTION = "ml_batch_prediction_action";
+
+    @Override
+    public String getName() {
+        return ML_BATCH_PREDICTION_ACTION;
+    }
+
+    @Override
+    public List<Route> routes() {
+        return ImmutableList
+            .of(
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/models/{%s}/_batch_predict", ML_BASE_URI, PARAMETER_MODEL_ID)
+                ),
+                new Route(
+                    RestRequest.Method.POST,
+                    String.format(Locale.ROOT, "%s/tasks/{%s}/_batch_predict/_resume", ML_BASE_URI, PARAMETER_TASK_ID)
+                )
+            );
+    }
+
+    @Override
+    public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
+        MLBatchPredictionRequest batchPredictionRequest = getRequest(request);
+        return channel -> client.execute(MLBatchPredictionAction.INSTANCE, batchPredictionRequest, new RestToXContentListener<>(channel));
+    }
+
+    /**
+     * Creates a MLBatchPredictionRequest from a RestRequest, a request with task id resumes the task from its last
+     * checkpoint.
+     *
+     * @param request RestRequest
+     * @return MLBatchPredictionRequest
+     */
+    @VisibleForTesting
+    MLBatchPredictionRequest getRequest(RestRequest request) throws IOException {
+        if (request.hasParam(PARAMETER_TASK_ID)) {
+            String taskId = getParameterId(request, PARAMETER_TASK_ID);
+            return MLBatchPredictionRequest.builder().taskId(taskId).build();
+        }
+        String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        XContentParser parser = request.contentParser();
+        ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+        MLBatchPredictionInput input = MLBatchPredictionInput.parse(parser, modelId);
+        return MLBatchPredictionRequest.builder().batchPredictionInput(input).build();
+    }
+}
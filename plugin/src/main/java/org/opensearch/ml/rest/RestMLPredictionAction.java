@@ -10,20 +10,24 @@ import static org.opensearch.ml.plugin.MachineLearningPlugin.ML_BASE_URI;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_ALGORITHM;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TIMEOUT;
 import static org.opensearch.ml.utils.RestActionUtils.getParameterId;
 
 import java.io.IOException;
 import java.util.List;
 import java.util.Locale;
 import java.util.Optional;
+import java.util.Set;
 
 import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelGetRequest;
 import org.opensearch.ml.common.transport.model.MLModelGetResponse;
@@ -38,6 +42,7 @@ import org.opensearch.rest.action.RestToXContentListener;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
 
 import lombok.extern.log4j.Log4j2;
 
@@ -74,10 +79,21 @@ public class RestMLPredictionAction extends BaseRestHandler {
             );
     }
 
+    /**
+     * With binary_data=true, tensor data is written as little-endian bytes instead of arrays of numbers. Clients get
+     * the bytes unencoded by requesting a CBOR or SMILE response, e.g. with header "Accept: application/cbor".
+     */
+    @Override
+    protected Set<String> responseParams() {
+        return ImmutableSet.of(ModelTensor.BINARY_DATA_PARAM);
+    }
+
     @Override
     public RestChannelConsumer prepareRequest(RestRequest request, NodeClient client) throws IOException {
         String algorithm = request.param(PARAMETER_ALGORITHM);
         String modelId = getParameterId(request, PARAMETER_MODEL_ID);
+        // Function names of deployed models are synced to all nodes with the model routing table, so the model is only
+        // fetched here if it isn't deployed or the routing isn't synced yet.
         Optional<FunctionName> functionName = modelManager.getOptionalModelFunctionName(modelId);
 
         if (algorithm == null && functionName.isPresent()) {
@@ -128,7 +144,13 @@ public class RestMLPredictionAction extends BaseRestHandler {
         XContentParser parser = request.contentParser();
         ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
         MLInput mlInput = MLInput.parse(parser, algorithm);
-        return new MLPredictionTaskRequest(modelId, mlInput, null);
+        MLPredictionTaskRequest mlPredictionTaskRequest = new MLPredictionTaskRequest(modelId, mlInput, null);
+        // ML nodes drop the request instead of running it once the caller stops waiting
+        TimeValue timeout = request.paramAsTime(PARAMETER_TIMEOUT, null);
+        if (timeout != null) {
+            mlPredictionTaskRequest.setTimeout(timeout);
+        }
+        return mlPredictionTaskRequest;
     }
 
 }
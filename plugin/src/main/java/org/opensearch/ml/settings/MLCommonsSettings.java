@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.function.Function;
 
 import org.opensearch.common.settings.Setting;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.searchpipelines.questionanswering.generative.GenerativeQAProcessorConstants;
 
@@ -77,6 +78,54 @@ public final class MLCommonsSettings {
     public static final Setting<Integer> ML_COMMONS_JVM_HEAP_MEM_THRESHOLD = Setting
         .intSetting("plugins.ml_commons.jvm_heap_memory_threshold", 85, 0, 100, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
+    // Max heap used to cache deserialized models of undeployed models for predict, 0 disables the cache.
+    public static final Setting<Integer> ML_COMMONS_PREDICTABLE_CACHE_SIZE_IN_MB = Setting
+        .intSetting("plugins.ml_commons.predictable_cache_size_in_mb", 100, 0, 10240, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Serialize trained models in the versioned, compressed format. Nodes of older versions can't read it, so only
+    // enable it once every node of the cluster is upgraded.
+    public static final Setting<Boolean> ML_COMMONS_VERSIONED_MODEL_FORMAT_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.versioned_model_format_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Unload predictors of idle local models when heap or native memory usage gets close to the memory thresholds, and
+    // reload them from the local model file on the next predict request.
+    public static final Setting<Boolean> ML_COMMONS_MODEL_RESIDENCY_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.model_residency.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Models used within this time are not unloaded. At least a minute, so models are not unloaded and reloaded between
+    // requests of a steady load.
+    public static final Setting<TimeValue> ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME = Setting
+        .timeSetting(
+            "plugins.ml_commons.model_residency.min_idle_time",
+            TimeValue.timeValueMinutes(10),
+            TimeValue.timeValueMinutes(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    public static final Setting<Boolean> ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED = Setting
+        .boolSetting("plugins.ml_commons.predict_admission_control.enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
+
+    // Predict requests of a model may wait in the queue this long before the queue is considered congested.
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY = Setting
+        .timeSetting(
+            "plugins.ml_commons.predict_admission_control.target_delay",
+            TimeValue.timeValueSeconds(1),
+            TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
+    // New predict requests of a model are rejected once its queue wait time stays above the target delay this long.
+    public static final Setting<TimeValue> ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL = Setting
+        .timeSetting(
+            "plugins.ml_commons.predict_admission_control.interval",
+            TimeValue.timeValueSeconds(5),
+            TimeValue.timeValueMillis(1),
+            Setting.Property.NodeScope,
+            Setting.Property.Dynamic
+        );
+
     public static final Setting<String> ML_COMMONS_EXCLUDE_NODE_NAMES = Setting
         .simpleString("plugins.ml_commons.exclude_nodes._name", Setting.Property.NodeScope, Setting.Property.Dynamic);
     public static final Setting<Boolean> ML_COMMONS_ALLOW_CUSTOM_DEPLOYMENT_PLAN = Setting
@@ -170,6 +219,8 @@ public final class MLCommonsSettings {
 
     public static final Setting<Boolean> ML_COMMONS_MEMORY_FEATURE_ENABLED = ConversationalIndexConstants.ML_COMMONS_MEMORY_FEATURE_ENABLED;
 
+    public static final Setting<Boolean> ML_COMMONS_MEMORY_REFRESH_ON_READ = ConversationalIndexConstants.ML_COMMONS_MEMORY_REFRESH_ON_READ;
+
     // Feature flag for enabling search processors for Retrieval Augmented Generation using OpenSearch and Remote Inference.
     public static final Setting<Boolean> ML_COMMONS_RAG_PIPELINE_FEATURE_ENABLED =
         GenerativeQAProcessorConstants.RAG_PIPELINE_FEATURE_ENABLED;
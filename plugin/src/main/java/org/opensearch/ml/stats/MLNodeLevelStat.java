@@ -16,7 +16,10 @@ public enum MLNodeLevelStat {
     ML_REQUEST_COUNT,
     ML_FAILURE_COUNT,
     ML_DEPLOYED_MODEL_COUNT,
-    ML_CIRCUIT_BREAKER_TRIGGER_COUNT;
+    ML_CIRCUIT_BREAKER_TRIGGER_COUNT,
+    ML_REJECTED_PREDICT_REQUEST_COUNT, // predict requests rejected because of a congested queue or a passed deadline
+    ML_PREDICT_THREAD_POOL, // stats of the thread pool which runs local models
+    ML_REMOTE_PREDICT_THREAD_POOL; // stats of the thread pool which runs remote models
 
     public static MLNodeLevelStat from(String value) {
         try {
@@ -0,0 +1,56 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.suppliers;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+/**
+ * ThreadPoolStatsSupplier provides the stats of a thread pool as the value
+ */
+public class ThreadPoolStatsSupplier implements Supplier<Map<String, Object>> {
+    public static final String THREADS = "threads";
+    public static final String QUEUE = "queue";
+    public static final String ACTIVE = "active";
+    public static final String REJECTED = "rejected";
+    public static final String LARGEST = "largest";
+    public static final String COMPLETED = "completed";
+
+    private ThreadPool threadPool;
+    private String threadPoolName;
+
+    /**
+     * Constructor
+     *
+     * @param threadPool OpenSearch thread pool
+     * @param threadPoolName Name of thread pool to extract stats from
+     */
+    public ThreadPoolStatsSupplier(ThreadPool threadPool, String threadPoolName) {
+        this.threadPool = threadPool;
+        this.threadPoolName = threadPoolName;
+    }
+
+    @Override
+    public Map<String, Object> get() {
+        Map<String, Object> stats = new HashMap<>();
+        for (ThreadPoolStats.Stats poolStats : threadPool.stats()) {
+            if (threadPoolName.equals(poolStats.getName())) {
+                stats.put(THREADS, poolStats.getThreads());
+                stats.put(QUEUE, poolStats.getQueue());
+                stats.put(ACTIVE, poolStats.getActive());
+                stats.put(REJECTED, poolStats.getRejected());
+                stats.put(LARGEST, poolStats.getLargest());
+                stats.put(COMPLETED, poolStats.getCompleted());
+                break;
+            }
+        }
+        return stats;
+    }
+}
@@ -0,0 +1,417 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.common.MLTask.BATCH_PREDICTION_CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.PROGRESS_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.support.GroupedActionListener;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.document.DocumentField;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.common.xcontent.support.XContentMapValues;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.index.mapper.RoutingFieldMapper;
+import org.opensearch.index.mapper.SeqNoFieldMapper;
+import org.opensearch.index.query.BoolQueryBuilder;
+import org.opensearch.index.query.QueryBuilders;
+import org.opensearch.index.seqno.SequenceNumbers;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.dataset.TextDocsInputDataSet;
+import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.builder.SearchSourceBuilder;
+import org.opensearch.search.sort.SortOrder;
+import org.opensearch.threadpool.ThreadPool;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Runs a model over the documents of an index and writes the results to a field of the target index.
+ *
+ * Each shard of the source index is a slice, scanned in _seq_no order: every batch searches the documents with a _seq_no
+ * greater than the last predicted one, so that the scan can resume from the last checkpoint. Slices only read documents
+ * up to the max _seq_no seen when the job started, so documents updated with results in place are not read again.
+ * Batches of documents are predicted through the predict action, which spreads them over the worker nodes of the model,
+ * and the results are bulk written to the target index.
+ *
+ * After each batch, the checkpoint of the job is written to the task in the ML task index, to resume the job with the
+ * same task after a failure. The job ends the task itself, so the task is not timed out by the sync up job however long
+ * it runs.
+ */
+@Log4j2
+public class MLBatchPredictionJob {
+    public static final String SLICES_FIELD = "slices";
+    public static final String SHARD_FIELD = "shard";
+    public static final String SEQ_NO_FIELD = "seq_no";
+    public static final String MAX_SEQ_NO_FIELD = "max_seq_no";
+    public static final String DONE_FIELD = "done";
+    public static final String TOTAL_DOCS_FIELD = "total_docs";
+    public static final String PROCESSED_DOCS_FIELD = "processed_docs";
+
+    private final MLTask mlTask;
+    private final MLBatchPredictionInput input;
+    private final int concurrentSlices;
+    private final Client client;
+    private final ThreadPool threadPool;
+    private final MLTaskManager mlTaskManager;
+
+    private final List<Slice> slices = new ArrayList<>();
+    private final Queue<Slice> pendingSlices = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger runningSlices = new AtomicInteger();
+    private final AtomicBoolean finished = new AtomicBoolean();
+    private final AtomicLong totalDocs = new AtomicLong();
+    private final AtomicLong processedDocs = new AtomicLong();
+
+    // task updates are written one after the other, so an older checkpoint never overwrites a newer one
+    private final Map<String, Object> pendingTaskUpdate = new HashMap<>();
+    private boolean updatingTask;
+
+    /**
+     * @param mlTask batch prediction task
+     * @param input batch prediction input
+     * @param checkpoint checkpoint to resume the job from, null to start from the beginning
+     * @param concurrentSlices number of slices to scan at the same time
+     */
+    public MLBatchPredictionJob(
+        MLTask mlTask,
+        MLBatchPredictionInput input,
+        Map<String, Object> checkpoint,
+        int concurrentSlices,
+        Client client,
+        ThreadPool threadPool,
+        MLTaskManager mlTaskManager
+    ) {
+        this.mlTask = mlTask;
+        this.input = input;
+        this.concurrentSlices = concurrentSlices;
+        this.client = client;
+        this.threadPool = threadPool;
+        this.mlTaskManager = mlTaskManager;
+        if (checkpoint != null) {
+            restoreCheckpoint(checkpoint);
+        }
+    }
+
+    /**
+     * Start the job, the number of shards is only used when the job has no checkpoint.
+     * @param numberOfShards number of shards of the source index
+     */
+    public void start(int numberOfShards) {
+        mlTaskManager.add(mlTask);
+        mlTask.setState(MLTaskState.RUNNING);
+        if (!slices.isEmpty()) {
+            log.info("Resume batch prediction task {}, {} of {} documents processed", getTaskId(), processedDocs.get(), totalDocs.get());
+            updateTask(Map.of(STATE_FIELD, MLTaskState.RUNNING));
+            runSlices();
+            return;
+        }
+        ActionListener<Collection<Slice>> initListener = ActionListener.wrap(initializedSlices -> {
+            initializedSlices.stream().sorted((s1, s2) -> Integer.compare(s1.shard, s2.shard)).forEach(slices::add);
+            updateTask(Map.of(STATE_FIELD, MLTaskState.RUNNING, BATCH_PREDICTION_CHECKPOINT_FIELD, checkpoint()));
+            runSlices();
+        }, this::fail);
+        GroupedActionListener<Slice> groupedListener = new GroupedActionListener<>(initListener, numberOfShards);
+        for (int shard = 0; shard < numberOfShards; shard++) {
+            initSlice(shard, groupedListener);
+        }
+    }
+
+    // Find the max _seq_no and number of documents to predict in the shard.
+    private void initSlice(int shard, ActionListener<Slice> listener) {
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(input.getQuery() == null ? QueryBuilders.matchAllQuery() : input.getQuery())
+            .sort(SeqNoFieldMapper.NAME, SortOrder.DESC)
+            .fetchSource(false)
+            .trackTotalHits(true)
+            .size(1);
+        SearchRequest searchRequest = new SearchRequest(input.getSourceIndex()).source(searchSourceBuilder).preference(preference(shard));
+        client.search(searchRequest, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            Slice slice = new Slice(shard);
+            if (hits.length == 0) {
+                slice.done = true;
+            } else {
+                slice.maxSeqNo = ((Number) hits[0].getSortValues()[0]).longValue();
+                totalDocs.addAndGet(response.getHits().getTotalHits().value);
+            }
+            listener.onResponse(slice);
+        }, listener::onFailure));
+    }
+
+    private void runSlices() {
+        for (Slice slice : slices) {
+            if (!slice.done) {
+                pendingSlices.add(slice);
+            }
+        }
+        int size = Math.min(concurrentSlices, pendingSlices.size());
+        if (size == 0) {
+            complete();
+            return;
+        }
+        runningSlices.set(size);
+        for (int i = 0; i < size; i++) {
+            runNextSlice();
+        }
+    }
+
+    private void runNextSlice() {
+        Slice slice = pendingSlices.poll();
+        if (slice == null) {
+            if (runningSlices.decrementAndGet() == 0) {
+                complete();
+            }
+            return;
+        }
+        threadPool.executor(GENERAL_THREAD_POOL).execute(() -> runBatch(slice));
+    }
+
+    private void runBatch(Slice slice) {
+        if (finished.get()) {
+            return;
+        }
+        long startTime = System.nanoTime();
+        BoolQueryBuilder query = QueryBuilders
+            .boolQuery()
+            .filter(QueryBuilders.rangeQuery(SeqNoFieldMapper.NAME).gt(slice.seqNo).lte(slice.maxSeqNo));
+        if (input.getQuery() != null) {
+            query.filter(input.getQuery());
+        }
+        SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder()
+            .query(query)
+            .sort(SeqNoFieldMapper.NAME, SortOrder.ASC)
+            .fetchSource(new String[] { input.getInputField() }, null)
+            .trackTotalHits(false)
+            .size(input.getBatchSize());
+        SearchRequest searchRequest = new SearchRequest(input.getSourceIndex())
+            .source(searchSourceBuilder)
+            .preference(preference(slice.shard));
+        client.search(searchRequest, ActionListener.wrap(response -> {
+            SearchHit[] hits = response.getHits().getHits();
+            if (hits.length == 0) {
+                slice.done = true;
+                updateTask(Map.of(BATCH_PREDICTION_CHECKPOINT_FIELD, checkpoint()));
+                runNextSlice();
+                return;
+            }
+            predictAndWrite(hits, ActionListener.wrap(r -> {
+                slice.seqNo = ((Number) hits[hits.length - 1].getSortValues()[0]).longValue();
+                long processed = processedDocs.addAndGet(hits.length);
+                updateTask(Map.of(BATCH_PREDICTION_CHECKPOINT_FIELD, checkpoint(), PROGRESS_FIELD, progress(processed)));
+                scheduleNextBatch(slice, hits.length, System.nanoTime() - startTime);
+            }, this::fail));
+        }, this::fail));
+    }
+
+    private void predictAndWrite(SearchHit[] hits, ActionListener<Void> listener) {
+        List<SearchHit> inputHits = new ArrayList<>();
+        List<String> docs = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            Object value = XContentMapValues.extractValue(input.getInputField(), hit.getSourceAsMap());
+            if (value instanceof String) {
+                inputHits.add(hit);
+                docs.add((String) value);
+            }
+        }
+        if (docs.isEmpty()) {
+            listener.onResponse(null);
+            return;
+        }
+        MLInput mlInput = MLInput
+            .builder()
+            .algorithm(mlTask.getFunctionName())
+            .inputDataset(TextDocsInputDataSet.builder().docs(docs).build())
+            .build();
+        MLPredictionTaskRequest predictionRequest = new MLPredictionTaskRequest(input.getModelId(), mlInput, null);
+        client.execute(MLPredictionTaskAction.INSTANCE, predictionRequest, ActionListener.wrap(response -> {
+            List<Number[]> results = getResults(response, docs.size());
+            BulkRequest bulkRequest = new BulkRequest();
+            for (int i = 0; i < inputHits.size(); i++) {
+                SearchHit hit = inputHits.get(i);
+                UpdateRequest updateRequest = new UpdateRequest(input.getTargetIndexOrSource(), hit.getId())
+                    .doc(Map.of(input.getOutputField(), results.get(i)))
+                    .docAsUpsert(true);
+                DocumentField routing = hit.field(RoutingFieldMapper.NAME);
+                if (routing != null) {
+                    updateRequest.routing(routing.getValue().toString());
+                }
+                bulkRequest.add(updateRequest);
+            }
+            client.bulk(bulkRequest, ActionListener.wrap(bulkResponse -> {
+                if (bulkResponse.hasFailures()) {
+                    listener.onFailure(new IllegalStateException("Failed to write results: " + bulkResponse.buildFailureMessage()));
+                    return;
+                }
+                listener.onResponse(null);
+            }, listener::onFailure));
+        }, listener::onFailure));
+    }
+
+    /**
+     * Get the result of each document from the predict response. Models return a tensor per document, either as the
+     * first tensor of each output or as the tensors of a single output.
+     * @param response predict response
+     * @param size number of documents
+     * @return results of the documents in order
+     */
+    static List<Number[]> getResults(MLTaskResponse response, int size) {
+        MLOutput output = response.getOutput();
+        if (!(output instanceof ModelTensorOutput)) {
+            throw new IllegalArgumentException("Batch prediction only supports models with tensor output");
+        }
+        List<ModelTensors> outputs = ((ModelTensorOutput) output).getMlModelOutputs();
+        List<ModelTensor> tensors = new ArrayList<>();
+        if (outputs.size() == size) {
+            for (ModelTensors modelTensors : outputs) {
+                tensors.add(modelTensors.getMlModelTensors().get(0));
+            }
+        } else if (outputs.size() == 1 && outputs.get(0).getMlModelTensors().size() == size) {
+            tensors.addAll(outputs.get(0).getMlModelTensors());
+        } else {
+            throw new IllegalArgumentException("Model returned " + outputs.size() + " outputs for " + size + " documents");
+        }
+        List<Number[]> results = new ArrayList<>();
+        for (ModelTensor tensor : tensors) {
+            if (tensor.getData() == null) {
+                throw new IllegalArgumentException("Model returned a tensor without data");
+            }
+            results.add(tensor.getData());
+        }
+        return results;
+    }
+
+    private void scheduleNextBatch(Slice slice, int docs, long elapsedNanos) {
+        if (input.getRequestsPerSecond() == null) {
+            threadPool.executor(GENERAL_THREAD_POOL).execute(() -> runBatch(slice));
+            return;
+        }
+        // all running slices share the throttle
+        long delayNanos = (long) (docs * runningSlices.get() * TimeUnit.SECONDS.toNanos(1) / input.getRequestsPerSecond()) - elapsedNanos;
+        if (delayNanos <= 0) {
+            threadPool.executor(GENERAL_THREAD_POOL).execute(() -> runBatch(slice));
+        } else {
+            threadPool.schedule(() -> runBatch(slice), TimeValue.timeValueNanos(delayNanos), GENERAL_THREAD_POOL);
+        }
+    }
+
+    private void complete() {
+        if (finished.compareAndSet(false, true)) {
+            log.info("Batch prediction task {} completed, {} documents processed", getTaskId(), processedDocs.get());
+            mlTaskManager.remove(getTaskId());
+            updateTask(Map.of(STATE_FIELD, MLTaskState.COMPLETED, PROGRESS_FIELD, 1.0f, BATCH_PREDICTION_CHECKPOINT_FIELD, checkpoint()));
+        }
+    }
+
+    private void fail(Exception e) {
+        if (finished.compareAndSet(false, true)) {
+            log.error("Batch prediction task " + getTaskId() + " failed", e);
+            mlTaskManager.remove(getTaskId());
+            String error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            updateTask(Map.of(STATE_FIELD, MLTaskState.FAILED, ERROR_FIELD, error, BATCH_PREDICTION_CHECKPOINT_FIELD, checkpoint()));
+        }
+    }
+
+    private synchronized void updateTask(Map<String, Object> fields) {
+        pendingTaskUpdate.putAll(fields);
+        if (!updatingTask) {
+            updatingTask = true;
+            writeTaskUpdate();
+        }
+    }
+
+    private void writeTaskUpdate() {
+        Map<String, Object> fields;
+        synchronized (this) {
+            if (pendingTaskUpdate.isEmpty()) {
+                updatingTask = false;
+                return;
+            }
+            fields = new HashMap<>(pendingTaskUpdate);
+            pendingTaskUpdate.clear();
+        }
+        mlTaskManager.updateMLTaskDirectly(getTaskId(), fields, ActionListener.wrap(r -> writeTaskUpdate(), e -> {
+            log.error("Failed to update batch prediction task " + getTaskId(), e);
+            writeTaskUpdate();
+        }));
+    }
+
+    private synchronized Map<String, Object> checkpoint() {
+        List<Map<String, Object>> sliceCheckpoints = new ArrayList<>();
+        for (Slice slice : slices) {
+            sliceCheckpoints
+                .add(Map.of(SHARD_FIELD, slice.shard, SEQ_NO_FIELD, slice.seqNo, MAX_SEQ_NO_FIELD, slice.maxSeqNo, DONE_FIELD, slice.done));
+        }
+        return Map.of(SLICES_FIELD, sliceCheckpoints, TOTAL_DOCS_FIELD, totalDocs.get(), PROCESSED_DOCS_FIELD, processedDocs.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restoreCheckpoint(Map<String, Object> checkpoint) {
+        for (Map<String, Object> sliceCheckpoint : (List<Map<String, Object>>) checkpoint.get(SLICES_FIELD)) {
+            Slice slice = new Slice(((Number) sliceCheckpoint.get(SHARD_FIELD)).intValue());
+            slice.seqNo = ((Number) sliceCheckpoint.get(SEQ_NO_FIELD)).longValue();
+            slice.maxSeqNo = ((Number) sliceCheckpoint.get(MAX_SEQ_NO_FIELD)).longValue();
+            slice.done = (Boolean) sliceCheckpoint.get(DONE_FIELD);
+            slices.add(slice);
+        }
+        totalDocs.set(((Number) checkpoint.get(TOTAL_DOCS_FIELD)).longValue());
+        processedDocs.set(((Number) checkpoint.get(PROCESSED_DOCS_FIELD)).longValue());
+    }
+
+    private float progress(long processed) {
+        long total = totalDocs.get();
+        return total == 0 ? 1.0f : Math.min(1.0f, (float) processed / total);
+    }
+
+    private String getTaskId() {
+        return mlTask.getTaskId();
+    }
+
+    private static String preference(int shard) {
+        return "_shards:" + shard;
+    }
+
+    private static class Slice {
+        private final int shard;
+        // _seq_no of the last predicted document
+        private volatile long seqNo = SequenceNumbers.NO_OPS_PERFORMED;
+        private volatile long maxSeqNo = SequenceNumbers.NO_OPS_PERFORMED;
+        private volatile boolean done;
+
+        private Slice(int shard) {
+            this.shard = shard;
+        }
+    }
+}
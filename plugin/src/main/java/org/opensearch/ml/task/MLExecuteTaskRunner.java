@@ -16,7 +16,6 @@ import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.input.Input;
-import org.opensearch.ml.common.output.Output;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskAction;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskRequest;
 import org.opensearch.ml.common.transport.execute.MLExecuteTaskResponse;
@@ -87,6 +86,8 @@ public class MLExecuteTaskRunner extends MLTaskRunner<MLExecuteTaskRequest, MLEx
     @Override
     protected void executeTask(MLExecuteTaskRequest request, ActionListener<MLExecuteTaskResponse> listener) {
         threadPool.executor(EXECUTE_THREAD_POOL).execute(() -> {
+            ActionListener<MLExecuteTaskResponse> executeListener = ActionListener
+                .runAfter(listener, () -> mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement());
             try {
                 mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).increment();
                 mlStats.getStat(MLNodeLevelStat.ML_REQUEST_COUNT).increment();
@@ -94,28 +95,31 @@ public class MLExecuteTaskRunner extends MLTaskRunner<MLExecuteTaskRequest, MLEx
                     .createCounterStatIfAbsent(request.getFunctionName(), ActionName.EXECUTE, MLActionLevelStat.ML_ACTION_REQUEST_COUNT)
                     .increment();
 
-                // ActionListener<MLExecuteTaskResponse> wrappedListener = ActionListener.runBefore(listener, )
                 Input input = request.getInput();
                 FunctionName functionName = request.getFunctionName();
                 if (FunctionName.METRICS_CORRELATION.equals(functionName)) {
                     if (!isPythonModelEnabled) {
                         Exception exception = new IllegalArgumentException("This algorithm is not enabled from settings");
-                        listener.onFailure(exception);
+                        executeListener.onFailure(exception);
                         return;
                     }
                 }
-                Output output = mlEngine.execute(input);
-                MLExecuteTaskResponse response = new MLExecuteTaskResponse(functionName, output);
-                listener.onResponse(response);
+                // Don't block the execute thread while algorithms like anomaly localization wait for searches.
+                mlEngine.execute(input, ActionListener.wrap(output -> {
+                    MLExecuteTaskResponse response = new MLExecuteTaskResponse(functionName, output);
+                    executeListener.onResponse(response);
+                }, e -> handleExecuteFailure(request, e, executeListener)));
             } catch (Exception e) {
-                mlStats
-                    .createCounterStatIfAbsent(request.getFunctionName(), ActionName.EXECUTE, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
-                    .increment();
-                listener.onFailure(e);
-            } finally {
-                mlStats.getStat(MLNodeLevelStat.ML_EXECUTING_TASK_COUNT).decrement();
+                handleExecuteFailure(request, e, executeListener);
             }
         });
     }
 
+    private void handleExecuteFailure(MLExecuteTaskRequest request, Exception e, ActionListener<MLExecuteTaskResponse> listener) {
+        mlStats
+            .createCounterStatIfAbsent(request.getFunctionName(), ActionName.EXECUTE, MLActionLevelStat.ML_ACTION_FAILURE_COUNT)
+            .increment();
+        listener.onFailure(e);
+    }
+
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.rest.RestStatus;
+
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Sheds predict requests when the queue of a model is congested, based on the CoDel idea: a queue is congested
+ * when even its shortest wait times stay above a target delay for a whole interval, short bursts are fine.
+ *
+ * The time each request waits in the predict thread pool queue is tracked per model. Once the wait time of a model
+ * stays above the target delay for the interval, new requests of that model are rejected with 429 until a request
+ * waits less than the target delay again or the queued requests of the model are drained. Requests in the queue are
+ * still served, so clients get an early rejection instead of a timeout after the node has spent resources on them.
+ */
+@Log4j2
+public class MLPredictAdmissionController {
+    private final LongSupplier nanoTimeSupplier;
+    private final Map<String, QueueState> queueStates = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+    private volatile long targetDelayInNanos;
+    private volatile long intervalInNanos;
+
+    public MLPredictAdmissionController(ClusterService clusterService, Settings settings) {
+        this(clusterService, settings, System::nanoTime);
+    }
+
+    MLPredictAdmissionController(ClusterService clusterService, Settings settings, LongSupplier nanoTimeSupplier) {
+        this.nanoTimeSupplier = nanoTimeSupplier;
+        this.enabled = ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED.get(settings);
+        this.targetDelayInNanos = ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY.get(settings).nanos();
+        this.intervalInNanos = ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL.get(settings).nanos();
+        clusterService.getClusterSettings().addSettingsUpdateConsumer(ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED, it -> {
+            enabled = it;
+            if (!it) {
+                queueStates.clear();
+            }
+        });
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY, it -> targetDelayInNanos = it.nanos());
+        clusterService
+            .getClusterSettings()
+            .addSettingsUpdateConsumer(ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL, it -> intervalInNanos = it.nanos());
+    }
+
+    /**
+     * Admit a predict request of a model into the queue.
+     * @param modelId model id
+     * @return time when the request is queued, pass it to {@link #dequeue(String, long)}
+     * @throws OpenSearchStatusException with 429 status if the queue of the model is congested
+     */
+    public long admit(String modelId) {
+        long now = nanoTimeSupplier.getAsLong();
+        if (!enabled || modelId == null) {
+            return now;
+        }
+        QueueState state = queueStates.computeIfAbsent(modelId, it -> new QueueState());
+        synchronized (state) {
+            // nothing queued means no wait time either, a congestion seen before is over
+            if (state.dropping && state.queued > 0) {
+                throw new OpenSearchStatusException(
+                    "Too many predict requests for model " + modelId + ", the wait time in queue is longer than target delay",
+                    RestStatus.TOO_MANY_REQUESTS
+                );
+            }
+            state.dropping = false;
+            state.queued++;
+        }
+        return now;
+    }
+
+    /**
+     * Record that a predict request of a model leaves the queue.
+     * @param modelId model id
+     * @param queuedTime time when the request was queued, returned by {@link #admit(String)}
+     * @return time the request waited in the queue in nanoseconds
+     */
+    public long dequeue(String modelId, long queuedTime) {
+        long now = nanoTimeSupplier.getAsLong();
+        long waitTime = now - queuedTime;
+        QueueState state = modelId == null ? null : queueStates.get(modelId);
+        if (state == null) {
+            return waitTime;
+        }
+        synchronized (state) {
+            state.queued = Math.max(0, state.queued - 1);
+            if (waitTime < targetDelayInNanos) {
+                state.aboveTargetSince = 0;
+                state.dropping = false;
+            } else if (state.aboveTargetSince == 0) {
+                state.aboveTargetSince = now;
+            } else if (!state.dropping && now - state.aboveTargetSince >= intervalInNanos) {
+                log.warn("Predict requests of model {} waited longer than target delay, rejecting new requests", modelId);
+                state.dropping = true;
+            }
+        }
+        return waitTime;
+    }
+
+    /**
+     * Remove the queue state of a model, e.g. when the model is undeployed. Requests of the model which are
+     * still queued leave the queue without being tracked.
+     * @param modelId model id
+     */
+    public void removeModel(String modelId) {
+        queueStates.remove(modelId);
+    }
+
+    boolean isDropping(String modelId) {
+        QueueState state = queueStates.get(modelId);
+        return state != null && state.dropping;
+    }
+
+    private static class QueueState {
+        private int queued;
+        private long aboveTargetSince;
+        private boolean dropping;
+    }
+}
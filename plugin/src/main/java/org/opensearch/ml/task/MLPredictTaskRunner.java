@@ -11,11 +11,17 @@ import static org.opensearch.ml.common.MLModel.ALGORITHM_FIELD;
 import static org.opensearch.ml.permission.AccessController.checkUserPermissions;
 import static org.opensearch.ml.permission.AccessController.getUserContext;
 import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
+import static org.opensearch.ml.utils.MLNodeUtils.checkOpenCircuitBreaker;
 
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.opensearch.OpenSearchException;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.ResourceNotFoundException;
 import org.opensearch.action.ActionListenerResponseHandler;
 import org.opensearch.action.get.GetRequest;
@@ -29,8 +35,11 @@ import org.opensearch.common.xcontent.LoggingDeprecationHandler;
 import org.opensearch.common.xcontent.XContentType;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.breaker.BreakerName;
+import org.opensearch.ml.breaker.CircuitBreaker;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
@@ -40,6 +49,7 @@ import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.dataset.MLInputDataType;
 import org.opensearch.ml.common.dataset.MLInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
 import org.opensearch.ml.common.output.MLPredictionOutput;
@@ -75,6 +85,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
     private final MLModelManager mlModelManager;
     private final DiscoveryNodeHelper nodeHelper;
     private final MLEngine mlEngine;
+    private final MLPredictAdmissionController admissionController;
 
     public MLPredictTaskRunner(
         ThreadPool threadPool,
@@ -88,7 +99,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         NamedXContentRegistry xContentRegistry,
         MLModelManager mlModelManager,
         DiscoveryNodeHelper nodeHelper,
-        MLEngine mlEngine
+        MLEngine mlEngine,
+        MLPredictAdmissionController admissionController
     ) {
         super(mlTaskManager, mlStats, nodeHelper, mlTaskDispatcher, mlCircuitBreakerService, clusterService);
         this.threadPool = threadPool;
@@ -99,6 +111,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         this.mlModelManager = mlModelManager;
         this.nodeHelper = nodeHelper;
         this.mlEngine = mlEngine;
+        this.admissionController = admissionController;
     }
 
     @Override
@@ -111,6 +124,46 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         return new ActionListenerResponseHandler<>(listener, MLTaskResponse::new);
     }
 
+    @Override
+    public void run(
+        FunctionName functionName,
+        MLPredictionTaskRequest request,
+        TransportService transportService,
+        ActionListener<MLTaskResponse> listener
+    ) {
+        // Cached predictors take heap which the memory circuit breaker checks, release them when it rejects requests.
+        // Requests dispatched to this node are rejected through the listener, local requests by the exception.
+        ActionListener<MLTaskResponse> releaseCacheListener = new ActionListener<>() {
+            @Override
+            public void onResponse(MLTaskResponse response) {
+                listener.onResponse(response);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                releasePredictableCacheIfMemoryBreakerOpen(e);
+                listener.onFailure(e);
+            }
+        };
+        try {
+            super.run(functionName, request, transportService, releaseCacheListener);
+        } catch (MLLimitExceededException e) {
+            releasePredictableCacheIfMemoryBreakerOpen(e);
+            throw e;
+        }
+    }
+
+    private void releasePredictableCacheIfMemoryBreakerOpen(Exception e) {
+        if (!(e instanceof MLLimitExceededException)) {
+            return;
+        }
+        CircuitBreaker memoryCircuitBreaker = mlCircuitBreakerService.getBreaker(BreakerName.MEMORY);
+        if (memoryCircuitBreaker != null && memoryCircuitBreaker.isOpen()) {
+            log.info("Memory circuit breaker is open, release {} cached predictors", mlEngine.getPredictableCache().size());
+            mlEngine.getPredictableCache().clear();
+        }
+    }
+
     @Override
     public void dispatchTask(
         FunctionName functionName,
@@ -126,6 +179,7 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                 if (clusterService.localNode().getId().equals(node.getId())) {
                     log.debug("Execute ML predict request {} locally on node {}", request.getRequestID(), node.getId());
                     request.setDispatchTask(false);
+                    checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
                     executeTask(request, listener);
                 } else {
                     log.debug("Execute ML predict request {} remotely on node {}", request.getRequestID(), node.getId());
@@ -147,6 +201,16 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     workerNodes = nodeHelper.getEligibleNodeIds(algorithm);
                 }
             }
+            String localNodeId = clusterService.localNode().getId();
+            if (Arrays.asList(workerNodes).contains(localNodeId) && hasLocalPredictCapacity(algorithm)) {
+                // The model is deployed locally and an idle thread can run the request right away, so the request and
+                // response are passed in process instead of being serialized to another worker node.
+                log.debug("Execute ML predict request {} locally on worker node {}", request.getRequestID(), localNodeId);
+                request.setDispatchTask(false);
+                checkOpenCircuitBreaker(mlCircuitBreakerService, mlStats);
+                executeTask(request, listener);
+                return;
+            }
             mlTaskDispatcher.dispatchPredictTask(workerNodes, actionListener);
         } catch (Exception e) {
             log.error("Failed to predict model " + modelId, e);
@@ -178,26 +242,65 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
             .async(false)
             .build();
         MLInput mlInput = request.getMlInput();
+        if (request.isExpired()) {
+            rejectExpiredRequest(request, listener);
+            return;
+        }
         switch (inputDataType) {
             case SEARCH_QUERY:
                 ActionListener<MLInputDataset> dataFrameActionListener = ActionListener.wrap(dataSet -> {
                     MLInput newInput = mlInput.toBuilder().inputDataset(dataSet).build();
-                    predict(modelId, mlTask, newInput, listener);
+                    queuePredict(request, mlTask, newInput, listener);
                 }, e -> {
                     log.error("Failed to generate DataFrame from search query", e);
                     handleAsyncMLTaskFailure(mlTask, e);
                     listener.onFailure(e);
                 });
-                mlInputDatasetHandler.parseSearchQueryInput(mlInput.getInputDataset(), threadedActionListener(dataFrameActionListener));
+                mlInputDatasetHandler.parseSearchQueryInput(mlInput.getInputDataset(), dataFrameActionListener);
                 break;
             case DATA_FRAME:
             case TEXT_DOCS:
             default:
-                threadPool.executor(PREDICT_THREAD_POOL).execute(() -> { predict(modelId, mlTask, mlInput, listener); });
+                queuePredict(request, mlTask, mlInput, listener);
                 break;
         }
     }
 
+    /**
+     * Queue a predict request in the predict thread pool if the admission controller admits it.
+     */
+    private void queuePredict(MLPredictionTaskRequest request, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
+        String modelId = request.getModelId();
+        long queuedTime;
+        try {
+            queuedTime = admissionController.admit(modelId);
+        } catch (OpenSearchStatusException e) {
+            mlStats.getStat(MLNodeLevelStat.ML_REJECTED_PREDICT_REQUEST_COUNT).increment();
+            listener.onFailure(e);
+            return;
+        }
+        try {
+            threadPool.executor(predictThreadPool(mlInput.getAlgorithm())).execute(() -> {
+                admissionController.dequeue(modelId, queuedTime);
+                // the caller doesn't wait for expired requests anymore, don't waste resources on them
+                if (request.isExpired()) {
+                    rejectExpiredRequest(request, listener);
+                    return;
+                }
+                predict(modelId, mlTask, mlInput, listener);
+            });
+        } catch (Exception e) {
+            admissionController.dequeue(modelId, queuedTime);
+            throw e;
+        }
+    }
+
+    private void rejectExpiredRequest(MLPredictionTaskRequest request, ActionListener<MLTaskResponse> listener) {
+        log.debug("Predict request {} of model {} passed its deadline", request.getRequestID(), request.getModelId());
+        mlStats.getStat(MLNodeLevelStat.ML_REJECTED_PREDICT_REQUEST_COUNT).increment();
+        listener.onFailure(new OpenSearchStatusException("Predict request passed its deadline", RestStatus.REQUEST_TIMEOUT));
+    }
+
     private void predict(String modelId, MLTask mlTask, MLInput mlInput, ActionListener<MLTaskResponse> listener) {
         ActionListener<MLTaskResponse> internalListener = wrappedCleanupListener(listener, mlTask.getTaskId());
         // track ML task count and add ML task into cache
@@ -216,20 +319,21 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         // run predict
         if (modelId != null) {
             try {
-                Predictable predictor = mlModelManager.getPredictor(modelId);
+                Predictable predictor = mlModelManager.acquirePredictor(modelId);
+                if (predictor == null && mlModelManager.isModelUnloaded(modelId)) {
+                    // predictor was unloaded to free memory, predict once it's reloaded
+                    ActionListener<Predictable> reloadListener = ActionListener.wrap(reloadedPredictor -> {
+                        Predictable acquiredPredictor = mlModelManager.acquirePredictor(modelId);
+                        if (acquiredPredictor == null) {
+                            throw new IllegalArgumentException("Model not ready to be used: " + modelId);
+                        }
+                        runPredict(modelId, acquiredPredictor, mlTask, mlInput, internalListener);
+                    }, e -> handlePredictFailure(mlTask, internalListener, e, true, modelId));
+                    mlModelManager.reloadModel(modelId, threadedActionListener(algorithm, reloadListener));
+                    return;
+                }
                 if (predictor != null) {
-                    if (!predictor.isModelReady()) {
-                        throw new IllegalArgumentException("Model not ready: " + modelId);
-                    }
-                    MLOutput output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
-                    if (output instanceof MLPredictionOutput) {
-                        ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
-                    }
-
-                    // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
-                    handleAsyncMLTaskComplete(mlTask);
-                    MLTaskResponse response = MLTaskResponse.builder().output(output).build();
-                    internalListener.onResponse(response);
+                    runPredict(modelId, predictor, mlTask, mlInput, internalListener);
                     return;
                 } else if (algorithm == FunctionName.TEXT_EMBEDDING || algorithm == FunctionName.REMOTE) {
                     throw new IllegalArgumentException("Model not ready to be used: " + modelId);
@@ -254,6 +358,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                         GetResponse getResponse = r;
                         String algorithmName = getResponse.getSource().get(ALGORITHM_FIELD).toString();
                         MLModel mlModel = MLModel.parse(xContentParser, algorithmName);
+                        // model id is not part of the model source, set it so MLEngine can cache the deserialized model
+                        mlModel.setModelId(modelId);
                         User resourceUser = mlModel.getUser();
                         User requestUser = getUserContext(client);
                         if (!checkUserPermissions(requestUser, resourceUser, modelId)) {
@@ -285,7 +391,8 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
                     handlePredictFailure(mlTask, internalListener, e, true, modelId);
                 });
                 GetRequest getRequest = new GetRequest(ML_MODEL_INDEX, mlTask.getModelId());
-                client.get(getRequest, threadedActionListener(ActionListener.runBefore(getModelListener, () -> context.restore())));
+                ActionListener<GetResponse> restoringListener = ActionListener.runBefore(getModelListener, () -> context.restore());
+                client.get(getRequest, threadedActionListener(algorithm, restoringListener));
             } catch (Exception e) {
                 log.error("Failed to get model " + mlTask.getModelId(), e);
                 handlePredictFailure(mlTask, internalListener, e, true, modelId);
@@ -297,8 +404,60 @@ public class MLPredictTaskRunner extends MLTaskRunner<MLPredictionTaskRequest, M
         }
     }
 
-    private <T> ThreadedActionListener<T> threadedActionListener(ActionListener<T> listener) {
-        return new ThreadedActionListener<>(log, threadPool, PREDICT_THREAD_POOL, listener, false);
+    private void runPredict(
+        String modelId,
+        Predictable predictor,
+        MLTask mlTask,
+        MLInput mlInput,
+        ActionListener<MLTaskResponse> internalListener
+    ) {
+        MLOutput output;
+        try {
+            if (!predictor.isModelReady()) {
+                throw new IllegalArgumentException("Model not ready: " + modelId);
+            }
+            output = mlModelManager.trackPredictDuration(modelId, () -> predictor.predict(mlInput));
+        } finally {
+            // the predictor can be unloaded once it's released
+            mlModelManager.releasePredictor(modelId);
+        }
+        if (output instanceof MLPredictionOutput) {
+            ((MLPredictionOutput) output).setStatus(MLTaskState.COMPLETED.name());
+        }
+
+        // Once prediction complete, reduce ML_EXECUTING_TASK_COUNT and update task state
+        handleAsyncMLTaskComplete(mlTask);
+        MLTaskResponse response = MLTaskResponse.builder().output(output).build();
+        internalListener.onResponse(response);
+    }
+
+    private <T> ThreadedActionListener<T> threadedActionListener(FunctionName functionName, ActionListener<T> listener) {
+        return new ThreadedActionListener<>(log, threadPool, predictThreadPool(functionName), listener, false);
+    }
+
+    /**
+     * Remote models spend most of the time waiting for the remote service, so they run on their own
+     * thread pool and can't exhaust the threads of CPU bound local models.
+     * @param functionName function name of the model
+     * @return name of the thread pool to run predict
+     */
+    static String predictThreadPool(FunctionName functionName) {
+        return functionName == FunctionName.REMOTE ? REMOTE_PREDICT_THREAD_POOL : PREDICT_THREAD_POOL;
+    }
+
+    /**
+     * Check if the local predict thread pool of a model has an idle thread. Under higher local load, requests are
+     * dispatched to the worker nodes of the model instead.
+     * @param functionName function name of the model
+     * @return true if a predict request can run locally without waiting in queue
+     */
+    boolean hasLocalPredictCapacity(FunctionName functionName) {
+        ExecutorService executor = threadPool.executor(predictThreadPool(functionName));
+        if (!(executor instanceof ThreadPoolExecutor)) {
+            return false;
+        }
+        ThreadPoolExecutor threadPoolExecutor = (ThreadPoolExecutor) executor;
+        return threadPoolExecutor.getActiveCount() + threadPoolExecutor.getQueue().size() < threadPoolExecutor.getMaximumPoolSize();
     }
 
     private void handlePredictFailure(
@@ -0,0 +1,78 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.action.batch;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.Version;
+import org.opensearch.cluster.node.DiscoveryNode;
+import org.opensearch.cluster.node.DiscoveryNodes;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class TransportBatchPredictionActionTests extends OpenSearchTestCase {
+    private static final String TASK_ID = "test_task_id";
+
+    private DiscoveryNodes nodes;
+
+    @Before
+    public void setup() {
+        DiscoveryNode localNode = new DiscoveryNode("localNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        DiscoveryNode otherNode = new DiscoveryNode("otherNodeId", buildNewFakeTransportAddress(), Version.CURRENT);
+        nodes = DiscoveryNodes.builder().add(localNode).add(otherNode).localNodeId("localNodeId").build();
+    }
+
+    public void testValidateResumable_FailedTask() {
+        TransportBatchPredictionAction.validateResumable(task(MLTaskState.FAILED, "otherNodeId"), nodes, false);
+    }
+
+    public void testValidateResumable_CompletedTask() {
+        expectThrows(
+            IllegalArgumentException.class,
+            () -> TransportBatchPredictionAction.validateResumable(task(MLTaskState.COMPLETED, "localNodeId"), nodes, false)
+        );
+    }
+
+    public void testValidateResumable_RunningLocally() {
+        OpenSearchStatusException e = expectThrows(
+            OpenSearchStatusException.class,
+            () -> TransportBatchPredictionAction.validateResumable(task(MLTaskState.FAILED, "localNodeId"), nodes, true)
+        );
+        assertEquals(RestStatus.CONFLICT, e.status());
+    }
+
+    public void testValidateResumable_RunningOnOtherNode() {
+        OpenSearchStatusException e = expectThrows(
+            OpenSearchStatusException.class,
+            () -> TransportBatchPredictionAction.validateResumable(task(MLTaskState.RUNNING, "otherNodeId"), nodes, false)
+        );
+        assertEquals(RestStatus.CONFLICT, e.status());
+        assertTrue(e.getMessage().contains("otherNodeId"));
+    }
+
+    public void testValidateResumable_WorkerNodeLeftCluster() {
+        TransportBatchPredictionAction.validateResumable(task(MLTaskState.RUNNING, "leftNodeId"), nodes, false);
+    }
+
+    public void testValidateResumable_WorkerNodeRestarted() {
+        TransportBatchPredictionAction.validateResumable(task(MLTaskState.RUNNING, "localNodeId"), nodes, false);
+    }
+
+    private MLTask task(MLTaskState state, String workerNode) {
+        return MLTask
+            .builder()
+            .taskId(TASK_ID)
+            .taskType(MLTaskType.BATCH_PREDICTION)
+            .state(state)
+            .workerNodes(List.of(workerNode))
+            .build();
+    }
+}
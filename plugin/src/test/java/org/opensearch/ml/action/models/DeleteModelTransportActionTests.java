@@ -6,6 +6,7 @@
 package org.opensearch.ml.action.models;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -19,6 +20,7 @@ import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -34,6 +36,7 @@ import org.opensearch.action.delete.DeleteResponse;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.support.ActionFilters;
 import org.opensearch.client.Client;
+import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.common.util.concurrent.ThreadContext;
@@ -46,9 +49,13 @@ import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.reindex.BulkByScrollResponse;
 import org.opensearch.index.reindex.ScrollableHitSource;
+import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.model.MLModelDeleteRequest;
+import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
+import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.helper.ModelAccessControlHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.test.OpenSearchTestCase;
@@ -97,6 +104,12 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
     @Mock
     private ModelAccessControlHelper modelAccessControlHelper;
 
+    @Mock
+    private MLEngine mlEngine;
+
+    @Mock
+    private DiscoveryNodeHelper nodeFilter;
+
     @Before
     public void setup() throws IOException {
         MockitoAnnotations.openMocks(this);
@@ -111,7 +124,9 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
                 client,
                 xContentRegistry,
                 clusterService,
-                modelAccessControlHelper
+                modelAccessControlHelper,
+                mlEngine,
+                nodeFilter
             )
         );
 
@@ -122,6 +137,7 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
         }).when(modelAccessControlHelper).validateModelGroupAccess(any(), any(), any(), any());
 
         threadContext = new ThreadContext(settings);
+        when(nodeFilter.getAllNodes()).thenReturn(new DiscoveryNode[0]);
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
     }
@@ -149,6 +165,9 @@ public class DeleteModelTransportActionTests extends OpenSearchTestCase {
 
         deleteModelTransportAction.doExecute(null, mlModelDeleteRequest, actionListener);
         verify(actionListener).onResponse(deleteResponse);
+        ArgumentCaptor<MLSyncUpNodesRequest> syncUpRequestCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        verify(client).execute(eq(MLSyncUpAction.INSTANCE), syncUpRequestCaptor.capture(), any());
+        assertEquals(Set.of("test_id"), syncUpRequestCaptor.getValue().getSyncUpInput().getDeletedModelIds());
     }
 
     public void testDeleteModel_Success_AlgorithmNotNull() throws IOException {
@@ -11,6 +11,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,6 +25,7 @@ import static org.opensearch.ml.utils.TestHelper.clusterSetting;
 import java.io.File;
 import java.io.IOException;
 import java.net.InetAddress;
+import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -55,6 +57,7 @@ import org.opensearch.core.common.transport.TransportAddress;
 import org.opensearch.core.xcontent.NamedXContentRegistry;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
 import org.opensearch.ml.common.MLTaskType;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
@@ -64,6 +67,7 @@ import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.PredictableCache;
 import org.opensearch.ml.model.MLModelCacheHelper;
 import org.opensearch.ml.model.MLModelManager;
 import org.opensearch.ml.task.MLTaskCache;
@@ -73,6 +77,7 @@ import org.opensearch.threadpool.ThreadPool;
 import org.opensearch.transport.TransportService;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
@@ -189,14 +194,17 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         File file1 = testFolder.newFolder();
         File file2 = testFolder.newFolder();
         File file3 = testFolder.newFolder();
+        File file4 = testFolder.newFolder();
         for (int i = 0; i < 5; i++) {
             File.createTempFile("Hello" + i, "1.txt", file1);
             File.createTempFile("Hello" + i, "1.txt", file2);
             File.createTempFile("Hello" + i, "1.txt", file3);
+            File.createTempFile("Hello" + i, "1.txt", file4);
         }
         when(mlEngine.getModelCachePath(any())).thenReturn(Paths.get(file3.getCanonicalPath()));
         when(mlEngine.getDeployModelPath(any())).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getRegisterModelPath(any())).thenReturn(Paths.get(file1.getCanonicalPath()));
+        when(mlEngine.getModelArtifactPath(any())).thenReturn(Paths.get(file4.getCanonicalPath()));
         DiscoveryNode localNode = new DiscoveryNode(
             "foo0",
             "foo0",
@@ -209,12 +217,18 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(file1.getCanonicalPath()));
         when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
+        when(mlEngine.getModelArtifactRootPath()).thenReturn(Paths.get(file4.getCanonicalPath()));
+        when(mlModelManager.getLocalDeployedModels()).thenReturn(new String[] { "modelId1" });
+        when(mlModelManager.getModelFunctionNames(any())).thenReturn(ImmutableMap.of("modelId1", FunctionName.TEXT_EMBEDDING));
         final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, prepareRequest()));
         final MLSyncUpNodeResponse response = action.nodeOperation(request);
         assertNotNull(response);
+        assertEquals(ImmutableMap.of("modelId1", FunctionName.TEXT_EMBEDDING), response.getDeployedModelFunctionNames());
+        verify(mlModelManager).syncModelFunctionNames(ImmutableMap.of("modelId1", FunctionName.TEXT_EMBEDDING));
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
+        file4.deleteOnExit();
         testFolder.delete();
     }
 
@@ -223,14 +237,17 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         File file1 = testFolder.newFolder();
         File file2 = testFolder.newFolder();
         File file3 = testFolder.newFolder();
+        File file4 = testFolder.newFolder();
         for (int i = 0; i < 5; i++) {
             File.createTempFile("Hello" + i, "1.txt", file1);
             File.createTempFile("Hello" + i, "1.txt", file2);
             File.createTempFile("Hello" + i, "1.txt", file3);
+            File.createTempFile("Hello" + i, "1.txt", file4);
         }
         when(mlEngine.getModelCachePath(any())).thenReturn(Paths.get(file3.getCanonicalPath()));
         when(mlEngine.getDeployModelPath(any())).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getRegisterModelPath(any())).thenReturn(Paths.get(file1.getCanonicalPath()));
+        when(mlEngine.getModelArtifactPath(any())).thenReturn(Paths.get(file4.getCanonicalPath()));
         DiscoveryNode localNode = new DiscoveryNode(
             "foo0",
             "foo0",
@@ -243,6 +260,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         when(mlEngine.getRegisterModelRootPath()).thenReturn(Paths.get(file1.getCanonicalPath()));
         when(mlEngine.getDeployModelRootPath()).thenReturn(Paths.get(file2.getCanonicalPath()));
         when(mlEngine.getModelCacheRootPath()).thenReturn(Paths.get(file3.getCanonicalPath()));
+        when(mlEngine.getModelArtifactRootPath()).thenReturn(Paths.get(file4.getCanonicalPath()));
         when(mlTaskManager.contains(any())).thenReturn(true);
         when(mlTaskManager.containsModel(any())).thenReturn(true);
         when(mlModelManager.isModelRunningOnNode(anyString())).thenReturn(true);
@@ -252,9 +270,71 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         file1.deleteOnExit();
         file2.deleteOnExit();
         file3.deleteOnExit();
+        file4.deleteOnExit();
         testFolder.delete();
     }
 
+    public void testNodeOperation_DeletedModelIds() throws IOException {
+        testFolder.create();
+        Path emptyFolder = Paths.get(testFolder.newFolder().getCanonicalPath());
+        when(mlEngine.getRegisterModelRootPath()).thenReturn(emptyFolder);
+        when(mlEngine.getDeployModelRootPath()).thenReturn(emptyFolder);
+        when(mlEngine.getModelCacheRootPath()).thenReturn(emptyFolder);
+        when(mlEngine.getModelArtifactRootPath()).thenReturn(emptyFolder);
+        PredictableCache predictableCache = mock(PredictableCache.class);
+        when(mlEngine.getPredictableCache()).thenReturn(predictableCache);
+        MLSyncUpInput syncUpInput = MLSyncUpInput.builder().deletedModelIds(ImmutableSet.of("modelId1")).build();
+        final MLSyncUpNodeRequest request = action.newNodeRequest(new MLSyncUpNodesRequest(new String[] {}, syncUpInput));
+        final MLSyncUpNodeResponse response = action.nodeOperation(request);
+        assertNotNull(response);
+        verify(predictableCache).invalidate("modelId1");
+        testFolder.delete();
+    }
+
+    public void testCreateDeploymentStateResponse() {
+        DiscoveryNode localNode = new DiscoveryNode(
+            "foo0",
+            buildNewFakeTransportAddress(),
+            emptyMap(),
+            ImmutableSet.of(ML_ROLE),
+            Version.CURRENT
+        );
+        when(clusterService.localNode()).thenReturn(localNode);
+        String[] runningDeployModelIds = new String[] { "model3" };
+        String[] runningDeployModelTaskIds = new String[] { "task3" };
+
+        // sync up job doesn't know this node yet
+        MLSyncUpNodeResponse response = action
+            .createDeploymentStateResponse(new String[] { "model1" }, null, runningDeployModelIds, runningDeployModelTaskIds);
+        assertFalse(response.isDeploymentStateDelta());
+        assertArrayEquals(new String[] { "model1" }, response.getDeployedModelIds());
+        assertArrayEquals(runningDeployModelIds, response.getRunningDeployModelIds());
+        assertArrayEquals(runningDeployModelTaskIds, response.getRunningDeployModelTaskIds());
+        long version = response.getDeploymentStateVersion();
+
+        // nothing changed since acknowledged version
+        response = action.createDeploymentStateResponse(new String[] { "model1" }, version, null, null);
+        assertTrue(response.isDeploymentStateDelta());
+        assertEquals(version, response.getDeploymentStateVersion());
+        assertEquals(version, response.getBaseDeploymentStateVersion());
+        assertEquals(0, response.getDeployedModelIds().length);
+        assertEquals(0, response.getUndeployedModelIds().length);
+
+        // changes since acknowledged version
+        response = action.createDeploymentStateResponse(new String[] { "model2" }, version, null, null);
+        assertTrue(response.isDeploymentStateDelta());
+        assertEquals(version + 1, response.getDeploymentStateVersion());
+        assertEquals(version, response.getBaseDeploymentStateVersion());
+        assertArrayEquals(new String[] { "model2" }, response.getDeployedModelIds());
+        assertArrayEquals(new String[] { "model1" }, response.getUndeployedModelIds());
+
+        // acknowledged version is outdated, e.g. response was lost
+        response = action.createDeploymentStateResponse(new String[] { "model2" }, version, null, null);
+        assertFalse(response.isDeploymentStateDelta());
+        assertEquals(version + 1, response.getDeploymentStateVersion());
+        assertArrayEquals(new String[] { "model2" }, response.getDeployedModelIds());
+    }
+
     public void testCleanUpLocalCache_NoTasks() {
         when(mlTaskManager.getAllTaskIds()).thenReturn(null);
         action.cleanUpLocalCache(runningDeployModelTasks);
@@ -288,6 +368,21 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
         verify(mlModelManager, never()).updateModel(anyString(), any());
     }
 
+    public void testCleanUpLocalCache_BatchPredictionTask() {
+        String taskId = randomAlphaOfLength(5);
+        when(mlTaskManager.getAllTaskIds()).thenReturn(new String[] { taskId });
+        MLTask mlTask = MLTask
+            .builder()
+            .taskType(MLTaskType.BATCH_PREDICTION)
+            .state(MLTaskState.RUNNING)
+            .lastUpdateTime(Instant.now().minusSeconds(86400))
+            .build();
+        MLTaskCache taskCache = MLTaskCache.builder().mlTask(mlTask).build();
+        when(mlTaskManager.getMLTaskCache(taskId)).thenReturn(taskCache);
+        action.cleanUpLocalCache(runningDeployModelTasks);
+        verify(mlTaskManager, never()).updateMLTask(anyString(), any(), anyLong(), anyBoolean());
+    }
+
     public void testCleanUpLocalCache_ExpiredMLTask_Deploy_NullWorkerNode() {
         testCleanUpLocalCache_ExpiredMLTask_DeployStatus(MLModelState.DEPLOY_FAILED);
     }
@@ -339,6 +434,7 @@ public class TransportSyncUpOnNodeActionTests extends OpenSearchTestCase {
             .builder()
             .getDeployedModels(true)
             .addedWorkerNodes(addedWorkerNodes)
+            .modelFunctionNames(ImmutableMap.of("modelId1", FunctionName.TEXT_EMBEDDING))
             .modelRoutingTable(modelRoutingTable)
             .runningDeployModelTasks(runningDeployModelTasks)
             .clearRoutingTable(true)
@@ -19,6 +19,7 @@ import static org.mockito.Mockito.when;
 import static org.opensearch.ml.common.CommonValue.CREATE_TIME_FIELD;
 import static org.opensearch.ml.common.CommonValue.MASTER_KEY;
 import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+import static org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse.NO_VERSION;
 import static org.opensearch.ml.utils.TestHelper.ML_ROLE;
 import static org.opensearch.ml.utils.TestHelper.setupTestClusterState;
 
@@ -43,6 +44,7 @@ import org.opensearch.Version;
 import org.opensearch.action.bulk.BulkRequest;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.action.index.IndexResponse;
+import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.action.search.ShardSearchFailure;
@@ -66,7 +68,9 @@ import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.model.MLModelState;
 import org.opensearch.ml.common.transport.sync.MLSyncUpAction;
+import org.opensearch.ml.common.transport.sync.MLSyncUpInput;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodeResponse;
+import org.opensearch.ml.common.transport.sync.MLSyncUpNodesRequest;
 import org.opensearch.ml.common.transport.sync.MLSyncUpNodesResponse;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
@@ -408,6 +412,177 @@ public class MLSyncUpCronTests extends OpenSearchTestCase {
         verify(client, never()).bulk(any(), any());
     }
 
+    public void testSyncUp_BroadcastRoutingDiff() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+        ArgumentCaptor<MLSyncUpNodesRequest> requestCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+
+        syncUpCron
+            .syncUp(
+                allNodes,
+                Arrays
+                    .asList(
+                        new MLSyncUpNodeResponse(mlNode1, "ok", new String[] { "model1" }, null, null, 1, NO_VERSION, null),
+                        new MLSyncUpNodeResponse(mlNode2, "ok", new String[] { "model1" }, null, null, 1, NO_VERSION, null)
+                    )
+            );
+        verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+        MLSyncUpInput fullSyncInput = requestCaptor.getValue().getSyncUpInput();
+        assertEquals(ImmutableSet.of(mlNode1Id, mlNode2Id), fullSyncInput.getModelRoutingTable().get("model1"));
+        assertNull(fullSyncInput.getAddedWorkerNodes());
+
+        syncUpCron
+            .syncUp(
+                allNodes,
+                Arrays
+                    .asList(
+                        new MLSyncUpNodeResponse(mlNode1, "ok", new String[] { "model2" }, null, null, 2, 1, new String[] { "model1" }),
+                        new MLSyncUpNodeResponse(mlNode2, "ok", new String[0], null, null, 1, 1, new String[0])
+                    )
+            );
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+        MLSyncUpInput diffSyncInput = requestCaptor.getValue().getSyncUpInput();
+        assertNull(diffSyncInput.getModelRoutingTable());
+        assertFalse(diffSyncInput.isClearRoutingTable());
+        assertArrayEquals(new String[] { mlNode1Id }, diffSyncInput.getAddedWorkerNodes().get("model2"));
+        assertArrayEquals(new String[] { mlNode1Id }, diffSyncInput.getRemovedWorkerNodes().get("model1"));
+        assertEquals(1, diffSyncInput.getAddedWorkerNodes().size());
+        assertEquals(1, diffSyncInput.getRemovedWorkerNodes().size());
+
+        // acknowledged versions are sent with next gather request
+        when(nodeHelper.getAllNodes()).thenReturn(allNodes);
+        syncUpCron.run();
+        verify(client, times(3)).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+        Map<String, Long> versions = requestCaptor.getValue().getSyncUpInput().getDeploymentStateVersions();
+        assertEquals(2L, versions.get(mlNode1.getEphemeralId()).longValue());
+        assertEquals(1L, versions.get(mlNode2.getEphemeralId()).longValue());
+    }
+
+    public void testSyncUp_ModelFunctionNames() {
+        DiscoveryNode[] allNodes = new DiscoveryNode[] { mlNode1, mlNode2 };
+        ArgumentCaptor<MLSyncUpNodesRequest> requestCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        MLSyncUpNodeResponse node1Response = new MLSyncUpNodeResponse(
+            mlNode1,
+            "ok",
+            new String[] { "model1" },
+            null,
+            null,
+            1,
+            NO_VERSION,
+            null
+        );
+        node1Response.setDeployedModelFunctionNames(ImmutableMap.of("model1", FunctionName.TEXT_EMBEDDING));
+        syncUpCron
+            .syncUp(
+                allNodes,
+                Arrays.asList(node1Response, new MLSyncUpNodeResponse(mlNode2, "ok", new String[0], null, null, 1, NO_VERSION, null))
+            );
+        verify(client, times(1)).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+        MLSyncUpInput fullSyncInput = requestCaptor.getValue().getSyncUpInput();
+        assertEquals(ImmutableMap.of("model1", FunctionName.TEXT_EMBEDDING), fullSyncInput.getModelFunctionNames());
+
+        // only function names of models with added worker nodes are sent with routing changes
+        MLSyncUpNodeResponse node2Response = new MLSyncUpNodeResponse(
+            mlNode2,
+            "ok",
+            new String[] { "model2" },
+            null,
+            null,
+            2,
+            1,
+            new String[0]
+        );
+        node2Response.setDeployedModelFunctionNames(ImmutableMap.of("model2", FunctionName.REMOTE));
+        syncUpCron
+            .syncUp(
+                allNodes,
+                Arrays.asList(new MLSyncUpNodeResponse(mlNode1, "ok", new String[0], null, null, 1, 1, new String[0]), node2Response)
+            );
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+        MLSyncUpInput diffSyncInput = requestCaptor.getValue().getSyncUpInput();
+        assertArrayEquals(new String[] { mlNode2Id }, diffSyncInput.getAddedWorkerNodes().get("model2"));
+        assertEquals(ImmutableMap.of("model2", FunctionName.REMOTE), diffSyncInput.getModelFunctionNames());
+    }
+
+    public void testSyncUp_FullSyncWhenNodesChanged() {
+        ArgumentCaptor<MLSyncUpNodesRequest> requestCaptor = ArgumentCaptor.forClass(MLSyncUpNodesRequest.class);
+        syncUpCron
+            .syncUp(
+                new DiscoveryNode[] { mlNode1 },
+                Arrays.asList(new MLSyncUpNodeResponse(mlNode1, "ok", new String[] { "model1" }, null, null))
+            );
+        syncUpCron
+            .syncUp(
+                new DiscoveryNode[] { mlNode1, mlNode2 },
+                Arrays
+                    .asList(
+                        new MLSyncUpNodeResponse(mlNode1, "ok", new String[] { "model1" }, null, null),
+                        new MLSyncUpNodeResponse(mlNode2, "ok", new String[] { "model1" }, null, null)
+                    )
+            );
+        verify(client, times(2)).execute(eq(MLSyncUpAction.INSTANCE), requestCaptor.capture(), any());
+        MLSyncUpInput syncUpInput = requestCaptor.getValue().getSyncUpInput();
+        assertEquals(ImmutableSet.of(mlNode1Id, mlNode2Id), syncUpInput.getModelRoutingTable().get("model1"));
+        assertNull(syncUpInput.getAddedWorkerNodes());
+    }
+
+    public void testDiffModelWorkerNodes() {
+        Map<String, Set<String>> previous = ImmutableMap
+            .of("model1", ImmutableSet.of("node1", "node2"), "model2", ImmutableSet.of("node1"), "model3", ImmutableSet.of("node2"));
+        Map<String, Set<String>> current = ImmutableMap
+            .of("model1", ImmutableSet.of("node2", "node3"), "model2", ImmutableSet.of("node1"), "model4", ImmutableSet.of("node1"));
+        Map<String, String[]> added = new HashMap<>();
+        Map<String, String[]> removed = new HashMap<>();
+        Set<String> changedModelIds = MLSyncUpCron.diffModelWorkerNodes(previous, current, added, removed);
+        assertEquals(ImmutableSet.of("model1", "model3", "model4"), changedModelIds);
+        assertArrayEquals(new String[] { "node3" }, added.get("model1"));
+        assertArrayEquals(new String[] { "node1" }, removed.get("model1"));
+        assertArrayEquals(new String[] { "node2" }, removed.get("model3"));
+        assertArrayEquals(new String[] { "node1" }, added.get("model4"));
+        assertFalse(added.containsKey("model2"));
+        assertFalse(removed.containsKey("model2"));
+    }
+
+    public void testRefreshModelState_OnlyChangedModels() {
+        ArgumentCaptor<SearchRequest> searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        Map<String, Set<String>> deployingModels = new HashMap<>();
+        deployingModels.put("deployingModel", ImmutableSet.of("node1"));
+        syncUpCron.refreshModelState(new HashMap<>(), deployingModels, ImmutableSet.of("changedModel"));
+        verify(client, times(1)).search(searchRequestCaptor.capture(), any());
+        String query = searchRequestCaptor.getValue().source().query().toString();
+        assertTrue(query.contains("\"ids\""));
+        assertTrue(query.contains("changedModel"));
+        assertTrue(query.contains("deployingModel"));
+        syncUpCron.updateModelStateSemaphore.release();
+    }
+
+    public void testRefreshModelState_NoSemaphore_RefreshAllNextRun() {
+        doAnswer(invocation -> {
+            ActionListener<Boolean> listener = invocation.getArgument(0);
+            listener.onResponse(true);
+            return null;
+        }).when(mlIndicesHandler).initModelIndexIfAbsent(any());
+        ArgumentCaptor<SearchRequest> searchRequestCaptor = ArgumentCaptor.forClass(SearchRequest.class);
+        syncUpCron.syncUp(new DiscoveryNode[] {}, new ArrayList<>());
+        verify(client, times(1)).search(searchRequestCaptor.capture(), any());
+        assertFalse(searchRequestCaptor.getValue().source().query().toString().contains("should"));
+
+        // search of first run still running
+        syncUpCron.refreshModelState(new HashMap<>(), new HashMap<>(), ImmutableSet.of("changedModel"));
+        verify(client, times(1)).search(any(), any());
+        syncUpCron.updateModelStateSemaphore.release();
+
+        // changes of skipped refresh are unknown, so next run refreshes all models
+        syncUpCron.syncUp(new DiscoveryNode[] {}, new ArrayList<>());
+        verify(client, times(2)).search(searchRequestCaptor.capture(), any());
+        assertFalse(searchRequestCaptor.getValue().source().query().toString().contains("should"));
+        syncUpCron.updateModelStateSemaphore.release();
+
+        syncUpCron.syncUp(new DiscoveryNode[] {}, new ArrayList<>());
+        verify(client, times(3)).search(searchRequestCaptor.capture(), any());
+        assertTrue(searchRequestCaptor.getValue().source().query().toString().contains("should"));
+        syncUpCron.updateModelStateSemaphore.release();
+    }
+
     private void mockSyncUp_GatherRunningTasks() {
         doAnswer(invocation -> {
             ActionListener<MLSyncUpNodesResponse> listener = invocation.getArgument(2);
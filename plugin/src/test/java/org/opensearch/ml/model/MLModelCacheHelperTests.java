@@ -26,6 +26,7 @@ import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.ClusterSettings;
 import org.opensearch.common.settings.Settings;
 import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.model.MLModelFormat;
 import org.opensearch.ml.common.model.MLModelState;
@@ -34,6 +35,7 @@ import org.opensearch.ml.profile.MLModelProfile;
 import org.opensearch.ml.profile.MLPredictRequestStats;
 import org.opensearch.test.OpenSearchTestCase;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableSet;
 
 public class MLModelCacheHelperTests extends OpenSearchTestCase {
@@ -144,6 +146,16 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertEquals(0, deployedModels.length);
     }
 
+    public void testGetDeployedModels_RemoteModel() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.REMOTE, targetWorkerNodes, true);
+        cacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+
+        // remote models are reported to the sync up job with their function name
+        assertArrayEquals(new String[] { modelId }, cacheHelper.getDeployedModels());
+        assertEquals(FunctionName.REMOTE, cacheHelper.getOptionalFunctionName(modelId).get());
+        assertEquals(0, cacheHelper.getLocalDeployedModels().length);
+    }
+
     public void testRemoveModel_WrongModelId() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         cacheHelper.removeModel("wrong_model_id");
@@ -317,6 +329,80 @@ public class MLModelCacheHelperTests extends OpenSearchTestCase {
         assertFalse(cacheHelper.getOptionalFunctionName(randomAlphaOfLength(10)).isPresent());
     }
 
+    public void testSetFunctionNames() {
+        String otherModelId = randomAlphaOfLength(10);
+        cacheHelper.addWorkerNode(modelId, nodeId);
+        assertFalse(cacheHelper.getOptionalFunctionName(modelId).isPresent());
+
+        cacheHelper.setFunctionNames(ImmutableMap.of(modelId, FunctionName.REMOTE, otherModelId, FunctionName.TEXT_EMBEDDING));
+        assertEquals(FunctionName.REMOTE, cacheHelper.getOptionalFunctionName(modelId).get());
+        // model without worker node is not cached
+        assertFalse(cacheHelper.getOptionalFunctionName(otherModelId).isPresent());
+
+        // function name of deployed model is not overridden
+        cacheHelper.setFunctionNames(ImmutableMap.of(modelId, FunctionName.TEXT_EMBEDDING));
+        assertEquals(FunctionName.REMOTE, cacheHelper.getOptionalFunctionName(modelId).get());
+    }
+
+    public void testUnloadAndReloadPredictor() {
+        MLModel modelMeta = MLModel.builder().modelId(modelId).algorithm(FunctionName.TEXT_EMBEDDING).build();
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setModelMeta(modelId, modelMeta, 100);
+        cacheHelper.setPredictor(modelId, predictor);
+        // model which is still deploying is not unloaded
+        assertEquals(0, cacheHelper.getIdleModels(100).size());
+        assertNull(cacheHelper.unloadPredictor(modelId, 100));
+
+        cacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+        assertEquals(predictor, cacheHelper.acquirePredictor(modelId, 200));
+        // predictor in use is not unloaded
+        assertNull(cacheHelper.unloadPredictor(modelId, 200));
+        cacheHelper.releasePredictor(modelId, 200);
+        assertEquals(0, cacheHelper.getIdleModels(100).size());
+        assertNull(cacheHelper.unloadPredictor(modelId, 100));
+
+        assertEquals(List.of(modelId), cacheHelper.getIdleModels(200));
+        assertEquals(1, cacheHelper.getLoadedLocalDeployedModels().length);
+        assertEquals(predictor, cacheHelper.unloadPredictor(modelId, 200));
+        assertNull(cacheHelper.getPredictor(modelId));
+        assertTrue(cacheHelper.isModelUnloaded(modelId));
+        assertTrue(cacheHelper.isModelDeployed(modelId));
+        assertEquals(0, cacheHelper.getIdleModels(200).size());
+        assertEquals(0, cacheHelper.getLoadedLocalDeployedModels().length);
+        assertEquals(1, cacheHelper.getLocalDeployedModels().length);
+        assertEquals(modelMeta, cacheHelper.getModelMeta(modelId));
+
+        assertTrue(cacheHelper.reloadPredictor(modelId, predictor, 300));
+        assertEquals(predictor, cacheHelper.getPredictor(modelId));
+        assertFalse(cacheHelper.isModelUnloaded(modelId));
+        assertFalse(cacheHelper.reloadPredictor(modelId, predictor, 300));
+    }
+
+    public void testGetIdleModels_LeastRecentlyUsedFirst() {
+        String otherModelId = randomAlphaOfLength(10);
+        for (String id : List.of(modelId, otherModelId)) {
+            cacheHelper.initModelState(id, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+            cacheHelper.setModelMeta(id, MLModel.builder().modelId(id).algorithm(FunctionName.TEXT_EMBEDDING).build(), 100);
+            cacheHelper.setPredictor(id, predictor);
+        }
+        cacheHelper.acquirePredictor(modelId, 300);
+        cacheHelper.releasePredictor(modelId, 300);
+        cacheHelper.acquirePredictor(otherModelId, 200);
+        cacheHelper.releasePredictor(otherModelId, 200);
+        assertEquals(List.of(otherModelId, modelId), cacheHelper.getIdleModels(300));
+        assertEquals(List.of(otherModelId), cacheHelper.getIdleModels(250));
+    }
+
+    public void testReloadPredictor_Undeployed() {
+        cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
+        cacheHelper.setModelMeta(modelId, MLModel.builder().modelId(modelId).algorithm(FunctionName.TEXT_EMBEDDING).build(), 100);
+        cacheHelper.setPredictor(modelId, predictor);
+        assertEquals(predictor, cacheHelper.unloadPredictor(modelId, 100));
+        cacheHelper.removeModel(modelId);
+        assertFalse(cacheHelper.isModelUnloaded(modelId));
+        assertFalse(cacheHelper.reloadPredictor(modelId, predictor, 200));
+    }
+
     public void test_removeWorkerNodes_with_deployToAllNodesStatus_isTrue() {
         cacheHelper.initModelState(modelId, MLModelState.DEPLOYED, FunctionName.TEXT_EMBEDDING, targetWorkerNodes, true);
         cacheHelper.addWorkerNode(modelId, nodeId);
@@ -0,0 +1,219 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.CommonValue.ML_MODEL_INDEX;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.DocWriteRequest;
+import org.opensearch.action.bulk.BulkItemResponse;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.index.IndexRequest;
+import org.opensearch.action.support.WriteRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLException;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLModelChunkIndexerTests extends OpenSearchTestCase {
+
+    @Mock
+    private Client client;
+
+    @Mock
+    private ThreadPool threadPool;
+
+    @Mock
+    private ExecutorService executorService;
+
+    @Mock
+    private ActionListener<Void> listener;
+
+    private final String modelId = "test_model_id";
+    private final Instant now = Instant.now();
+    private List<BulkRequest> bulkRequests;
+    private List<byte[]> chunkContents;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        doAnswer(invocation -> {
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+        bulkRequests = new ArrayList<>();
+        chunkContents = new ArrayList<>();
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            bulkRequests.add(bulkRequest);
+            ActionListener<BulkResponse> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(new BulkResponse(new BulkItemResponse[0], 1));
+            return null;
+        }).when(client).bulk(any(), any());
+    }
+
+    public void testIndex() throws IOException {
+        List<String> chunkFiles = createChunkFiles(3, 100);
+        MLModelChunkIndexer.index(client, threadPool, "register", chunkFiles, this::chunkMeta, listener);
+
+        verify(listener).onResponse(null);
+        verify(listener, never()).onFailure(any());
+        assertEquals(1, bulkRequests.size());
+        BulkRequest bulkRequest = bulkRequests.get(0);
+        assertEquals(WriteRequest.RefreshPolicy.NONE, bulkRequest.getRefreshPolicy());
+        assertEquals(3, bulkRequest.numberOfActions());
+        for (int i = 0; i < 3; i++) {
+            IndexRequest indexRequest = (IndexRequest) bulkRequest.requests().get(i);
+            assertEquals(ML_MODEL_INDEX, indexRequest.index());
+            assertEquals(modelId + "_" + i, indexRequest.id());
+            MLModel chunk = parse(indexRequest);
+            assertEquals(i, chunk.getChunkNumber().intValue());
+            assertEquals(3, chunk.getTotalChunks().intValue());
+            assertEquals(modelId, chunk.getModelId());
+            assertArrayEquals(chunkContents.get(i), Base64.getDecoder().decode(chunk.getContent()));
+            assertFalse(new File(chunkFiles.get(i)).exists());
+        }
+    }
+
+    public void testIndex_GroupChunksBySize() throws IOException {
+        List<String> chunkFiles = createChunkFiles(5, 300);
+        new MLModelChunkIndexer(client, threadPool, "register", chunkFiles, this::chunkMeta, listener, 1500).indexNextBulks();
+
+        verify(listener).onResponse(null);
+        // a chunk is 400 bytes base64 encoded, about 600 bytes with its fields
+        assertEquals(3, bulkRequests.size());
+        assertEquals(2, bulkRequests.get(0).numberOfActions());
+        assertEquals(2, bulkRequests.get(1).numberOfActions());
+        assertEquals(1, bulkRequests.get(2).numberOfActions());
+        for (int i = 0; i < 5; i++) {
+            IndexRequest indexRequest = (IndexRequest) bulkRequests.get(i / 2).requests().get(i % 2);
+            assertEquals(modelId + "_" + i, indexRequest.id());
+            assertArrayEquals(chunkContents.get(i), Base64.getDecoder().decode(parse(indexRequest).getContent()));
+        }
+    }
+
+    public void testIndex_NoChunks() {
+        MLModelChunkIndexer.index(client, threadPool, "register", new ArrayList<>(), this::chunkMeta, listener);
+        verify(listener).onResponse(null);
+        verify(client, never()).bulk(any(), any());
+    }
+
+    public void testIndex_BulkFailure() throws IOException {
+        doAnswer(invocation -> {
+            BulkRequest bulkRequest = invocation.getArgument(0);
+            bulkRequests.add(bulkRequest);
+            ActionListener<BulkResponse> actionListener = invocation.getArgument(1);
+            BulkItemResponse failure = BulkItemResponse
+                .failure(
+                    0,
+                    DocWriteRequest.OpType.INDEX,
+                    new BulkItemResponse.Failure(ML_MODEL_INDEX, modelId + "_0", new RuntimeException("index failure"))
+                );
+            actionListener.onResponse(new BulkResponse(new BulkItemResponse[] { failure }, 1));
+            return null;
+        }).when(client).bulk(any(), any());
+        List<String> chunkFiles = createChunkFiles(3, 300);
+        new MLModelChunkIndexer(client, threadPool, "register", chunkFiles, this::chunkMeta, listener, 500).indexNextBulks();
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        verify(listener, never()).onResponse(any());
+        assertTrue(argumentCaptor.getValue() instanceof MLException);
+        assertTrue(argumentCaptor.getValue().getMessage().contains("index failure"));
+        verify(client, times(1)).bulk(any(), any());
+    }
+
+    public void testIndex_BulkException() throws IOException {
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new RuntimeException("bulk failure"));
+            return null;
+        }).when(client).bulk(any(), any());
+        MLModelChunkIndexer.index(client, threadPool, "register", createChunkFiles(2, 100), this::chunkMeta, listener);
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("bulk failure", argumentCaptor.getValue().getMessage());
+    }
+
+    public void testIndex_MissingChunkFile() {
+        List<String> chunkFiles = new ArrayList<>();
+        chunkFiles.add(createTempDir().resolve("0").toString());
+        MLModelChunkIndexer.index(client, threadPool, "register", chunkFiles, this::chunkMeta, listener);
+
+        verify(listener).onFailure(any(IOException.class));
+        verify(client, never()).bulk(any(), any());
+    }
+
+    private MLModel chunkMeta(int chunkNumber) {
+        return MLModel
+            .builder()
+            .modelId(modelId)
+            .name("test_model")
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .version("1")
+            .chunkNumber(chunkNumber)
+            .totalChunks(3)
+            .createdTime(now)
+            .lastUpdateTime(now)
+            .build();
+    }
+
+    // Chunk files are named by chunk number and deleted once indexed, chunkContents keeps their content.
+    private List<String> createChunkFiles(int count, int size) throws IOException {
+        Path folder = createTempDir();
+        List<String> chunkFiles = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            byte[] content = randomByteArrayOfLength(size);
+            Path chunkFile = folder.resolve(String.valueOf(i));
+            Files.write(chunkFile, content);
+            chunkFiles.add(chunkFile.toString());
+            chunkContents.add(content);
+        }
+        return chunkFiles;
+    }
+
+    private MLModel parse(IndexRequest indexRequest) throws IOException {
+        try (
+            XContentParser parser = XContentType.JSON
+                .xContent()
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, indexRequest.source().streamInput())
+        ) {
+            parser.nextToken();
+            return MLModel.parse(parser, FunctionName.TEXT_EMBEDDING.name());
+        }
+    }
+}
@@ -97,6 +97,7 @@ import org.opensearch.ml.common.transport.register.MLRegisterModelInput;
 import org.opensearch.ml.common.transport.upload_chunk.MLRegisterModelMetaInput;
 import org.opensearch.ml.engine.MLEngine;
 import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.indices.MLIndicesHandler;
@@ -167,6 +168,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
     private ActionListener<String> actionListener;
     @Mock
     private ScriptService scriptService;
+    @Mock
+    private MLModelResidencyManager modelResidencyManager;
 
     @Before
     public void setup() throws URISyntaxException {
@@ -239,6 +242,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         threadContext = new ThreadContext(settings);
         when(client.threadPool()).thenReturn(threadPool);
         when(threadPool.getThreadContext()).thenReturn(threadContext);
+        when(modelResidencyManager.keepModelFile(any(), any())).thenAnswer(invocation -> invocation.getArgument(1));
 
         modelManager = spy(
             new MLModelManager(
@@ -255,7 +259,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
                 mlTaskManager,
                 modelCacheHelper,
                 mlEngine,
-                nodeHelper
+                nodeHelper,
+                modelResidencyManager
             )
         );
 
@@ -427,7 +432,7 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(client, never()).execute(eq(MLDeployModelAction.INSTANCE), any(), any());
     }
 
-    public void testRegisterMLModel_DownloadModelFile_ModelFileSizeExceedLimit() throws IOException {
+    public void testRegisterMLModel_DownloadModelFile_ModelFileLargerThan4GB() throws IOException {
         doNothing().when(mlTaskManager).checkLimitAndAddRunningTask(any(), any());
         when(mlCircuitBreakerService.checkOpenCB()).thenReturn(null);
         when(threadPool.executor(REGISTER_THREAD_POOL)).thenReturn(taskExecutorService);
@@ -440,6 +445,8 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         verify(mlIndicesHandler).initModelIndexIfAbsent(any());
         verify(client, times(1)).index(any(), any());
         verify(modelHelper).downloadAndSplit(eq(modelFormat), eq(modelId), eq(modelName), eq(version), eq(url), any(), any(), any());
+        // chunks of the model are indexed
+        verify(client).bulk(any(), any());
     }
 
     public void testRegisterModel_ClientFailedToGetThreadPool() {
@@ -585,6 +592,21 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("Exceed max local model per node limit", failure.getValue().getMessage());
     }
 
+    public void testDeployModel_ResidencyEnabled_UnloadedModelsNotCounted() {
+        when(modelResidencyManager.isEnabled()).thenReturn(true);
+        when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
+        String[] models = new String[100];
+        for (int i = 0; i < 100; i++) {
+            models[i] = "model" + i;
+        }
+        when(modelCacheHelper.getLocalDeployedModels()).thenReturn(models);
+        when(modelCacheHelper.getLoadedLocalDeployedModels()).thenReturn(new String[] {});
+        mock_client_ThreadContext_Exception(client, threadPool, threadContext);
+        ActionListener<String> listener = mock(ActionListener.class);
+        modelManager.deployModel(modelId, modelContentHashValue, FunctionName.TEXT_EMBEDDING, true, mlTask, listener);
+        verify(modelCacheHelper).initModelState(eq(modelId), eq(MLModelState.DEPLOYING), eq(FunctionName.TEXT_EMBEDDING), any(), eq(true));
+    }
+
     public void testDeployModel_ThreadPoolException() {
         when(modelCacheHelper.isModelDeployed(modelId)).thenReturn(false);
         when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
@@ -608,6 +630,22 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         testDeployModel_FailedToRetrieveModelChunks(true);
     }
 
+    public void testAcquirePredictor() {
+        Predictable predictor = mock(Predictable.class);
+        when(modelResidencyManager.acquirePredictor(modelId)).thenReturn(predictor);
+        assertEquals(predictor, modelManager.acquirePredictor(modelId));
+        modelManager.releasePredictor(modelId);
+        verify(modelResidencyManager).releasePredictor(modelId);
+    }
+
+    public void testReloadModel() {
+        when(modelCacheHelper.isModelUnloaded(modelId)).thenReturn(true);
+        assertTrue(modelManager.isModelUnloaded(modelId));
+        ActionListener<Predictable> listener = mock(ActionListener.class);
+        modelManager.reloadModel(modelId, listener);
+        verify(modelResidencyManager).reloadModel(modelId, listener);
+    }
+
     public void testUndeployModel_NullModelIds_NoDeployedModel() {
         when(modelCacheHelper.getDeployedModels()).thenReturn(new String[] {});
         Map<String, String> undeployModelStatus = modelManager.undeployModel(null);
@@ -648,6 +686,41 @@ public class MLModelManagerTests extends OpenSearchTestCase {
         assertEquals("failed to stashContext", failure.getValue().getMessage());
     }
 
+    public void testUpdateModel_NotifyModelStateListener() {
+        mock_client_update(client);
+        Map<String, MLModelState> notifications = new HashMap<>();
+        modelManager.addModelStateListener(notifications::put);
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        modelManager.updateModel(modelId, ImmutableMap.of(MLModel.MODEL_STATE_FIELD, MLModelState.DEPLOYED), listener);
+        verify(listener).onResponse(any());
+        assertEquals(MLModelState.DEPLOYED, notifications.get(modelId));
+
+        modelManager.updateModel(modelId, ImmutableMap.of(MLModel.MODEL_STATE_FIELD, MLModelState.DEPLOY_FAILED.name()), listener);
+        assertEquals(MLModelState.DEPLOY_FAILED, notifications.get(modelId));
+    }
+
+    public void testUpdateModel_NotifyModelStateListener_NoStateChange() {
+        mock_client_update(client);
+        Map<String, MLModelState> notifications = new HashMap<>();
+        modelManager.addModelStateListener(notifications::put);
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        modelManager.updateModel(modelId, ImmutableMap.of(MLModel.CURRENT_WORKER_NODE_COUNT_FIELD, 1), listener);
+        verify(listener).onResponse(any());
+        assertTrue(notifications.isEmpty());
+    }
+
+    public void testUpdateModel_NotifyModelStateListener_UpdateFailure() {
+        mock_client_update_failure(client);
+        Map<String, MLModelState> notifications = new HashMap<>();
+        modelManager.addModelStateListener(notifications::put);
+        ActionListener<UpdateResponse> listener = mock(ActionListener.class);
+        modelManager.updateModel(modelId, ImmutableMap.of(MLModel.MODEL_STATE_FIELD, MLModelState.DEPLOYED), listener);
+        notifications.clear();
+        modelManager.updateModel(modelId, ImmutableMap.of(MLModel.MODEL_STATE_FIELD, MLModelState.DEPLOYED), listener);
+        verify(listener).onFailure(any());
+        assertTrue(notifications.isEmpty());
+    }
+
     public void testSyncModelWorkerNodes() {
         Map<String, Set<String>> modelWorkerNodes = ImmutableMap.of(modelId, ImmutableSet.of("node1"));
         modelManager.syncModelWorkerNodes(modelWorkerNodes);
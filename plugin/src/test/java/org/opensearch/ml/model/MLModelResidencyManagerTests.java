@@ -0,0 +1,387 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.model;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.engine.algorithms.text_embedding.TextEmbeddingDenseModel.MODEL_ZIP_FILE;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_JVM_HEAP_MEM_THRESHOLD;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_RESIDENCY_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_MONITORING_REQUEST_COUNT;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_NATIVE_MEM_THRESHOLD;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.unit.ByteSizeValue;
+import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLModel;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
+import org.opensearch.ml.common.model.MLModelFormat;
+import org.opensearch.ml.common.model.MLModelState;
+import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.ModelHelper;
+import org.opensearch.ml.engine.Predictable;
+import org.opensearch.ml.stats.MLNodeLevelStat;
+import org.opensearch.ml.stats.MLStat;
+import org.opensearch.ml.stats.MLStats;
+import org.opensearch.ml.stats.suppliers.CounterSupplier;
+import org.opensearch.monitor.jvm.JvmService;
+import org.opensearch.monitor.jvm.JvmStats;
+import org.opensearch.monitor.os.OsService;
+import org.opensearch.monitor.os.OsStats;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLModelResidencyManagerTests extends OpenSearchTestCase {
+    private static final long MB = 1024 * 1024;
+
+    @Mock
+    private ThreadPool threadPool;
+    @Mock
+    private ExecutorService executorService;
+    @Mock
+    private MLEngine mlEngine;
+    @Mock
+    private ModelHelper modelHelper;
+    @Mock
+    private MLCircuitBreakerService mlCircuitBreakerService;
+    @Mock
+    private JvmService jvmService;
+    @Mock
+    private JvmStats jvmStats;
+    @Mock
+    private JvmStats.Mem heap;
+    @Mock
+    private OsService osService;
+    @Mock
+    private OsStats osStats;
+    @Mock
+    private OsStats.Mem mem;
+
+    private ClusterService clusterService;
+    private MLModelCacheHelper modelCacheHelper;
+    private MLModelResidencyManager residencyManager;
+    private List<Runnable> executedRunnables;
+    private Path artifactFolder;
+
+    @Before
+    public void setup() throws IOException {
+        MockitoAnnotations.openMocks(this);
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_MODEL_RESIDENCY_ENABLED.getKey(), true)
+            .put(ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME.getKey(), "1m")
+            .put(ML_COMMONS_JVM_HEAP_MEM_THRESHOLD.getKey(), 85)
+            .put(ML_COMMONS_NATIVE_MEM_THRESHOLD.getKey(), 90)
+            .build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MONITORING_REQUEST_COUNT,
+            ML_COMMONS_MODEL_RESIDENCY_ENABLED,
+            ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME,
+            ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
+            ML_COMMONS_NATIVE_MEM_THRESHOLD
+        );
+        clusterService = spy(new ClusterService(settings, clusterSettings, null));
+
+        when(threadPool.executor(anyString())).thenReturn(executorService);
+        executedRunnables = new ArrayList<>();
+        doAnswer(invocation -> {
+            executedRunnables.add(invocation.getArgument(0));
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+
+        artifactFolder = createTempDir();
+        when(mlEngine.getModelArtifactPath(anyString()))
+            .thenAnswer(invocation -> artifactFolder.resolve(invocation.getArgument(0, String.class)));
+        when(mlEngine.getModelArtifactZipPath(anyString()))
+            .thenAnswer(invocation -> artifactFolder.resolve(invocation.getArgument(0, String.class)).resolve("model.zip"));
+
+        when(jvmService.stats()).thenReturn(jvmStats);
+        when(jvmStats.getMem()).thenReturn(heap);
+        when(osService.stats()).thenReturn(osStats);
+        when(osStats.getMem()).thenReturn(mem);
+        setMemoryUsage(50, 50);
+
+        Map<Enum, MLStat<?>> stats = new ConcurrentHashMap<>();
+        stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        MLStats mlStats = new MLStats(stats);
+
+        modelCacheHelper = new MLModelCacheHelper(clusterService, settings);
+        residencyManager = new MLModelResidencyManager(
+            clusterService,
+            threadPool,
+            settings,
+            modelCacheHelper,
+            mlEngine,
+            modelHelper,
+            mlCircuitBreakerService,
+            mlStats,
+            jvmService,
+            osService
+        );
+    }
+
+    public void testKeepModelFile() throws IOException {
+        String modelId = "model1";
+        deploy(modelId);
+        File modelZipFile = createTempFile().toFile();
+        Files.write(modelZipFile.toPath(), new byte[] { 1, 2, 3 });
+        MLModel modelMeta = modelMeta(modelId);
+
+        File modelFile = residencyManager.keepModelFile(modelMeta, modelZipFile);
+        assertEquals(artifactFolder.resolve(modelId).resolve("model.zip").toFile(), modelFile);
+        assertFalse(modelZipFile.exists());
+        assertArrayEquals(new byte[] { 1, 2, 3 }, Files.readAllBytes(modelFile.toPath()));
+        assertEquals(modelMeta, modelCacheHelper.getModelMeta(modelId));
+
+        residencyManager.deleteModelFile(modelId);
+        assertFalse(modelFile.exists());
+    }
+
+    public void testKeepModelFile_Disabled() throws IOException {
+        Settings settings = Settings.builder().put(ML_COMMONS_MODEL_RESIDENCY_ENABLED.getKey(), false).build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_MODEL_RESIDENCY_ENABLED,
+            ML_COMMONS_MODEL_RESIDENCY_MIN_IDLE_TIME,
+            ML_COMMONS_JVM_HEAP_MEM_THRESHOLD,
+            ML_COMMONS_NATIVE_MEM_THRESHOLD
+        );
+        residencyManager = new MLModelResidencyManager(
+            new ClusterService(settings, clusterSettings, null),
+            threadPool,
+            settings,
+            modelCacheHelper,
+            mlEngine,
+            modelHelper,
+            mlCircuitBreakerService,
+            null,
+            jvmService,
+            osService
+        );
+        assertFalse(residencyManager.isEnabled());
+        File modelZipFile = createTempFile().toFile();
+        assertEquals(modelZipFile, residencyManager.keepModelFile(modelMeta("model1"), modelZipFile));
+        assertTrue(modelZipFile.exists());
+    }
+
+    public void testUnloadIdleModels() {
+        Predictable predictor1 = deployWithModelMeta("model1", 0);
+        Predictable predictor2 = deployWithModelMeta("model2", 0);
+        Predictable predictor3 = deployWithModelMeta("model3", 0);
+        when(threadPool.relativeTimeInMillis()).thenReturn(10_000L);
+        usePredictor("model2");
+        when(threadPool.relativeTimeInMillis()).thenReturn(20_000L);
+        usePredictor("model1");
+        // model3 is used within min idle time
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+        usePredictor("model3");
+
+        // model2 is least recently used, one model covers the bytes to free
+        assertEquals(120 * MB, residencyManager.unloadIdleModels(100 * MB));
+        verify(predictor2).close();
+        verify(predictor1, never()).close();
+        assertTrue(modelCacheHelper.isModelUnloaded("model2"));
+
+        assertEquals(120 * MB, residencyManager.unloadIdleModels(500 * MB));
+        verify(predictor1).close();
+        verify(predictor3, never()).close();
+        assertFalse(modelCacheHelper.isModelUnloaded("model3"));
+        assertEquals(0, residencyManager.unloadIdleModels(0));
+    }
+
+    public void testUnloadIdleModels_PredictorInUse() {
+        Predictable predictor = deployWithModelMeta("model1", 0);
+        assertEquals(predictor, residencyManager.acquirePredictor("model1"));
+        // predict request runs longer than min idle time
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+        assertEquals(0, residencyManager.unloadIdleModels(1));
+        verify(predictor, never()).close();
+
+        residencyManager.releasePredictor("model1");
+        when(threadPool.relativeTimeInMillis()).thenReturn(200_000L);
+        assertEquals(120 * MB, residencyManager.unloadIdleModels(1));
+        verify(predictor).close();
+    }
+
+    public void testBytesOverMemoryThreshold_ThresholdBelowHeadroom() {
+        clusterService
+            .getClusterSettings()
+            .applySettings(
+                Settings
+                    .builder()
+                    .put(ML_COMMONS_MODEL_RESIDENCY_ENABLED.getKey(), true)
+                    .put(ML_COMMONS_JVM_HEAP_MEM_THRESHOLD.getKey(), 85)
+                    .put(ML_COMMONS_NATIVE_MEM_THRESHOLD.getKey(), 3)
+                    .build()
+            );
+        // all native memory used is over the unload threshold
+        assertEquals(500 * MB, residencyManager.bytesOverMemoryThreshold());
+    }
+
+    public void testCheckMemory() {
+        Predictable predictor = deployWithModelMeta("model1", 0);
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+
+        residencyManager.checkMemory();
+        verify(predictor, never()).close();
+
+        // native memory usage is 90% of 1000MB, 50MB over 85% unload threshold
+        setMemoryUsage(50, 90);
+        assertEquals(50 * MB, residencyManager.bytesOverMemoryThreshold());
+        residencyManager.checkMemory();
+        verify(predictor).close();
+        assertTrue(modelCacheHelper.isModelUnloaded("model1"));
+    }
+
+    public void testReloadModel() {
+        Predictable predictor = deployWithModelMeta("model1", 0);
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+        residencyManager.unloadIdleModels(1);
+        assertNull(residencyManager.acquirePredictor("model1"));
+        Predictable reloadedPredictor = mock(Predictable.class);
+        when(mlEngine.deploy(any(), any())).thenReturn(reloadedPredictor);
+
+        ActionListener<Predictable> listener1 = mock(ActionListener.class);
+        ActionListener<Predictable> listener2 = mock(ActionListener.class);
+        residencyManager.reloadModel("model1", listener1);
+        // requests during the reload wait for it
+        residencyManager.reloadModel("model1", listener2);
+        assertEquals(1, executedRunnables.size());
+        executedRunnables.get(0).run();
+
+        verify(listener1).onResponse(reloadedPredictor);
+        verify(listener2).onResponse(reloadedPredictor);
+        verify(mlEngine, times(1)).deploy(any(), any());
+        ArgumentCaptor<Map<String, Object>> params = ArgumentCaptor.forClass(Map.class);
+        verify(mlEngine).deploy(any(), params.capture());
+        assertEquals(artifactFolder.resolve("model1").resolve("model.zip").toFile(), params.getValue().get(MODEL_ZIP_FILE));
+        assertEquals(reloadedPredictor, residencyManager.acquirePredictor("model1"));
+        assertFalse(modelCacheHelper.isModelUnloaded("model1"));
+        verify(predictor).close();
+    }
+
+    public void testReloadModel_Failure() {
+        deployWithModelMeta("model1", 0);
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+        residencyManager.unloadIdleModels(1);
+        when(mlEngine.deploy(any(), any())).thenThrow(new IllegalArgumentException("failed to deploy"));
+
+        ActionListener<Predictable> listener = mock(ActionListener.class);
+        residencyManager.reloadModel("model1", listener);
+        executedRunnables.get(0).run();
+
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals("failed to deploy", argumentCaptor.getValue().getMessage());
+        assertTrue(modelCacheHelper.isModelUnloaded("model1"));
+
+        // next request reloads again
+        residencyManager.reloadModel("model1", listener);
+        assertEquals(2, executedRunnables.size());
+    }
+
+    public void testLoadPredictor_CircuitBreakerOpen() {
+        deployWithModelMeta("model1", 0);
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+        residencyManager.unloadIdleModels(1);
+        ThresholdCircuitBreaker memoryCircuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(memoryCircuitBreaker.getName()).thenReturn("Memory Circuit Breaker");
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(memoryCircuitBreaker);
+
+        expectThrows(MLLimitExceededException.class, () -> residencyManager.loadPredictor("model1"));
+        verify(mlEngine, never()).deploy(any(), any());
+    }
+
+    public void testLoadPredictor_ModelNotUnloaded() {
+        Predictable predictor = deployWithModelMeta("model1", 0);
+        assertEquals(predictor, residencyManager.loadPredictor("model1"));
+
+        IllegalArgumentException e = expectThrows(IllegalArgumentException.class, () -> residencyManager.loadPredictor("model2"));
+        assertEquals("Model not ready to be used: model2", e.getMessage());
+    }
+
+    public void testLoadPredictor_UndeployedDuringReload() {
+        deployWithModelMeta("model1", 0);
+        when(threadPool.relativeTimeInMillis()).thenReturn(100_000L);
+        residencyManager.unloadIdleModels(1);
+        Predictable reloadedPredictor = mock(Predictable.class);
+        when(mlEngine.deploy(any(), any())).thenAnswer(invocation -> {
+            modelCacheHelper.removeModel("model1");
+            return reloadedPredictor;
+        });
+
+        expectThrows(IllegalArgumentException.class, () -> residencyManager.loadPredictor("model1"));
+        verify(reloadedPredictor).close();
+    }
+
+    private void usePredictor(String modelId) {
+        residencyManager.acquirePredictor(modelId);
+        residencyManager.releasePredictor(modelId);
+    }
+
+    private void setMemoryUsage(int heapUsedPercent, int nativeUsedPercent) {
+        when(heap.getHeapMax()).thenReturn(new ByteSizeValue(1000 * MB));
+        when(heap.getHeapUsed()).thenReturn(new ByteSizeValue(heapUsedPercent * 10 * MB));
+        when(mem.getTotal()).thenReturn(new ByteSizeValue(1000 * MB));
+        when(mem.getUsed()).thenReturn(new ByteSizeValue(nativeUsedPercent * 10 * MB));
+    }
+
+    private MLModel modelMeta(String modelId) {
+        return MLModel
+            .builder()
+            .modelId(modelId)
+            .name("test_model")
+            .version("1")
+            .algorithm(FunctionName.TEXT_EMBEDDING)
+            .modelFormat(MLModelFormat.TORCH_SCRIPT)
+            .build();
+    }
+
+    private Predictable deploy(String modelId) {
+        Predictable predictor = mock(Predictable.class);
+        modelCacheHelper.initModelState(modelId, MLModelState.DEPLOYING, FunctionName.TEXT_EMBEDDING, List.of("node1"), true);
+        modelCacheHelper.setPredictor(modelId, predictor);
+        // estimated as 120MB
+        modelCacheHelper.setMemSizeEstimation(modelId, MLModelFormat.TORCH_SCRIPT, 100 * MB);
+        modelCacheHelper.setModelState(modelId, MLModelState.DEPLOYED);
+        return predictor;
+    }
+
+    private Predictable deployWithModelMeta(String modelId, long time) {
+        Predictable predictor = deploy(modelId);
+        modelCacheHelper.setModelMeta(modelId, modelMeta(modelId), time);
+        return predictor;
+    }
+}
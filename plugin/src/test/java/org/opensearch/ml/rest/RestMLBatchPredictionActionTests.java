@@ -0,0 +1,111 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.rest;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.client.node.NodeClient;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.common.xcontent.XContentType;
+import org.opensearch.core.common.Strings;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionAction;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionRequest;
+import org.opensearch.ml.utils.TestHelper;
+import org.opensearch.rest.RestChannel;
+import org.opensearch.rest.RestHandler;
+import org.opensearch.rest.RestRequest;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.test.rest.FakeRestRequest;
+import org.opensearch.threadpool.TestThreadPool;
+import org.opensearch.threadpool.ThreadPool;
+
+public class RestMLBatchPredictionActionTests extends OpenSearchTestCase {
+
+    private RestMLBatchPredictionAction restMLBatchPredictionAction;
+    private NodeClient client;
+    private ThreadPool threadPool;
+
+    @Mock
+    RestChannel channel;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        restMLBatchPredictionAction = new RestMLBatchPredictionAction();
+        threadPool = new TestThreadPool(this.getClass().getSimpleName() + "ThreadPool");
+        client = spy(new NodeClient(Settings.EMPTY, threadPool));
+        doAnswer(invocation -> null).when(client).execute(eq(MLBatchPredictionAction.INSTANCE), any(), any());
+    }
+
+    @Override
+    public void tearDown() throws Exception {
+        super.tearDown();
+        threadPool.shutdown();
+        client.close();
+    }
+
+    public void testGetName() {
+        String actionName = restMLBatchPredictionAction.getName();
+        assertFalse(Strings.isNullOrEmpty(actionName));
+        assertEquals("ml_batch_prediction_action", actionName);
+    }
+
+    public void testRoutes() {
+        List<RestHandler.Route> routes = restMLBatchPredictionAction.routes();
+        assertEquals(2, routes.size());
+        assertEquals(RestRequest.Method.POST, routes.get(0).getMethod());
+        assertEquals("/_plugins/_ml/models/{model_id}/_batch_predict", routes.get(0).getPath());
+        assertEquals(RestRequest.Method.POST, routes.get(1).getMethod());
+        assertEquals("/_plugins/_ml/tasks/{task_id}/_batch_predict/_resume", routes.get(1).getPath());
+    }
+
+    public void testBatchPredictionRequest() throws Exception {
+        String requestContent = "{\"source_index\":\"source_index\",\"query\":{\"term\":{\"category\":\"news\"}},"
+            + "\"input_field\":\"text\",\"output_field\":\"embedding\",\"batch_size\":50,\"requests_per_second\":100}";
+        Map<String, String> params = new HashMap<>();
+        params.put("model_id", "test_model_id");
+        RestRequest request = new FakeRestRequest.Builder(TestHelper.xContentRegistry())
+            .withParams(params)
+            .withContent(new BytesArray(requestContent), XContentType.JSON)
+            .build();
+        MLBatchPredictionRequest batchPredictionRequest = restMLBatchPredictionAction.getRequest(request);
+        MLBatchPredictionInput input = batchPredictionRequest.getBatchPredictionInput();
+        assertNull(batchPredictionRequest.getTaskId());
+        assertEquals("test_model_id", input.getModelId());
+        assertEquals("source_index", input.getSourceIndex());
+        assertEquals("text", input.getInputField());
+        assertEquals("embedding", input.getOutputField());
+        assertEquals(50, input.getBatchSize());
+        assertEquals(100f, input.getRequestsPerSecond(), 0);
+    }
+
+    public void testResumeRequest() throws Exception {
+        Map<String, String> params = new HashMap<>();
+        params.put("task_id", "test_task_id");
+        RestRequest request = new FakeRestRequest.Builder(NamedXContentRegistry.EMPTY).withParams(params).build();
+        restMLBatchPredictionAction.handleRequest(request, channel, client);
+        ArgumentCaptor<MLBatchPredictionRequest> argumentCaptor = ArgumentCaptor.forClass(MLBatchPredictionRequest.class);
+        verify(client, times(1)).execute(eq(MLBatchPredictionAction.INSTANCE), argumentCaptor.capture(), any());
+        assertEquals("test_task_id", argumentCaptor.getValue().getTaskId());
+        assertNull(argumentCaptor.getValue().getBatchPredictionInput());
+    }
+}
@@ -10,6 +10,7 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.opensearch.ml.utils.MLExceptionUtils.REMOTE_INFERENCE_DISABLED_ERR_MSG;
 import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_MODEL_ID;
+import static org.opensearch.ml.utils.RestActionUtils.PARAMETER_TIMEOUT;
 import static org.opensearch.ml.utils.TestHelper.getKMeansRestRequest;
 import static org.opensearch.ml.utils.TestHelper.verifyParsedKMeansMLInput;
 
@@ -31,6 +32,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
 import org.opensearch.ml.common.input.MLInput;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.model.MLModelGetAction;
 import org.opensearch.ml.common.transport.model.MLModelGetResponse;
@@ -105,12 +107,26 @@ public class RestMLPredictionActionTests extends OpenSearchTestCase {
         assertEquals("/_plugins/_ml/_predict/{algorithm}/{model_id}", route.getPath());
     }
 
+    public void testResponseParams() {
+        assertTrue(restMLPredictionAction.responseParams().contains(ModelTensor.BINARY_DATA_PARAM));
+    }
+
     public void testGetRequest() throws IOException {
         RestRequest request = getRestRequest_PredictModel();
         MLPredictionTaskRequest mlPredictionTaskRequest = restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), request);
 
         MLInput mlInput = mlPredictionTaskRequest.getMlInput();
         verifyParsedKMeansMLInput(mlInput);
+        assertNull(mlPredictionTaskRequest.getRemainingTime());
+    }
+
+    public void testGetRequest_Timeout() throws IOException {
+        RestRequest request = getRestRequest_PredictModel();
+        request.params().put(PARAMETER_TIMEOUT, "10s");
+        MLPredictionTaskRequest mlPredictionTaskRequest = restMLPredictionAction.getRequest("modelId", FunctionName.KMEANS.name(), request);
+
+        long remainingMillis = mlPredictionTaskRequest.getRemainingTime().millis();
+        assertTrue(remainingMillis > 0 && remainingMillis <= 10_000);
     }
 
     public void testGetRequest_RemoteInferenceDisabled() throws IOException {
@@ -0,0 +1,67 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.stats.suppliers;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier.ACTIVE;
+import static org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier.COMPLETED;
+import static org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier.LARGEST;
+import static org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier.QUEUE;
+import static org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier.REJECTED;
+import static org.opensearch.ml.stats.suppliers.ThreadPoolStatsSupplier.THREADS;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+import org.opensearch.threadpool.ThreadPoolStats;
+
+public class ThreadPoolStatsSupplierTests extends OpenSearchTestCase {
+
+    @Mock
+    ThreadPool threadPool;
+    ThreadPoolStatsSupplier supplier;
+    String threadPoolName = "test_thread_pool";
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        supplier = new ThreadPoolStatsSupplier(threadPool, threadPoolName);
+    }
+
+    public void testGet() {
+        ThreadPoolStats.Stats otherStats = mock(ThreadPoolStats.Stats.class);
+        when(otherStats.getName()).thenReturn("other_thread_pool");
+        ThreadPoolStats.Stats stats = mock(ThreadPoolStats.Stats.class);
+        when(stats.getName()).thenReturn(threadPoolName);
+        when(stats.getThreads()).thenReturn(8);
+        when(stats.getQueue()).thenReturn(2);
+        when(stats.getActive()).thenReturn(8);
+        when(stats.getRejected()).thenReturn(3L);
+        when(stats.getLargest()).thenReturn(8);
+        when(stats.getCompleted()).thenReturn(100L);
+        when(threadPool.stats()).thenReturn(new ThreadPoolStats(new ArrayList<>(List.of(otherStats, stats))));
+
+        Map<String, Object> value = supplier.get();
+        assertEquals(8, value.get(THREADS));
+        assertEquals(2, value.get(QUEUE));
+        assertEquals(8, value.get(ACTIVE));
+        assertEquals(3L, value.get(REJECTED));
+        assertEquals(8, value.get(LARGEST));
+        assertEquals(100L, value.get(COMPLETED));
+    }
+
+    public void testGet_NoThreadPool() {
+        when(threadPool.stats()).thenReturn(new ThreadPoolStats(new ArrayList<>()));
+        assertTrue(supplier.get().isEmpty());
+    }
+}
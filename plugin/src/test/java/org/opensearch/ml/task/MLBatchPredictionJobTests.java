@@ -0,0 +1,257 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.opensearch.ml.common.MLTask.BATCH_PREDICTION_CHECKPOINT_FIELD;
+import static org.opensearch.ml.common.MLTask.ERROR_FIELD;
+import static org.opensearch.ml.common.MLTask.STATE_FIELD;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.GENERAL_THREAD_POOL;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.lucene.search.TotalHits;
+import org.junit.Before;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.opensearch.action.bulk.BulkRequest;
+import org.opensearch.action.bulk.BulkResponse;
+import org.opensearch.action.search.SearchRequest;
+import org.opensearch.action.search.SearchResponse;
+import org.opensearch.action.update.UpdateRequest;
+import org.opensearch.client.Client;
+import org.opensearch.common.util.concurrent.OpenSearchExecutors;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesArray;
+import org.opensearch.ml.common.FunctionName;
+import org.opensearch.ml.common.MLTask;
+import org.opensearch.ml.common.MLTaskState;
+import org.opensearch.ml.common.MLTaskType;
+import org.opensearch.ml.common.output.model.MLResultDataType;
+import org.opensearch.ml.common.output.model.ModelTensor;
+import org.opensearch.ml.common.output.model.ModelTensorOutput;
+import org.opensearch.ml.common.output.model.ModelTensors;
+import org.opensearch.ml.common.transport.MLTaskResponse;
+import org.opensearch.ml.common.transport.batch.MLBatchPredictionInput;
+import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
+import org.opensearch.search.DocValueFormat;
+import org.opensearch.search.SearchHit;
+import org.opensearch.search.SearchHits;
+import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.ThreadPool;
+
+public class MLBatchPredictionJobTests extends OpenSearchTestCase {
+    private static final String TASK_ID = "test_task_id";
+
+    @Mock
+    Client client;
+    @Mock
+    ThreadPool threadPool;
+    @Mock
+    MLTaskManager mlTaskManager;
+
+    MLTask mlTask;
+    MLBatchPredictionInput input;
+    List<Map<String, Object>> taskUpdates;
+    List<BulkRequest> bulkRequests;
+
+    @Before
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        mlTask = MLTask
+            .builder()
+            .taskId(TASK_ID)
+            .taskType(MLTaskType.BATCH_PREDICTION)
+            .functionName(FunctionName.TEXT_EMBEDDING)
+            .state(MLTaskState.CREATED)
+            .async(true)
+            .build();
+        input = MLBatchPredictionInput
+            .builder()
+            .modelId("test_model_id")
+            .sourceIndex("source_index")
+            .inputField("text")
+            .outputField("embedding")
+            .batchSize(2)
+            .build();
+        when(threadPool.executor(GENERAL_THREAD_POOL)).thenReturn(OpenSearchExecutors.newDirectExecutorService());
+
+        taskUpdates = new ArrayList<>();
+        doAnswer(invocation -> {
+            taskUpdates.add(invocation.getArgument(1));
+            ActionListener<Object> listener = invocation.getArgument(2);
+            listener.onResponse(null);
+            return null;
+        }).when(mlTaskManager).updateMLTaskDirectly(eq(TASK_ID), any(), any());
+
+        doAnswer(invocation -> {
+            ActionListener<MLTaskResponse> listener = invocation.getArgument(2);
+            listener.onResponse(predictResponse(2, false));
+            return null;
+        }).when(client).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+
+        bulkRequests = new ArrayList<>();
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(bulkResponse.hasFailures()).thenReturn(false);
+        doAnswer(invocation -> {
+            bulkRequests.add(invocation.getArgument(0));
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+    }
+
+    public void testGetResults_OutputPerDocument() {
+        List<Number[]> results = MLBatchPredictionJob.getResults(predictResponse(2, false), 2);
+        assertEquals(2, results.size());
+        assertArrayEquals(new Number[] { 0f, 0.5f }, results.get(0));
+        assertArrayEquals(new Number[] { 1f, 0.5f }, results.get(1));
+    }
+
+    public void testGetResults_TensorsOfSingleOutput() {
+        List<Number[]> results = MLBatchPredictionJob.getResults(predictResponse(2, true), 2);
+        assertEquals(2, results.size());
+        assertArrayEquals(new Number[] { 1f, 0.5f }, results.get(1));
+    }
+
+    public void testGetResults_SizeMismatch() {
+        IllegalArgumentException e = expectThrows(
+            IllegalArgumentException.class,
+            () -> MLBatchPredictionJob.getResults(predictResponse(2, false), 3)
+        );
+        assertEquals("Model returned 2 outputs for 3 documents", e.getMessage());
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testStart() {
+        // init search finds max _seq_no 1, then one batch of 2 documents, then no more documents
+        mockSearchResponses(searchResponse(new long[] { 1 }, 2), searchResponse(new long[] { 0, 1 }, 2), searchResponse(new long[0], 0));
+        MLBatchPredictionJob job = new MLBatchPredictionJob(mlTask, input, null, 1, client, threadPool, mlTaskManager);
+        job.start(1);
+
+        verify(mlTaskManager).add(mlTask);
+        verify(mlTaskManager).remove(TASK_ID);
+        assertEquals(1, bulkRequests.size());
+        assertEquals(2, bulkRequests.get(0).requests().size());
+        UpdateRequest updateRequest = (UpdateRequest) bulkRequests.get(0).requests().get(0);
+        assertEquals("source_index", updateRequest.index());
+        assertEquals("0", updateRequest.id());
+        assertTrue(updateRequest.docAsUpsert());
+
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1);
+        assertEquals(MLTaskState.COMPLETED, lastUpdate.get(STATE_FIELD));
+        Map<String, Object> checkpoint = (Map<String, Object>) lastUpdate.get(BATCH_PREDICTION_CHECKPOINT_FIELD);
+        assertEquals(2L, checkpoint.get(MLBatchPredictionJob.PROCESSED_DOCS_FIELD));
+        Map<String, Object> slice = ((List<Map<String, Object>>) checkpoint.get(MLBatchPredictionJob.SLICES_FIELD)).get(0);
+        assertEquals(1L, slice.get(MLBatchPredictionJob.SEQ_NO_FIELD));
+        assertEquals(true, slice.get(MLBatchPredictionJob.DONE_FIELD));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testStart_ResumeFromCheckpoint() {
+        // first slice is done, second slice resumes after _seq_no 4 and finds no more documents
+        mockSearchResponses(searchResponse(new long[0], 0));
+        Map<String, Object> checkpoint = Map
+            .of(
+                MLBatchPredictionJob.SLICES_FIELD,
+                List.of(slice(0, 3, 3, true), slice(1, 4, 5, false)),
+                MLBatchPredictionJob.TOTAL_DOCS_FIELD,
+                4,
+                MLBatchPredictionJob.PROCESSED_DOCS_FIELD,
+                3
+            );
+        MLBatchPredictionJob job = new MLBatchPredictionJob(mlTask, input, checkpoint, 2, client, threadPool, mlTaskManager);
+        job.start(2);
+
+        verify(client, never()).execute(eq(MLPredictionTaskAction.INSTANCE), any(), any());
+        assertEquals(0, bulkRequests.size());
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1);
+        assertEquals(MLTaskState.COMPLETED, lastUpdate.get(STATE_FIELD));
+        Map<String, Object> lastCheckpoint = (Map<String, Object>) lastUpdate.get(BATCH_PREDICTION_CHECKPOINT_FIELD);
+        assertEquals(3L, lastCheckpoint.get(MLBatchPredictionJob.PROCESSED_DOCS_FIELD));
+    }
+
+    @SuppressWarnings("unchecked")
+    public void testStart_BulkFailure() {
+        mockSearchResponses(searchResponse(new long[] { 1 }, 2), searchResponse(new long[] { 0, 1 }, 2));
+        BulkResponse bulkResponse = mock(BulkResponse.class);
+        when(bulkResponse.hasFailures()).thenReturn(true);
+        when(bulkResponse.buildFailureMessage()).thenReturn("failure");
+        doAnswer(invocation -> {
+            ActionListener<BulkResponse> listener = invocation.getArgument(1);
+            listener.onResponse(bulkResponse);
+            return null;
+        }).when(client).bulk(any(), any());
+
+        MLBatchPredictionJob job = new MLBatchPredictionJob(mlTask, input, null, 1, client, threadPool, mlTaskManager);
+        job.start(1);
+
+        verify(mlTaskManager).remove(TASK_ID);
+        Map<String, Object> lastUpdate = taskUpdates.get(taskUpdates.size() - 1);
+        assertEquals(MLTaskState.FAILED, lastUpdate.get(STATE_FIELD));
+        assertEquals("Failed to write results: failure", lastUpdate.get(ERROR_FIELD));
+        // documents of the failed batch are predicted again when the task is resumed
+        Map<String, Object> checkpoint = (Map<String, Object>) lastUpdate.get(BATCH_PREDICTION_CHECKPOINT_FIELD);
+        Map<String, Object> slice = ((List<Map<String, Object>>) checkpoint.get(MLBatchPredictionJob.SLICES_FIELD)).get(0);
+        assertEquals(-1L, slice.get(MLBatchPredictionJob.SEQ_NO_FIELD));
+    }
+
+    private void mockSearchResponses(SearchResponse... responses) {
+        int[] count = new int[] { 0 };
+        doAnswer(invocation -> {
+            ActionListener<SearchResponse> listener = invocation.getArgument(1);
+            listener.onResponse(responses[count[0]++]);
+            return null;
+        }).when(client).search(any(SearchRequest.class), any());
+    }
+
+    private SearchResponse searchResponse(long[] seqNos, long totalHits) {
+        SearchHit[] hits = new SearchHit[seqNos.length];
+        for (int i = 0; i < seqNos.length; i++) {
+            SearchHit hit = new SearchHit(i, String.valueOf(seqNos[i]), null, null);
+            hit.sourceRef(new BytesArray("{\"text\":\"doc " + seqNos[i] + "\"}"));
+            hit.sortValues(new Object[] { seqNos[i] }, new DocValueFormat[] { DocValueFormat.RAW });
+            hits[i] = hit;
+        }
+        SearchResponse searchResponse = mock(SearchResponse.class);
+        when(searchResponse.getHits()).thenReturn(new SearchHits(hits, new TotalHits(totalHits, TotalHits.Relation.EQUAL_TO), Float.NaN));
+        return searchResponse;
+    }
+
+    private MLTaskResponse predictResponse(int size, boolean singleOutput) {
+        List<ModelTensor> tensors = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            tensors.add(ModelTensor.builder().data(new Number[] { (float) i, 0.5f }).dataType(MLResultDataType.FLOAT32).build());
+        }
+        List<ModelTensors> outputs = new ArrayList<>();
+        if (singleOutput) {
+            outputs.add(new ModelTensors(tensors));
+        } else {
+            for (ModelTensor tensor : tensors) {
+                outputs.add(new ModelTensors(List.of(tensor)));
+            }
+        }
+        return new MLTaskResponse(new ModelTensorOutput(outputs));
+    }
+
+    private Map<String, Object> slice(int shard, long seqNo, long maxSeqNo, boolean done) {
+        Map<String, Object> slice = new HashMap<>();
+        slice.put(MLBatchPredictionJob.SHARD_FIELD, shard);
+        slice.put(MLBatchPredictionJob.SEQ_NO_FIELD, seqNo);
+        slice.put(MLBatchPredictionJob.MAX_SEQ_NO_FIELD, maxSeqNo);
+        slice.put(MLBatchPredictionJob.DONE_FIELD, done);
+        return slice;
+    }
+}
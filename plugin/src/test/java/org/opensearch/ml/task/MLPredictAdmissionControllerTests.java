@@ -0,0 +1,131 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.opensearch.ml.task;
+
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL;
+import static org.opensearch.ml.settings.MLCommonsSettings.ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY;
+import static org.opensearch.ml.utils.TestHelper.clusterSetting;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Before;
+import org.opensearch.OpenSearchStatusException;
+import org.opensearch.cluster.service.ClusterService;
+import org.opensearch.common.settings.ClusterSettings;
+import org.opensearch.common.settings.Settings;
+import org.opensearch.core.rest.RestStatus;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class MLPredictAdmissionControllerTests extends OpenSearchTestCase {
+    private static final String MODEL_ID = "test_model_id";
+
+    private AtomicLong nanoTime;
+    private ClusterService clusterService;
+    private MLPredictAdmissionController admissionController;
+
+    @Before
+    public void setup() {
+        Settings settings = Settings
+            .builder()
+            .put(ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED.getKey(), true)
+            .put(ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY.getKey(), "100ms")
+            .put(ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL.getKey(), "1s")
+            .build();
+        ClusterSettings clusterSettings = clusterSetting(
+            settings,
+            ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED,
+            ML_COMMONS_PREDICT_ADMISSION_CONTROL_TARGET_DELAY,
+            ML_COMMONS_PREDICT_ADMISSION_CONTROL_INTERVAL
+        );
+        clusterService = new ClusterService(settings, clusterSettings, null);
+        nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(10));
+        admissionController = new MLPredictAdmissionController(clusterService, settings, nanoTime::get);
+    }
+
+    public void testDequeue_WaitTime() {
+        long queuedTime = admissionController.admit(MODEL_ID);
+        advance(50);
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(50), admissionController.dequeue(MODEL_ID, queuedTime));
+    }
+
+    public void testAdmit_ShortBurstAboveTargetDelay() {
+        long queuedTime1 = admissionController.admit(MODEL_ID);
+        long queuedTime2 = admissionController.admit(MODEL_ID);
+        admissionController.admit(MODEL_ID);
+        advance(500);
+        admissionController.dequeue(MODEL_ID, queuedTime1);
+        advance(100);
+        admissionController.dequeue(MODEL_ID, queuedTime2);
+
+        // wait time is above target delay for less than the interval
+        assertFalse(admissionController.isDropping(MODEL_ID));
+        admissionController.admit(MODEL_ID);
+    }
+
+    public void testAdmit_RejectWhenWaitTimeStaysAboveTargetDelay() {
+        congest();
+
+        OpenSearchStatusException e = expectThrows(OpenSearchStatusException.class, () -> admissionController.admit(MODEL_ID));
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, e.status());
+        // other models are not affected
+        admissionController.admit("other_model_id");
+
+        // congestion is over once a request waits less than target delay
+        admissionController.dequeue(MODEL_ID, nanoTime.get() - TimeUnit.MILLISECONDS.toNanos(10));
+        assertFalse(admissionController.isDropping(MODEL_ID));
+        admissionController.admit(MODEL_ID);
+    }
+
+    public void testAdmit_AcceptWhenQueueDrained() {
+        congest();
+        long queuedTime = nanoTime.get() - TimeUnit.SECONDS.toNanos(1);
+        admissionController.dequeue(MODEL_ID, queuedTime);
+        assertTrue(admissionController.isDropping(MODEL_ID));
+
+        // no requests of the model are queued, so none of them can wait
+        admissionController.admit(MODEL_ID);
+        assertFalse(admissionController.isDropping(MODEL_ID));
+    }
+
+    public void testAdmit_Disabled() {
+        congest();
+        clusterService
+            .getClusterSettings()
+            .applySettings(Settings.builder().put(ML_COMMONS_PREDICT_ADMISSION_CONTROL_ENABLED.getKey(), false).build());
+
+        assertFalse(admissionController.isDropping(MODEL_ID));
+        for (int i = 0; i < 10; i++) {
+            admissionController.admit(MODEL_ID);
+        }
+    }
+
+    public void testRemoveModel() {
+        congest();
+        admissionController.removeModel(MODEL_ID);
+
+        assertFalse(admissionController.isDropping(MODEL_ID));
+        long queuedTime = admissionController.admit(MODEL_ID);
+        admissionController.dequeue(MODEL_ID, queuedTime);
+    }
+
+    // Queue 3 requests and dequeue 2 of them, the wait time stays above target delay for the interval.
+    private void congest() {
+        long queuedTime = admissionController.admit(MODEL_ID);
+        admissionController.admit(MODEL_ID);
+        admissionController.admit(MODEL_ID);
+        advance(500);
+        admissionController.dequeue(MODEL_ID, queuedTime);
+        advance(1000);
+        admissionController.dequeue(MODEL_ID, queuedTime);
+        assertTrue(admissionController.isDropping(MODEL_ID));
+    }
+
+    private void advance(long millis) {
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+}
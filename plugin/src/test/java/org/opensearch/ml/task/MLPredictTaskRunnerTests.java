@@ -6,15 +6,24 @@
 package org.opensearch.ml.task;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.mockito.Mockito.spy;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.PREDICT_THREAD_POOL;
+import static org.opensearch.ml.plugin.MachineLearningPlugin.REMOTE_PREDICT_THREAD_POOL;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -22,23 +31,28 @@ import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.opensearch.OpenSearchStatusException;
 import org.opensearch.Version;
 import org.opensearch.action.get.GetResponse;
 import org.opensearch.client.Client;
 import org.opensearch.cluster.node.DiscoveryNode;
 import org.opensearch.cluster.service.ClusterService;
 import org.opensearch.common.settings.Settings;
+import org.opensearch.common.unit.TimeValue;
 import org.opensearch.common.util.concurrent.ThreadContext;
 import org.opensearch.common.xcontent.XContentFactory;
 import org.opensearch.commons.ConfigConstants;
 import org.opensearch.commons.authuser.User;
 import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.rest.RestStatus;
 import org.opensearch.core.xcontent.ToXContent;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.index.get.GetResult;
 import org.opensearch.index.query.MatchAllQueryBuilder;
+import org.opensearch.ml.breaker.BreakerName;
 import org.opensearch.ml.breaker.MLCircuitBreakerService;
+import org.opensearch.ml.breaker.ThresholdCircuitBreaker;
 import org.opensearch.ml.cluster.DiscoveryNodeHelper;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.MLModel;
@@ -47,12 +61,16 @@ import org.opensearch.ml.common.dataframe.DataFrame;
 import org.opensearch.ml.common.dataset.DataFrameInputDataset;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.SearchQueryInputDataset;
+import org.opensearch.ml.common.exception.MLLimitExceededException;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.input.parameter.rcf.BatchRCFParams;
+import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.MLPredictionOutput;
 import org.opensearch.ml.common.transport.MLTaskResponse;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskAction;
 import org.opensearch.ml.common.transport.prediction.MLPredictionTaskRequest;
 import org.opensearch.ml.engine.MLEngine;
+import org.opensearch.ml.engine.Predictable;
 import org.opensearch.ml.engine.encryptor.Encryptor;
 import org.opensearch.ml.engine.encryptor.EncryptorImpl;
 import org.opensearch.ml.indices.MLInputDatasetHandler;
@@ -99,6 +117,9 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
     @Mock
     MLCircuitBreakerService mlCircuitBreakerService;
 
+    @Mock
+    MLPredictAdmissionController admissionController;
+
     @Mock
     TransportService transportService;
 
@@ -145,6 +166,8 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         stats.put(MLNodeLevelStat.ML_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_FAILURE_COUNT, new MLStat<>(false, new CounterSupplier()));
         stats.put(MLNodeLevelStat.ML_DEPLOYED_MODEL_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_CIRCUIT_BREAKER_TRIGGER_COUNT, new MLStat<>(false, new CounterSupplier()));
+        stats.put(MLNodeLevelStat.ML_REJECTED_PREDICT_REQUEST_COUNT, new MLStat<>(false, new CounterSupplier()));
         this.mlStats = new MLStats(stats);
         mlInputDatasetHandler = spy(new MLInputDatasetHandler(client));
         taskRunner = spy(
@@ -160,7 +183,8 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
                 xContentRegistry(),
                 mlModelManager,
                 nodeHelper,
-                mlEngine
+                mlEngine,
+                admissionController
             )
         );
 
@@ -220,6 +244,78 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         verify(mlTaskManager).remove(anyString());
     }
 
+    public void testPredictThreadPool() {
+        assertEquals(REMOTE_PREDICT_THREAD_POOL, MLPredictTaskRunner.predictThreadPool(FunctionName.REMOTE));
+        assertEquals(PREDICT_THREAD_POOL, MLPredictTaskRunner.predictThreadPool(FunctionName.TEXT_EMBEDDING));
+        assertEquals(PREDICT_THREAD_POOL, MLPredictTaskRunner.predictThreadPool(FunctionName.BATCH_RCF));
+    }
+
+    public void testDispatchTask_LocalWorkerNodeWithCapacity() {
+        setupMocks(false, false, false, false);
+        when(mlModelManager.getWorkerNodes("111", FunctionName.BATCH_RCF, true)).thenReturn(new String[] { "remoteNodeId", "localNodeId" });
+        doReturn(true).when(taskRunner).hasLocalPredictCapacity(FunctionName.BATCH_RCF);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any());
+        verify(transportService, never()).sendRequest(any(), any(), any(), any());
+        verify(mlTaskManager).add(any(MLTask.class));
+        verify(client).get(any(), any());
+    }
+
+    public void testDispatchTask_LocalWorkerNodeWithCapacity_CircuitBreakerOpen() {
+        setupMocks(false, false, false, false);
+        when(mlModelManager.getWorkerNodes("111", FunctionName.BATCH_RCF, true)).thenReturn(new String[] { "remoteNodeId", "localNodeId" });
+        doReturn(true).when(taskRunner).hasLocalPredictCapacity(FunctionName.BATCH_RCF);
+        ThresholdCircuitBreaker memoryCircuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(memoryCircuitBreaker.getName()).thenReturn("Memory Circuit Breaker");
+        when(memoryCircuitBreaker.isOpen()).thenReturn(true);
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(memoryCircuitBreaker);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.MEMORY)).thenReturn(memoryCircuitBreaker);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertTrue(argumentCaptor.getValue() instanceof MLLimitExceededException);
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        verify(mlTaskDispatcher, never()).dispatchPredictTask(any(), any());
+    }
+
+    public void testDispatchTask_LocalWorkerNodeWithoutCapacity() {
+        setupMocks(false, false, false, false);
+        when(mlModelManager.getWorkerNodes("111", FunctionName.BATCH_RCF, true)).thenReturn(new String[] { "remoteNodeId", "localNodeId" });
+        doReturn(false).when(taskRunner).hasLocalPredictCapacity(FunctionName.BATCH_RCF);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlTaskDispatcher).dispatchPredictTask(any(), any());
+        verify(transportService).sendRequest(eq(remoteNode), eq(MLPredictionTaskAction.NAME), eq(requestWithDataFrame), any());
+    }
+
+    public void testHasLocalPredictCapacity() throws InterruptedException {
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.SECONDS, new LinkedBlockingQueue<>());
+        try {
+            when(threadPool.executor(PREDICT_THREAD_POOL)).thenReturn(executor);
+            assertTrue(taskRunner.hasLocalPredictCapacity(FunctionName.BATCH_RCF));
+
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            started.await();
+            assertFalse(taskRunner.hasLocalPredictCapacity(FunctionName.BATCH_RCF));
+            release.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        // thread pools which don't expose their load are never used to short-circuit dispatching
+        assertFalse(taskRunner.hasLocalPredictCapacity(FunctionName.REMOTE));
+    }
+
     public void testExecuteTask_OnLocalNode_QueryInput() {
         setupMocks(true, false, false, false);
 
@@ -254,6 +350,171 @@ public class MLPredictTaskRunnerTests extends OpenSearchTestCase {
         assertEquals("User: test_user does not have permissions to run predict by model: 111", argumentCaptor.getValue().getMessage());
     }
 
+    public void testRun_CircuitBreakerOpen_ClearPredictableCache() {
+        MLModel model = MLModel.builder().modelId("111").algorithm(FunctionName.KMEANS).version("1").content("content").build();
+        mlEngine.getPredictableCache().put(model, mock(Predictable.class));
+        ThresholdCircuitBreaker memoryCircuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(memoryCircuitBreaker.getName()).thenReturn("Memory Circuit Breaker");
+        when(memoryCircuitBreaker.isOpen()).thenReturn(true);
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(memoryCircuitBreaker);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.MEMORY)).thenReturn(memoryCircuitBreaker);
+        requestWithDataFrame.setDispatchTask(false);
+
+        expectThrows(
+            MLLimitExceededException.class,
+            () -> taskRunner.run(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener)
+        );
+        assertEquals(0, mlEngine.getPredictableCache().size());
+    }
+
+    public void testRun_DiskCircuitBreakerOpen_KeepPredictableCache() {
+        MLModel model = MLModel.builder().modelId("111").algorithm(FunctionName.KMEANS).version("1").content("content").build();
+        mlEngine.getPredictableCache().put(model, mock(Predictable.class));
+        ThresholdCircuitBreaker memoryCircuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(memoryCircuitBreaker.isOpen()).thenReturn(false);
+        ThresholdCircuitBreaker diskCircuitBreaker = mock(ThresholdCircuitBreaker.class);
+        when(diskCircuitBreaker.getName()).thenReturn("Disk Circuit Breaker");
+        when(mlCircuitBreakerService.checkOpenCB()).thenReturn(diskCircuitBreaker);
+        when(mlCircuitBreakerService.getBreaker(BreakerName.MEMORY)).thenReturn(memoryCircuitBreaker);
+        requestWithDataFrame.setDispatchTask(false);
+
+        expectThrows(
+            MLLimitExceededException.class,
+            () -> taskRunner.run(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener)
+        );
+        assertEquals(1, mlEngine.getPredictableCache().size());
+    }
+
+    public void testExecuteTask_OnLocalNode_ReloadUnloadedModel() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        MLOutput output = MLPredictionOutput.builder().status("Success").build();
+        when(predictor.predict(any(MLInput.class))).thenReturn(output);
+        when(mlModelManager.trackPredictDuration(anyString(), any())).thenAnswer(invocation -> {
+            Supplier<MLOutput> supplier = invocation.getArgument(1);
+            return supplier.get();
+        });
+        when(mlModelManager.isModelUnloaded("111")).thenReturn(true);
+        // unloaded when the request comes in, acquired again once it's reloaded
+        when(mlModelManager.acquirePredictor("111")).thenReturn(null, predictor);
+        doAnswer(invocation -> {
+            ActionListener<Predictable> actionListener = invocation.getArgument(1);
+            actionListener.onResponse(predictor);
+            return null;
+        }).when(mlModelManager).reloadModel(eq("111"), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager).reloadModel(eq("111"), any());
+        verify(mlModelManager).releasePredictor("111");
+        verify(client, never()).get(any(), any());
+        verify(mlTaskManager).remove(anyString());
+        ArgumentCaptor<MLTaskResponse> argumentCaptor = ArgumentCaptor.forClass(MLTaskResponse.class);
+        verify(listener).onResponse(argumentCaptor.capture());
+        assertEquals(output, argumentCaptor.getValue().getOutput());
+    }
+
+    public void testExecuteTask_OnLocalNode_ReleasePredictorOnFailure() {
+        setupMocks(true, false, false, false);
+        Predictable predictor = mock(Predictable.class);
+        when(predictor.isModelReady()).thenReturn(true);
+        when(mlModelManager.acquirePredictor("111")).thenReturn(predictor);
+        when(mlModelManager.trackPredictDuration(anyString(), any())).thenThrow(new IllegalArgumentException(errorMessage));
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(mlModelManager).releasePredictor("111");
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
+    }
+
+    public void testExecuteTask_OnLocalNode_ReloadUnloadedModelFailure() {
+        setupMocks(true, false, false, false);
+        when(mlModelManager.isModelUnloaded("111")).thenReturn(true);
+        doAnswer(invocation -> {
+            ActionListener<Predictable> actionListener = invocation.getArgument(1);
+            actionListener.onFailure(new IllegalArgumentException(errorMessage));
+            return null;
+        }).when(mlModelManager).reloadModel(eq("111"), any());
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(client, never()).get(any(), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
+    }
+
+    public void testExecuteTask_OnLocalNode_RejectedByAdmissionControl() {
+        setupMocks(true, false, false, false);
+        when(admissionController.admit("111")).thenThrow(new OpenSearchStatusException(errorMessage, RestStatus.TOO_MANY_REQUESTS));
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(executorService, never()).execute(any());
+        verify(admissionController, never()).dequeue(anyString(), anyLong());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_REJECTED_PREDICT_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_OnLocalNode_QueryInput_RejectedByAdmissionControl() {
+        setupMocks(true, false, false, false);
+        when(admissionController.admit("111")).thenThrow(new OpenSearchStatusException(errorMessage, RestStatus.TOO_MANY_REQUESTS));
+
+        taskRunner.dispatchTask(FunctionName.REMOTE, requestWithQuery, transportService, listener);
+        verify(mlInputDatasetHandler).parseSearchQueryInput(any(), any());
+        verify(executorService, never()).execute(any());
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(RestStatus.TOO_MANY_REQUESTS, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+    }
+
+    public void testExecuteTask_OnLocalNode_DropExpiredRequest() {
+        setupMocks(true, false, false, false);
+        when(admissionController.admit("111")).thenReturn(100L);
+        doAnswer(invocation -> {
+            // deadline passes while the request waits in the queue
+            requestWithDataFrame.setTimeout(TimeValue.ZERO);
+            Runnable runnable = invocation.getArgument(0);
+            runnable.run();
+            return null;
+        }).when(executorService).execute(any(Runnable.class));
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(admissionController).dequeue("111", 100L);
+        verify(mlTaskManager, never()).add(any(MLTask.class));
+        verify(client, never()).get(any(), any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+        assertEquals(1L, mlStats.getStat(MLNodeLevelStat.ML_REJECTED_PREDICT_REQUEST_COUNT).getValue());
+    }
+
+    public void testExecuteTask_OnLocalNode_ExpiredBeforeQueued() {
+        setupMocks(true, false, false, false);
+        requestWithDataFrame.setTimeout(TimeValue.ZERO);
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(admissionController, never()).admit(anyString());
+        verify(executorService, never()).execute(any());
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(RestStatus.REQUEST_TIMEOUT, ((OpenSearchStatusException) argumentCaptor.getValue()).status());
+    }
+
+    public void testExecuteTask_OnLocalNode_ExecutorRejected() {
+        setupMocks(true, false, false, false);
+        when(admissionController.admit("111")).thenReturn(100L);
+        doThrow(new RejectedExecutionException(errorMessage)).when(executorService).execute(any(Runnable.class));
+
+        taskRunner.dispatchTask(FunctionName.BATCH_RCF, requestWithDataFrame, transportService, listener);
+        verify(admissionController).dequeue("111", 100L);
+        ArgumentCaptor<Exception> argumentCaptor = ArgumentCaptor.forClass(Exception.class);
+        verify(listener).onFailure(argumentCaptor.capture());
+        assertEquals(errorMessage, argumentCaptor.getValue().getMessage());
+    }
+
     public void testExecuteTask_OnRemoteNode() {
         setupMocks(false, false, false, false);
         taskRunner.dispatchTask(FunctionName.REMOTE, requestWithDataFrame, transportService, listener);
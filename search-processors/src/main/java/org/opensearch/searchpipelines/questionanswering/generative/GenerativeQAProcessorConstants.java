@@ -39,6 +39,10 @@ public class GenerativeQAProcessorConstants {
     public static final String CONFIG_NAME_SYSTEM_PROMPT = "system_prompt";
     public static final String CONFIG_NAME_USER_INSTRUCTIONS = "user_instructions";
 
+    // The estimated maximum number of tokens of a prompt. The lowest ranked search results and the oldest
+    // interactions are left out of prompts which would be longer.
+    public static final String CONFIG_NAME_MAX_PROMPT_TOKENS = "max_prompt_tokens";
+
     public static final Setting<Boolean> RAG_PIPELINE_FEATURE_ENABLED = Setting
         .boolSetting("plugins.ml_commons.rag_pipeline_feature_enabled", false, Setting.Property.NodeScope, Setting.Property.Dynamic);
 
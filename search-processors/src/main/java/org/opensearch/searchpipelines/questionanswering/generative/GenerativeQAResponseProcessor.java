@@ -17,24 +17,37 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative;
 
+import static org.opensearch.core.xcontent.XContentParserUtils.ensureExpectedToken;
 import static org.opensearch.ingest.ConfigurationUtils.newConfigurationException;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.BooleanSupplier;
 
+import org.opensearch.action.StepListener;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.client.Client;
+import org.opensearch.common.xcontent.LoggingDeprecationHandler;
+import org.opensearch.common.xcontent.XContentHelper;
+import org.opensearch.core.action.ActionListener;
+import org.opensearch.core.common.bytes.BytesReference;
+import org.opensearch.core.xcontent.MediaType;
+import org.opensearch.core.xcontent.MediaTypeRegistry;
+import org.opensearch.core.xcontent.NamedXContentRegistry;
+import org.opensearch.core.xcontent.XContentParser;
 import org.opensearch.ingest.ConfigurationUtils;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.exception.MLException;
 import org.opensearch.search.SearchHit;
 import org.opensearch.search.pipeline.AbstractProcessor;
+import org.opensearch.search.pipeline.PipelineProcessingContext;
 import org.opensearch.search.pipeline.Processor;
 import org.opensearch.search.pipeline.SearchResponseProcessor;
 import org.opensearch.searchpipelines.questionanswering.generative.client.ConversationalMemoryClient;
@@ -44,6 +57,7 @@ import org.opensearch.searchpipelines.questionanswering.generative.llm.ChatCompl
 import org.opensearch.searchpipelines.questionanswering.generative.llm.Llm;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.LlmIOUtil;
 import org.opensearch.searchpipelines.questionanswering.generative.llm.ModelLocator;
+import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptBudget;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
 
 import com.google.gson.JsonArray;
@@ -71,6 +85,9 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
     private final String systemPrompt;
     private final String userInstructions;
 
+    // No token budget if null
+    private final Integer maxPromptTokens;
+
     @Setter
     private ConversationalMemoryClient memoryClient;
 
@@ -91,6 +108,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         List<String> contextFields,
         String systemPrompt,
         String userInstructions,
+        Integer maxPromptTokens,
         BooleanSupplier supplier
     ) {
         super(tag, description, ignoreFailure);
@@ -98,6 +116,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         this.contextFields = contextFields;
         this.systemPrompt = systemPrompt;
         this.userInstructions = userInstructions;
+        this.maxPromptTokens = maxPromptTokens;
         this.llm = llm;
         this.memoryClient = new ConversationalMemoryClient(client);
         this.featureFlagSupplier = supplier;
@@ -114,35 +133,21 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
 
         GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
 
-        Integer timeout = params.getTimeout();
-        if (timeout == null || timeout == GenerativeQAParameters.SIZE_NULL_VALUE) {
-            timeout = DEFAULT_PROCESSOR_TIME_IN_SECONDS;
-        }
-        log.info("Timeout for this request: {} seconds.", timeout);
-
+        int timeout = getTimeout(params);
         String llmQuestion = params.getLlmQuestion();
-        String llmModel = params.getLlmModel() == null ? this.llmModel : params.getLlmModel();
-        if (llmModel == null) {
-            throw new IllegalArgumentException("llm_model cannot be null.");
-        }
+        String llmModel = getLlmModel(params);
         String conversationId = params.getConversationId();
         log.info("LLM question: {}, LLM model {}, conversation id: {}", llmQuestion, llmModel, conversationId);
         Instant start = Instant.now();
-        Integer interactionSize = params.getInteractionSize();
-        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
-            interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
-        }
-        log.info("Using interaction size of {}", interactionSize);
+        int interactionSize = getInteractionSize(params);
         List<Interaction> chatHistory = (conversationId == null)
             ? Collections.emptyList()
             : memoryClient.getInteractions(conversationId, interactionSize);
         log.info("Retrieved chat history. ({})", getDuration(start));
 
-        Integer topN = params.getContextSize();
-        if (topN == null) {
-            topN = GenerativeQAParameters.SIZE_NULL_VALUE;
-        }
-        List<String> searchResults = getSearchResults(response, topN);
+        PromptBudget prompt = fitPrompt(llmQuestion, chatHistory, getSearchResults(response, getContextSize(params)));
+        chatHistory = prompt.getChatHistory();
+        List<String> searchResults = prompt.getContexts();
 
         log.info("system_prompt: {}", systemPrompt);
         log.info("user_instructions: {}", userInstructions);
@@ -180,6 +185,143 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         return insertAnswer(response, answer, errorMessage, interactionId);
     }
 
+    /**
+     * Same as {@link #processResponse(SearchRequest, SearchResponse)}, but no search thread waits for the
+     * conversational memory or the LLM. The chat history is fetched while the contexts are read from the
+     * search hits, and the response is completed from the listeners of the LLM and the interaction write.
+     */
+    @Override
+    public void processResponseAsync(
+        SearchRequest request,
+        SearchResponse response,
+        PipelineProcessingContext requestContext,
+        ActionListener<SearchResponse> responseListener
+    ) {
+        log.info("Entering processResponseAsync.");
+
+        try {
+            if (!this.featureFlagSupplier.getAsBoolean()) {
+                throw new MLException(GenerativeQAProcessorConstants.FEATURE_NOT_ENABLED_ERROR_MSG);
+            }
+
+            GenerativeQAParameters params = GenerativeQAParamUtil.getGenerativeQAParameters(request);
+
+            int timeout = getTimeout(params);
+            String llmQuestion = params.getLlmQuestion();
+            String llmModel = getLlmModel(params);
+            String conversationId = params.getConversationId();
+            log.info("LLM question: {}, LLM model {}, conversation id: {}", llmQuestion, llmModel, conversationId);
+            int interactionSize = getInteractionSize(params);
+
+            Instant start = Instant.now();
+            StepListener<List<Interaction>> chatHistoryListener = new StepListener<>();
+            if (conversationId == null) {
+                chatHistoryListener.onResponse(Collections.emptyList());
+            } else {
+                memoryClient.getInteractions(conversationId, interactionSize, chatHistoryListener);
+            }
+
+            List<String> contexts = getSearchResults(response, getContextSize(params));
+
+            chatHistoryListener.whenComplete(chatHistory -> {
+                log.info("Retrieved chat history. ({})", getDuration(start));
+                PromptBudget prompt = fitPrompt(llmQuestion, chatHistory, contexts);
+                List<String> searchResults = prompt.getContexts();
+                Instant llmStart = Instant.now();
+                llm
+                    .doChatCompletion(
+                        LlmIOUtil
+                            .createChatCompletionInput(
+                                systemPrompt,
+                                userInstructions,
+                                llmModel,
+                                llmQuestion,
+                                prompt.getChatHistory(),
+                                searchResults,
+                                timeout
+                            ),
+                        ActionListener.wrap(output -> {
+                            log.info("doChatCompletion complete. ({})", getDuration(llmStart));
+                            onChatCompletion(response, output, conversationId, llmQuestion, searchResults, responseListener);
+                        }, responseListener::onFailure)
+                    );
+            }, responseListener::onFailure);
+        } catch (Exception e) {
+            responseListener.onFailure(e);
+        }
+    }
+
+    private void onChatCompletion(
+        SearchResponse response,
+        ChatCompletionOutput output,
+        String conversationId,
+        String llmQuestion,
+        List<String> searchResults,
+        ActionListener<SearchResponse> responseListener
+    ) {
+        if (output.isErrorOccurred()) {
+            responseListener.onResponse(insertAnswer(response, null, output.getErrors().get(0), null));
+            return;
+        }
+        String answer = (String) output.getAnswers().get(0);
+        if (conversationId == null) {
+            responseListener.onResponse(insertAnswer(response, answer, null, null));
+            return;
+        }
+        Instant start = Instant.now();
+        memoryClient
+            .createInteraction(
+                conversationId,
+                llmQuestion,
+                PromptUtil.getPromptTemplate(systemPrompt, userInstructions),
+                answer,
+                GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                jsonArrayToString(searchResults),
+                ActionListener.wrap(interactionId -> {
+                    log.info("Created a new interaction: {} ({})", interactionId, getDuration(start));
+                    responseListener.onResponse(insertAnswer(response, answer, null, interactionId));
+                }, responseListener::onFailure)
+            );
+    }
+
+    private PromptBudget fitPrompt(String llmQuestion, List<Interaction> chatHistory, List<String> searchResults) {
+        if (maxPromptTokens == null) {
+            return new PromptBudget(chatHistory, searchResults);
+        }
+        return PromptBudget.fit(maxPromptTokens, systemPrompt, userInstructions, llmQuestion, chatHistory, searchResults);
+    }
+
+    private int getTimeout(GenerativeQAParameters params) {
+        Integer timeout = params.getTimeout();
+        if (timeout == null || timeout == GenerativeQAParameters.SIZE_NULL_VALUE) {
+            timeout = DEFAULT_PROCESSOR_TIME_IN_SECONDS;
+        }
+        log.info("Timeout for this request: {} seconds.", timeout);
+        return timeout;
+    }
+
+    private String getLlmModel(GenerativeQAParameters params) {
+        String llmModel = params.getLlmModel() == null ? this.llmModel : params.getLlmModel();
+        if (llmModel == null) {
+            throw new IllegalArgumentException("llm_model cannot be null.");
+        }
+        return llmModel;
+    }
+
+    private int getInteractionSize(GenerativeQAParameters params) {
+        Integer interactionSize = params.getInteractionSize();
+        if (interactionSize == null || interactionSize == GenerativeQAParameters.SIZE_NULL_VALUE) {
+            interactionSize = DEFAULT_CHAT_HISTORY_WINDOW;
+        }
+        log.info("Using interaction size of {}", interactionSize);
+        return interactionSize;
+    }
+
+    private int getContextSize(GenerativeQAParameters params) {
+        Integer topN = params.getContextSize();
+        return topN == null ? GenerativeQAParameters.SIZE_NULL_VALUE : topN;
+    }
+
     long getDuration(Instant start) {
         return Duration.between(start, Instant.now()).toMillis();
     }
@@ -208,26 +350,63 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
         );
     }
 
-    private List<String> getSearchResults(SearchResponse response, Integer topN) {
+    private List<String> getSearchResults(SearchResponse response, int topN) throws IOException {
         List<String> searchResults = new ArrayList<>();
         SearchHit[] hits = response.getHits().getHits();
         int total = hits.length;
         int end = (topN != GenerativeQAParameters.SIZE_NULL_VALUE) ? Math.min(topN, total) : total;
         for (int i = 0; i < end; i++) {
-            Map<String, Object> docSourceMap = hits[i].getSourceAsMap();
+            Map<String, String> contexts = readContextFields(hits[i]);
             for (String contextField : contextFields) {
-                Object context = docSourceMap.get(contextField);
+                String context = contexts.get(contextField);
                 if (context == null) {
                     log.error("Context " + contextField + " not found in search hit " + hits[i]);
                     // TODO throw a more meaningful error here?
                     throw new RuntimeException();
                 }
-                searchResults.add(context.toString());
+                searchResults.add(context);
             }
         }
         return searchResults;
     }
 
+    // Reads only the context fields from the source of a hit. Other fields are skipped instead of being
+    // parsed into the source map, documents can be much larger than their context fields.
+    private Map<String, String> readContextFields(SearchHit hit) throws IOException {
+        Map<String, String> contexts = new HashMap<>();
+        BytesReference source = hit.getSourceRef();
+        if (source == null) {
+            return contexts;
+        }
+        MediaType mediaType = MediaTypeRegistry.xContentType(source);
+        try (
+            XContentParser parser = XContentHelper
+                .createParser(NamedXContentRegistry.EMPTY, LoggingDeprecationHandler.INSTANCE, source, mediaType)
+        ) {
+            ensureExpectedToken(XContentParser.Token.START_OBJECT, parser.nextToken(), parser);
+            while (parser.nextToken() == XContentParser.Token.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                XContentParser.Token token = parser.nextToken();
+                if (!contextFields.contains(fieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                Object context;
+                if (token == XContentParser.Token.START_OBJECT) {
+                    context = parser.map();
+                } else if (token == XContentParser.Token.START_ARRAY) {
+                    context = parser.list();
+                } else {
+                    context = parser.objectText();
+                }
+                if (context != null) {
+                    contexts.put(fieldName, context.toString());
+                }
+            }
+        }
+        return contexts;
+    }
+
     private static String jsonArrayToString(List<String> listOfStrings) {
         JsonArray array = new JsonArray(listOfStrings.size());
         listOfStrings.forEach(array::add);
@@ -297,14 +476,31 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                         config,
                         GenerativeQAProcessorConstants.CONFIG_NAME_USER_INSTRUCTIONS
                     );
+                Integer maxPromptTokens = ConfigurationUtils
+                    .readIntProperty(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        config,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_MAX_PROMPT_TOKENS,
+                        null
+                    );
+                if (maxPromptTokens != null && maxPromptTokens <= 0) {
+                    throw newConfigurationException(
+                        GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE,
+                        tag,
+                        GenerativeQAProcessorConstants.CONFIG_NAME_MAX_PROMPT_TOKENS,
+                        "must be a positive integer."
+                    );
+                }
                 log
                     .info(
-                        "model_id {}, llm_model {}, context_field_list {}, system_prompt {}, user_instructions {}",
+                        "model_id {}, llm_model {}, context_field_list {}, system_prompt {}, user_instructions {}, max_prompt_tokens {}",
                         modelId,
                         llmModel,
                         contextFields,
                         systemPrompt,
-                        userInstructions
+                        userInstructions,
+                        maxPromptTokens
                     );
                 return new GenerativeQAResponseProcessor(
                     client,
@@ -316,6 +512,7 @@ public class GenerativeQAResponseProcessor extends AbstractProcessor implements
                     contextFields,
                     systemPrompt,
                     userInstructions,
+                    maxPromptTokens,
                     featureFlagSupplier
                 );
             } else {
@@ -23,6 +23,7 @@ import java.util.List;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.opensearch.client.Client;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.util.CollectionUtils;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationAction;
@@ -82,6 +83,29 @@ public class ConversationalMemoryClient {
         return res.getId();
     }
 
+    public void createInteraction(
+        String conversationId,
+        String input,
+        String promptTemplate,
+        String response,
+        String origin,
+        String additionalInfo,
+        ActionListener<String> listener
+    ) {
+        Preconditions.checkNotNull(conversationId);
+        Preconditions.checkNotNull(input);
+        Preconditions.checkNotNull(response);
+        client
+            .execute(
+                CreateInteractionAction.INSTANCE,
+                new CreateInteractionRequest(conversationId, input, promptTemplate, response, origin, additionalInfo),
+                ActionListener.wrap(res -> {
+                    log.info("createInteraction: interactionId: {}", res.getId());
+                    listener.onResponse(res.getId());
+                }, listener::onFailure)
+            );
+    }
+
     public List<Interaction> getInteractions(String conversationId, int lastN) {
 
         Preconditions.checkArgument(lastN > 0, "lastN must be at least 1.");
@@ -114,4 +138,49 @@ public class ConversationalMemoryClient {
 
         return interactions;
     }
+
+    /**
+     * Get the last N interactions of a conversation without blocking the calling thread.
+     *
+     * @param conversationId conversation id
+     * @param lastN maximum number of interactions
+     * @param listener receives the interactions, most recent first
+     */
+    public void getInteractions(String conversationId, int lastN, ActionListener<List<Interaction>> listener) {
+
+        Preconditions.checkArgument(lastN > 0, "lastN must be at least 1.");
+
+        log.info("In getInteractions, conversationId {}, lastN {}", conversationId, lastN);
+
+        getInteractions(conversationId, lastN, new ArrayList<>(), listener);
+    }
+
+    private void getInteractions(
+        String conversationId,
+        int lastN,
+        List<Interaction> interactions,
+        ActionListener<List<Interaction>> listener
+    ) {
+        int from = interactions.size();
+        client
+            .execute(
+                GetInteractionsAction.INSTANCE,
+                new GetInteractionsRequest(conversationId, lastN - from, from),
+                ActionListener.wrap(response -> {
+                    List<Interaction> list = response.getInteractions();
+                    if (list == null || CollectionUtils.isEmpty(list)) {
+                        // Same as the synchronous version, don't follow hasMorePages if a page is empty.
+                        listener.onResponse(interactions);
+                        return;
+                    }
+                    interactions.addAll(list);
+                    log.info("Interactions: {}, from: {}, maxResults: {}", interactions, interactions.size(), lastN - interactions.size());
+                    if (interactions.size() < lastN && response.hasMorePages()) {
+                        getInteractions(conversationId, lastN, interactions, listener);
+                    } else {
+                        listener.onResponse(interactions);
+                    }
+                }, listener::onFailure)
+            );
+    }
 }
@@ -19,20 +19,26 @@ package org.opensearch.searchpipelines.questionanswering.generative.llm;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.opensearch.action.support.ListenerTimeouts;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.common.unit.TimeValue;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.FunctionName;
 import org.opensearch.ml.common.dataset.MLInputDataset;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
 import org.opensearch.ml.common.input.MLInput;
 import org.opensearch.ml.common.output.MLOutput;
+import org.opensearch.ml.common.output.model.ModelTensor;
 import org.opensearch.ml.common.output.model.ModelTensorOutput;
 import org.opensearch.searchpipelines.questionanswering.generative.client.MachineLearningInternalClient;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
+import org.opensearch.threadpool.ThreadPool;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -51,14 +57,18 @@ public class DefaultLlmImpl implements Llm {
     private static final String CONNECTOR_OUTPUT_MESSAGE_ROLE = "role";
     private static final String CONNECTOR_OUTPUT_MESSAGE_CONTENT = "content";
     private static final String CONNECTOR_OUTPUT_ERROR = "error";
+    private static final String CONNECTOR_OUTPUT_DELTA = "delta";
 
     private final String openSearchModelId;
 
+    private final Client client;
+
     private MachineLearningInternalClient mlClient;
 
     public DefaultLlmImpl(String openSearchModelId, Client client) {
         checkNotNull(openSearchModelId);
         this.openSearchModelId = openSearchModelId;
+        this.client = client;
         this.mlClient = new MachineLearningInternalClient(client);
     }
 
@@ -76,13 +86,55 @@ public class DefaultLlmImpl implements Llm {
     @Override
     public ChatCompletionOutput doChatCompletion(ChatCompletionInput chatCompletionInput) {
 
+        ActionFuture<MLOutput> future = mlClient.predict(this.openSearchModelId, getMLInput(chatCompletionInput));
+        MLOutput modelOutput = future.actionGet(chatCompletionInput.getTimeoutInSeconds() * 1000);
+        return toChatCompletionOutput(chatCompletionInput, modelOutput);
+    }
+
+    /**
+     * Use ChatCompletion API to generate an answer without blocking the calling thread.
+     * The listener fails with a timeout exception if the model doesn't answer within the timeout of the input.
+     *
+     * @param chatCompletionInput
+     * @param listener
+     */
+    @Override
+    public void doChatCompletion(ChatCompletionInput chatCompletionInput, ActionListener<ChatCompletionOutput> listener) {
+
+        MLInput mlInput = getMLInput(chatCompletionInput);
+        ActionListener<MLOutput> timeoutListener = ListenerTimeouts
+            .wrapWithTimeout(
+                client.threadPool(),
+                ActionListener
+                    .wrap(
+                        modelOutput -> listener.onResponse(toChatCompletionOutput(chatCompletionInput, modelOutput)),
+                        listener::onFailure
+                    ),
+                TimeValue.timeValueSeconds(chatCompletionInput.getTimeoutInSeconds()),
+                ThreadPool.Names.GENERIC,
+                "chat completion"
+            );
+        mlClient.predict(this.openSearchModelId, mlInput, timeoutListener);
+    }
+
+    private MLInput getMLInput(ChatCompletionInput chatCompletionInput) {
         MLInputDataset dataset = RemoteInferenceInputDataSet.builder().parameters(getInputParameters(chatCompletionInput)).build();
-        MLInput mlInput = MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataset).build();
-        ActionFuture<MLOutput> future = mlClient.predict(this.openSearchModelId, mlInput);
-        ModelTensorOutput modelOutput = (ModelTensorOutput) future.actionGet(chatCompletionInput.getTimeoutInSeconds() * 1000);
+        return MLInput.builder().algorithm(FunctionName.REMOTE).inputDataset(dataset).build();
+    }
 
+    private ChatCompletionOutput toChatCompletionOutput(ChatCompletionInput chatCompletionInput, MLOutput mlOutput) {
         // Response from a remote model
-        Map<String, ?> dataAsMap = modelOutput.getMlModelOutputs().get(0).getMlModelTensors().get(0).getDataAsMap();
+        ModelTensorOutput modelOutput = (ModelTensorOutput) mlOutput;
+        List<ModelTensor> modelTensors = modelOutput.getMlModelOutputs().get(0).getMlModelTensors();
+        if (isStreamed(modelTensors)) {
+            // A streaming response, with one tensor per event.
+            List<Map<String, ?>> events = new ArrayList<>();
+            for (ModelTensor modelTensor : modelTensors) {
+                events.add(modelTensor.getDataAsMap());
+            }
+            return buildStreamedChatCompletionOutput(chatCompletionInput.getModelProvider(), events);
+        }
+        Map<String, ?> dataAsMap = modelTensors.get(0).getDataAsMap();
         log.info("dataAsMap: {}", dataAsMap.toString());
 
         // TODO dataAsMap can be null or can contain information such as throttling. Handle non-happy cases.
@@ -90,6 +142,13 @@ public class DefaultLlmImpl implements Llm {
         return buildChatCompletionOutput(chatCompletionInput.getModelProvider(), dataAsMap);
     }
 
+    /**
+     * The connector executors name the tensors of the events of a streaming response, which may have a single event.
+     */
+    private boolean isStreamed(List<ModelTensor> modelTensors) {
+        return modelTensors.stream().anyMatch(modelTensor -> ModelTensor.STREAM_EVENT_NAME.equals(modelTensor.getName()));
+    }
+
     protected Map<String, String> getInputParameters(ChatCompletionInput chatCompletionInput) {
         Map<String, String> inputParameters = new HashMap<>();
 
@@ -166,4 +225,36 @@ public class DefaultLlmImpl implements Llm {
 
         return new ChatCompletionOutput(answers, errors);
     }
+
+    /**
+     * Build the output from the events of a streaming response: the answer is the concatenation of the content
+     * of every event, the "delta" of OpenAI chat completion chunks or the "completion" of Bedrock chunks.
+     */
+    protected ChatCompletionOutput buildStreamedChatCompletionOutput(ModelProvider provider, List<Map<String, ?>> events) {
+        StringBuilder answer = new StringBuilder();
+        for (Map<String, ?> dataAsMap : events) {
+            if (dataAsMap == null) {
+                continue;
+            }
+            if (dataAsMap.containsKey(CONNECTOR_OUTPUT_ERROR)) {
+                return buildChatCompletionOutput(provider, dataAsMap);
+            }
+            Object content = null;
+            if (provider == ModelProvider.OPENAI) {
+                List choices = (List) dataAsMap.get(CONNECTOR_OUTPUT_CHOICES);
+                if (choices != null && !choices.isEmpty()) {
+                    Map delta = (Map) ((Map) choices.get(0)).get(CONNECTOR_OUTPUT_DELTA);
+                    content = delta == null ? null : delta.get(CONNECTOR_OUTPUT_MESSAGE_CONTENT);
+                }
+            } else if (provider == ModelProvider.BEDROCK) {
+                content = dataAsMap.get("completion");
+            } else {
+                throw new IllegalArgumentException("Unknown/unsupported model provider: " + provider);
+            }
+            if (content != null) {
+                answer.append(content);
+            }
+        }
+        return new ChatCompletionOutput(List.of(answer.toString()), null);
+    }
 }
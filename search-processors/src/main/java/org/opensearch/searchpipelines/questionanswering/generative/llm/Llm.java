@@ -17,6 +17,8 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative.llm;
 
+import org.opensearch.core.action.ActionListener;
+
 /**
  * Capabilities of large language models, e.g. completion, embeddings, etc.
  */
@@ -29,4 +31,19 @@ public interface Llm {
     }
 
     ChatCompletionOutput doChatCompletion(ChatCompletionInput input);
+
+    /**
+     * Asynchronous version of {@link #doChatCompletion(ChatCompletionInput)}. Implementations calling a remote
+     * service should override it so that no thread is blocked while waiting for the answer.
+     */
+    default void doChatCompletion(ChatCompletionInput input, ActionListener<ChatCompletionOutput> listener) {
+        ChatCompletionOutput output;
+        try {
+            output = doChatCompletion(input);
+        } catch (Exception e) {
+            listener.onFailure(e);
+            return;
+        }
+        listener.onResponse(output);
+    }
 }
@@ -0,0 +1,128 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.prompt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.opensearch.core.common.Strings;
+import org.opensearch.ml.common.conversation.Interaction;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.log4j.Log4j2;
+
+/**
+ * Chat history and search results which fit into the token budget of a prompt.
+ *
+ * Search results are ranked by the search, the chat history by recency (most recent first). Both are taken
+ * alternately in rank order until the next one doesn't fit, so the lowest ranked ones are dropped first.
+ */
+@Log4j2
+@Getter
+@AllArgsConstructor
+public class PromptBudget {
+
+    // Role, separators and the enumeration prefix of a message.
+    static final int MESSAGE_OVERHEAD_TOKENS = 8;
+
+    // Byte pair encodings of common LLMs average about 4 characters of English text per token.
+    private static final int CHARS_PER_TOKEN = 4;
+
+    private final List<Interaction> chatHistory;
+    private final List<String> contexts;
+
+    /**
+     * Trim chat history and search results to the token budget.
+     *
+     * @param maxTokens token budget of the whole prompt
+     * @param systemPrompt system prompt
+     * @param userInstructions user instructions
+     * @param question question
+     * @param chatHistory chat history, most recent first
+     * @param contexts search results, best first
+     * @return the chat history and search results to put in the prompt
+     */
+    public static PromptBudget fit(
+        int maxTokens,
+        String systemPrompt,
+        String userInstructions,
+        String question,
+        List<Interaction> chatHistory,
+        List<String> contexts
+    ) {
+        if (Strings.isNullOrEmpty(systemPrompt) && Strings.isNullOrEmpty(userInstructions)) {
+            systemPrompt = PromptUtil.DEFAULT_SYSTEM_PROMPT;
+        }
+        int remaining = maxTokens - messageTokens(systemPrompt) - messageTokens(userInstructions) - messageTokens(question)
+            - MESSAGE_OVERHEAD_TOKENS;
+
+        List<Interaction> keptChatHistory = new ArrayList<>();
+        List<String> keptContexts = new ArrayList<>();
+        boolean chatHistoryFull = chatHistory.isEmpty();
+        boolean contextsFull = contexts.isEmpty();
+        while (!chatHistoryFull || !contextsFull) {
+            if (!contextsFull) {
+                String context = contexts.get(keptContexts.size());
+                int tokens = messageTokens(context);
+                boolean fits = tokens <= remaining;
+                if (fits) {
+                    keptContexts.add(context);
+                    remaining -= tokens;
+                }
+                contextsFull = !fits || keptContexts.size() == contexts.size();
+            }
+            if (!chatHistoryFull) {
+                Interaction interaction = chatHistory.get(keptChatHistory.size());
+                int tokens = messageTokens(interaction.getInput()) + messageTokens(interaction.getResponse());
+                boolean fits = tokens <= remaining;
+                if (fits) {
+                    keptChatHistory.add(interaction);
+                    remaining -= tokens;
+                }
+                chatHistoryFull = !fits || keptChatHistory.size() == chatHistory.size();
+            }
+        }
+        if (keptContexts.size() < contexts.size() || keptChatHistory.size() < chatHistory.size()) {
+            log
+                .info(
+                    "Prompt trimmed to {} tokens: {} of {} search results, {} of {} interactions",
+                    maxTokens,
+                    keptContexts.size(),
+                    contexts.size(),
+                    keptChatHistory.size(),
+                    chatHistory.size()
+                );
+        }
+        return new PromptBudget(keptChatHistory, keptContexts);
+    }
+
+    /**
+     * Estimate the number of tokens of a text. The tokenizer of the remote model isn't available here, so
+     * this counts characters and words, an LLM tokenizer rarely produces fewer tokens than words.
+     *
+     * @param text text
+     * @return estimated number of tokens
+     */
+    public static int estimateTokens(String text) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        int words = 0;
+        boolean inWord = false;
+        for (int i = 0; i < text.length(); i++) {
+            boolean whitespace = Character.isWhitespace(text.charAt(i));
+            if (!whitespace && !inWord) {
+                words++;
+            }
+            inWord = !whitespace;
+        }
+        return Math.max(words, (text.length() + CHARS_PER_TOKEN - 1) / CHARS_PER_TOKEN);
+    }
+
+    private static int messageTokens(String text) {
+        return Strings.isNullOrEmpty(text) ? 0 : estimateTokens(text) + MESSAGE_OVERHEAD_TOKENS;
+    }
+}
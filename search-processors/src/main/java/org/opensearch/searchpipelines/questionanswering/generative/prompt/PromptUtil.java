@@ -17,6 +17,9 @@
  */
 package org.opensearch.searchpipelines.questionanswering.generative.prompt;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,9 +30,7 @@ import org.opensearch.core.common.Strings;
 import org.opensearch.ml.common.conversation.Interaction;
 
 import com.google.common.annotations.VisibleForTesting;
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
 
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -149,38 +150,50 @@ public class PromptUtil {
             systemPrompt = DEFAULT_SYSTEM_PROMPT;
         }
 
-        JsonArray messageArray = new JsonArray();
-
-        messageArray.addAll(getPromptTemplateAsJsonArray(systemPrompt, userInstructions));
-        for (int i = 0; i < contexts.size(); i++) {
-            messageArray.add(new Message(ChatRole.USER, "SEARCH RESULT " + (i + 1) + ": " + contexts.get(i)).toJson());
-        }
-        if (!chatHistory.isEmpty()) {
-            // The oldest interaction first
-            List<Message> messages = Messages.fromInteractions(chatHistory).getMessages();
-            Collections.reverse(messages);
-            messages.forEach(m -> messageArray.add(m.toJson()));
+        // Messages are written straight to the output, the prompt can hold many large search results.
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginArray();
+            writePromptTemplate(writer, systemPrompt, userInstructions);
+            for (int i = 0; i < contexts.size(); i++) {
+                new Message(ChatRole.USER, "SEARCH RESULT " + (i + 1) + ": " + contexts.get(i)).write(writer);
+            }
+            if (!chatHistory.isEmpty()) {
+                // The oldest interaction first
+                List<Message> messages = Messages.fromInteractions(chatHistory).getMessages();
+                Collections.reverse(messages);
+                for (Message message : messages) {
+                    message.write(writer);
+                }
+            }
+            new Message(ChatRole.USER, "QUESTION: " + question).write(writer);
+            new Message(ChatRole.USER, "ANSWER:").write(writer);
+            writer.endArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
-        messageArray.add(new Message(ChatRole.USER, "QUESTION: " + question).toJson());
-        messageArray.add(new Message(ChatRole.USER, "ANSWER:").toJson());
-
-        return messageArray.toString();
+        return out.toString();
     }
 
     public static String getPromptTemplate(String systemPrompt, String userInstructions) {
-        return getPromptTemplateAsJsonArray(systemPrompt, userInstructions).toString();
+        StringWriter out = new StringWriter();
+        try (JsonWriter writer = new JsonWriter(out)) {
+            writer.beginArray();
+            writePromptTemplate(writer, systemPrompt, userInstructions);
+            writer.endArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toString();
     }
 
-    static JsonArray getPromptTemplateAsJsonArray(String systemPrompt, String userInstructions) {
-        JsonArray messageArray = new JsonArray();
-
+    private static void writePromptTemplate(JsonWriter writer, String systemPrompt, String userInstructions) throws IOException {
         if (!Strings.isNullOrEmpty(systemPrompt)) {
-            messageArray.add(new Message(ChatRole.SYSTEM, systemPrompt).toJson());
+            new Message(ChatRole.SYSTEM, systemPrompt).write(writer);
         }
         if (!Strings.isNullOrEmpty(userInstructions)) {
-            messageArray.add(new Message(ChatRole.USER, userInstructions).toJson());
+            new Message(ChatRole.USER, userInstructions).write(writer);
         }
-        return messageArray;
     }
 
     @Getter
@@ -221,32 +234,26 @@ public class PromptUtil {
         @Getter
         private String content;
 
-        private JsonObject json;
-
-        public Message() {
-            json = new JsonObject();
-        }
+        public Message() {}
 
         public Message(ChatRole chatRole, String content) {
-            this();
             setChatRole(chatRole);
             setContent(content);
         }
 
         public void setChatRole(ChatRole chatRole) {
             this.chatRole = chatRole;
-            json.remove(MESSAGE_FIELD_ROLE);
-            json.add(MESSAGE_FIELD_ROLE, new JsonPrimitive(chatRole.getName()));
         }
 
         public void setContent(String content) {
             this.content = StringEscapeUtils.escapeJson(content);
-            json.remove(MESSAGE_FIELD_CONTENT);
-            json.add(MESSAGE_FIELD_CONTENT, new JsonPrimitive(this.content));
         }
 
-        public JsonObject toJson() {
-            return json;
+        public void write(JsonWriter writer) throws IOException {
+            writer.beginObject();
+            writer.name(MESSAGE_FIELD_ROLE).value(chatRole.getName());
+            writer.name(MESSAGE_FIELD_CONTENT).value(content);
+            writer.endObject();
         }
 
         @Override
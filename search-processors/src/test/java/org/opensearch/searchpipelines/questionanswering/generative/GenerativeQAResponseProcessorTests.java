@@ -19,7 +19,10 @@ package org.opensearch.searchpipelines.questionanswering.generative;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,11 +35,13 @@ import java.util.function.BooleanSupplier;
 import org.junit.Rule;
 import org.junit.rules.ExpectedException;
 import org.mockito.ArgumentCaptor;
+import org.opensearch.OpenSearchParseException;
 import org.opensearch.action.search.SearchRequest;
 import org.opensearch.action.search.SearchResponse;
 import org.opensearch.action.search.SearchResponseSections;
 import org.opensearch.client.Client;
 import org.opensearch.common.xcontent.json.JsonXContent;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.core.common.bytes.BytesReference;
 import org.opensearch.core.xcontent.XContentBuilder;
 import org.opensearch.ml.common.conversation.Interaction;
@@ -86,6 +91,7 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
             List.of("text"),
             "system_prompt",
             "user_instructions",
+            null,
             alwaysOn
         );
         assertEquals(GenerativeQAProcessorConstants.RESPONSE_PROCESSOR_TYPE, processor.getType());
@@ -196,6 +202,222 @@ public class GenerativeQAResponseProcessorTests extends OpenSearchTestCase {
         assertTrue(res instanceof GenerativeSearchResponse);
     }
 
+    public void testProcessResponseAsync() throws Exception {
+        GenerativeQAResponseProcessor processor = createProcessor();
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        doAnswer(invocation -> {
+            ActionListener<String> listener = invocation.getArgument(6);
+            listener.onResponse("interaction_id");
+            return null;
+        }).when(memoryClient).createInteraction(any(), any(), any(), any(), any(), any(), any());
+        processor.setMemoryClient(memoryClient);
+
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = new ChatCompletionOutput(List.of("foo"), null);
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        processor.setLlm(llm);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createRequest(), createResponse(10), null, responseListener);
+
+        ArgumentCaptor<ChatCompletionInput> inputCaptor = ArgumentCaptor.forClass(ChatCompletionInput.class);
+        verify(llm).doChatCompletion(inputCaptor.capture(), any());
+        assertEquals(1, inputCaptor.getValue().getChatHistory().size());
+        assertEquals(10, inputCaptor.getValue().getContexts().size());
+        verify(memoryClient).createInteraction(eq("12345"), eq("You are kind."), any(), eq("foo"), any(), any(), any());
+        ArgumentCaptor<SearchResponse> responseCaptor = ArgumentCaptor.forClass(SearchResponse.class);
+        verify(responseListener).onResponse(responseCaptor.capture());
+        assertTrue(responseCaptor.getValue() instanceof GenerativeSearchResponse);
+        verify(responseListener, never()).onFailure(any());
+    }
+
+    public void testProcessResponseAsyncChatHistoryFails() throws Exception {
+        GenerativeQAResponseProcessor processor = createProcessor();
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onFailure(new RuntimeException("memory failure"));
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        processor.setMemoryClient(memoryClient);
+        Llm llm = mock(Llm.class);
+        processor.setLlm(llm);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createRequest(), createResponse(10), null, responseListener);
+
+        ArgumentCaptor<Exception> captor = ArgumentCaptor.forClass(Exception.class);
+        verify(responseListener).onFailure(captor.capture());
+        assertEquals("memory failure", captor.getValue().getMessage());
+        verify(llm, never()).doChatCompletion(any(), any());
+        verify(responseListener, never()).onResponse(any());
+    }
+
+    public void testProcessResponseAsyncLlmError() throws Exception {
+        GenerativeQAResponseProcessor processor = createProcessor();
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        doAnswer(invocation -> {
+            ActionListener<List<Interaction>> listener = invocation.getArgument(2);
+            listener.onResponse(List.of());
+            return null;
+        }).when(memoryClient).getInteractions(any(), anyInt(), any());
+        processor.setMemoryClient(memoryClient);
+
+        Llm llm = mock(Llm.class);
+        ChatCompletionOutput output = new ChatCompletionOutput(null, List.of("llm error"));
+        doAnswer(invocation -> {
+            ActionListener<ChatCompletionOutput> listener = invocation.getArgument(1);
+            listener.onResponse(output);
+            return null;
+        }).when(llm).doChatCompletion(any(), any());
+        processor.setLlm(llm);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createRequest(), createResponse(10), null, responseListener);
+
+        verify(memoryClient, never()).createInteraction(any(), any(), any(), any(), any(), any(), any());
+        verify(responseListener).onResponse(any(GenerativeSearchResponse.class));
+    }
+
+    public void testProcessResponseAsyncMissingContextField() throws Exception {
+        GenerativeQAResponseProcessor processor = createProcessor();
+        processor.setMemoryClient(mock(ConversationalMemoryClient.class));
+        Llm llm = mock(Llm.class);
+        processor.setLlm(llm);
+
+        SearchHit[] hitsArray = new SearchHit[] { new SearchHit(0, "doc0", Map.of(), Map.of()) };
+        hitsArray[0].sourceRef(BytesReference.bytes(JsonXContent.contentBuilder().startObject().field("title", "title").endObject()));
+        SearchHits searchHits = new SearchHits(hitsArray, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        SearchResponse response = new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+
+        ActionListener<SearchResponse> responseListener = mock(ActionListener.class);
+        processor.processResponseAsync(createRequest(), response, null, responseListener);
+
+        verify(responseListener).onFailure(any());
+        verify(llm, never()).doChatCompletion(any(), any());
+    }
+
+    public void testProcessResponseMaxPromptTokens() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MAX_PROMPT_TOKENS, 200);
+        GenerativeQAResponseProcessor processor = createProcessor(config);
+
+        ConversationalMemoryClient memoryClient = mock(ConversationalMemoryClient.class);
+        when(memoryClient.getInteractions(any(), anyInt()))
+            .thenReturn(List.of(new Interaction("0", Instant.now(), "1", "question", "", "answer", "foo", "{}")));
+        processor.setMemoryClient(memoryClient);
+        Llm llm = mock(Llm.class);
+        when(llm.doChatCompletion(any())).thenReturn(new ChatCompletionOutput(List.of("foo"), null));
+        processor.setLlm(llm);
+
+        processor.processResponse(createRequest(), createResponse(10));
+
+        ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
+        verify(llm).doChatCompletion(captor.capture());
+        List<String> passages = captor.getValue().getContexts();
+        // The default system prompt and the question leave room for the interaction and the top 4 passages.
+        assertEquals(List.of("passage0", "passage1", "passage2", "passage3"), passages);
+        assertEquals(1, captor.getValue().getChatHistory().size());
+    }
+
+    public void testProcessorFactoryInvalidMaxPromptTokens() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MAX_PROMPT_TOKENS, 0);
+        expectThrows(OpenSearchParseException.class, () -> createProcessor(config));
+    }
+
+    public void testProcessResponseContextFieldNotString() throws Exception {
+        GenerativeQAResponseProcessor processor = createProcessor();
+        Llm llm = mock(Llm.class);
+        when(llm.doChatCompletion(any())).thenReturn(new ChatCompletionOutput(List.of("foo"), null));
+        processor.setLlm(llm);
+
+        SearchHit[] hitsArray = new SearchHit[] { new SearchHit(0, "doc0", Map.of(), Map.of()) };
+        XContentBuilder sourceContent = JsonXContent
+            .contentBuilder()
+            .startObject()
+            .startObject("title")
+            .field("skipped", List.of(1, 2))
+            .endObject()
+            .field("text", 42)
+            .endObject();
+        hitsArray[0].sourceRef(BytesReference.bytes(sourceContent));
+        SearchHits searchHits = new SearchHits(hitsArray, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        SearchResponse response = new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(new GenerativeQAParameters(null, "llm_model", "You are kind.", null, null, null));
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+
+        processor.processResponse(request, response);
+
+        ArgumentCaptor<ChatCompletionInput> captor = ArgumentCaptor.forClass(ChatCompletionInput.class);
+        verify(llm).doChatCompletion(captor.capture());
+        assertEquals(List.of("42"), captor.getValue().getContexts());
+    }
+
+    private GenerativeQAResponseProcessor createProcessor() throws Exception {
+        Map<String, Object> config = new HashMap<>();
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_MODEL_ID, "dummy-model");
+        config.put(GenerativeQAProcessorConstants.CONFIG_NAME_CONTEXT_FIELD_LIST, List.of("text"));
+        return createProcessor(config);
+    }
+
+    private GenerativeQAResponseProcessor createProcessor(Map<String, Object> config) throws Exception {
+        return (GenerativeQAResponseProcessor) new GenerativeQAResponseProcessor.Factory(mock(Client.class), alwaysOn)
+            .create(null, "tag", "desc", true, config, null);
+    }
+
+    private SearchRequest createRequest() {
+        SearchRequest request = new SearchRequest();
+        SearchSourceBuilder sourceBuilder = new SearchSourceBuilder();
+        GenerativeQAParameters params = new GenerativeQAParameters("12345", "llm_model", "You are kind.", null, null, null);
+        GenerativeQAParamExtBuilder extBuilder = new GenerativeQAParamExtBuilder();
+        extBuilder.setParams(params);
+        request.source(sourceBuilder);
+        sourceBuilder.ext(List.of(extBuilder));
+        return request;
+    }
+
+    private SearchResponse createResponse(int numHits) throws Exception {
+        SearchHit[] hitsArray = new SearchHit[numHits];
+        for (int i = 0; i < numHits; i++) {
+            XContentBuilder sourceContent = JsonXContent
+                .contentBuilder()
+                .startObject()
+                .field("_id", String.valueOf(i))
+                .field("text", "passage" + i)
+                .field("title", "This is the title for document " + i)
+                .endObject();
+            hitsArray[i] = new SearchHit(i, "doc" + i, Map.of(), Map.of());
+            hitsArray[i].sourceRef(BytesReference.bytes(sourceContent));
+        }
+        SearchHits searchHits = new SearchHits(hitsArray, null, 1.0f);
+        SearchResponseSections internal = new SearchResponseSections(searchHits, null, null, false, false, null, 0);
+        return new SearchResponse(internal, null, 1, 1, 0, 1, null, null, null);
+    }
+
     public void testProcessResponseSmallerContextSize() throws Exception {
         Client client = mock(Client.class);
         Map<String, Object> config = new HashMap<>();
@@ -28,6 +28,7 @@ import java.util.stream.IntStream;
 import org.mockito.ArgumentCaptor;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationAction;
 import org.opensearch.ml.memory.action.conversation.CreateConversationRequest;
@@ -185,4 +186,79 @@ public class ConversationalMemoryClientTests extends OpenSearchTestCase {
         String actual = memoryClient.createInteraction("cid", "input", "prompt", "answer", "origin", "hits");
         assertEquals(id, actual);
     }
+
+    public void testGetInteractionsAsyncWithPagination() {
+        Client client = mock(Client.class);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        int lastN = 5;
+        String conversationId = UUID.randomUUID().toString();
+        List<Interaction> page = new ArrayList<>();
+        IntStream
+            .range(0, lastN)
+            .forEach(i -> page.add(new Interaction(Integer.toString(i), Instant.now(), conversationId, "foo", "bar", "x", "y", null)));
+        doAnswer(invocation -> {
+            GetInteractionsRequest request = invocation.getArgument(1);
+            ActionListener<GetInteractionsResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new GetInteractionsResponse(page, request.getFrom() + lastN, request.getFrom() == 0));
+            return null;
+        }).when(client).execute(eq(GetInteractionsAction.INSTANCE), any(), any());
+        ArgumentCaptor<GetInteractionsRequest> captor = ArgumentCaptor.forClass(GetInteractionsRequest.class);
+        ActionListener<List<Interaction>> listener = mock(ActionListener.class);
+
+        memoryClient.getInteractions(conversationId, 3 * lastN, listener);
+        verify(client, times(2)).execute(eq(GetInteractionsAction.INSTANCE), captor.capture(), any());
+        List<GetInteractionsRequest> actualRequests = captor.getAllValues();
+        assertEquals(3 * lastN, actualRequests.get(0).getMaxResults());
+        assertEquals(0, actualRequests.get(0).getFrom());
+        assertEquals(2 * lastN, actualRequests.get(1).getMaxResults());
+        assertEquals(lastN, actualRequests.get(1).getFrom());
+        ArgumentCaptor<List<Interaction>> resultCaptor = ArgumentCaptor.forClass(List.class);
+        verify(listener).onResponse(resultCaptor.capture());
+        assertEquals(2 * lastN, resultCaptor.getValue().size());
+    }
+
+    public void testGetInteractionsAsyncAvoidInfiniteLoop() {
+        Client client = mock(Client.class);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        doAnswer(invocation -> {
+            ActionListener<GetInteractionsResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new GetInteractionsResponse(List.of(), 0, true));
+            return null;
+        }).when(client).execute(eq(GetInteractionsAction.INSTANCE), any(), any());
+        ActionListener<List<Interaction>> listener = mock(ActionListener.class);
+
+        memoryClient.getInteractions("1", 10, listener);
+        verify(client, times(1)).execute(eq(GetInteractionsAction.INSTANCE), any(), any());
+        verify(listener).onResponse(List.of());
+    }
+
+    public void testGetInteractionsAsyncFails() {
+        Client client = mock(Client.class);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        RuntimeException exception = new RuntimeException("failure");
+        doAnswer(invocation -> {
+            ActionListener<GetInteractionsResponse> listener = invocation.getArgument(2);
+            listener.onFailure(exception);
+            return null;
+        }).when(client).execute(eq(GetInteractionsAction.INSTANCE), any(), any());
+        ActionListener<List<Interaction>> listener = mock(ActionListener.class);
+
+        memoryClient.getInteractions("1", 10, listener);
+        verify(listener).onFailure(exception);
+    }
+
+    public void testCreateInteractionAsync() {
+        Client client = mock(Client.class);
+        ConversationalMemoryClient memoryClient = new ConversationalMemoryClient(client);
+        String id = UUID.randomUUID().toString();
+        doAnswer(invocation -> {
+            ActionListener<CreateInteractionResponse> listener = invocation.getArgument(2);
+            listener.onResponse(new CreateInteractionResponse(id));
+            return null;
+        }).when(client).execute(eq(CreateInteractionAction.INSTANCE), any(), any());
+        ActionListener<String> listener = mock(ActionListener.class);
+
+        memoryClient.createInteraction("cid", "input", "prompt", "answer", "origin", "hits", listener);
+        verify(listener).onResponse(id);
+    }
 }
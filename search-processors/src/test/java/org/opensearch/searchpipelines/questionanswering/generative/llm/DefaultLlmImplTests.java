@@ -33,6 +33,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.opensearch.client.Client;
 import org.opensearch.common.action.ActionFuture;
+import org.opensearch.core.action.ActionListener;
 import org.opensearch.ml.common.conversation.ConversationalIndexConstants;
 import org.opensearch.ml.common.conversation.Interaction;
 import org.opensearch.ml.common.dataset.remote.RemoteInferenceInputDataSet;
@@ -45,6 +46,8 @@ import org.opensearch.ml.common.output.model.ModelTensors;
 import org.opensearch.searchpipelines.questionanswering.generative.client.MachineLearningInternalClient;
 import org.opensearch.searchpipelines.questionanswering.generative.prompt.PromptUtil;
 import org.opensearch.test.OpenSearchTestCase;
+import org.opensearch.threadpool.Scheduler;
+import org.opensearch.threadpool.ThreadPool;
 
 public class DefaultLlmImplTests extends OpenSearchTestCase {
 
@@ -121,6 +124,144 @@ public class DefaultLlmImplTests extends OpenSearchTestCase {
         assertEquals("answer", (String) output.getAnswers().get(0));
     }
 
+    public void testChatCompletionApiStreamedResponse() throws Exception {
+        MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
+        DefaultLlmImpl connector = new DefaultLlmImpl("model_id", client);
+        connector.setMlClient(mlClient);
+
+        // One tensor per event of the streaming response.
+        String name = ModelTensor.STREAM_EVENT_NAME;
+        List<ModelTensor> tensors = new ArrayList<>();
+        for (String content : List.of("The ", "whole ", "answer")) {
+            Map<String, ?> dataAsMap = Map.of("choices", List.of(Map.of("delta", Map.of("content", content))));
+            tensors.add(new ModelTensor(name, new Number[0], new long[0], MLResultDataType.STRING, null, null, dataAsMap));
+        }
+        // The last chunk has no content.
+        Map<String, ?> lastChunk = Map.of("choices", List.of(Map.of("delta", Map.of())));
+        tensors.add(new ModelTensor(name, new Number[0], new long[0], MLResultDataType.STRING, null, null, lastChunk));
+        ModelTensorOutput mlOutput = new ModelTensorOutput(List.of(new ModelTensors(tensors)));
+        ActionFuture<MLOutput> future = mock(ActionFuture.class);
+        when(future.actionGet(anyLong())).thenReturn(mlOutput);
+        when(mlClient.predict(any(), any())).thenReturn(future);
+        ChatCompletionInput input = new ChatCompletionInput(
+            "model",
+            "question",
+            Collections.emptyList(),
+            Collections.emptyList(),
+            0,
+            "prompt",
+            "instructions",
+            Llm.ModelProvider.OPENAI
+        );
+        ChatCompletionOutput output = connector.doChatCompletion(input);
+        assertFalse(output.isErrorOccurred());
+        assertEquals(1, output.getAnswers().size());
+        assertEquals("The whole answer", (String) output.getAnswers().get(0));
+    }
+
+    public void testChatCompletionApiStreamedResponseSingleEvent() throws Exception {
+        MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
+        DefaultLlmImpl connector = new DefaultLlmImpl("model_id", client);
+        connector.setMlClient(mlClient);
+
+        Map<String, ?> dataAsMap = Map.of("choices", List.of(Map.of("delta", Map.of("content", "answer"))));
+        ModelTensor tensor = new ModelTensor(
+            ModelTensor.STREAM_EVENT_NAME,
+            new Number[0],
+            new long[0],
+            MLResultDataType.STRING,
+            null,
+            null,
+            dataAsMap
+        );
+        ModelTensorOutput mlOutput = new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+        ActionFuture<MLOutput> future = mock(ActionFuture.class);
+        when(future.actionGet(anyLong())).thenReturn(mlOutput);
+        when(mlClient.predict(any(), any())).thenReturn(future);
+        ChatCompletionInput input = new ChatCompletionInput(
+            "model",
+            "question",
+            Collections.emptyList(),
+            Collections.emptyList(),
+            0,
+            "prompt",
+            "instructions",
+            Llm.ModelProvider.OPENAI
+        );
+        ChatCompletionOutput output = connector.doChatCompletion(input);
+        assertFalse(output.isErrorOccurred());
+        assertEquals("answer", (String) output.getAnswers().get(0));
+    }
+
+    public void testChatCompletionApiMultipleTensorsNotStreamed() throws Exception {
+        MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
+        DefaultLlmImpl connector = new DefaultLlmImpl("model_id", client);
+        connector.setMlClient(mlClient);
+
+        Map<String, ?> dataAsMap = Map.of("choices", List.of(Map.of("message", Map.of("role", "agent", "content", "answer"))));
+        ModelTensor tensor = new ModelTensor("response", new Number[0], new long[0], MLResultDataType.STRING, null, null, dataAsMap);
+        Map<String, ?> otherDataAsMap = Map.of("key", "value");
+        ModelTensor other = new ModelTensor("other", new Number[0], new long[0], MLResultDataType.STRING, null, null, otherDataAsMap);
+        ModelTensorOutput mlOutput = new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor, other))));
+        ActionFuture<MLOutput> future = mock(ActionFuture.class);
+        when(future.actionGet(anyLong())).thenReturn(mlOutput);
+        when(mlClient.predict(any(), any())).thenReturn(future);
+        ChatCompletionInput input = new ChatCompletionInput(
+            "model",
+            "question",
+            Collections.emptyList(),
+            Collections.emptyList(),
+            0,
+            "prompt",
+            "instructions",
+            Llm.ModelProvider.OPENAI
+        );
+        ChatCompletionOutput output = connector.doChatCompletion(input);
+        assertFalse(output.isErrorOccurred());
+        assertEquals(1, output.getAnswers().size());
+        assertEquals("answer", (String) output.getAnswers().get(0));
+    }
+
+    public void testChatCompletionApiAsync() throws Exception {
+        MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
+        Client client = mock(Client.class);
+        ThreadPool threadPool = mock(ThreadPool.class);
+        Scheduler.ScheduledCancellable timeout = mock(Scheduler.ScheduledCancellable.class);
+        when(client.threadPool()).thenReturn(threadPool);
+        when(threadPool.schedule(any(), any(), any())).thenReturn(timeout);
+        DefaultLlmImpl connector = new DefaultLlmImpl("model_id", client);
+        connector.setMlClient(mlClient);
+
+        Map<String, String> messageMap = Map.of("role", "agent", "content", "answer");
+        Map<String, ?> dataAsMap = Map.of("choices", List.of(Map.of("message", messageMap)));
+        ModelTensor tensor = new ModelTensor("tensor", new Number[0], new long[0], MLResultDataType.STRING, null, null, dataAsMap);
+        ModelTensorOutput mlOutput = new ModelTensorOutput(List.of(new ModelTensors(List.of(tensor))));
+        doAnswer(invocation -> {
+            ActionListener<MLOutput> listener = invocation.getArgument(2);
+            listener.onResponse(mlOutput);
+            return null;
+        }).when(mlClient).predict(any(), any(), any());
+        ChatCompletionInput input = new ChatCompletionInput(
+            "model",
+            "question",
+            Collections.emptyList(),
+            Collections.emptyList(),
+            10,
+            "prompt",
+            "instructions",
+            Llm.ModelProvider.OPENAI
+        );
+        ActionListener<ChatCompletionOutput> listener = mock(ActionListener.class);
+        connector.doChatCompletion(input, listener);
+
+        verify(mlClient, never()).predict(any(), any());
+        ArgumentCaptor<ChatCompletionOutput> captor = ArgumentCaptor.forClass(ChatCompletionOutput.class);
+        verify(listener).onResponse(captor.capture());
+        assertEquals("answer", (String) captor.getValue().getAnswers().get(0));
+        // The timeout is cancelled once the model answered.
+        verify(timeout).cancel();
+    }
+
     public void testChatCompletionApiForBedrock() throws Exception {
         MachineLearningInternalClient mlClient = mock(MachineLearningInternalClient.class);
         ArgumentCaptor<MLInput> captor = ArgumentCaptor.forClass(MLInput.class);
@@ -0,0 +1,57 @@
+/*
+ * Copyright OpenSearch Contributors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.opensearch.searchpipelines.questionanswering.generative.prompt;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.opensearch.ml.common.conversation.Interaction;
+import org.opensearch.test.OpenSearchTestCase;
+
+public class PromptBudgetTests extends OpenSearchTestCase {
+
+    public void testEstimateTokens() {
+        assertEquals(0, PromptBudget.estimateTokens(null));
+        assertEquals(0, PromptBudget.estimateTokens(""));
+        // characters
+        assertEquals(3, PromptBudget.estimateTokens("abcdefghij"));
+        // words
+        assertEquals(5, PromptBudget.estimateTokens("a b c d e"));
+    }
+
+    public void testFitAll() {
+        List<Interaction> chatHistory = List.of(interaction("1"), interaction("2"));
+        List<String> contexts = List.of("context 1", "context 2", "context 3");
+        PromptBudget budget = PromptBudget.fit(10_000, "system", "instructions", "question", chatHistory, contexts);
+        assertEquals(chatHistory, budget.getChatHistory());
+        assertEquals(contexts, budget.getContexts());
+    }
+
+    public void testFitDropsLowestRanked() {
+        List<Interaction> chatHistory = List.of(interaction("1"), interaction("2"), interaction("3"));
+        List<String> contexts = List.of("context 1", "context 2", "context 3");
+        // fixed: system (2 + 8), instructions (3 + 8), question (2 + 8) and 8 for the answer = 39
+        // context: 3 + 8 = 11, interaction: 2 * (2 + 8) = 20
+        PromptBudget budget = PromptBudget.fit(39 + 11 + 20 + 11, "system", "instructions", "question", chatHistory, contexts);
+        assertEquals(List.of("context 1", "context 2"), budget.getContexts());
+        assertEquals(List.of(chatHistory.get(0)), budget.getChatHistory());
+    }
+
+    public void testFitStopsAtFirstItemNotFitting() {
+        List<String> contexts = List.of("context 1", "a much longer context which does not fit into the budget", "context 3");
+        PromptBudget budget = PromptBudget.fit(39 + 11 + 11, "system", "instructions", "question", List.of(), contexts);
+        assertEquals(List.of("context 1"), budget.getContexts());
+    }
+
+    public void testFitNoRoom() {
+        PromptBudget budget = PromptBudget.fit(10, "system", "instructions", "question", List.of(interaction("1")), List.of("context"));
+        assertTrue(budget.getContexts().isEmpty());
+        assertTrue(budget.getChatHistory().isEmpty());
+    }
+
+    private Interaction interaction(String id) {
+        return new Interaction(id, Instant.now(), "cid", "question", "", "answer", "origin", "{}");
+    }
+}
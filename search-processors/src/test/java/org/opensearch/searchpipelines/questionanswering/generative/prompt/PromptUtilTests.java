@@ -117,6 +117,26 @@ public class PromptUtilTests extends OpenSearchTestCase {
         assertTrue(parameter.contains(systemPrompt));
     }
 
+    public void testBuildMessageParameterOutput() {
+        Interaction interaction = new Interaction("0", Instant.now(), "cid", "message \"1\"", "", "answer1", "origin", "{}");
+        String parameter = PromptUtil
+            .buildMessageParameter("system", "instructions", "Who am I", List.of(interaction), List.of("context 1"));
+        assertEquals(
+            "[{\"role\":\"system\",\"content\":\"system\"},"
+                + "{\"role\":\"user\",\"content\":\"instructions\"},"
+                + "{\"role\":\"user\",\"content\":\"SEARCH RESULT 1: context 1\"},"
+                + "{\"role\":\"assistant\",\"content\":\"answer1\"},"
+                + "{\"role\":\"user\",\"content\":\"message \\\\\\\"1\\\\\\\"\"},"
+                + "{\"role\":\"user\",\"content\":\"QUESTION: Who am I\"},"
+                + "{\"role\":\"user\",\"content\":\"ANSWER:\"}]",
+            parameter
+        );
+        assertEquals(
+            "[{\"role\":\"system\",\"content\":\"system\"},{\"role\":\"user\",\"content\":\"instructions\"}]",
+            PromptUtil.getPromptTemplate("system", "instructions")
+        );
+    }
+
     private boolean isJson(String Json) {
         try {
             new JSONObject(Json);